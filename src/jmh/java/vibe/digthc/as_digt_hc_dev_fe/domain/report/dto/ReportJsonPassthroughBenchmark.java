@@ -0,0 +1,99 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+import vibe.digthc.as_digt_hc_dev_fe.domain.common.RawJson;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.converter.ReportJsonCodec;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리포트 목록 응답 직렬화 비교: 컬럼 JSON 파싱 후 재직렬화(기존 AttributeConverter 경로) vs 원문 그대로 전달(RawJson)
+ *
+ * 실행: ./gradlew jmh -Pargs="ReportJsonPassthroughBenchmark -prof gc"
+ * 응답 직렬화는 Spring MVC와 같은 Jackson 3 JsonMapper를 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReportJsonPassthroughBenchmark {
+
+    /** 기존 컨버터와 같은 기본 ObjectMapper */
+    private static final ObjectMapper CONVERTER_MAPPER = new ObjectMapper();
+
+    @Param({"20", "100"})
+    public int reports;
+
+    private final JsonMapper responseMapper = JsonMapper.builder().build();
+    private List<String[]> rows;
+
+    @Setup
+    public void setUp() {
+        rows = new ArrayList<>(reports);
+        for (int i = 0; i < reports; i++) {
+            ReportMetrics metrics = ReportMetrics.builder()
+                    .activity(ReportMetrics.ActivityMetrics.builder().steps(5000 + i).build())
+                    .heartRate(ReportMetrics.HeartRateMetrics.builder().avgBpm(70).minBpm(58).maxBpm(95).build())
+                    .bloodPressure(ReportMetrics.BloodPressureMetrics.builder().systolic(122).diastolic(81).build())
+                    .weight(ReportMetrics.WeightMetrics.builder().value(70.5).unit("kg").build())
+                    .build();
+            ReportContext context = ReportContext.builder()
+                    .deviceId("MANUAL")
+                    .deviceType("MANUAL")
+                    .isMissingData(true)
+                    .missingDataFields(List.of("weight", "bloodPressure"))
+                    .metadata("manual-entry")
+                    .build();
+            rows.add(new String[]{ReportJsonCodec.write(metrics), ReportJsonCodec.write(context)});
+        }
+    }
+
+    @Benchmark
+    public String parseAndReserialize() throws Exception {
+        List<ParsedResponse> responses = new ArrayList<>(rows.size());
+        for (String[] row : rows) {
+            responses.add(new ParsedResponse(UUID.randomUUID(), LocalDate.now(), "WEEKLY",
+                    CONVERTER_MAPPER.readValue(row[0], ReportMetrics.class),
+                    CONVERTER_MAPPER.readValue(row[1], ReportContext.class),
+                    LocalDateTime.now()));
+        }
+        return responseMapper.writeValueAsString(responses);
+    }
+
+    @Benchmark
+    public String rawPassthrough() {
+        List<RawResponse> responses = new ArrayList<>(rows.size());
+        for (String[] row : rows) {
+            responses.add(new RawResponse(UUID.randomUUID(), LocalDate.now(), "WEEKLY",
+                    RawJson.of(row[0]), RawJson.of(row[1]), LocalDateTime.now()));
+        }
+        return responseMapper.writeValueAsString(responses);
+    }
+
+    public record ParsedResponse(UUID reportId, LocalDate endDate, String periodType,
+                                 ReportMetrics metrics, ReportContext context, LocalDateTime createdAt) {
+    }
+
+    public record RawResponse(UUID reportId, LocalDate endDate, String periodType,
+                              RawJson metrics, RawJson context, LocalDateTime createdAt) {
+    }
+}
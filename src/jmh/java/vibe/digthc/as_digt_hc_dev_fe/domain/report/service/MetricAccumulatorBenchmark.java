@@ -0,0 +1,149 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.ReportMetrics;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.HealthMetricDaily;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 리포트 지표 집계 비교: 기존 스트림 다중 순회(12회) vs MetricAccumulator 단일 순회
+ *
+ * 실행: ./gradlew jmh -Pargs="MetricAccumulatorBenchmark"
+ * 행 수는 주간(7)/월간(31)/연간(365) 리포트 기간 기준이며, 각 필드는 약 10% 확률로 null(측정 없음)입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricAccumulatorBenchmark {
+
+    @Param({"7", "31", "365"})
+    public int rows;
+
+    private List<HealthMetricDaily> dailyMetrics;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        dailyMetrics = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            dailyMetrics.add(HealthMetricDaily.create(null, start.plusDays(i),
+                    random.nextInt(10) == 0 ? null : 3000 + random.nextInt(9000),
+                    random.nextInt(10) == 0 ? null : 55 + random.nextInt(50),
+                    random.nextInt(10) == 0 ? null : 55 + random.nextDouble() * 30,
+                    random.nextInt(10) == 0 ? null : 100 + random.nextInt(50),
+                    random.nextInt(10) == 0 ? null : 60 + random.nextInt(30)));
+        }
+    }
+
+    @Benchmark
+    public void singlePass(Blackhole blackhole) {
+        MetricAccumulator accumulator = MetricAccumulator.of(dailyMetrics);
+        blackhole.consume(accumulator.toReportMetrics());
+        blackhole.consume(accumulator.missingFields(rows));
+    }
+
+    @Benchmark
+    public void streamPasses(Blackhole blackhole) {
+        blackhole.consume(LegacyAggregation.aggregateMetrics(dailyMetrics));
+        blackhole.consume(LegacyAggregation.missingFields(dailyMetrics, rows));
+    }
+
+    /**
+     * 기존 HealthReportService의 스트림 기반 집계 (비교 기준)
+     */
+    static final class LegacyAggregation {
+
+        static ReportMetrics aggregateMetrics(List<HealthMetricDaily> dailyMetrics) {
+            Integer avgSteps = averageInt(dailyMetrics, HealthMetricDaily::getSteps);
+            Integer avgHeartRate = averageInt(dailyMetrics, HealthMetricDaily::getHeartRate);
+            Integer minHeartRate = minInt(dailyMetrics, HealthMetricDaily::getHeartRate);
+            Integer maxHeartRate = maxInt(dailyMetrics, HealthMetricDaily::getHeartRate);
+            Integer avgSystolic = averageInt(dailyMetrics, HealthMetricDaily::getSystolic);
+            Integer avgDiastolic = averageInt(dailyMetrics, HealthMetricDaily::getDiastolic);
+            Double avgWeight = averageDouble(dailyMetrics, HealthMetricDaily::getWeight);
+
+            return ReportMetrics.builder()
+                    .activity(avgSteps == null ? null : ReportMetrics.ActivityMetrics.builder().steps(avgSteps).build())
+                    .heartRate(avgHeartRate == null && minHeartRate == null && maxHeartRate == null
+                            ? null
+                            : ReportMetrics.HeartRateMetrics.builder()
+                            .avgBpm(avgHeartRate).minBpm(minHeartRate).maxBpm(maxHeartRate).build())
+                    .bloodPressure(avgSystolic == null && avgDiastolic == null
+                            ? null
+                            : ReportMetrics.BloodPressureMetrics.builder()
+                            .systolic(avgSystolic).diastolic(avgDiastolic).build())
+                    .weight(avgWeight == null
+                            ? null
+                            : ReportMetrics.WeightMetrics.builder().value(avgWeight).unit("kg").build())
+                    .build();
+        }
+
+        static List<String> missingFields(List<HealthMetricDaily> dailyMetrics, int totalDays) {
+            long stepsCount = dailyMetrics.stream().filter(m -> m.getSteps() != null).count();
+            long heartRateCount = dailyMetrics.stream().filter(m -> m.getHeartRate() != null).count();
+            long weightCount = dailyMetrics.stream().filter(m -> m.getWeight() != null).count();
+            long systolicCount = dailyMetrics.stream().filter(m -> m.getSystolic() != null).count();
+            long diastolicCount = dailyMetrics.stream().filter(m -> m.getDiastolic() != null).count();
+
+            List<String> missingFields = new ArrayList<>();
+            if (stepsCount < totalDays) {
+                missingFields.add("steps");
+            }
+            if (heartRateCount < totalDays) {
+                missingFields.add("heartRate");
+            }
+            if (weightCount < totalDays) {
+                missingFields.add("weight");
+            }
+            if (systolicCount < totalDays || diastolicCount < totalDays) {
+                missingFields.add("bloodPressure");
+            }
+            return missingFields;
+        }
+
+        private static Integer averageInt(List<HealthMetricDaily> data, Function<HealthMetricDaily, Integer> getter) {
+            List<Integer> values = data.stream().map(getter).filter(value -> value != null).toList();
+            if (values.isEmpty()) {
+                return null;
+            }
+            return (int) Math.round(values.stream().mapToInt(Integer::intValue).average().orElse(0));
+        }
+
+        private static Double averageDouble(List<HealthMetricDaily> data, Function<HealthMetricDaily, Double> getter) {
+            List<Double> values = data.stream().map(getter).filter(value -> value != null).toList();
+            if (values.isEmpty()) {
+                return null;
+            }
+            return values.stream().mapToDouble(Double::doubleValue).average().orElse(0);
+        }
+
+        private static Integer minInt(List<HealthMetricDaily> data, Function<HealthMetricDaily, Integer> getter) {
+            return data.stream().map(getter).filter(value -> value != null).min(Integer::compareTo).orElse(null);
+        }
+
+        private static Integer maxInt(List<HealthMetricDaily> data, Function<HealthMetricDaily, Integer> getter) {
+            return data.stream().map(getter).filter(value -> value != null).max(Integer::compareTo).orElse(null);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 후 실행 유틸
+ *
+ * 메모리 인덱스/캐시 무효화처럼 롤백된 변경이 반영되면 안 되는 작업에 사용합니다.
+ * 트랜잭션 밖에서 호출하면 즉시 실행합니다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
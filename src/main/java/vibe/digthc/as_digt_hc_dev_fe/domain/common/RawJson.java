@@ -0,0 +1,25 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.common;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * 이미 JSON인 텍스트를 파싱 없이 응답 본문에 그대로 쓰는 값
+ *
+ * DB에 JSON 문자열로 저장된 컬럼을 POJO로 역직렬화했다가 다시 직렬화하는 왕복을 없애기 위해 사용합니다.
+ * 신뢰할 수 있는(서버가 직접 저장한) JSON에만 사용해야 합니다.
+ */
+public record RawJson(@JsonValue @JsonRawValue String json) {
+
+    /**
+     * @return json이 비어 있으면 null (응답에서 null로 표시)
+     */
+    public static RawJson of(String json) {
+        return json == null || json.isEmpty() ? null : new RawJson(json);
+    }
+
+    @Override
+    public String toString() {
+        return json;
+    }
+}
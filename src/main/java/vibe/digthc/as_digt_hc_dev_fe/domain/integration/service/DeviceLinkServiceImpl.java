@@ -14,6 +14,7 @@ import vibe.digthc.as_digt_hc_dev_fe.domain.user.repository.UserRepository;
 import vibe.digthc.as_digt_hc_dev_fe.infrastructure.integration.DeviceDataProvider;
 import vibe.digthc.as_digt_hc_dev_fe.infrastructure.integration.DeviceProviderFactory;
 import vibe.digthc.as_digt_hc_dev_fe.infrastructure.integration.HealthDataDto;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.resilience.CallNotPermittedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -153,6 +154,15 @@ public class DeviceLinkServiceImpl implements DeviceLinkService {
                     "SUCCESS",
                     Collections.emptyList()
             );
+        } catch (CallNotPermittedException e) {
+            // 벤더 장애로 호출이 차단된 경우: 디바이스 자체 문제가 아니므로 오류 상태로 바꾸지 않고 다음 주기에 재시도
+            log.warn("디바이스 동기화 보류: deviceId={}, {}", deviceId, e.getMessage());
+            return new SyncResultRes(
+                    0,
+                    LocalDateTime.now(),
+                    "SKIPPED",
+                    List.of(e.getMessage())
+            );
         } catch (Exception e) {
             log.error("디바이스 동기화 실패: deviceId={}", deviceId, e);
             device.markError(e.getMessage());
@@ -184,6 +194,9 @@ public class DeviceLinkServiceImpl implements DeviceLinkService {
             LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(tokenResponse.expiresIn());
             device.refreshTokens(tokenResponse.accessToken(), tokenResponse.refreshToken(), expiresAt);
             deviceRepository.save(device);
+        } catch (CallNotPermittedException e) {
+            log.warn("토큰 갱신 보류: deviceId={}, {}", deviceId, e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("토큰 갱신 실패: deviceId={}", deviceId, e);
             device.markError("토큰 갱신 실패: " + e.getMessage());
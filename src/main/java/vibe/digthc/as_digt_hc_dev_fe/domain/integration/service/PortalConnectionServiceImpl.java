@@ -13,6 +13,7 @@ import vibe.digthc.as_digt_hc_dev_fe.domain.user.entity.User;
 import vibe.digthc.as_digt_hc_dev_fe.domain.user.repository.UserRepository;
 import vibe.digthc.as_digt_hc_dev_fe.infrastructure.integration.PortalDataProvider;
 import vibe.digthc.as_digt_hc_dev_fe.infrastructure.integration.PortalProviderFactory;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.resilience.CallNotPermittedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -158,6 +159,15 @@ public class PortalConnectionServiceImpl implements PortalConnectionService {
                     "SUCCESS",
                     Collections.emptyList()
             );
+        } catch (CallNotPermittedException e) {
+            // 포털 장애로 호출이 차단된 경우: 연결 상태는 유지하고 다음 동기화에 재시도
+            log.warn("포털 동기화 보류: portalId={}, {}", portalId, e.getMessage());
+            return new SyncResultRes(
+                    0,
+                    LocalDateTime.now(),
+                    "SKIPPED",
+                    List.of(e.getMessage())
+            );
         } catch (Exception e) {
             log.error("포털 동기화 실패: portalId={}", portalId, e);
             connection.markFailed("SYNC_FAILED", e.getMessage());
@@ -0,0 +1,59 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.ReportContext;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.ReportMetrics;
+
+/**
+ * 리포트 JSON 컬럼(metrics/context) 직렬화/역직렬화
+ *
+ * 저장 형식은 기존 AttributeConverter와 같습니다 (기본 ObjectMapper 출력).
+ * - 타입별 ObjectReader/ObjectWriter를 미리 만들어 호출마다 타입 해석을 반복하지 않음
+ * - 알 수 없는 필드는 무시 (DTO 필드가 바뀌어도 과거 행을 읽을 수 있도록)
+ * - 응답 경로에서는 파싱하지 않고 원문을 그대로 전달 (HealthReportResponse, RawJson)
+ */
+public final class ReportJsonCodec {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private static final ObjectReader METRICS_READER = OBJECT_MAPPER.readerFor(ReportMetrics.class);
+    private static final ObjectReader CONTEXT_READER = OBJECT_MAPPER.readerFor(ReportContext.class);
+    private static final ObjectWriter WRITER = OBJECT_MAPPER.writer();
+
+    private ReportJsonCodec() {
+    }
+
+    public static String write(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return WRITER.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error converting " + value.getClass().getSimpleName() + " to JSON", e);
+        }
+    }
+
+    public static ReportMetrics readMetrics(String json) {
+        return read(METRICS_READER, json, "ReportMetrics");
+    }
+
+    public static ReportContext readContext(String json) {
+        return read(CONTEXT_READER, json, "ReportContext");
+    }
+
+    private static <T> T read(ObjectReader reader, String json, String typeName) {
+        if (json == null || json.isEmpty()) {
+            return null;
+        }
+        try {
+            return reader.readValue(json);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error converting JSON to " + typeName, e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 지표 값 프로젝션 (엔티티 로딩 없이 롤업 재구성/범위 인덱스 구축에 사용)
+ */
+public record DailyMetricValues(
+        LocalDate recordDate,
+        Integer steps,
+        Integer heartRate,
+        Double weight,
+        Integer systolic,
+        Integer diastolic
+) {
+}
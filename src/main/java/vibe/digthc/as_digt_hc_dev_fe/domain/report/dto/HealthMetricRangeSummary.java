@@ -0,0 +1,37 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.dto;
+
+/**
+ * 기간 내 일별 건강 지표 DB 집계 결과 (HealthMetricDailyRepository.summarizeRange 프로젝션)
+ *
+ * 컬럼별 값 있는 일수(COUNT), 합계(SUM), 최소(MIN), 최대(MAX)를 한 행으로 반환합니다.
+ * 평균은 SUM/COUNT로 계산하며(MetricAccumulator), 기간에 값이 없으면 SUM/MIN/MAX는 null입니다.
+ */
+public interface HealthMetricRangeSummary {
+
+    long getRowCount();
+
+    long getStepsCount();
+    Long getStepsSum();
+    Integer getStepsMin();
+    Integer getStepsMax();
+
+    long getHeartRateCount();
+    Long getHeartRateSum();
+    Integer getHeartRateMin();
+    Integer getHeartRateMax();
+
+    long getWeightCount();
+    Double getWeightSum();
+    Double getWeightMin();
+    Double getWeightMax();
+
+    long getSystolicCount();
+    Long getSystolicSum();
+    Integer getSystolicMin();
+    Integer getSystolicMax();
+
+    long getDiastolicCount();
+    Long getDiastolicSum();
+    Integer getDiastolicMin();
+    Integer getDiastolicMax();
+}
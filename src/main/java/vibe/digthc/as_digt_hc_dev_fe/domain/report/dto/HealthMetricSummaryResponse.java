@@ -0,0 +1,60 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 임의 기간 지표 요약 (누적 롤업 두 행의 차이 + 구간 최소/최대 인덱스)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HealthMetricSummaryResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private long totalDays;
+    private long recordedDays;
+    private MetricStats steps;
+    private MetricStats heartRate;
+    private MetricStats weight;
+    private MetricStats systolic;
+    private MetricStats diastolic;
+
+    /**
+     * 지표 하나의 기간 통계 (값이 없으면 count 0, 나머지 null)
+     * - variance: 모분산 (sumSq / n - mean²)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MetricStats {
+        private long count;
+        private Double average;
+        private Double variance;
+        private Double stdDev;
+        private Double min;
+        private Double max;
+
+        public static MetricStats of(long count, double sum, double sumSq, Double min, Double max) {
+            if (count <= 0) {
+                return MetricStats.builder().count(0).build();
+            }
+            double average = sum / count;
+            double variance = Math.max(0, sumSq / count - average * average);
+            return MetricStats.builder()
+                    .count(count)
+                    .average(average)
+                    .variance(variance)
+                    .stdDev(Math.sqrt(variance))
+                    .min(min)
+                    .max(max)
+                    .build();
+        }
+    }
+}
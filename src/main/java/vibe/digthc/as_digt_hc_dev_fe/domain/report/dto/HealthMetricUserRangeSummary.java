@@ -0,0 +1,11 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.dto;
+
+import java.util.UUID;
+
+/**
+ * 사용자별 기간 집계 결과 (HealthMetricDailyRepository.summarizeRangeByUsers 프로젝션, 리포트 일괄 생성용)
+ */
+public interface HealthMetricUserRangeSummary extends HealthMetricRangeSummary {
+
+    UUID getUserId();
+}
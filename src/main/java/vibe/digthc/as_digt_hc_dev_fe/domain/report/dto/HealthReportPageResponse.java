@@ -0,0 +1,15 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.dto;
+
+import java.util.List;
+
+/**
+ * 리포트 목록 한 페이지 (최근 생성 순, 키셋 페이지네이션)
+ *
+ * @param nextCursor 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+ */
+public record HealthReportPageResponse(
+        List<HealthReportSummaryResponse> items,
+        String nextCursor,
+        boolean hasNext
+) {
+}
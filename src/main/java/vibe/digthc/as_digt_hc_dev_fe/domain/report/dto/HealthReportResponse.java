@@ -1,5 +1,6 @@
 package vibe.digthc.as_digt_hc_dev_fe.domain.report.dto;
 
+import vibe.digthc.as_digt_hc_dev_fe.domain.common.RawJson;
 import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.HealthReport;
 
 import java.time.LocalDate;
@@ -13,6 +14,7 @@ import java.util.UUID;
  * - 엔티티(HealthReport)를 그대로 JSON으로 내려주면, User <-> UserProfile 등 연관관계가
  *   순환 참조로 직렬화되어 JSON 중첩 깊이 초과/민감정보 노출(비밀번호 등) 문제가 생길 수 있다.
  * - 따라서 API 응답은 필요한 필드만 담은 DTO로 제한한다.
+ * - metrics/context는 DB에 저장된 JSON 원문을 파싱하지 않고 그대로 응답에 쓴다 (RawJson).
  */
 public record HealthReportResponse(
         UUID reportId,
@@ -20,8 +22,8 @@ public record HealthReportResponse(
         LocalDate startDate,
         LocalDate endDate,
         String periodType,
-        ReportMetrics metrics,
-        ReportContext context,
+        RawJson metrics,
+        RawJson context,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {
@@ -32,8 +34,8 @@ public record HealthReportResponse(
                 report.getStartDate(),
                 report.getEndDate(),
                 report.getPeriodType() != null ? report.getPeriodType().name() : null,
-                report.getMetrics(),
-                report.getContext(),
+                RawJson.of(report.getMetricsJson()),
+                RawJson.of(report.getContextJson()),
                 report.getCreatedAt(),
                 report.getUpdatedAt()
         );
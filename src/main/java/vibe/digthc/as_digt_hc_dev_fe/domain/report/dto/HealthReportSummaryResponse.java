@@ -0,0 +1,22 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.dto;
+
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.PeriodType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 리포트 목록 항목 (metrics/context JSON 컬럼을 읽지 않는 프로젝션)
+ *
+ * 상세 지표는 GET /v1/reports/{id}로 조회합니다.
+ */
+public record HealthReportSummaryResponse(
+        UUID reportId,
+        LocalDate startDate,
+        LocalDate endDate,
+        PeriodType periodType,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,63 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import vibe.digthc.as_digt_hc_dev_fe.domain.user.entity.User;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 사용자별 일별 지표 누적 롤업 (prefix sum)
+ *
+ * record_date 행에는 해당 날짜까지(포함) 모든 일별 지표의 누적 값이 저장됩니다.
+ * 기간 [from, to] 요약 = (to 이하 마지막 행) - (from 미만 마지막 행) 두 번의 조회로 계산합니다.
+ * 일별 지표가 있는 날짜에만 행이 존재하며, HealthMetricDailyService.upsertDailyMetrics에서 증분 갱신됩니다.
+ */
+@Entity
+@Table(
+        name = "health_metrics_cumulative",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_metrics_cum_user_date", columnNames = {"user_id", "record_date"})
+        },
+        indexes = {
+                @Index(name = "idx_metrics_cum_user_date", columnList = "user_id, record_date")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HealthMetricCumulative {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "cumulative_id", columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "record_date", nullable = false)
+    private LocalDate recordDate;
+
+    @Embedded
+    private MetricTotals totals;
+
+    @Builder
+    private HealthMetricCumulative(User user, LocalDate recordDate, MetricTotals totals) {
+        this.user = user;
+        this.recordDate = recordDate;
+        this.totals = totals;
+    }
+
+    public static HealthMetricCumulative create(User user, LocalDate recordDate, MetricTotals totals) {
+        return HealthMetricCumulative.builder()
+                .user(user)
+                .recordDate(recordDate)
+                .totals(totals)
+                .build();
+    }
+}
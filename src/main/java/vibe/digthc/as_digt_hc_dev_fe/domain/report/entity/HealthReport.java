@@ -3,8 +3,7 @@ package vibe.digthc.as_digt_hc_dev_fe.domain.report.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import vibe.digthc.as_digt_hc_dev_fe.domain.common.BaseTimeEntity;
-import vibe.digthc.as_digt_hc_dev_fe.domain.report.converter.ReportContextConverter;
-import vibe.digthc.as_digt_hc_dev_fe.domain.report.converter.ReportMetricsConverter;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.converter.ReportJsonCodec;
 import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.ReportContext;
 import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.ReportMetrics;
 import vibe.digthc.as_digt_hc_dev_fe.domain.user.entity.User;
@@ -13,7 +12,17 @@ import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity
-@Table(name = "health_reports")
+@Table(
+        name = "health_reports",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_health_reports_user_period",
+                        columnNames = {"user_id", "period_type", "start_date", "end_date"})
+        },
+        indexes = {
+                @Index(name = "idx_health_reports_user_period_created", columnList = "user_id, period_type, created_at"),
+                @Index(name = "idx_health_reports_user_created", columnList = "user_id, created_at")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class HealthReport extends BaseTimeEntity {
@@ -27,12 +36,24 @@ public class HealthReport extends BaseTimeEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    /**
+     * 지표 JSON 원문 (응답에는 파싱 없이 그대로 전달, 서버 코드에서 필요할 때만 getMetrics()로 파싱)
+     */
     @Column(name = "metrics", columnDefinition = "TEXT")
-    @Convert(converter = ReportMetricsConverter.class)
-    private ReportMetrics metrics;
+    private String metricsJson;
 
+    /**
+     * 컨텍스트 JSON 원문 (metricsJson과 동일)
+     */
     @Column(name = "context", columnDefinition = "TEXT")
-    @Convert(converter = ReportContextConverter.class)
+    private String contextJson;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private ReportMetrics metrics;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
     private ReportContext context;
     
     @Column(name = "start_date")
@@ -45,15 +66,57 @@ public class HealthReport extends BaseTimeEntity {
     @Column(name = "period_type", length = 10)
     private PeriodType periodType;
 
+    /**
+     * 생성 시점의 사용자 건강 지표 데이터 버전 (User.metricDataVersion과 같으면 재계산 불필요)
+     */
+    @Column(name = "data_version")
+    private Long dataVersion;
+
     @Builder
     public HealthReport(User user, ReportMetrics metrics, ReportContext context, LocalDate startDate, LocalDate endDate,
-                        PeriodType periodType) {
+                        PeriodType periodType, Long dataVersion) {
         this.user = user;
-        this.metrics = metrics;
-        this.context = context;
+        this.metricsJson = ReportJsonCodec.write(metrics);
+        this.contextJson = ReportJsonCodec.write(context);
         this.startDate = startDate;
         this.endDate = endDate;
         this.periodType = periodType;
+        this.dataVersion = dataVersion;
+    }
+
+    /**
+     * 지표 (처음 호출 시 JSON 파싱, 읽기 전용 - 변경은 refresh로)
+     */
+    public ReportMetrics getMetrics() {
+        if (metrics == null) {
+            metrics = ReportJsonCodec.readMetrics(metricsJson);
+        }
+        return metrics;
+    }
+
+    /**
+     * 컨텍스트 (처음 호출 시 JSON 파싱, 읽기 전용 - 변경은 refresh로)
+     */
+    public ReportContext getContext() {
+        if (context == null) {
+            context = ReportJsonCodec.readContext(contextJson);
+        }
+        return context;
+    }
+
+    public boolean isUpToDate(long currentDataVersion) {
+        return dataVersion != null && dataVersion == currentDataVersion;
+    }
+
+    /**
+     * 같은 기간 리포트를 최신 지표로 갱신 (재생성)
+     */
+    public void refresh(ReportMetrics metrics, ReportContext context, long dataVersion) {
+        this.metricsJson = ReportJsonCodec.write(metrics);
+        this.contextJson = ReportJsonCodec.write(context);
+        this.metrics = null;
+        this.context = null;
+        this.dataVersion = dataVersion;
     }
 
 }
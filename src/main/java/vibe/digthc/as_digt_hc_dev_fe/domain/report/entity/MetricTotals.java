@@ -0,0 +1,148 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지표별 누적 값 (값 있는 일수, 합계, 제곱합)
+ *
+ * 누적 롤업(HealthMetricCumulative)의 한 행이자, 하루치 변경분(delta)을 표현하는 값 객체입니다.
+ * 두 누적 값의 차이로 임의 기간의 평균/분산을 계산할 수 있습니다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MetricTotals {
+
+    @Column(name = "row_count", nullable = false)
+    private long rowCount;
+
+    @Column(name = "steps_count", nullable = false)
+    private long stepsCount;
+
+    @Column(name = "steps_sum", nullable = false)
+    private long stepsSum;
+
+    @Column(name = "steps_sum_sq", nullable = false)
+    private long stepsSumSq;
+
+    @Column(name = "heart_rate_count", nullable = false)
+    private long heartRateCount;
+
+    @Column(name = "heart_rate_sum", nullable = false)
+    private long heartRateSum;
+
+    @Column(name = "heart_rate_sum_sq", nullable = false)
+    private long heartRateSumSq;
+
+    @Column(name = "weight_count", nullable = false)
+    private long weightCount;
+
+    @Column(name = "weight_sum", nullable = false)
+    private double weightSum;
+
+    @Column(name = "weight_sum_sq", nullable = false)
+    private double weightSumSq;
+
+    @Column(name = "bp_systolic_count", nullable = false)
+    private long systolicCount;
+
+    @Column(name = "bp_systolic_sum", nullable = false)
+    private long systolicSum;
+
+    @Column(name = "bp_systolic_sum_sq", nullable = false)
+    private long systolicSumSq;
+
+    @Column(name = "bp_diastolic_count", nullable = false)
+    private long diastolicCount;
+
+    @Column(name = "bp_diastolic_sum", nullable = false)
+    private long diastolicSum;
+
+    @Column(name = "bp_diastolic_sum_sq", nullable = false)
+    private long diastolicSumSq;
+
+    public static MetricTotals empty() {
+        return new MetricTotals();
+    }
+
+    /**
+     * 하루치 값의 기여분 (null은 측정 없음)
+     */
+    public static MetricTotals of(Integer steps, Integer heartRate, Double weight, Integer systolic, Integer diastolic) {
+        MetricTotals totals = new MetricTotals();
+        totals.rowCount = 1;
+        if (steps != null) {
+            totals.stepsCount = 1;
+            totals.stepsSum = steps;
+            totals.stepsSumSq = (long) steps * steps;
+        }
+        if (heartRate != null) {
+            totals.heartRateCount = 1;
+            totals.heartRateSum = heartRate;
+            totals.heartRateSumSq = (long) heartRate * heartRate;
+        }
+        if (weight != null) {
+            totals.weightCount = 1;
+            totals.weightSum = weight;
+            totals.weightSumSq = weight * weight;
+        }
+        if (systolic != null) {
+            totals.systolicCount = 1;
+            totals.systolicSum = systolic;
+            totals.systolicSumSq = (long) systolic * systolic;
+        }
+        if (diastolic != null) {
+            totals.diastolicCount = 1;
+            totals.diastolicSum = diastolic;
+            totals.diastolicSumSq = (long) diastolic * diastolic;
+        }
+        return totals;
+    }
+
+    public static MetricTotals of(HealthMetricDaily metric) {
+        return of(metric.getSteps(), metric.getHeartRate(), metric.getWeight(),
+                metric.getSystolic(), metric.getDiastolic());
+    }
+
+    public MetricTotals plus(MetricTotals other) {
+        return combine(other, 1);
+    }
+
+    public MetricTotals minus(MetricTotals other) {
+        return combine(other, -1);
+    }
+
+    public boolean isZero() {
+        return rowCount == 0
+                && stepsCount == 0 && stepsSum == 0 && stepsSumSq == 0
+                && heartRateCount == 0 && heartRateSum == 0 && heartRateSumSq == 0
+                && weightCount == 0 && weightSum == 0 && weightSumSq == 0
+                && systolicCount == 0 && systolicSum == 0 && systolicSumSq == 0
+                && diastolicCount == 0 && diastolicSum == 0 && diastolicSumSq == 0;
+    }
+
+    private MetricTotals combine(MetricTotals other, int sign) {
+        MetricTotals result = new MetricTotals();
+        result.rowCount = rowCount + sign * other.rowCount;
+        result.stepsCount = stepsCount + sign * other.stepsCount;
+        result.stepsSum = stepsSum + sign * other.stepsSum;
+        result.stepsSumSq = stepsSumSq + sign * other.stepsSumSq;
+        result.heartRateCount = heartRateCount + sign * other.heartRateCount;
+        result.heartRateSum = heartRateSum + sign * other.heartRateSum;
+        result.heartRateSumSq = heartRateSumSq + sign * other.heartRateSumSq;
+        result.weightCount = weightCount + sign * other.weightCount;
+        result.weightSum = weightSum + sign * other.weightSum;
+        result.weightSumSq = weightSumSq + sign * other.weightSumSq;
+        result.systolicCount = systolicCount + sign * other.systolicCount;
+        result.systolicSum = systolicSum + sign * other.systolicSum;
+        result.systolicSumSq = systolicSumSq + sign * other.systolicSumSq;
+        result.diastolicCount = diastolicCount + sign * other.diastolicCount;
+        result.diastolicSum = diastolicSum + sign * other.diastolicSum;
+        result.diastolicSumSq = diastolicSumSq + sign * other.diastolicSumSq;
+        return result;
+    }
+}
@@ -0,0 +1,104 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import vibe.digthc.as_digt_hc_dev_fe.domain.common.BaseTimeEntity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 리포트 일괄 생성 실행 기록 및 체크포인트 (기간 유형 + 기준일당 한 행)
+ *
+ * 사용자 ID 오름차순으로 처리하며, 한 웨이브(동시 처리 청크 묶음)가 끝날 때마다 마지막 사용자 ID와
+ * 누적 처리 수를 기록합니다. 실행이 중단되면 다음 실행이 last_user_id 이후부터 이어서 처리합니다.
+ * 여러 인스턴스가 동시에 처리하지 않도록 lease_owner/lease_until로 실행권을 잡습니다.
+ * 갱신은 ReportBatchRunRepository의 조건부 UPDATE로만 수행합니다.
+ */
+@Entity
+@Table(
+        name = "report_batch_runs",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_report_batch_runs_period_date", columnNames = {"period_type", "target_date"})
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReportBatchRun extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "run_id", columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period_type", length = 10, nullable = false)
+    private PeriodType periodType;
+
+    /**
+     * 리포트 기준일 (리포트 종료일, 온디맨드 생성과 같은 기간 키)
+     */
+    @Column(name = "target_date", nullable = false)
+    private LocalDate targetDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private ReportBatchStatus status;
+
+    /**
+     * 처리 완료한 마지막 사용자 ID (체크포인트)
+     */
+    @Column(name = "last_user_id", columnDefinition = "BINARY(16)")
+    private UUID lastUserId;
+
+    @Column(name = "processed_users", nullable = false)
+    private long processedUsers;
+
+    /**
+     * 새로 생성하거나 최신 지표로 갱신한 리포트 수
+     */
+    @Column(name = "written_reports", nullable = false)
+    private long writtenReports;
+
+    /**
+     * 이미 최신이라 재계산하지 않은 리포트 수
+     */
+    @Column(name = "up_to_date_reports", nullable = false)
+    private long upToDateReports;
+
+    @Column(name = "failed_users", nullable = false)
+    private long failedUsers;
+
+    /**
+     * 처리에 걸린 누적 시간 (재개 사이 대기 시간 제외)
+     */
+    @Column(name = "elapsed_millis", nullable = false)
+    private long elapsedMillis;
+
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public static ReportBatchRun start(PeriodType periodType, LocalDate targetDate) {
+        ReportBatchRun run = new ReportBatchRun();
+        run.periodType = periodType;
+        run.targetDate = targetDate;
+        run.status = ReportBatchStatus.RUNNING;
+        return run;
+    }
+
+    /**
+     * 초당 처리 사용자 수
+     */
+    public double getUsersPerSecond() {
+        return elapsedMillis > 0 ? Math.round(processedUsers * 100_000.0 / elapsedMillis) / 100.0 : 0.0;
+    }
+}
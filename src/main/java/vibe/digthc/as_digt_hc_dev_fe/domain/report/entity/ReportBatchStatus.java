@@ -0,0 +1,9 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.entity;
+
+/**
+ * 리포트 일괄 생성 실행 상태
+ */
+public enum ReportBatchStatus {
+    RUNNING,    // 진행 중 (중단되었으면 다음 실행에서 체크포인트부터 이어서 처리)
+    COMPLETED   // 전체 사용자 처리 완료
+}
@@ -0,0 +1,69 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.HealthMetricCumulative;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.MetricTotals;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface HealthMetricCumulativeRepository extends JpaRepository<HealthMetricCumulative, UUID> {
+
+    boolean existsByUserIdAndRecordDate(UUID userId, LocalDate recordDate);
+
+    /**
+     * 기준일 이하 마지막 누적 행 (기간 끝 경계)
+     */
+    Optional<HealthMetricCumulative> findFirstByUserIdAndRecordDateLessThanEqualOrderByRecordDateDesc(
+            UUID userId, LocalDate recordDate);
+
+    /**
+     * 기준일 미만 마지막 누적 행 (기간 시작 경계)
+     */
+    Optional<HealthMetricCumulative> findFirstByUserIdAndRecordDateLessThanOrderByRecordDateDesc(
+            UUID userId, LocalDate recordDate);
+
+    /**
+     * 일별 지표가 모두 삭제되었는데 누적 행이 남은 사용자
+     */
+    @Query("SELECT DISTINCT c.user.id FROM HealthMetricCumulative c " +
+           "WHERE NOT EXISTS (SELECT 1 FROM HealthMetricDaily m WHERE m.user.id = c.user.id)")
+    List<UUID> findUserIdsWithoutDailyMetrics();
+
+    /**
+     * fromDate 이후(포함) 모든 누적 행에 변경분 반영 (과거 날짜 수정 시 이후 누적 값 일괄 보정)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE HealthMetricCumulative c SET " +
+           "c.totals.rowCount = c.totals.rowCount + :#{#delta.rowCount}, " +
+           "c.totals.stepsCount = c.totals.stepsCount + :#{#delta.stepsCount}, " +
+           "c.totals.stepsSum = c.totals.stepsSum + :#{#delta.stepsSum}, " +
+           "c.totals.stepsSumSq = c.totals.stepsSumSq + :#{#delta.stepsSumSq}, " +
+           "c.totals.heartRateCount = c.totals.heartRateCount + :#{#delta.heartRateCount}, " +
+           "c.totals.heartRateSum = c.totals.heartRateSum + :#{#delta.heartRateSum}, " +
+           "c.totals.heartRateSumSq = c.totals.heartRateSumSq + :#{#delta.heartRateSumSq}, " +
+           "c.totals.weightCount = c.totals.weightCount + :#{#delta.weightCount}, " +
+           "c.totals.weightSum = c.totals.weightSum + :#{#delta.weightSum}, " +
+           "c.totals.weightSumSq = c.totals.weightSumSq + :#{#delta.weightSumSq}, " +
+           "c.totals.systolicCount = c.totals.systolicCount + :#{#delta.systolicCount}, " +
+           "c.totals.systolicSum = c.totals.systolicSum + :#{#delta.systolicSum}, " +
+           "c.totals.systolicSumSq = c.totals.systolicSumSq + :#{#delta.systolicSumSq}, " +
+           "c.totals.diastolicCount = c.totals.diastolicCount + :#{#delta.diastolicCount}, " +
+           "c.totals.diastolicSum = c.totals.diastolicSum + :#{#delta.diastolicSum}, " +
+           "c.totals.diastolicSumSq = c.totals.diastolicSumSq + :#{#delta.diastolicSumSq} " +
+           "WHERE c.user.id = :userId AND c.recordDate >= :fromDate")
+    int applyDelta(@Param("userId") UUID userId,
+                   @Param("fromDate") LocalDate fromDate,
+                   @Param("delta") MetricTotals delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM HealthMetricCumulative c WHERE c.user.id = :userId")
+    int deleteByUserId(@Param("userId") UUID userId);
+}
@@ -1,10 +1,16 @@
 package vibe.digthc.as_digt_hc_dev_fe.domain.report.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.DailyMetricValues;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthMetricRangeSummary;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthMetricUserRangeSummary;
 import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.HealthMetricDaily;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,5 +19,80 @@ import java.util.UUID;
 public interface HealthMetricDailyRepository extends JpaRepository<HealthMetricDaily, UUID> {
     Optional<HealthMetricDaily> findByUserIdAndRecordDate(UUID userId, LocalDate recordDate);
 
+    /**
+     * 기간 내 일별 지표 행 조회 (행 단위 값이 필요한 경우에만 사용, 집계만 필요하면 summarizeRange)
+     */
     List<HealthMetricDaily> findByUserIdAndRecordDateBetween(UUID userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 기간 내 컬럼별 COUNT/SUM/MIN/MAX를 DB에서 한 행으로 집계 (엔티티 로딩 없음)
+     */
+    @Query("SELECT COUNT(m) AS rowCount, " +
+           "COUNT(m.steps) AS stepsCount, SUM(m.steps) AS stepsSum, " +
+           "MIN(m.steps) AS stepsMin, MAX(m.steps) AS stepsMax, " +
+           "COUNT(m.heartRate) AS heartRateCount, SUM(m.heartRate) AS heartRateSum, " +
+           "MIN(m.heartRate) AS heartRateMin, MAX(m.heartRate) AS heartRateMax, " +
+           "COUNT(m.weight) AS weightCount, SUM(m.weight) AS weightSum, " +
+           "MIN(m.weight) AS weightMin, MAX(m.weight) AS weightMax, " +
+           "COUNT(m.systolic) AS systolicCount, SUM(m.systolic) AS systolicSum, " +
+           "MIN(m.systolic) AS systolicMin, MAX(m.systolic) AS systolicMax, " +
+           "COUNT(m.diastolic) AS diastolicCount, SUM(m.diastolic) AS diastolicSum, " +
+           "MIN(m.diastolic) AS diastolicMin, MAX(m.diastolic) AS diastolicMax " +
+           "FROM HealthMetricDaily m " +
+           "WHERE m.user.id = :userId AND m.recordDate BETWEEN :startDate AND :endDate")
+    HealthMetricRangeSummary summarizeRange(@Param("userId") UUID userId,
+                                            @Param("startDate") LocalDate startDate,
+                                            @Param("endDate") LocalDate endDate);
+
+    /**
+     * 여러 사용자의 기간 집계를 사용자별 한 행으로 계산 (리포트 일괄 생성, 기록이 없는 사용자는 행 없음)
+     */
+    @Query("SELECT m.user.id AS userId, COUNT(m) AS rowCount, " +
+           "COUNT(m.steps) AS stepsCount, SUM(m.steps) AS stepsSum, " +
+           "MIN(m.steps) AS stepsMin, MAX(m.steps) AS stepsMax, " +
+           "COUNT(m.heartRate) AS heartRateCount, SUM(m.heartRate) AS heartRateSum, " +
+           "MIN(m.heartRate) AS heartRateMin, MAX(m.heartRate) AS heartRateMax, " +
+           "COUNT(m.weight) AS weightCount, SUM(m.weight) AS weightSum, " +
+           "MIN(m.weight) AS weightMin, MAX(m.weight) AS weightMax, " +
+           "COUNT(m.systolic) AS systolicCount, SUM(m.systolic) AS systolicSum, " +
+           "MIN(m.systolic) AS systolicMin, MAX(m.systolic) AS systolicMax, " +
+           "COUNT(m.diastolic) AS diastolicCount, SUM(m.diastolic) AS diastolicSum, " +
+           "MIN(m.diastolic) AS diastolicMin, MAX(m.diastolic) AS diastolicMax " +
+           "FROM HealthMetricDaily m " +
+           "WHERE m.user.id IN :userIds AND m.recordDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY m.user.id")
+    List<HealthMetricUserRangeSummary> summarizeRangeByUsers(@Param("userIds") Collection<UUID> userIds,
+                                                             @Param("startDate") LocalDate startDate,
+                                                             @Param("endDate") LocalDate endDate);
+
+    /**
+     * 사용자의 전체 일별 값 (날짜 오름차순, 누적 롤업 재구성/최소·최대 인덱스 구축용)
+     */
+    @Query("SELECT new vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.DailyMetricValues(" +
+           "m.recordDate, m.steps, m.heartRate, m.weight, m.systolic, m.diastolic) " +
+           "FROM HealthMetricDaily m WHERE m.user.id = :userId ORDER BY m.recordDate")
+    List<DailyMetricValues> findValuesByUserId(@Param("userId") UUID userId);
+
+    /**
+     * 누적 롤업이 일별 지표와 어긋난 사용자 (사용자별 GROUP BY 한 번)
+     * - 일별 지표 집계(행 수, 지표별 값 있는 일수/합계)를 사용자의 마지막 누적 행과 비교하는 체크섬
+     * - 행 추가/삭제뿐 아니라 기존 행 값 수정(UPDATE 백필)도 감지
+     * - 체중 합계는 실수 누적 오차를 허용 (weightTolerance)
+     */
+    @Query("SELECT m.user.id FROM HealthMetricDaily m " +
+           "LEFT JOIN HealthMetricCumulative c ON c.user.id = m.user.id AND c.recordDate = " +
+           "(SELECT MAX(c2.recordDate) FROM HealthMetricCumulative c2 WHERE c2.user.id = m.user.id) " +
+           "GROUP BY m.user.id " +
+           "HAVING COUNT(m) <> COALESCE(MAX(c.totals.rowCount), 0) " +
+           "OR COUNT(m.steps) <> COALESCE(MAX(c.totals.stepsCount), 0) " +
+           "OR COALESCE(SUM(m.steps), 0) <> COALESCE(MAX(c.totals.stepsSum), 0) " +
+           "OR COUNT(m.heartRate) <> COALESCE(MAX(c.totals.heartRateCount), 0) " +
+           "OR COALESCE(SUM(m.heartRate), 0) <> COALESCE(MAX(c.totals.heartRateSum), 0) " +
+           "OR COUNT(m.weight) <> COALESCE(MAX(c.totals.weightCount), 0) " +
+           "OR ABS(COALESCE(SUM(m.weight), 0) - COALESCE(MAX(c.totals.weightSum), 0)) > :weightTolerance " +
+           "OR COUNT(m.systolic) <> COALESCE(MAX(c.totals.systolicCount), 0) " +
+           "OR COALESCE(SUM(m.systolic), 0) <> COALESCE(MAX(c.totals.systolicSum), 0) " +
+           "OR COUNT(m.diastolic) <> COALESCE(MAX(c.totals.diastolicCount), 0) " +
+           "OR COALESCE(SUM(m.diastolic), 0) <> COALESCE(MAX(c.totals.diastolicSum), 0)")
+    List<UUID> findUserIdsWithStaleRollup(@Param("weightTolerance") double weightTolerance);
 }
@@ -1,12 +1,20 @@
 package vibe.digthc.as_digt_hc_dev_fe.domain.report.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthReportSummaryResponse;
 import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.HealthReport;
 import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.PeriodType;
 import vibe.digthc.as_digt_hc_dev_fe.domain.user.entity.User;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -14,6 +22,59 @@ public interface HealthReportRepository extends JpaRepository<HealthReport, UUID
     List<HealthReport> findByUserOrderByCreatedAtDesc(User user);
 
     List<HealthReport> findByUserAndPeriodTypeOrderByCreatedAtDesc(User user, PeriodType periodType);
+
+    /**
+     * 리포트 식별 키 (사용자, 기간 유형, 시작일, 종료일) 조회
+     */
+    Optional<HealthReport> findByUserIdAndPeriodTypeAndStartDateAndEndDate(
+            UUID userId, PeriodType periodType, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 같은 식별 키 (사용자, 기간 유형, 시작일, 종료일)에 더 최근 리포트가 있는 중복 리포트 ID
+     * - 키마다 updated_at(같으면 report_id)이 가장 큰 행만 남기고 나머지를 반환 (유니크 키 적용 전 정리용)
+     */
+    @Query("SELECT r.id FROM HealthReport r " +
+           "WHERE EXISTS (SELECT 1 FROM HealthReport newer " +
+           "WHERE newer.user = r.user AND newer.periodType = r.periodType " +
+           "AND newer.startDate = r.startDate AND newer.endDate = r.endDate " +
+           "AND (newer.updatedAt > r.updatedAt OR (newer.updatedAt = r.updatedAt AND newer.id > r.id)))")
+    List<UUID> findSupersededDuplicateIds();
+
+    /**
+     * 여러 사용자의 같은 기간 리포트 (리포트 일괄 생성)
+     */
+    List<HealthReport> findByUserIdInAndPeriodTypeAndStartDateAndEndDate(
+            Collection<UUID> userIds, PeriodType periodType, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 리포트 목록 페이지 (created_at, report_id 내림차순 키셋, JSON 컬럼 제외)
+     * - 커서 (createdAt, id)보다 앞선 행만 조회, 첫 페이지는 최대값 커서 사용
+     */
+    @Query("SELECT new vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthReportSummaryResponse(" +
+           "r.id, r.startDate, r.endDate, r.periodType, r.createdAt, r.updatedAt) " +
+           "FROM HealthReport r " +
+           "WHERE r.user.id = :userId " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<HealthReportSummaryResponse> findSummaryPage(@Param("userId") UUID userId,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") UUID id,
+                                                      Limit limit);
+
+    /**
+     * 기간 유형별 리포트 목록 페이지 (idx_health_reports_user_period_created 사용)
+     */
+    @Query("SELECT new vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthReportSummaryResponse(" +
+           "r.id, r.startDate, r.endDate, r.periodType, r.createdAt, r.updatedAt) " +
+           "FROM HealthReport r " +
+           "WHERE r.user.id = :userId AND r.periodType = :periodType " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<HealthReportSummaryResponse> findSummaryPageByPeriodType(@Param("userId") UUID userId,
+                                                                  @Param("periodType") PeriodType periodType,
+                                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                                  @Param("id") UUID id,
+                                                                  Limit limit);
 }
 
 
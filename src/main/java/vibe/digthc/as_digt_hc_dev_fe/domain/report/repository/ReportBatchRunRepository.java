@@ -0,0 +1,80 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.PeriodType;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.ReportBatchRun;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.ReportBatchStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ReportBatchRunRepository extends JpaRepository<ReportBatchRun, UUID> {
+
+    Optional<ReportBatchRun> findByPeriodTypeAndTargetDate(PeriodType periodType, LocalDate targetDate);
+
+    List<ReportBatchRun> findTop10ByOrderByCreatedAtDesc();
+
+    /**
+     * 기준일 범위의 미완료 실행 (이전 시간 창에서 끝나지 못한 실행을 이어서 처리)
+     */
+    List<ReportBatchRun> findByStatusAndTargetDateBetweenOrderByTargetDateAsc(ReportBatchStatus status,
+                                                                             LocalDate from,
+                                                                             LocalDate to);
+
+    /**
+     * 실행권 획득 (진행 중이고 점유자가 없거나, 자신이거나, 점유 기한이 지난 경우에만)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReportBatchRun r SET r.leaseOwner = :owner, r.leaseUntil = :leaseUntil " +
+           "WHERE r.id = :id AND r.status = vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.ReportBatchStatus.RUNNING " +
+           "AND (r.leaseOwner IS NULL OR r.leaseOwner = :owner OR r.leaseUntil < :now)")
+    int claim(@Param("id") UUID id,
+              @Param("owner") String owner,
+              @Param("leaseUntil") LocalDateTime leaseUntil,
+              @Param("now") LocalDateTime now);
+
+    /**
+     * 웨이브 처리 결과 반영 및 실행권 연장 (실행권을 잃었으면 0)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReportBatchRun r SET r.lastUserId = :lastUserId, " +
+           "r.processedUsers = r.processedUsers + :processed, " +
+           "r.writtenReports = r.writtenReports + :written, " +
+           "r.upToDateReports = r.upToDateReports + :upToDate, " +
+           "r.failedUsers = r.failedUsers + :failed, " +
+           "r.elapsedMillis = r.elapsedMillis + :elapsedMillis, " +
+           "r.leaseUntil = :leaseUntil, r.updatedAt = :now " +
+           "WHERE r.id = :id AND r.leaseOwner = :owner")
+    int checkpoint(@Param("id") UUID id,
+                   @Param("owner") String owner,
+                   @Param("lastUserId") UUID lastUserId,
+                   @Param("processed") long processed,
+                   @Param("written") long written,
+                   @Param("upToDate") long upToDate,
+                   @Param("failed") long failed,
+                   @Param("elapsedMillis") long elapsedMillis,
+                   @Param("leaseUntil") LocalDateTime leaseUntil,
+                   @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReportBatchRun r SET r.status = vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.ReportBatchStatus.COMPLETED, " +
+           "r.completedAt = :now, r.updatedAt = :now, r.leaseOwner = NULL, r.leaseUntil = NULL " +
+           "WHERE r.id = :id AND r.leaseOwner = :owner")
+    int complete(@Param("id") UUID id, @Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    /**
+     * 실행권 반납 (시간 창 종료 등으로 중단, 다음 실행에서 이어서 처리)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ReportBatchRun r SET r.leaseOwner = NULL, r.leaseUntil = NULL " +
+           "WHERE r.id = :id AND r.leaseOwner = :owner")
+    int release(@Param("id") UUID id, @Param("owner") String owner);
+}
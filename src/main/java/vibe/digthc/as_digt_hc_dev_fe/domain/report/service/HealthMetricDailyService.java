@@ -5,7 +5,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthMetricDailyRequest;
 import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthMetricDailyResponse;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthMetricSummaryResponse;
 import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.HealthMetricDaily;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.MetricTotals;
 import vibe.digthc.as_digt_hc_dev_fe.domain.report.repository.HealthMetricDailyRepository;
 import vibe.digthc.as_digt_hc_dev_fe.domain.user.entity.User;
 import vibe.digthc.as_digt_hc_dev_fe.domain.user.repository.UserRepository;
@@ -20,6 +22,8 @@ public class HealthMetricDailyService {
 
     private final HealthMetricDailyRepository healthMetricDailyRepository;
     private final UserRepository userRepository;
+    private final MetricRollupService metricRollupService;
+    private final ReportReadCache reportReadCache;
 
     @Transactional
     public HealthMetricDailyResponse upsertDailyMetrics(UUID userId, HealthMetricDailyRequest request) {
@@ -30,32 +34,44 @@ public class HealthMetricDailyService {
             throw new IllegalArgumentException("At least one metric value is required");
         }
 
+        // 조회보다 먼저 데이터 버전을 올려 같은 사용자의 동시 저장을 직렬화 (누적 롤업 보정이 서로 겹치지 않도록)
+        userRepository.increaseMetricDataVersion(userId);
+
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
-        HealthMetricDaily metric = healthMetricDailyRepository
+        HealthMetricDaily existing = healthMetricDailyRepository
                 .findByUserIdAndRecordDate(userId, request.getRecordDate())
-                .map(existing -> {
-                    existing.update(
-                            request.getSteps(),
-                            request.getHeartRate(),
-                            request.getWeight(),
-                            request.getSystolic(),
-                            request.getDiastolic()
-                    );
-                    return existing;
-                })
-                .orElseGet(() -> HealthMetricDaily.create(
-                        user,
-                        request.getRecordDate(),
-                        request.getSteps(),
-                        request.getHeartRate(),
-                        request.getWeight(),
-                        request.getSystolic(),
-                        request.getDiastolic()
-                ));
+                .orElse(null);
+
+        // 누적 롤업 보정용 변경 전 값 (update가 엔티티를 바꾸기 전에 캡처)
+        MetricTotals before = existing == null ? MetricTotals.empty() : MetricTotals.of(existing);
+
+        HealthMetricDaily metric;
+        if (existing != null) {
+            existing.update(
+                    request.getSteps(),
+                    request.getHeartRate(),
+                    request.getWeight(),
+                    request.getSystolic(),
+                    request.getDiastolic()
+            );
+            metric = existing;
+        } else {
+            metric = HealthMetricDaily.create(
+                    user,
+                    request.getRecordDate(),
+                    request.getSteps(),
+                    request.getHeartRate(),
+                    request.getWeight(),
+                    request.getSystolic(),
+                    request.getDiastolic()
+            );
+        }
 
         HealthMetricDaily saved = healthMetricDailyRepository.save(metric);
+        metricRollupService.applyDailyChange(user, before, saved);
+        reportReadCache.invalidate(userId);
         return HealthMetricDailyResponse.from(saved);
     }
 
@@ -69,4 +85,11 @@ public class HealthMetricDailyService {
                 .map(HealthMetricDailyResponse::from)
                 .orElseGet(() -> HealthMetricDailyResponse.empty(userId, recordDate));
     }
+
+    /**
+     * 기간 [from, to] 지표 요약 (누적 롤업 기반, 기간 길이와 무관하게 일정 비용)
+     */
+    public HealthMetricSummaryResponse getSummary(UUID userId, LocalDate from, LocalDate to) {
+        return metricRollupService.summarize(userId, from, to);
+    }
 }
@@ -1,12 +1,17 @@
 package vibe.digthc.as_digt_hc_dev_fe.domain.report.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import vibe.digthc.as_digt_hc_dev_fe.domain.family.repository.FamilyBoardRepository;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthReportPageResponse;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthReportResponse;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthReportSummaryResponse;
 import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.ReportContext;
 import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.ReportMetrics;
-import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.HealthMetricDaily;
 import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.HealthReport;
 import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.PeriodType;
 import vibe.digthc.as_digt_hc_dev_fe.domain.report.repository.HealthMetricDailyRepository;
@@ -16,7 +21,6 @@ import vibe.digthc.as_digt_hc_dev_fe.domain.user.repository.UserRepository;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -29,36 +33,74 @@ public class HealthReportService {
     private final HealthMetricDailyRepository healthMetricDailyRepository;
     private final UserRepository userRepository;
     private final FamilyBoardRepository familyBoardRepository;
+    private final ReportReadCache reportReadCache;
+    private final HealthReportWriter healthReportWriter;
 
+    private static final int DEFAULT_PAGE_LIMIT = 20;
+    private static final int MAX_PAGE_LIMIT = 100;
+
+    /**
+     * 리포트 생성 (사용자, 기간 유형, 시작일, 종료일 기준 upsert)
+     * - 마지막 생성 이후 지표 데이터 버전이 같으면 기존 리포트를 그대로 반환
+     * - 버전이 바뀌었으면 같은 행을 최신 집계로 갱신
+     * - 동시 요청이 같은 기간 리포트를 먼저 생성했으면 그 리포트를 반환
+     */
     @Transactional
     public HealthReport generateReport(UUID userId, PeriodType periodType) {
+        return generateReport(userId, periodType, LocalDate.now());
+    }
+
+    /**
+     * 기준일(종료일) 리포트 생성
+     */
+    @Transactional
+    public HealthReport generateReport(UUID userId, PeriodType periodType, LocalDate endDate) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
         PeriodType resolvedType = periodType != null ? periodType : PeriodType.WEEKLY;
-        LocalDate endDate = LocalDate.now();
-        LocalDate startDate = resolvedType == PeriodType.WEEKLY
-                ? endDate.minusDays(6)
-                : endDate.withDayOfMonth(1);
-
-        List<HealthMetricDaily> dailyMetrics = healthMetricDailyRepository
-                .findByUserIdAndRecordDateBetween(userId, startDate, endDate);
-
-        ReportMetrics metrics = aggregateMetrics(dailyMetrics);
-        ReportContext context = buildContext(startDate, endDate, dailyMetrics);
+        LocalDate startDate = periodStart(resolvedType, endDate);
 
-        HealthReport report = HealthReport.builder()
-                .user(user)
-                .metrics(metrics)
-                .context(context)
-                .startDate(startDate)
-                .endDate(endDate)
-                .periodType(resolvedType)
-                .build();
+        // 같은 기간 리포트가 있고 그 후 지표 변경이 없으면 재계산 없이 반환 (재시도/중복 요청)
+        long dataVersion = user.getMetricDataVersion();
+        HealthReport existing = healthReportRepository
+                .findByUserIdAndPeriodTypeAndStartDateAndEndDate(userId, resolvedType, startDate, endDate)
+                .orElse(null);
+        if (existing != null && existing.isUpToDate(dataVersion)) {
+            return existing;
+        }
 
-        HealthReport savedReport = healthReportRepository.save(report);
+        // 기간 집계는 DB에서 한 행으로 계산 (일별 엔티티를 로딩하지 않음)
+        MetricAccumulator accumulator = MetricAccumulator.from(
+                healthMetricDailyRepository.summarizeRange(userId, startDate, endDate));
+        ReportMetrics metrics = accumulator.toReportMetrics();
+        ReportContext context = buildContext(startDate, endDate, accumulator);
+
+        HealthReport savedReport;
+        if (existing != null) {
+            existing.refresh(metrics, context, dataVersion);
+            savedReport = existing;
+        } else {
+            HealthReport report = HealthReport.builder()
+                    .user(user)
+                    .metrics(metrics)
+                    .context(context)
+                    .startDate(startDate)
+                    .endDate(endDate)
+                    .periodType(resolvedType)
+                    .dataVersion(dataVersion)
+                    .build();
+            try {
+                savedReport = healthReportWriter.insert(report);
+            } catch (DataIntegrityViolationException e) {
+                // 동시 요청(재시도/중복 탭)이 같은 기간 리포트를 먼저 생성함 → 커밋된 리포트를 그대로 반환
+                return healthReportWriter.findCommitted(userId, resolvedType, startDate, endDate)
+                        .orElseThrow(() -> e);
+            }
+        }
 
         updateFamilyBoardActivity(userId);
+        reportReadCache.invalidate(userId);
 
         return savedReport;
     }
@@ -78,6 +120,36 @@ public class HealthReportService {
         return healthReportRepository.findByUserAndPeriodTypeOrderByCreatedAtDesc(user, periodType);
     }
 
+    /**
+     * 리포트 목록 페이지 (최근 생성 순, 키셋 페이지네이션)
+     * - 사용자 엔티티와 metrics/context JSON 컬럼을 읽지 않는 요약 프로젝션
+     * - limit + 1건을 조회해 다음 페이지 존재 여부를 판단 (COUNT 쿼리 없음)
+     * - 첫 페이지(cursor 없음)는 읽기 캐시 사용 (캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행)
+     *
+     * @param limit  페이지 크기 (기본 20, 1~100)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public HealthReportPageResponse getReportPage(UUID userId, PeriodType periodType, Integer limit, String cursor) {
+        int pageSize = limit == null ? DEFAULT_PAGE_LIMIT : Math.min(Math.max(limit, 1), MAX_PAGE_LIMIT);
+        if (cursor == null || cursor.isBlank()) {
+            return reportReadCache.getFirstPage(userId, periodType, pageSize,
+                    () -> loadReportPage(userId, periodType, pageSize, ReportCursor.FIRST));
+        }
+        return loadReportPage(userId, periodType, pageSize, ReportCursor.decode(cursor));
+    }
+
+    /**
+     * 사용자 리포트 전체 목록 응답 (상세 지표 포함, 읽기 캐시 사용 - GET /v1/reports?all=true 전용)
+     * - 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (미적중 로딩은 리포지토리 트랜잭션 사용)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<HealthReportResponse> getReportResponsesByUser(UUID userId, PeriodType periodType) {
+        return reportReadCache.get(userId, periodType, () -> getReportsByUser(userId, periodType).stream()
+                .map(HealthReportResponse::from)
+                .toList());
+    }
+
     /**
      * 리포트 삭제
      */
@@ -93,75 +165,21 @@ public class HealthReportService {
         healthReportRepository.delete(report);
 
         updateFamilyBoardActivity(userId);
+        reportReadCache.invalidate(userId);
     }
 
-    private ReportMetrics aggregateMetrics(List<HealthMetricDaily> dailyMetrics) {
-        Integer avgSteps = averageInt(dailyMetrics, HealthMetricDaily::getSteps);
-        Integer avgHeartRate = averageInt(dailyMetrics, HealthMetricDaily::getHeartRate);
-        Integer minHeartRate = minInt(dailyMetrics, HealthMetricDaily::getHeartRate);
-        Integer maxHeartRate = maxInt(dailyMetrics, HealthMetricDaily::getHeartRate);
-        Integer avgSystolic = averageInt(dailyMetrics, HealthMetricDaily::getSystolic);
-        Integer avgDiastolic = averageInt(dailyMetrics, HealthMetricDaily::getDiastolic);
-        Double avgWeight = averageDouble(dailyMetrics, HealthMetricDaily::getWeight);
-
-        ReportMetrics.ActivityMetrics activity = avgSteps == null
-                ? null
-                : ReportMetrics.ActivityMetrics.builder()
-                .steps(avgSteps)
-                .build();
-
-        ReportMetrics.HeartRateMetrics heartRate = avgHeartRate == null && minHeartRate == null && maxHeartRate == null
-                ? null
-                : ReportMetrics.HeartRateMetrics.builder()
-                .avgBpm(avgHeartRate)
-                .minBpm(minHeartRate)
-                .maxBpm(maxHeartRate)
-                .build();
-
-        ReportMetrics.BloodPressureMetrics bloodPressure = avgSystolic == null && avgDiastolic == null
-                ? null
-                : ReportMetrics.BloodPressureMetrics.builder()
-                .systolic(avgSystolic)
-                .diastolic(avgDiastolic)
-                .build();
-
-        ReportMetrics.WeightMetrics weight = avgWeight == null
-                ? null
-                : ReportMetrics.WeightMetrics.builder()
-                .value(avgWeight)
-                .unit("kg")
-                .build();
-
-        return ReportMetrics.builder()
-                .activity(activity)
-                .heartRate(heartRate)
-                .bloodPressure(bloodPressure)
-                .weight(weight)
-                .build();
+    /**
+     * 기간 시작일 (주간: 종료일 포함 7일, 월간: 종료일이 속한 달 1일부터)
+     */
+    static LocalDate periodStart(PeriodType periodType, LocalDate endDate) {
+        return periodType == PeriodType.WEEKLY
+                ? endDate.minusDays(6)
+                : endDate.withDayOfMonth(1);
     }
 
-    private ReportContext buildContext(LocalDate startDate, LocalDate endDate, List<HealthMetricDaily> dailyMetrics) {
+    static ReportContext buildContext(LocalDate startDate, LocalDate endDate, MetricAccumulator accumulator) {
         int totalDays = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
-
-        long stepsCount = dailyMetrics.stream().filter(m -> m.getSteps() != null).count();
-        long heartRateCount = dailyMetrics.stream().filter(m -> m.getHeartRate() != null).count();
-        long weightCount = dailyMetrics.stream().filter(m -> m.getWeight() != null).count();
-        long systolicCount = dailyMetrics.stream().filter(m -> m.getSystolic() != null).count();
-        long diastolicCount = dailyMetrics.stream().filter(m -> m.getDiastolic() != null).count();
-
-        List<String> missingFields = new ArrayList<>();
-        if (stepsCount < totalDays) {
-            missingFields.add("steps");
-        }
-        if (heartRateCount < totalDays) {
-            missingFields.add("heartRate");
-        }
-        if (weightCount < totalDays) {
-            missingFields.add("weight");
-        }
-        if (systolicCount < totalDays || diastolicCount < totalDays) {
-            missingFields.add("bloodPressure");
-        }
+        List<String> missingFields = accumulator.missingFields(totalDays);
 
         return ReportContext.builder()
                 .deviceId("MANUAL")
@@ -172,45 +190,6 @@ public class HealthReportService {
                 .build();
     }
 
-    private Integer averageInt(List<HealthMetricDaily> data, java.util.function.Function<HealthMetricDaily, Integer> getter) {
-        List<Integer> values = data.stream()
-                .map(getter)
-                .filter(value -> value != null)
-                .toList();
-        if (values.isEmpty()) {
-            return null;
-        }
-        double avg = values.stream().mapToInt(Integer::intValue).average().orElse(0);
-        return (int) Math.round(avg);
-    }
-
-    private Double averageDouble(List<HealthMetricDaily> data, java.util.function.Function<HealthMetricDaily, Double> getter) {
-        List<Double> values = data.stream()
-                .map(getter)
-                .filter(value -> value != null)
-                .toList();
-        if (values.isEmpty()) {
-            return null;
-        }
-        return values.stream().mapToDouble(Double::doubleValue).average().orElse(0);
-    }
-
-    private Integer minInt(List<HealthMetricDaily> data, java.util.function.Function<HealthMetricDaily, Integer> getter) {
-        return data.stream()
-                .map(getter)
-                .filter(value -> value != null)
-                .min(Integer::compareTo)
-                .orElse(null);
-    }
-
-    private Integer maxInt(List<HealthMetricDaily> data, java.util.function.Function<HealthMetricDaily, Integer> getter) {
-        return data.stream()
-                .map(getter)
-                .filter(value -> value != null)
-                .max(Integer::compareTo)
-                .orElse(null);
-    }
-
     /**
      * 가족 보드 활동 시간 갱신
      * - 보드 내 데이터 변경 시 Polling 대응을 위한 타임스탬프 관리
@@ -222,4 +201,26 @@ public class HealthReportService {
                     familyBoardRepository.save(board);
                 });
     }
+
+    /**
+     * position 이후 최대 pageSize건의 요약 페이지 조회
+     */
+    private HealthReportPageResponse loadReportPage(UUID userId, PeriodType periodType, int pageSize,
+                                                    ReportCursor position) {
+        Limit fetchLimit = Limit.of(pageSize + 1);
+
+        List<HealthReportSummaryResponse> rows = periodType == null
+                ? healthReportRepository.findSummaryPage(userId, position.createdAt(), position.id(), fetchLimit)
+                : healthReportRepository.findSummaryPageByPeriodType(
+                        userId, periodType, position.createdAt(), position.id(), fetchLimit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<HealthReportSummaryResponse> items = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            HealthReportSummaryResponse last = items.get(items.size() - 1);
+            nextCursor = new ReportCursor(last.createdAt(), last.reportId()).encode();
+        }
+        return new HealthReportPageResponse(List.copyOf(items), nextCursor, hasNext);
+    }
 }
@@ -0,0 +1,45 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.HealthReport;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.PeriodType;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.repository.HealthReportRepository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 온디맨드 리포트 신규 저장 (별도 트랜잭션)
+ *
+ * 같은 기간 리포트를 동시에 처음 생성하면 한쪽이 유니크 키(uk_health_reports_user_period)에 걸립니다.
+ * 삽입을 호출자 트랜잭션과 분리해 실패해도 호출자 트랜잭션이 rollback-only가 되지 않게 하고,
+ * 먼저 커밋된 리포트는 새 트랜잭션에서 다시 읽어 반환합니다. (호출자 트랜잭션의 스냅샷에는 보이지 않을 수 있음)
+ */
+@Component
+@RequiredArgsConstructor
+public class HealthReportWriter {
+
+    private final HealthReportRepository healthReportRepository;
+
+    /**
+     * 신규 리포트 저장 후 즉시 flush (유니크 키 충돌 시 DataIntegrityViolationException)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public HealthReport insert(HealthReport report) {
+        return healthReportRepository.saveAndFlush(report);
+    }
+
+    /**
+     * 리포트 식별 키로 커밋된 리포트 조회 (새 트랜잭션)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public Optional<HealthReport> findCommitted(UUID userId, PeriodType periodType,
+                                                LocalDate startDate, LocalDate endDate) {
+        return healthReportRepository.findByUserIdAndPeriodTypeAndStartDateAndEndDate(
+                userId, periodType, startDate, endDate);
+    }
+}
@@ -0,0 +1,311 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.service;
+
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthMetricRangeSummary;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.ReportMetrics;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.HealthMetricDaily;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일별 건강 지표 단일 패스 집계기
+ *
+ * HealthMetricDaily 목록을 한 번만 순회하면서 필드별 합계/최소/최대/값 있는 일수를
+ * 박싱 없이 원시 타입으로 누적합니다. 리포트 지표(ReportMetrics)와 누락 필드 분석을 모두 이 결과로 계산합니다.
+ * - 배치 작업/기간 조회 등에서 재사용할 수 있도록 행 단위 add와 누적기 간 merge를 제공
+ * - 집계만 필요하면 DB 집계 결과(HealthMetricRangeSummary)로 바로 생성 (from), 행 단위 값이 필요할 때만 of/add 사용
+ * - 스레드 안전하지 않음 (호출 스레드 안에서 생성/사용)
+ */
+public final class MetricAccumulator {
+
+    private int rows;
+    private final IntSeries steps = new IntSeries();
+    private final IntSeries heartRate = new IntSeries();
+    private final IntSeries systolic = new IntSeries();
+    private final IntSeries diastolic = new IntSeries();
+    private final DoubleSeries weight = new DoubleSeries();
+
+    /**
+     * 목록 전체를 한 번 순회하여 집계
+     */
+    public static MetricAccumulator of(List<HealthMetricDaily> dailyMetrics) {
+        MetricAccumulator accumulator = new MetricAccumulator();
+        for (int i = 0, size = dailyMetrics.size(); i < size; i++) {
+            accumulator.add(dailyMetrics.get(i));
+        }
+        return accumulator;
+    }
+
+    /**
+     * DB 집계 결과로 생성 (엔티티를 로딩하지 않은 기간 요약)
+     */
+    public static MetricAccumulator from(HealthMetricRangeSummary summary) {
+        MetricAccumulator accumulator = new MetricAccumulator();
+        accumulator.rows = (int) summary.getRowCount();
+        accumulator.steps.set(summary.getStepsCount(), summary.getStepsSum(),
+                summary.getStepsMin(), summary.getStepsMax());
+        accumulator.heartRate.set(summary.getHeartRateCount(), summary.getHeartRateSum(),
+                summary.getHeartRateMin(), summary.getHeartRateMax());
+        accumulator.weight.set(summary.getWeightCount(), summary.getWeightSum(),
+                summary.getWeightMin(), summary.getWeightMax());
+        accumulator.systolic.set(summary.getSystolicCount(), summary.getSystolicSum(),
+                summary.getSystolicMin(), summary.getSystolicMax());
+        accumulator.diastolic.set(summary.getDiastolicCount(), summary.getDiastolicSum(),
+                summary.getDiastolicMin(), summary.getDiastolicMax());
+        return accumulator;
+    }
+
+    public MetricAccumulator add(HealthMetricDaily metric) {
+        return add(metric.getSteps(), metric.getHeartRate(), metric.getWeight(),
+                metric.getSystolic(), metric.getDiastolic());
+    }
+
+    /**
+     * 하루치 값 누적 (엔티티 없이 프로젝션/원시 값으로 집계할 때 사용, null은 측정 없음)
+     */
+    public MetricAccumulator add(Integer steps, Integer heartRate, Double weight, Integer systolic, Integer diastolic) {
+        rows++;
+        if (steps != null) {
+            this.steps.add(steps);
+        }
+        if (heartRate != null) {
+            this.heartRate.add(heartRate);
+        }
+        if (weight != null) {
+            this.weight.add(weight);
+        }
+        if (systolic != null) {
+            this.systolic.add(systolic);
+        }
+        if (diastolic != null) {
+            this.diastolic.add(diastolic);
+        }
+        return this;
+    }
+
+    /**
+     * 다른 누적기의 결과 합산 (기간 분할 집계 결합용)
+     */
+    public MetricAccumulator merge(MetricAccumulator other) {
+        rows += other.rows;
+        steps.merge(other.steps);
+        heartRate.merge(other.heartRate);
+        systolic.merge(other.systolic);
+        diastolic.merge(other.diastolic);
+        weight.merge(other.weight);
+        return this;
+    }
+
+    /**
+     * 집계 결과로 리포트 지표 구성 (값이 하나도 없는 항목은 null)
+     */
+    public ReportMetrics toReportMetrics() {
+        ReportMetrics.ActivityMetrics activity = steps.isEmpty()
+                ? null
+                : ReportMetrics.ActivityMetrics.builder()
+                .steps(steps.average())
+                .build();
+
+        ReportMetrics.HeartRateMetrics heartRateMetrics = heartRate.isEmpty()
+                ? null
+                : ReportMetrics.HeartRateMetrics.builder()
+                .avgBpm(heartRate.average())
+                .minBpm(heartRate.min())
+                .maxBpm(heartRate.max())
+                .build();
+
+        ReportMetrics.BloodPressureMetrics bloodPressure = systolic.isEmpty() && diastolic.isEmpty()
+                ? null
+                : ReportMetrics.BloodPressureMetrics.builder()
+                .systolic(systolic.average())
+                .diastolic(diastolic.average())
+                .build();
+
+        ReportMetrics.WeightMetrics weightMetrics = weight.isEmpty()
+                ? null
+                : ReportMetrics.WeightMetrics.builder()
+                .value(weight.average())
+                .unit("kg")
+                .build();
+
+        return ReportMetrics.builder()
+                .activity(activity)
+                .heartRate(heartRateMetrics)
+                .bloodPressure(bloodPressure)
+                .weight(weightMetrics)
+                .build();
+    }
+
+    /**
+     * 기간 일수보다 측정 일수가 적은 필드 목록 (steps, heartRate, weight, bloodPressure 순)
+     *
+     * @param totalDays 기간 전체 일수
+     */
+    public List<String> missingFields(int totalDays) {
+        List<String> missingFields = new ArrayList<>(4);
+        if (steps.count < totalDays) {
+            missingFields.add("steps");
+        }
+        if (heartRate.count < totalDays) {
+            missingFields.add("heartRate");
+        }
+        if (weight.count < totalDays) {
+            missingFields.add("weight");
+        }
+        if (systolic.count < totalDays || diastolic.count < totalDays) {
+            missingFields.add("bloodPressure");
+        }
+        return missingFields;
+    }
+
+    /** 누적한 행(일) 수 */
+    public int getRows() {
+        return rows;
+    }
+
+    public IntSeries getSteps() {
+        return steps;
+    }
+
+    public IntSeries getHeartRate() {
+        return heartRate;
+    }
+
+    public IntSeries getSystolic() {
+        return systolic;
+    }
+
+    public IntSeries getDiastolic() {
+        return diastolic;
+    }
+
+    public DoubleSeries getWeight() {
+        return weight;
+    }
+
+    /**
+     * 정수 지표 하나의 합계/최소/최대/값 있는 일수
+     */
+    public static final class IntSeries {
+        private long sum;
+        private int min = Integer.MAX_VALUE;
+        private int max = Integer.MIN_VALUE;
+        private int count;
+
+        private void add(int value) {
+            sum += value;
+            if (value < min) {
+                min = value;
+            }
+            if (value > max) {
+                max = value;
+            }
+            count++;
+        }
+
+        private void set(long count, Long sum, Integer min, Integer max) {
+            if (count == 0) {
+                return;
+            }
+            this.count = (int) count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+        }
+
+        private void merge(IntSeries other) {
+            sum += other.sum;
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+            count += other.count;
+        }
+
+        public boolean isEmpty() {
+            return count == 0;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        public long sum() {
+            return sum;
+        }
+
+        /** 반올림한 평균 (값이 없으면 null) */
+        public Integer average() {
+            return count == 0 ? null : (int) Math.round((double) sum / count);
+        }
+
+        public Integer min() {
+            return count == 0 ? null : min;
+        }
+
+        public Integer max() {
+            return count == 0 ? null : max;
+        }
+    }
+
+    /**
+     * 실수 지표 하나의 합계/최소/최대/값 있는 일수
+     */
+    public static final class DoubleSeries {
+        private double sum;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+        private int count;
+
+        private void add(double value) {
+            sum += value;
+            if (value < min) {
+                min = value;
+            }
+            if (value > max) {
+                max = value;
+            }
+            count++;
+        }
+
+        private void set(long count, Double sum, Double min, Double max) {
+            if (count == 0) {
+                return;
+            }
+            this.count = (int) count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+        }
+
+        private void merge(DoubleSeries other) {
+            sum += other.sum;
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+            count += other.count;
+        }
+
+        public boolean isEmpty() {
+            return count == 0;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        public double sum() {
+            return sum;
+        }
+
+        /** 평균 (값이 없으면 null) */
+        public Double average() {
+            return count == 0 ? null : sum / count;
+        }
+
+        public Double min() {
+            return count == 0 ? null : min;
+        }
+
+        public Double max() {
+            return count == 0 ? null : max;
+        }
+    }
+}
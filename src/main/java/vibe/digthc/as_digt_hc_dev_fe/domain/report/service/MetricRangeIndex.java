@@ -0,0 +1,238 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.DailyMetricValues;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.repository.HealthMetricDailyRepository;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자별 일별 지표 구간 최소/최대 인덱스 (메모리)
+ *
+ * 누적 롤업(prefix sum)으로는 최소/최대를 구할 수 없으므로, 사용자별 세그먼트 트리를 처음 조회할 때 구축해 둡니다.
+ * - 구축 범위: 첫 기록일 ~ max(마지막 기록일, 오늘) + headroom-days (이후 기록은 점 갱신, 범위 밖이면 폐기 후 재구축)
+ * - 일별 지표 변경은 커밋 후 onDailyChange로 점 갱신 O(log n)
+ * - 최근 조회 순서로 max-users명까지만 보관 (사용자당 약 일수 × 160바이트)
+ *
+ * 설정:
+ * - app.metrics.range-index.max-users: 보관할 최대 사용자 수
+ * - app.metrics.range-index.headroom-days: 구축 시 오늘 이후로 미리 확보할 일수
+ */
+@Slf4j
+@Component
+public class MetricRangeIndex {
+
+    /** 인덱스 대상 지표 (트리 배열 순서) */
+    public enum Metric {
+        STEPS, HEART_RATE, WEIGHT, SYSTOLIC, DIASTOLIC
+    }
+
+    /** 구간 최소/최대 (값이 없으면 둘 다 null) */
+    public record Extremes(Double min, Double max) {
+        static final Extremes EMPTY = new Extremes(null, null);
+    }
+
+    private static final Metric[] METRICS = Metric.values();
+
+    /** 구축 중 변경 감지용 버전 (사용자 해시 기준 분할) */
+    private static final int VERSION_STRIPES = 64;
+
+    private final HealthMetricDailyRepository healthMetricDailyRepository;
+    private final int maxUsers;
+    private final int headroomDays;
+    private final Map<UUID, UserIndex> indexes;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder builds = new LongAdder();
+    private final LongAdder pointUpdates = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public MetricRangeIndex(HealthMetricDailyRepository healthMetricDailyRepository,
+                            @Value("${app.metrics.range-index.max-users:200}") int maxUsers,
+                            @Value("${app.metrics.range-index.headroom-days:31}") int headroomDays) {
+        this.healthMetricDailyRepository = healthMetricDailyRepository;
+        this.maxUsers = Math.max(1, maxUsers);
+        this.headroomDays = Math.max(0, headroomDays);
+        this.indexes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, UserIndex> eldest) {
+                return size() > MetricRangeIndex.this.maxUsers;
+            }
+        };
+    }
+
+    /**
+     * [from, to] 구간의 지표별 최소/최대
+     */
+    public Map<Metric, Extremes> query(UUID userId, LocalDate from, LocalDate to) {
+        UserIndex index = getOrBuild(userId);
+        Map<Metric, Extremes> result = new EnumMap<>(Metric.class);
+        for (Metric metric : METRICS) {
+            result.put(metric, index == null ? Extremes.EMPTY : index.query(metric, from, to));
+        }
+        return result;
+    }
+
+    /**
+     * 일별 지표 변경 반영 (커밋 후 호출, 구축 범위 밖이면 인덱스 폐기)
+     */
+    public void onDailyChange(UUID userId, DailyMetricValues values) {
+        versions.incrementAndGet(stripe(userId));
+        UserIndex index;
+        synchronized (indexes) {
+            index = indexes.get(userId);
+        }
+        if (index == null) {
+            return;
+        }
+        if (index.update(values)) {
+            pointUpdates.increment();
+        } else {
+            evict(userId);
+        }
+    }
+
+    /**
+     * 사용자 인덱스 폐기 (롤업 재구성/범위 초과 시, 다음 조회에서 재구축)
+     */
+    public void evict(UUID userId) {
+        versions.incrementAndGet(stripe(userId));
+        UserIndex removed;
+        synchronized (indexes) {
+            removed = indexes.remove(userId);
+        }
+        if (removed != null) {
+            evictions.increment();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        int cachedUsers;
+        synchronized (indexes) {
+            cachedUsers = indexes.size();
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("cachedUsers", cachedUsers);
+        stats.put("maxUsers", maxUsers);
+        stats.put("headroomDays", headroomDays);
+        stats.put("hits", hits.sum());
+        stats.put("builds", builds.sum());
+        stats.put("pointUpdates", pointUpdates.sum());
+        stats.put("evictions", evictions.sum());
+        return stats;
+    }
+
+    private UserIndex getOrBuild(UUID userId) {
+        UserIndex index;
+        synchronized (indexes) {
+            index = indexes.get(userId);
+        }
+        if (index != null) {
+            hits.increment();
+            return index;
+        }
+
+        int stripe = stripe(userId);
+        long version = versions.get(stripe);
+        List<DailyMetricValues> values = healthMetricDailyRepository.findValuesByUserId(userId);
+        if (values.isEmpty()) {
+            return null;
+        }
+        index = UserIndex.build(values, LocalDate.now(), headroomDays);
+        builds.increment();
+
+        // 구축 중 변경이 있었으면 이번 결과만 사용하고 보관하지 않음 (다음 조회에서 재구축)
+        if (versions.get(stripe) == version) {
+            synchronized (indexes) {
+                indexes.put(userId, index);
+            }
+        }
+        log.debug("지표 범위 인덱스 구축: userId={}, days={}", userId, index.days);
+        return index;
+    }
+
+    private static int stripe(UUID userId) {
+        return (userId.hashCode() & Integer.MAX_VALUE) % VERSION_STRIPES;
+    }
+
+    private static Number valueOf(DailyMetricValues values, Metric metric) {
+        return switch (metric) {
+            case STEPS -> values.steps();
+            case HEART_RATE -> values.heartRate();
+            case WEIGHT -> values.weight();
+            case SYSTOLIC -> values.systolic();
+            case DIASTOLIC -> values.diastolic();
+        };
+    }
+
+    /**
+     * 한 사용자의 지표별 세그먼트 트리 (리프 = 기준일로부터의 일수)
+     */
+    private static final class UserIndex {
+        private final long baseEpochDay;
+        private final int days;
+        private final MinMaxSegmentTree[] trees = new MinMaxSegmentTree[METRICS.length];
+
+        private UserIndex(long baseEpochDay, int days) {
+            this.baseEpochDay = baseEpochDay;
+            this.days = days;
+            for (int i = 0; i < trees.length; i++) {
+                trees[i] = new MinMaxSegmentTree(days);
+            }
+        }
+
+        /**
+         * @param values 날짜 오름차순 일별 값
+         */
+        static UserIndex build(List<DailyMetricValues> values, LocalDate today, int headroomDays) {
+            long first = values.get(0).recordDate().toEpochDay();
+            long last = Math.max(values.get(values.size() - 1).recordDate().toEpochDay(), today.toEpochDay());
+            UserIndex index = new UserIndex(first, (int) (last - first + 1 + headroomDays));
+            for (DailyMetricValues value : values) {
+                int leaf = (int) (value.recordDate().toEpochDay() - first);
+                for (Metric metric : METRICS) {
+                    index.trees[metric.ordinal()].put(leaf, valueOf(value, metric));
+                }
+            }
+            for (MinMaxSegmentTree tree : index.trees) {
+                tree.build();
+            }
+            return index;
+        }
+
+        synchronized Extremes query(Metric metric, LocalDate from, LocalDate to) {
+            // 구축 범위 밖에는 기록이 없으므로 범위 안으로 잘라서 조회
+            long start = Math.max(from.toEpochDay() - baseEpochDay, 0);
+            long end = Math.min(to.toEpochDay() - baseEpochDay, days - 1);
+            if (start > end) {
+                return Extremes.EMPTY;
+            }
+            MinMaxSegmentTree tree = trees[metric.ordinal()];
+            return new Extremes(tree.min((int) start, (int) end), tree.max((int) start, (int) end));
+        }
+
+        /**
+         * @return 구축 범위 안이라 점 갱신했으면 true
+         */
+        synchronized boolean update(DailyMetricValues values) {
+            long leaf = values.recordDate().toEpochDay() - baseEpochDay;
+            if (leaf < 0 || leaf >= days) {
+                return false;
+            }
+            for (Metric metric : METRICS) {
+                trees[metric.ordinal()].update((int) leaf, valueOf(values, metric));
+            }
+            return true;
+        }
+    }
+}
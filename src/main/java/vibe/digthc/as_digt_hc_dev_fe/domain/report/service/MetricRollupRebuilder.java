@@ -0,0 +1,136 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 누적 롤업 불일치 사용자 일괄 재구성 (스케줄러, 관리자 수동 실행 공용)
+ *
+ * - 재구성 대상은 MetricRollupService.findUsersNeedingRebuild (체크섬 비교)
+ * - 사용자마다 별도 트랜잭션으로 재구성하고, 실패한 사용자는 건너뛰고 계속 처리
+ * - 인스턴스 안에서 동시에 하나만 실행
+ * - 스케줄러/관리자 실행 모두 기본 비동기 실행기(applicationTaskExecutor)에서 백그라운드로 처리
+ */
+@Slf4j
+@Component
+public class MetricRollupRebuilder {
+
+    private final MetricRollupService metricRollupService;
+    private final TaskExecutor taskExecutor;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile Map<String, Object> lastResult = Map.of();
+
+    public MetricRollupRebuilder(MetricRollupService metricRollupService,
+                                 @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
+        this.metricRollupService = metricRollupService;
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * 불일치 사용자 조회 및 재구성을 모두 백그라운드로 실행 (스케줄러용, 이미 실행 중이면 건너뜀)
+     *
+     * 기본 스케줄러는 단일 스레드라 호출 스레드에서 재구성하면 다른 @Scheduled 작업이 모두 밀리므로,
+     * 체크섬 비교 조회까지 applicationTaskExecutor에서 처리합니다.
+     *
+     * @return 재구성 시작 여부
+     */
+    public boolean rebuildStale() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("지표 누적 롤업 재구성 건너뜀 (이미 실행 중)");
+            return false;
+        }
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    rebuild(metricRollupService.findUsersNeedingRebuild());
+                } catch (Exception e) {
+                    log.error("지표 누적 롤업 재구성 대상 조회 실패", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * 불일치 사용자 재구성을 백그라운드로 시작
+     *
+     * @return 재구성 대상 사용자 수
+     * @throws IllegalStateException 이미 실행 중
+     */
+    public int start() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Metric rollup rebuild is already running");
+        }
+        try {
+            List<UUID> userIds = metricRollupService.findUsersNeedingRebuild();
+            taskExecutor.execute(() -> {
+                try {
+                    rebuild(userIds);
+                } finally {
+                    running.set(false);
+                }
+            });
+            return userIds.size();
+        } catch (TaskRejectedException e) {
+            running.set(false);
+            throw new IllegalStateException("Metric rollup rebuild could not be scheduled", e);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+    }
+
+    /**
+     * 실행 여부와 마지막 재구성 결과
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", running.get());
+        status.put("lastResult", lastResult);
+        return status;
+    }
+
+    private void rebuild(List<UUID> userIds) {
+        log.info("지표 누적 롤업 재구성 시작: users={}", userIds.size());
+        LocalDateTime startedAt = LocalDateTime.now();
+        long rows = 0;
+        int successCount = 0;
+        int failCount = 0;
+
+        for (UUID userId : userIds) {
+            try {
+                rows += metricRollupService.rebuild(userId);
+                successCount++;
+            } catch (Exception e) {
+                log.error("지표 누적 롤업 재구성 실패: userId={}", userId, e);
+                failCount++;
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("users", userIds.size());
+        result.put("succeeded", successCount);
+        result.put("failed", failCount);
+        result.put("rows", rows);
+        result.put("startedAt", startedAt);
+        result.put("completedAt", LocalDateTime.now());
+        lastResult = result;
+        log.info("지표 누적 롤업 재구성 완료: 성공={}, 실패={}, rows={}", successCount, failCount, rows);
+    }
+}
@@ -0,0 +1,166 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import vibe.digthc.as_digt_hc_dev_fe.domain.common.AfterCommit;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.DailyMetricValues;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthMetricSummaryResponse;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthMetricSummaryResponse.MetricStats;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.HealthMetricCumulative;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.HealthMetricDaily;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.MetricTotals;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.repository.HealthMetricCumulativeRepository;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.repository.HealthMetricDailyRepository;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.service.MetricRangeIndex.Extremes;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.service.MetricRangeIndex.Metric;
+import vibe.digthc.as_digt_hc_dev_fe.domain.user.entity.User;
+import vibe.digthc.as_digt_hc_dev_fe.domain.user.repository.UserRepository;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 일별 지표 누적 롤업(prefix sum) 관리 및 기간 요약
+ *
+ * - 일별 지표 저장 시 변경분(delta)을 해당 날짜 이후 누적 행에 반영 (과거 날짜 수정 포함)
+ * - 기간 [from, to] 평균/분산 = 누적(to 이하) - 누적(from 미만), 기간 길이와 무관하게 조회 2회
+ * - 최소/최대는 MetricRangeIndex(세그먼트 트리)로 계산
+ * - 백필 등 일별 지표를 직접 적재/수정한 경우 rebuild로 재구성 (MetricRollupRebuilder가 체크섬이 어긋난 사용자를 매일 재구성)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MetricRollupService {
+
+    /** 체중 합계 비교 허용 오차 (일별 합계와 변경분 누적의 실수 연산 순서 차이) */
+    private static final double WEIGHT_TOLERANCE = 0.001;
+
+    private final HealthMetricCumulativeRepository cumulativeRepository;
+    private final HealthMetricDailyRepository healthMetricDailyRepository;
+    private final UserRepository userRepository;
+    private final MetricRangeIndex metricRangeIndex;
+
+    /**
+     * 일별 지표 한 건의 변경을 누적 롤업에 반영
+     *
+     * @param before 변경 전 하루치 값 (신규 날짜면 MetricTotals.empty())
+     * @param after  저장된 일별 지표
+     */
+    @Transactional
+    public void applyDailyChange(User user, MetricTotals before, HealthMetricDaily after) {
+        UUID userId = user.getId();
+        LocalDate recordDate = after.getRecordDate();
+        MetricTotals delta = MetricTotals.of(after).minus(before);
+
+        if (!delta.isZero()) {
+            if (cumulativeRepository.existsByUserIdAndRecordDate(userId, recordDate)) {
+                cumulativeRepository.applyDelta(userId, recordDate, delta);
+            } else {
+                MetricTotals previous = cumulativeRepository
+                        .findFirstByUserIdAndRecordDateLessThanOrderByRecordDateDesc(userId, recordDate)
+                        .map(HealthMetricCumulative::getTotals)
+                        .orElseGet(MetricTotals::empty);
+                cumulativeRepository.save(HealthMetricCumulative.create(user, recordDate, previous.plus(delta)));
+                cumulativeRepository.applyDelta(userId, recordDate.plusDays(1), delta);
+            }
+        }
+
+        DailyMetricValues values = new DailyMetricValues(recordDate, after.getSteps(), after.getHeartRate(),
+                after.getWeight(), after.getSystolic(), after.getDiastolic());
+        AfterCommit.run(() -> metricRangeIndex.onDailyChange(userId, values));
+    }
+
+    /**
+     * 기간 [from, to] 지표 요약
+     */
+    public HealthMetricSummaryResponse summarize(UUID userId, LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("from and to are required");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+
+        MetricTotals upper = cumulativeRepository
+                .findFirstByUserIdAndRecordDateLessThanEqualOrderByRecordDateDesc(userId, to)
+                .map(HealthMetricCumulative::getTotals)
+                .orElseGet(MetricTotals::empty);
+        MetricTotals lower = cumulativeRepository
+                .findFirstByUserIdAndRecordDateLessThanOrderByRecordDateDesc(userId, from)
+                .map(HealthMetricCumulative::getTotals)
+                .orElseGet(MetricTotals::empty);
+        MetricTotals range = upper.minus(lower);
+
+        Map<Metric, Extremes> extremes = range.getRowCount() == 0
+                ? Map.of()
+                : metricRangeIndex.query(userId, from, to);
+
+        return HealthMetricSummaryResponse.builder()
+                .from(from)
+                .to(to)
+                .totalDays(ChronoUnit.DAYS.between(from, to) + 1)
+                .recordedDays(range.getRowCount())
+                .steps(stats(range.getStepsCount(), range.getStepsSum(), range.getStepsSumSq(),
+                        extremes.get(Metric.STEPS)))
+                .heartRate(stats(range.getHeartRateCount(), range.getHeartRateSum(), range.getHeartRateSumSq(),
+                        extremes.get(Metric.HEART_RATE)))
+                .weight(stats(range.getWeightCount(), range.getWeightSum(), range.getWeightSumSq(),
+                        extremes.get(Metric.WEIGHT)))
+                .systolic(stats(range.getSystolicCount(), range.getSystolicSum(), range.getSystolicSumSq(),
+                        extremes.get(Metric.SYSTOLIC)))
+                .diastolic(stats(range.getDiastolicCount(), range.getDiastolicSum(), range.getDiastolicSumSq(),
+                        extremes.get(Metric.DIASTOLIC)))
+                .build();
+    }
+
+    /**
+     * 사용자 누적 롤업을 일별 지표 전체로 재구성
+     *
+     * @return 생성한 누적 행 수
+     */
+    @Transactional
+    public int rebuild(UUID userId) {
+        User user = userRepository.getReferenceById(userId);
+        cumulativeRepository.deleteByUserId(userId);
+
+        List<DailyMetricValues> values = healthMetricDailyRepository.findValuesByUserId(userId);
+        List<HealthMetricCumulative> rows = new ArrayList<>(values.size());
+        MetricTotals running = MetricTotals.empty();
+        for (DailyMetricValues value : values) {
+            running = running.plus(MetricTotals.of(value.steps(), value.heartRate(), value.weight(),
+                    value.systolic(), value.diastolic()));
+            rows.add(HealthMetricCumulative.create(user, value.recordDate(), running));
+        }
+        cumulativeRepository.saveAll(rows);
+
+        AfterCommit.run(() -> metricRangeIndex.evict(userId));
+        log.info("지표 누적 롤업 재구성: userId={}, rows={}", userId, rows.size());
+        return rows.size();
+    }
+
+    /**
+     * 누적 롤업이 일별 지표와 어긋난 사용자 (체크섬 비교 쿼리 + 누적 행만 남은 사용자 쿼리, 사용자 수와 무관하게 2회)
+     */
+    public List<UUID> findUsersNeedingRebuild() {
+        List<UUID> userIds = new ArrayList<>(healthMetricDailyRepository.findUserIdsWithStaleRollup(WEIGHT_TOLERANCE));
+        userIds.addAll(cumulativeRepository.findUserIdsWithoutDailyMetrics());
+        return userIds;
+    }
+
+    public Map<String, Object> getRangeIndexStats() {
+        return metricRangeIndex.getStats();
+    }
+
+    private static MetricStats stats(long count, double sum, double sumSq, Extremes extremes) {
+        return MetricStats.of(count, sum, sumSq,
+                extremes == null ? null : extremes.min(),
+                extremes == null ? null : extremes.max());
+    }
+}
@@ -0,0 +1,90 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.service;
+
+import java.util.Arrays;
+
+/**
+ * 구간 최소/최대 세그먼트 트리 (반복형, 리프 = 하루)
+ *
+ * 구축 O(n), 구간 조회/점 갱신 O(log n). 값이 없는 날은 최소 +∞, 최대 -∞로 두어 결과에 영향을 주지 않습니다.
+ * 동기화는 호출자(MetricRangeIndex)가 담당합니다.
+ */
+final class MinMaxSegmentTree {
+
+    private final int size;
+    private final double[] min;
+    private final double[] max;
+
+    MinMaxSegmentTree(int size) {
+        this.size = size;
+        this.min = new double[2 * size];
+        this.max = new double[2 * size];
+        Arrays.fill(min, Double.POSITIVE_INFINITY);
+        Arrays.fill(max, Double.NEGATIVE_INFINITY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 리프 값만 설정 (모든 리프 설정 후 build 호출)
+     */
+    void put(int index, Number value) {
+        int leaf = index + size;
+        min[leaf] = value == null ? Double.POSITIVE_INFINITY : value.doubleValue();
+        max[leaf] = value == null ? Double.NEGATIVE_INFINITY : value.doubleValue();
+    }
+
+    void build() {
+        for (int node = size - 1; node >= 1; node--) {
+            pull(node);
+        }
+    }
+
+    /**
+     * 리프 값 변경 후 상위 노드 갱신 (null이면 값 제거)
+     */
+    void update(int index, Number value) {
+        put(index, value);
+        for (int node = (index + size) >> 1; node >= 1; node >>= 1) {
+            pull(node);
+        }
+    }
+
+    /**
+     * [from, to] 구간 최소 (값이 없으면 null)
+     */
+    Double min(int from, int to) {
+        double result = Double.POSITIVE_INFINITY;
+        for (int l = from + size, r = to + size + 1; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) {
+                result = Math.min(result, min[l++]);
+            }
+            if ((r & 1) == 1) {
+                result = Math.min(result, min[--r]);
+            }
+        }
+        return result == Double.POSITIVE_INFINITY ? null : result;
+    }
+
+    /**
+     * [from, to] 구간 최대 (값이 없으면 null)
+     */
+    Double max(int from, int to) {
+        double result = Double.NEGATIVE_INFINITY;
+        for (int l = from + size, r = to + size + 1; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) {
+                result = Math.max(result, max[l++]);
+            }
+            if ((r & 1) == 1) {
+                result = Math.max(result, max[--r]);
+            }
+        }
+        return result == Double.NEGATIVE_INFINITY ? null : result;
+    }
+
+    private void pull(int node) {
+        min[node] = Math.min(min[2 * node], min[2 * node + 1]);
+        max[node] = Math.max(max[2 * node], max[2 * node + 1]);
+    }
+}
@@ -0,0 +1,427 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.PeriodType;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.ReportBatchRun;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.ReportBatchStatus;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.service.ReportBatchService.ChunkResult;
+import vibe.digthc.as_digt_hc_dev_fe.domain.user.entity.Status;
+import vibe.digthc.as_digt_hc_dev_fe.domain.user.repository.UserRepository;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 주간/월간 리포트 일괄 생성 실행기
+ *
+ * 활성 사용자 전체의 리포트를 미리 생성해 월요일 아침 온디맨드 생성(POST /v1/reports/generate) 집중을 줄입니다.
+ * 온디맨드와 같은 기간 키(기준일 = 실행일)로 생성하므로, 이후 지표 변경이 없으면 온디맨드 요청은 재계산 없이 반환됩니다.
+ *
+ * - 활성 사용자 ID를 키셋(ID 오름차순)으로 chunk-size씩 읽어 청크를 만들고,
+ *   concurrency개 청크(한 웨이브)를 고정 크기 작업 스레드 풀에서 병렬 처리
+ * - 웨이브가 끝날 때마다 마지막 사용자 ID와 처리 수를 report_batch_runs에 체크포인트
+ *   → 중단(장애/재배포/시간 창 종료)되면 다음 실행이 체크포인트 이후부터 이어서 처리
+ *   (중단된 웨이브는 다시 처리되지만 데이터 버전이 같은 리포트는 건너뛰므로 중복 계산 없음)
+ * - 이전 날짜에 끝나지 못한 실행은 해당 기간(주간: 기준일부터 7일, 월간: 같은 달) 안에서 다음 시간 창에 이어서 처리
+ * - 청크 트랜잭션이 실패하면(온디맨드 생성과 INSERT 충돌 등) 해당 청크만 사용자 단위로 재시도
+ * - 인스턴스 간에는 실행 기록의 lease로 한 곳에서만 처리
+ * - 실행은 모두 전용 coordinator 스레드에서 하나씩 (스케줄러/요청 스레드를 점유하지 않음)
+ *
+ * 설정:
+ * - app.reports.batch.enabled: 스케줄 실행 여부
+ * - app.reports.batch.window-start / window-end: 스케줄 실행 시간 창 (벗어나면 새 웨이브를 시작하지 않음)
+ * - app.reports.batch.weekly-day: 주간 리포트 생성 요일 (월간은 매월 1일)
+ * - app.reports.batch.concurrency: 동시 처리 청크 수 (= 작업 스레드 수, 스레드당 DB 커넥션 1개 사용)
+ * - app.reports.batch.chunk-size: 청크당 사용자 수 (= 트랜잭션 크기)
+ * - app.reports.batch.lease-minutes: 실행권 유지 시간 (웨이브마다 연장, 지나면 다른 인스턴스가 이어받음)
+ */
+@Slf4j
+@Component
+public class ReportBatchRunner {
+
+    /** 키셋 시작 위치 (모든 사용자 ID보다 작음) */
+    private static final UUID MIN_USER_ID = new UUID(0L, 0L);
+
+    /** 주간 실행을 이어서 처리할 수 있는 기간 (기준일 포함 7일) */
+    private static final int WEEKLY_RESUME_DAYS = 6;
+
+    private final ReportBatchService reportBatchService;
+    private final UserRepository userRepository;
+
+    private final boolean enabled;
+    private final LocalTime windowStart;
+    private final LocalTime windowEnd;
+    private final DayOfWeek weeklyDay;
+    private final int concurrency;
+    private final int chunkSize;
+    private final int leaseMinutes;
+    private final Clock clock;
+
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+    private final ThreadPoolExecutor workers;
+    private final ExecutorService coordinator;
+    /** coordinator에 실행이 제출되었거나 진행 중 */
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Autowired
+    public ReportBatchRunner(ReportBatchService reportBatchService,
+                             UserRepository userRepository,
+                             @Value("${app.reports.batch.enabled:true}") boolean enabled,
+                             @Value("${app.reports.batch.window-start:01:00}") String windowStart,
+                             @Value("${app.reports.batch.window-end:06:00}") String windowEnd,
+                             @Value("${app.reports.batch.weekly-day:MONDAY}") DayOfWeek weeklyDay,
+                             @Value("${app.reports.batch.concurrency:4}") int concurrency,
+                             @Value("${app.reports.batch.chunk-size:100}") int chunkSize,
+                             @Value("${app.reports.batch.lease-minutes:10}") int leaseMinutes) {
+        this(reportBatchService, userRepository, enabled, LocalTime.parse(windowStart), LocalTime.parse(windowEnd),
+                weeklyDay, concurrency, chunkSize, leaseMinutes, Clock.systemDefaultZone());
+    }
+
+    ReportBatchRunner(ReportBatchService reportBatchService,
+                      UserRepository userRepository,
+                      boolean enabled,
+                      LocalTime windowStart,
+                      LocalTime windowEnd,
+                      DayOfWeek weeklyDay,
+                      int concurrency,
+                      int chunkSize,
+                      int leaseMinutes,
+                      Clock clock) {
+        this.reportBatchService = reportBatchService;
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+        this.weeklyDay = weeklyDay;
+        this.concurrency = Math.max(1, concurrency);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.leaseMinutes = Math.max(1, leaseMinutes);
+        this.clock = clock;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(this.concurrency, this.concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(this.concurrency),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "report-batch-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "report-batch-coordinator");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 실행할 일괄 생성 시작 (스케줄러에서 호출, 시간 창 밖이거나 비활성이거나 실행 중이면 무시)
+     * - 오늘: 주간은 weekly-day, 월간은 매월 1일
+     * - 이전 날짜에 끝나지 못한 실행 (해당 기간 안인 경우)
+     * - 이미 완료한 실행은 건너뛰고, 중단된 실행은 체크포인트부터 이어서 처리
+     */
+    public void runDue() {
+        if (!enabled || running.get() || !isWithinWindow(LocalTime.now(clock), windowStart, windowEnd)) {
+            return;
+        }
+        List<DueRun> due = findDueRuns(LocalDate.now(clock));
+        if (due.isEmpty() || !running.compareAndSet(false, true)) {
+            return;
+        }
+        submit(() -> {
+            for (DueRun target : due) {
+                run(target.periodType(), target.targetDate(), true);
+            }
+        });
+    }
+
+    /**
+     * 수동 실행 제출 (시간 창 무시, 백그라운드 실행) - 진행 상황은 getStats()의 실행 기록으로 확인
+     *
+     * @return 실행 기록 (제출 시점 상태)
+     * @throws IllegalStateException 이 인스턴스에서 이미 실행 중
+     */
+    public ReportBatchRun start(PeriodType periodType, LocalDate targetDate) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Report batch is already running");
+        }
+        ReportBatchRun run;
+        try {
+            run = reportBatchService.findOrStartRun(periodType, targetDate);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        submit(() -> run(periodType, targetDate, false));
+        return run;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("enabled", enabled);
+        config.put("window", windowStart + "-" + windowEnd);
+        config.put("weeklyDay", weeklyDay);
+        config.put("concurrency", concurrency);
+        config.put("chunkSize", chunkSize);
+        config.put("leaseMinutes", leaseMinutes);
+
+        List<Map<String, Object>> runs = new ArrayList<>();
+        for (ReportBatchRun run : reportBatchService.getRecentRuns()) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("runId", run.getId());
+            item.put("periodType", run.getPeriodType());
+            item.put("targetDate", run.getTargetDate());
+            item.put("status", run.getStatus());
+            item.put("processedUsers", run.getProcessedUsers());
+            item.put("writtenReports", run.getWrittenReports());
+            item.put("upToDateReports", run.getUpToDateReports());
+            item.put("failedUsers", run.getFailedUsers());
+            item.put("elapsedMillis", run.getElapsedMillis());
+            item.put("usersPerSecond", run.getUsersPerSecond());
+            item.put("leaseOwner", run.getLeaseOwner());
+            item.put("startedAt", run.getCreatedAt());
+            item.put("completedAt", run.getCompletedAt());
+            runs.add(item);
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("config", config);
+        stats.put("running", running.get());
+        stats.put("activeWorkers", workers.getActiveCount());
+        stats.put("recentRuns", runs);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    /**
+     * 실행 대상 (기간 유형 + 기준일)
+     */
+    record DueRun(PeriodType periodType, LocalDate targetDate) {
+    }
+
+    /**
+     * 오늘 실행할 기간 + 기간이 지나지 않은 미완료 실행 (오늘 것 우선)
+     */
+    List<DueRun> findDueRuns(LocalDate today) {
+        List<DueRun> due = new ArrayList<>();
+        if (today.getDayOfWeek() == weeklyDay) {
+            due.add(new DueRun(PeriodType.WEEKLY, today));
+        }
+        if (today.getDayOfMonth() == 1) {
+            due.add(new DueRun(PeriodType.MONTHLY, today));
+        }
+
+        LocalDate earliest = today.minusDays(WEEKLY_RESUME_DAYS);
+        if (today.withDayOfMonth(1).isBefore(earliest)) {
+            earliest = today.withDayOfMonth(1);
+        }
+        for (ReportBatchRun run : reportBatchService.findUnfinishedRuns(earliest, today.minusDays(1))) {
+            boolean inPeriod = run.getPeriodType() == PeriodType.WEEKLY
+                    ? !run.getTargetDate().isBefore(today.minusDays(WEEKLY_RESUME_DAYS))
+                    : YearMonth.from(run.getTargetDate()).equals(YearMonth.from(today));
+            if (inPeriod) {
+                due.add(new DueRun(run.getPeriodType(), run.getTargetDate()));
+            }
+        }
+        return due;
+    }
+
+    /**
+     * 기준일 일괄 생성 실행 (coordinator 스레드에서 호출)
+     *
+     * @param respectWindow true면 시간 창을 벗어났을 때 새 웨이브를 시작하지 않고 중단 (관리자 수동 실행은 false)
+     */
+    void run(PeriodType periodType, LocalDate targetDate, boolean respectWindow) {
+        ReportBatchRun run = reportBatchService.findOrStartRun(periodType, targetDate);
+        if (run.getStatus() == ReportBatchStatus.COMPLETED) {
+            return;
+        }
+        if (!reportBatchService.claim(run.getId(), owner, leaseUntil())) {
+            log.info("리포트 일괄 생성 건너뜀 (다른 인스턴스 실행 중): periodType={}, date={}", periodType, targetDate);
+            return;
+        }
+        process(run, respectWindow);
+    }
+
+    /**
+     * 청크 처리 (트랜잭션 실패 시 사용자 단위로 재시도)
+     */
+    ChunkResult processChunk(List<UUID> userIds, PeriodType periodType, LocalDate targetDate) {
+        try {
+            return reportBatchService.generateChunk(userIds, periodType, targetDate);
+        } catch (RuntimeException e) {
+            log.warn("리포트 일괄 생성 청크 실패, 사용자 단위로 재시도: users={}, cause={}", userIds.size(), e.toString());
+        }
+
+        ChunkResult result = ChunkResult.EMPTY;
+        for (UUID userId : userIds) {
+            result = result.plus(processUser(userId, periodType, targetDate));
+        }
+        return result;
+    }
+
+    static boolean isWithinWindow(LocalTime now, LocalTime windowStart, LocalTime windowEnd) {
+        if (windowStart.isBefore(windowEnd)) {
+            return !now.isBefore(windowStart) && now.isBefore(windowEnd);
+        }
+        // 자정을 넘는 시간 창 (예: 23:00-04:00), 시작 = 종료면 종일
+        return !now.isBefore(windowStart) || now.isBefore(windowEnd);
+    }
+
+    private void submit(Runnable job) {
+        try {
+            coordinator.execute(() -> {
+                try {
+                    job.run();
+                } catch (RuntimeException e) {
+                    log.error("리포트 일괄 생성 실행 오류", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            throw new IllegalStateException("Report batch is shutting down", e);
+        }
+    }
+
+    private void process(ReportBatchRun run, boolean respectWindow) {
+        PeriodType periodType = run.getPeriodType();
+        LocalDate targetDate = run.getTargetDate();
+        UUID after = run.getLastUserId() != null ? run.getLastUserId() : MIN_USER_ID;
+        ChunkResult total = ChunkResult.EMPTY;
+        long startedNanos = System.nanoTime();
+        log.info("리포트 일괄 생성 시작: periodType={}, date={}, resumeAfter={}", periodType, targetDate, run.getLastUserId());
+
+        try {
+            while (true) {
+                if (respectWindow && !isWithinWindow(LocalTime.now(clock), windowStart, windowEnd)) {
+                    reportBatchService.release(run.getId(), owner);
+                    log.info("리포트 일괄 생성 중단 (시간 창 종료, 다음 실행에서 이어서 처리): periodType={}, date={}, processed={}",
+                            periodType, targetDate, total.processed());
+                    return;
+                }
+
+                long waveStartedNanos = System.nanoTime();
+                List<List<UUID>> chunks = nextWave(after);
+                if (chunks.isEmpty()) {
+                    reportBatchService.complete(run.getId(), owner);
+                    break;
+                }
+                List<UUID> lastChunk = chunks.get(chunks.size() - 1);
+                after = lastChunk.get(lastChunk.size() - 1);
+
+                ChunkResult wave = processWave(chunks, periodType, targetDate);
+                long waveMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - waveStartedNanos);
+                if (!reportBatchService.checkpoint(run.getId(), owner, after, wave, waveMillis, leaseUntil())) {
+                    log.warn("리포트 일괄 생성 실행권 상실, 중단: periodType={}, date={}", periodType, targetDate);
+                    return;
+                }
+                total = total.plus(wave);
+            }
+        } catch (RuntimeException e) {
+            // 체크포인트까지는 반영됨 (실행권을 반납해 다음 실행이 바로 이어받도록)
+            log.error("리포트 일괄 생성 오류: periodType={}, date={}", periodType, targetDate, e);
+            reportBatchService.release(run.getId(), owner);
+            return;
+        }
+
+        double seconds = (System.nanoTime() - startedNanos) / 1_000_000_000.0;
+        log.info("리포트 일괄 생성 완료: periodType={}, date={}, users={}, written={}, upToDate={}, failed={}, elapsed={}s, users/s={}",
+                periodType, targetDate, total.processed(), total.written(), total.upToDate(), total.failed(),
+                Math.round(seconds * 100) / 100.0, seconds > 0 ? Math.round(total.processed() / seconds) : total.processed());
+    }
+
+    /**
+     * 다음 웨이브의 청크 목록 (최대 concurrency개, 사용자 ID 오름차순)
+     */
+    private List<List<UUID>> nextWave(UUID after) {
+        List<List<UUID>> chunks = new ArrayList<>(concurrency);
+        UUID cursor = after;
+        while (chunks.size() < concurrency) {
+            List<UUID> userIds = userRepository.findIdsByStatusAfter(Status.ACTIVE, cursor, Limit.of(chunkSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            chunks.add(userIds);
+            cursor = userIds.get(userIds.size() - 1);
+            if (userIds.size() < chunkSize) {
+                break;
+            }
+        }
+        return chunks;
+    }
+
+    private ChunkResult processWave(List<List<UUID>> chunks, PeriodType periodType, LocalDate targetDate) {
+        List<Future<ChunkResult>> futures = new ArrayList<>(chunks.size());
+        for (List<UUID> userIds : chunks) {
+            futures.add(workers.submit(() -> processChunk(userIds, periodType, targetDate)));
+        }
+
+        ChunkResult wave = ChunkResult.EMPTY;
+        for (Future<ChunkResult> future : futures) {
+            try {
+                wave = wave.plus(future.get());
+            } catch (InterruptedException e) {
+                futures.forEach(pending -> pending.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Report batch interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Report batch chunk failed", e.getCause());
+            }
+        }
+        return wave;
+    }
+
+    /**
+     * 사용자 한 명을 단독 청크로 처리 (작성/최신 구분 유지)
+     * INSERT 충돌(같은 기간 온디맨드 생성이 먼저 저장)이면 한 번 더 처리해 기존 리포트 기준으로 판단
+     */
+    private ChunkResult processUser(UUID userId, PeriodType periodType, LocalDate targetDate) {
+        List<UUID> single = List.of(userId);
+        try {
+            try {
+                return reportBatchService.generateChunk(single, periodType, targetDate);
+            } catch (DataIntegrityViolationException e) {
+                return reportBatchService.generateChunk(single, periodType, targetDate);
+            }
+        } catch (RuntimeException e) {
+            log.error("리포트 일괄 생성 실패: userId={}, periodType={}, date={}", userId, periodType, targetDate, e);
+            return new ChunkResult(1, 0, 0, 1);
+        }
+    }
+
+    private LocalDateTime leaseUntil() {
+        return LocalDateTime.now(clock).plusMinutes(leaseMinutes);
+    }
+}
@@ -0,0 +1,182 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthMetricUserRangeSummary;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.HealthReport;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.PeriodType;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.ReportBatchRun;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.ReportBatchStatus;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.repository.HealthMetricDailyRepository;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.repository.HealthReportRepository;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.repository.ReportBatchRunRepository;
+import vibe.digthc.as_digt_hc_dev_fe.domain.user.entity.User;
+import vibe.digthc.as_digt_hc_dev_fe.domain.user.repository.UserRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 리포트 일괄 생성의 트랜잭션 단위 작업 (청크 생성, 실행 체크포인트)
+ *
+ * 청크 하나(사용자 ID 목록)를 한 트랜잭션에서 처리합니다.
+ * - 사용자/기존 리포트/기간 집계를 각각 IN 쿼리 한 번으로 조회 (집계는 사용자별 GROUP BY)
+ * - 기존 리포트의 데이터 버전이 최신이면 건너뜀 (온디맨드 생성과 같은 기준)
+ * - 신규 리포트는 saveAll 후 커밋 시 JDBC 배치 INSERT, 갱신은 배치 UPDATE (hibernate.jdbc.batch_size)
+ * 실행 순서/동시성 제어는 ReportBatchRunner가 담당합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReportBatchService {
+
+    private final UserRepository userRepository;
+    private final HealthReportRepository healthReportRepository;
+    private final HealthMetricDailyRepository healthMetricDailyRepository;
+    private final ReportBatchRunRepository reportBatchRunRepository;
+    private final ReportReadCache reportReadCache;
+
+    /**
+     * 청크 처리 결과
+     *
+     * @param written  새로 생성하거나 최신 지표로 갱신한 리포트 수
+     * @param upToDate 이미 최신이라 건너뛴 리포트 수
+     */
+    public record ChunkResult(int processed, int written, int upToDate, int failed) {
+
+        public static final ChunkResult EMPTY = new ChunkResult(0, 0, 0, 0);
+
+        public ChunkResult plus(ChunkResult other) {
+            return new ChunkResult(processed + other.processed, written + other.written,
+                    upToDate + other.upToDate, failed + other.failed);
+        }
+    }
+
+    /**
+     * 사용자 청크의 기준일 리포트 생성/갱신
+     */
+    @Transactional
+    public ChunkResult generateChunk(List<UUID> userIds, PeriodType periodType, LocalDate endDate) {
+        LocalDate startDate = HealthReportService.periodStart(periodType, endDate);
+
+        Map<UUID, HealthReport> existingByUser = new HashMap<>();
+        for (HealthReport report : healthReportRepository.findByUserIdInAndPeriodTypeAndStartDateAndEndDate(
+                userIds, periodType, startDate, endDate)) {
+            existingByUser.put(report.getUser().getId(), report);
+        }
+
+        List<User> staleUsers = new ArrayList<>();
+        for (User user : userRepository.findAllById(userIds)) {
+            HealthReport existing = existingByUser.get(user.getId());
+            if (existing == null || !existing.isUpToDate(user.getMetricDataVersion())) {
+                staleUsers.add(user);
+            }
+        }
+        int upToDate = userIds.size() - staleUsers.size();
+        if (staleUsers.isEmpty()) {
+            return new ChunkResult(userIds.size(), 0, upToDate, 0);
+        }
+
+        List<UUID> staleIds = staleUsers.stream().map(User::getId).toList();
+        Map<UUID, HealthMetricUserRangeSummary> summaries = new HashMap<>();
+        for (HealthMetricUserRangeSummary summary : healthMetricDailyRepository.summarizeRangeByUsers(
+                staleIds, startDate, endDate)) {
+            summaries.put(summary.getUserId(), summary);
+        }
+
+        List<HealthReport> created = new ArrayList<>();
+        for (User user : staleUsers) {
+            HealthMetricUserRangeSummary summary = summaries.get(user.getId());
+            MetricAccumulator accumulator = summary != null ? MetricAccumulator.from(summary) : new MetricAccumulator();
+            HealthReport existing = existingByUser.get(user.getId());
+            if (existing != null) {
+                existing.refresh(accumulator.toReportMetrics(),
+                        HealthReportService.buildContext(startDate, endDate, accumulator),
+                        user.getMetricDataVersion());
+            } else {
+                created.add(HealthReport.builder()
+                        .user(user)
+                        .metrics(accumulator.toReportMetrics())
+                        .context(HealthReportService.buildContext(startDate, endDate, accumulator))
+                        .startDate(startDate)
+                        .endDate(endDate)
+                        .periodType(periodType)
+                        .dataVersion(user.getMetricDataVersion())
+                        .build());
+            }
+        }
+        healthReportRepository.saveAll(created);
+
+        // 가족 보드 활동 시간은 갱신하지 않음 (사용자 활동이 아닌 예약 작업)
+        staleIds.forEach(reportReadCache::invalidate);
+
+        return new ChunkResult(userIds.size(), staleUsers.size(), upToDate, 0);
+    }
+
+    /**
+     * 기준일 실행 기록 조회 (없으면 생성, 동시에 다른 인스턴스가 먼저 생성했으면 그 기록을 사용)
+     * - 생성 충돌 후 다시 조회해야 하므로 리포지토리 호출마다 별도 트랜잭션으로 실행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ReportBatchRun findOrStartRun(PeriodType periodType, LocalDate targetDate) {
+        return reportBatchRunRepository.findByPeriodTypeAndTargetDate(periodType, targetDate)
+                .orElseGet(() -> {
+                    try {
+                        return reportBatchRunRepository.saveAndFlush(ReportBatchRun.start(periodType, targetDate));
+                    } catch (DataIntegrityViolationException e) {
+                        return reportBatchRunRepository.findByPeriodTypeAndTargetDate(periodType, targetDate)
+                                .orElseThrow(() -> e);
+                    }
+                });
+    }
+
+    @Transactional
+    public boolean claim(UUID runId, String owner, LocalDateTime leaseUntil) {
+        return reportBatchRunRepository.claim(runId, owner, leaseUntil, LocalDateTime.now()) == 1;
+    }
+
+    /**
+     * 웨이브 결과 기록 (실행권을 잃었으면 false)
+     */
+    @Transactional
+    public boolean checkpoint(UUID runId, String owner, UUID lastUserId, ChunkResult wave,
+                              long elapsedMillis, LocalDateTime leaseUntil) {
+        return reportBatchRunRepository.checkpoint(runId, owner, lastUserId, wave.processed(), wave.written(),
+                wave.upToDate(), wave.failed(), elapsedMillis, leaseUntil, LocalDateTime.now()) == 1;
+    }
+
+    @Transactional
+    public boolean complete(UUID runId, String owner) {
+        return reportBatchRunRepository.complete(runId, owner, LocalDateTime.now()) == 1;
+    }
+
+    @Transactional
+    public void release(UUID runId, String owner) {
+        reportBatchRunRepository.release(runId, owner);
+    }
+
+    public List<ReportBatchRun> getRecentRuns() {
+        return reportBatchRunRepository.findTop10ByOrderByCreatedAtDesc();
+    }
+
+    /**
+     * 기준일 범위(from~to 포함)의 미완료 실행 (기준일 오름차순)
+     */
+    public List<ReportBatchRun> findUnfinishedRuns(LocalDate from, LocalDate to) {
+        return reportBatchRunRepository.findByStatusAndTargetDateBetweenOrderByTargetDateAsc(
+                ReportBatchStatus.RUNNING, from, to);
+    }
+
+    public ReportBatchRun getRun(UUID runId) {
+        return reportBatchRunRepository.findById(runId)
+                .orElseThrow(() -> new IllegalArgumentException("Report batch run not found"));
+    }
+}
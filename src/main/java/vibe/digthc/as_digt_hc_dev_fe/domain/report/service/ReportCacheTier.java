@@ -0,0 +1,33 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.service;
+
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthReportResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 리포트 읽기 캐시 공유 계층 (다중 노드 배포용, 예: Redis)
+ *
+ * 활성화되면 사용자 버전의 기준이 이 계층이 되어, 한 노드의 무효화가 다른 노드의 로컬 캐시에도 반영됩니다.
+ * 구현체는 조회/저장 실패를 삼키고 null(미적중)로 처리하며, 버전 조회 실패만 예외로 알립니다 (캐시 우회).
+ */
+public interface ReportCacheTier {
+
+    String name();
+
+    boolean isEnabled();
+
+    /**
+     * 사용자 현재 버전 (실패 시 예외 → 호출자는 캐시를 우회)
+     */
+    long currentVersion(UUID userId);
+
+    void bumpVersion(UUID userId);
+
+    /**
+     * @return 캐시된 목록, 없으면 null
+     */
+    List<HealthReportResponse> get(UUID userId, String period, long version);
+
+    void put(UUID userId, String period, long version, List<HealthReportResponse> reports);
+}
@@ -0,0 +1,40 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 리포트 목록 키셋 커서 (마지막 항목의 created_at, report_id)
+ *
+ * 클라이언트에는 불투명한 문자열(Base64 URL-safe)로 전달합니다.
+ */
+record ReportCursor(LocalDateTime createdAt, UUID id) {
+
+    /** 첫 페이지: 모든 행보다 뒤인 위치 */
+    static final ReportCursor FIRST = new ReportCursor(
+            LocalDateTime.of(9999, 12, 31, 23, 59, 59), new UUID(-1L, -1L));
+
+    private static final char SEPARATOR = '_';
+
+    String encode() {
+        String raw = createdAt + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    static ReportCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new ReportCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
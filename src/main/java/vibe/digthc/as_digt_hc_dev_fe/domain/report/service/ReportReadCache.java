@@ -0,0 +1,212 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import vibe.digthc.as_digt_hc_dev_fe.domain.common.AfterCommit;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthReportPageResponse;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthReportResponse;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.PeriodType;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 리포트 목록 읽기 캐시
+ * - 전체 목록 (사용자, 기간 유형) → 직렬화 직전의 HealthReportResponse 목록 (GET /v1/reports?all=true)
+ * - 첫 페이지 (사용자, 기간 유형, 페이지 크기) → 요약 페이지 (커서 없는 GET /v1/reports, 로컬에만 보관)
+ *
+ * 캐시 키에 사용자별 데이터 버전을 포함하고, 지표 저장/리포트 생성/삭제 시 커밋 후 버전을 올려 무효화합니다.
+ * 이전 버전 항목은 더 이상 조회되지 않고 크기 제한(W-TinyLFU)이나 TTL로 밀려납니다.
+ * - 로컬 버전은 전역 증가 순번에서 발급하므로 버전 항목이 밀려나도 과거 버전과 겹치지 않음
+ * - 로딩 중 무효화가 일어나면 로딩 결과는 이전 버전 키로 저장되어 조회되지 않음
+ * - 공유 계층(ReportCacheTier)이 활성화되면 버전 기준과 2차 저장소(전체 목록만)를 그 계층으로 사용
+ *
+ * 설정:
+ * - app.reports.cache.enabled: 사용 여부
+ * - app.reports.cache.max-entries: 로컬 최대 항목 수 (전체 목록, 첫 페이지 각각)
+ * - app.reports.cache.ttl-seconds: 로컬 항목 유지 시간 (공유 계층 무효화 누락 시 최대 지연)
+ */
+@Slf4j
+@Component
+public class ReportReadCache {
+
+    private static final String ALL_PERIODS = "ALL";
+
+    private final boolean enabled;
+    private final ReportCacheTier tier;
+    private final Cache<Key, List<HealthReportResponse>> entries;
+    private final Cache<PageKey, HealthReportPageResponse> firstPages;
+    private final Cache<UUID, Long> localVersions;
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder pageLoads = new LongAdder();
+    private final LongAdder tierHits = new LongAdder();
+    private final LongAdder bypasses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public ReportReadCache(ObjectProvider<ReportCacheTier> tierProvider,
+                           @Value("${app.reports.cache.enabled:true}") boolean enabled,
+                           @Value("${app.reports.cache.max-entries:10000}") long maxEntries,
+                           @Value("${app.reports.cache.ttl-seconds:300}") long ttlSeconds) {
+        ReportCacheTier candidate = tierProvider.getIfAvailable();
+        this.tier = candidate != null && candidate.isEnabled() ? candidate : null;
+        this.enabled = enabled;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(1, maxEntries))
+                .expireAfterWrite(Duration.ofSeconds(Math.max(1, ttlSeconds)))
+                .recordStats()
+                .build();
+        this.firstPages = Caffeine.newBuilder()
+                .maximumSize(Math.max(1, maxEntries))
+                .expireAfterWrite(Duration.ofSeconds(Math.max(1, ttlSeconds)))
+                .recordStats()
+                .build();
+        this.localVersions = Caffeine.newBuilder()
+                .maximumSize(Math.max(1, maxEntries))
+                .build();
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 로딩 후 저장
+     */
+    public List<HealthReportResponse> get(UUID userId, PeriodType periodType,
+                                          Supplier<List<HealthReportResponse>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        String period = periodType != null ? periodType.name() : ALL_PERIODS;
+        Long version = currentVersion(userId);
+        if (version == null) {
+            bypasses.increment();
+            return loader.get();
+        }
+
+        Key key = new Key(userId, period, version);
+        List<HealthReportResponse> cached = entries.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        if (tier != null) {
+            cached = tier.get(userId, period, version);
+            if (cached != null) {
+                tierHits.increment();
+                entries.put(key, cached);
+                return cached;
+            }
+        }
+
+        List<HealthReportResponse> loaded = List.copyOf(loader.get());
+        loads.increment();
+        entries.put(key, loaded);
+        if (tier != null) {
+            tier.put(userId, period, version, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 첫 페이지 요약 목록 캐시 조회, 없으면 loader로 로딩 후 저장
+     * - 전체 목록과 같은 사용자 버전으로 무효화
+     * - 커서가 있는 이후 페이지는 캐시하지 않음 (호출자가 직접 조회)
+     */
+    public HealthReportPageResponse getFirstPage(UUID userId, PeriodType periodType, int pageSize,
+                                                 Supplier<HealthReportPageResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Long version = currentVersion(userId);
+        if (version == null) {
+            bypasses.increment();
+            return loader.get();
+        }
+
+        PageKey key = new PageKey(userId, periodType != null ? periodType.name() : ALL_PERIODS, pageSize, version);
+        HealthReportPageResponse cached = firstPages.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        HealthReportPageResponse loaded = loader.get();
+        pageLoads.increment();
+        firstPages.put(key, loaded);
+        return loaded;
+    }
+
+    /**
+     * 사용자 캐시 무효화 (트랜잭션 안이면 커밋 후 버전 증가)
+     */
+    public void invalidate(UUID userId) {
+        if (!enabled) {
+            return;
+        }
+        AfterCommit.run(() -> bumpVersion(userId));
+    }
+
+    public Map<String, Object> getStats() {
+        CacheStats stats = entries.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("tier", tier != null ? tier.name() : "none");
+        result.put("entries", entries.estimatedSize());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("tierHits", tierHits.sum());
+        result.put("loads", loads.sum());
+        result.put("evictions", stats.evictionCount());
+        result.put("bypasses", bypasses.sum());
+        result.put("invalidations", invalidations.sum());
+        CacheStats pageStats = firstPages.stats();
+        result.put("pageEntries", firstPages.estimatedSize());
+        result.put("pageHits", pageStats.hitCount());
+        result.put("pageMisses", pageStats.missCount());
+        result.put("pageLoads", pageLoads.sum());
+        return result;
+    }
+
+    private Long currentVersion(UUID userId) {
+        if (tier == null) {
+            return localVersions.get(userId, id -> versionSequence.incrementAndGet());
+        }
+        try {
+            return tier.currentVersion(userId);
+        } catch (RuntimeException e) {
+            log.debug("리포트 캐시 버전 조회 실패, 캐시 우회: userId={}", userId, e);
+            return null;
+        }
+    }
+
+    private void bumpVersion(UUID userId) {
+        invalidations.increment();
+        if (tier == null) {
+            localVersions.put(userId, versionSequence.incrementAndGet());
+            return;
+        }
+        try {
+            tier.bumpVersion(userId);
+        } catch (RuntimeException e) {
+            // 다른 노드의 로컬 항목은 TTL까지 남을 수 있음
+            log.warn("리포트 캐시 버전 갱신 실패: userId={}, tier={}", userId, tier.name(), e);
+        }
+    }
+
+    private record Key(UUID userId, String period, long version) {
+    }
+
+    private record PageKey(UUID userId, String period, int pageSize, long version) {
+    }
+}
@@ -43,6 +43,13 @@ public class User extends BaseTimeEntity {
     @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private UserProfile userProfile;
 
+    /**
+     * 건강 지표 데이터 버전 (일별 지표 저장마다 증가, 리포트 재계산 필요 여부 판단)
+     * - UserRepository.increaseMetricDataVersion으로만 변경 (엔티티 갱신 시 이전 값으로 덮어쓰지 않도록 updatable = false)
+     */
+    @Column(name = "metric_data_version", nullable = false, updatable = false)
+    private long metricDataVersion;
+
     @Builder
     public User(String email, String password, Role role, Status status, AuthProvider authProvider, String providerId) {
         this.email = email;
@@ -1,9 +1,15 @@
 package vibe.digthc.as_digt_hc_dev_fe.domain.user.repository;
 
+import vibe.digthc.as_digt_hc_dev_fe.domain.user.entity.Status;
 import vibe.digthc.as_digt_hc_dev_fe.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,5 +19,18 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     boolean existsByEmail(String email);
 
     Optional<User> findByEmail(String email);
+
+    /**
+     * 건강 지표 데이터 버전 증가 (사용자 행 잠금을 커밋까지 유지하므로 같은 사용자의 지표 저장이 직렬화됨)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.metricDataVersion = u.metricDataVersion + 1 WHERE u.id = :userId")
+    int increaseMetricDataVersion(@Param("userId") UUID userId);
+
+    /**
+     * 상태별 사용자 ID 키셋 조회 (ID 오름차순, afterId 초과, 리포트 일괄 생성)
+     */
+    @Query("SELECT u.id FROM User u WHERE u.status = :status AND u.id > :afterId ORDER BY u.id")
+    List<UUID> findIdsByStatusAfter(@Param("status") Status status, @Param("afterId") UUID afterId, Limit limit);
 }
 
@@ -0,0 +1,201 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.analytics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Analytics 전용 유한 실행기
+ *
+ * GA4 전송(@Async("analyticsExecutor"))만 처리하는 고정 크기 플랫폼 스레드 풀입니다.
+ * - 스레드 수와 대기 큐가 모두 고정 → GA4가 느려져도 작업/스레드가 무한히 쌓이지 않음
+ * - 큐가 가득 차면 가장 오래된 작업을 버림 (discard-oldest) → 제출 스레드는 블로킹되거나 직접 실행하지 않음
+ * - 데몬 + 낮은 우선순위 스레드 → API 요청 처리 스레드와 CPU를 다투지 않음
+ *
+ * 큐 깊이, 버린 작업 수, 대기 시간과 전송(실행) 시간을 getStats()로 노출합니다.
+ * 버려진 작업은 discard listener로 전달되어 Ga4EventBatcher가 아웃박스에 보관할 수 있습니다.
+ */
+public class AnalyticsExecutor extends ThreadPoolExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalyticsExecutor.class);
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+    private final int queueCapacity;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder sendNanos = new LongAdder();
+    private final LongAccumulator maxSendNanos = new LongAccumulator(Math::max, 0);
+
+    private volatile Consumer<Runnable> discardListener = task -> {
+    };
+
+    public AnalyticsExecutor(int threads, int queueCapacity) {
+        super(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                new AnalyticsThreadFactory(),
+                new CountingDiscardOldestPolicy());
+        this.queueCapacity = Math.max(1, queueCapacity);
+    }
+
+    /**
+     * 버려진 작업(제출 시 넘긴 원본 Runnable)을 받을 리스너 지정
+     * 제출 스레드 또는 종료 스레드에서 호출되므로 블로킹하지 않아야 합니다.
+     */
+    public void setDiscardListener(Consumer<Runnable> discardListener) {
+        this.discardListener = discardListener;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        submitted.increment();
+        super.execute(new TimedTask(command, System.nanoTime()));
+    }
+
+    @Override
+    protected void beforeExecute(Thread thread, Runnable task) {
+        if (task instanceof TimedTask timed) {
+            long now = System.nanoTime();
+            queueWaitNanos.add(now - timed.enqueuedNanos);
+            timed.startedNanos = now;
+        }
+    }
+
+    @Override
+    protected void afterExecute(Runnable task, Throwable error) {
+        if (task instanceof TimedTask timed) {
+            long elapsed = System.nanoTime() - timed.startedNanos;
+            sendNanos.add(elapsed);
+            maxSendNanos.accumulate(elapsed);
+        }
+        if (error != null) {
+            failed.increment();
+        } else {
+            completed.increment();
+        }
+    }
+
+    /**
+     * 새 작업을 받지 않고 대기 중인 전송을 최대 5초 동안 마저 처리
+     * (기본 close()는 무기한 대기하므로 재정의, 시간 내에 끝나지 않으면 남은 작업은 버림)
+     */
+    @Override
+    public void close() {
+        shutdown();
+        try {
+            if (!awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                List<Runnable> dropped = shutdownNow();
+                dropped.forEach(this::discard);
+                log.warn("[GA4] Analytics executor shutdown timed out, dropped {} tasks", dropped.size());
+            }
+        } catch (InterruptedException e) {
+            shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 실행기 지표 (큐 깊이, 버린 작업 수, 평균 대기/전송 시간)
+     */
+    public Map<String, Object> getStats() {
+        long done = completed.sum() + failed.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("threads", getMaximumPoolSize());
+        stats.put("active", getActiveCount());
+        stats.put("queueDepth", getQueue().size());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("submitted", submitted.sum());
+        stats.put("completed", completed.sum());
+        stats.put("failed", failed.sum());
+        stats.put("discarded", discarded.sum());
+        stats.put("avgQueueWaitMs", done > 0 ? toMillis(queueWaitNanos.sum() / done) : 0.0);
+        stats.put("avgSendMs", done > 0 ? toMillis(sendNanos.sum() / done) : 0.0);
+        stats.put("maxSendMs", toMillis(maxSendNanos.get()));
+        return stats;
+    }
+
+    private void discard(Runnable task) {
+        discarded.increment();
+        try {
+            discardListener.accept(task instanceof TimedTask timed ? timed.delegate : task);
+        } catch (RuntimeException e) {
+            log.warn("[GA4] Discard listener failed", e);
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    /**
+     * 제출 시각을 기록하는 작업 래퍼
+     */
+    private static final class TimedTask implements Runnable {
+        private final Runnable delegate;
+        private final long enqueuedNanos;
+        private long startedNanos;
+
+        private TimedTask(Runnable delegate, long enqueuedNanos) {
+            this.delegate = delegate;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+
+        @Override
+        public void run() {
+            delegate.run();
+        }
+    }
+
+    /**
+     * 가장 오래된 대기 작업을 버리고 새 작업을 넣는 정책 (버린 수 집계)
+     * 종료 중이면 새 작업을 버립니다.
+     */
+    private static final class CountingDiscardOldestPolicy implements RejectedExecutionHandler {
+
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            AnalyticsExecutor analyticsExecutor = (AnalyticsExecutor) executor;
+            if (executor.isShutdown()) {
+                analyticsExecutor.discard(task);
+                return;
+            }
+            // 동시에 여러 제출이 경쟁해도 재시도는 한 번만 (제출 스레드가 루프를 돌지 않도록)
+            Runnable oldest = executor.getQueue().poll();
+            if (oldest != null) {
+                analyticsExecutor.discard(oldest);
+            }
+            if (!executor.getQueue().offer(task)) {
+                analyticsExecutor.discard(task);
+                log.debug("[GA4] Analytics queue still full, dropping task");
+            }
+        }
+    }
+
+    private static final class AnalyticsThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "analytics-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package vibe.digthc.as_digt_hc_dev_fe.infrastructure.analytics;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
@@ -12,6 +13,9 @@ import java.util.Map;
  *
  * 비즈니스 로직에서 호출되는 분석 이벤트를 정의합니다.
  * GA4 Measurement Protocol을 통해 서버 사이드 이벤트를 전송합니다.
+ * 이벤트는 Ga4EventBatcher에 적재되어 (client_id, user_id)별로 최대 25개씩 묶여 전송됩니다.
+ * - client_id는 요청마다 바뀌는 requestId가 아닌 안정적인 값 사용 (사용자 이벤트: user.{userId}, 그 외: server-client-id)
+ *   같은 사용자/서버의 이벤트가 한 묶음으로 합쳐지도록 하기 위함이며, requestId는 request_id 매개변수로 전송
  *
  * 사용 예:
  * - API 에러/성공 추적
@@ -24,9 +28,17 @@ public class AnalyticsService {
     private static final Logger log = LoggerFactory.getLogger(AnalyticsService.class);
 
     private final Ga4Client ga4Client;
+    private final Ga4EventBatcher eventBatcher;
+    private final ApiEventAggregator apiEventAggregator;
+    private final String serverClientId;
 
-    public AnalyticsService(Ga4Client ga4Client) {
+    public AnalyticsService(Ga4Client ga4Client, Ga4EventBatcher eventBatcher,
+                            ApiEventAggregator apiEventAggregator,
+                            @Value("${app.analytics.ga4.server-client-id:server}") String serverClientId) {
         this.ga4Client = ga4Client;
+        this.eventBatcher = eventBatcher;
+        this.apiEventAggregator = apiEventAggregator;
+        this.serverClientId = serverClientId;
     }
 
     // ============================================
@@ -35,6 +47,7 @@ public class AnalyticsService {
 
     /**
      * API 에러 이벤트 전송
+     * 사전 집계가 켜져 있으면 ApiEventAggregator에 누적되어 주기마다 api_error_rollup으로 전송됩니다.
      *
      * @param requestId   요청 ID (X-Request-ID)
      * @param endpoint    API 엔드포인트
@@ -44,6 +57,10 @@ public class AnalyticsService {
      */
     public void trackApiError(String requestId, String endpoint, int statusCode,
                               String errorType, String errorMessage) {
+        if (apiEventAggregator.isEnabled()) {
+            apiEventAggregator.recordError(endpoint, statusCode, errorType, truncate(errorMessage, 100));
+            return;
+        }
         Map<String, Object> params = new HashMap<>();
         params.put("endpoint", endpoint);
         params.put("status_code", statusCode);
@@ -51,24 +68,29 @@ public class AnalyticsService {
         params.put("error_message", truncate(errorMessage, 100));
         params.put("timestamp", System.currentTimeMillis());
 
-        ga4Client.sendEvent(requestId, "api_error", params);
+        enqueue(requestId, null, "api_error", params);
         log.debug("[Analytics] api_error: endpoint={}, status={}", endpoint, statusCode);
     }
 
     /**
      * API 성공 이벤트 전송 (선택적: 중요한 API만)
+     * 사전 집계가 켜져 있으면 ApiEventAggregator에 누적되어 주기마다 api_success_rollup으로 전송됩니다.
      *
      * @param requestId  요청 ID
      * @param endpoint   API 엔드포인트
      * @param durationMs 요청 처리 시간 (밀리초)
      */
     public void trackApiSuccess(String requestId, String endpoint, long durationMs) {
+        if (apiEventAggregator.isEnabled()) {
+            apiEventAggregator.recordSuccess(endpoint, durationMs);
+            return;
+        }
         Map<String, Object> params = new HashMap<>();
         params.put("endpoint", endpoint);
         params.put("duration_ms", durationMs);
         params.put("timestamp", System.currentTimeMillis());
 
-        ga4Client.sendEvent(requestId, "api_success", params);
+        enqueue(requestId, null, "api_success", params);
         log.debug("[Analytics] api_success: endpoint={}, duration={}ms", endpoint, durationMs);
     }
 
@@ -88,7 +110,7 @@ public class AnalyticsService {
         params.put("signup_method", method);
         params.put("timestamp", System.currentTimeMillis());
 
-        ga4Client.sendEventWithUserId(requestId, userId, "signup_complete_server", params);
+        enqueue(requestId, userId, "signup_complete_server", params);
         log.info("[Analytics] signup_complete_server: userId={}, method={}", userId, method);
     }
 
@@ -104,7 +126,7 @@ public class AnalyticsService {
         params.put("login_method", method);
         params.put("timestamp", System.currentTimeMillis());
 
-        ga4Client.sendEventWithUserId(requestId, userId, "login_success_server", params);
+        enqueue(requestId, userId, "login_success_server", params);
         log.debug("[Analytics] login_success_server: userId={}", userId);
     }
 
@@ -129,7 +151,7 @@ public class AnalyticsService {
         params.put("data_coverage", dataCoverage);
         params.put("timestamp", System.currentTimeMillis());
 
-        ga4Client.sendEventWithUserId(requestId, userId, "report_generated", params);
+        enqueue(requestId, userId, "report_generated", params);
         log.info("[Analytics] report_generated: reportId={}, type={}", reportId, reportType);
     }
 
@@ -154,7 +176,7 @@ public class AnalyticsService {
         params.put("mission_category", category);
         params.put("timestamp", System.currentTimeMillis());
 
-        ga4Client.sendEventWithUserId(requestId, userId, "mission_completed_server", params);
+        enqueue(requestId, userId, "mission_completed_server", params);
         log.debug("[Analytics] mission_completed_server: missionId={}", missionId);
     }
 
@@ -174,7 +196,7 @@ public class AnalyticsService {
         params.put("intended_role", intendedRole);
         params.put("timestamp", System.currentTimeMillis());
 
-        ga4Client.sendEventWithUserId(requestId, inviterUserId, "family_invite_sent", params);
+        enqueue(requestId, inviterUserId, "family_invite_sent", params);
         log.debug("[Analytics] family_invite_sent: inviter={}", inviterUserId);
     }
 
@@ -192,7 +214,7 @@ public class AnalyticsService {
         params.put("role", role);
         params.put("timestamp", System.currentTimeMillis());
 
-        ga4Client.sendEventWithUserId(requestId, userId, "family_join_completed", params);
+        enqueue(requestId, userId, "family_join_completed", params);
         log.info("[Analytics] family_join_completed: userId={}, boardId={}", userId, boardId);
     }
 
@@ -217,7 +239,7 @@ public class AnalyticsService {
         params.put("source", source);
         params.put("timestamp", System.currentTimeMillis());
 
-        ga4Client.sendEventWithUserId(requestId, userId, "health_record_saved", params);
+        enqueue(requestId, userId, "health_record_saved", params);
         log.debug("[Analytics] health_record_saved: date={}, count={}", recordDate, metricsCount);
     }
 
@@ -226,11 +248,28 @@ public class AnalyticsService {
     // ============================================
 
     /**
-     * 문자열을 최대 길이로 자르기
+     * 배처에 이벤트 적재 (안정적인 client_id로 묶고, requestId는 매개변수로 보존)
+     */
+    private void enqueue(String requestId, String userId, String eventName, Map<String, Object> params) {
+        if (requestId != null) {
+            params.put("request_id", requestId);
+        }
+        eventBatcher.enqueue(clientIdFor(userId), userId, new Ga4Client.Ga4Event(eventName, params));
+    }
+
+    /**
+     * 묶음 전송 키로 쓰는 client_id (사용자별 고정, 사용자가 없으면 서버 단위 고정값)
+     */
+    String clientIdFor(String userId) {
+        return userId != null && !userId.isBlank() ? "user." + userId : serverClientId;
+    }
+
+    /**
+     * 문자열을 최대 길이로 자르기 (말줄임표 포함 maxLength 이하, GA4 매개변수 값은 100자 제한)
      */
     private String truncate(String str, int maxLength) {
         if (str == null) return null;
-        return str.length() <= maxLength ? str : str.substring(0, maxLength) + "...";
+        return str.length() <= maxLength ? str : str.substring(0, maxLength - 3) + "...";
     }
 
     /**
@@ -0,0 +1,224 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.analytics;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고빈도 API 이벤트 사전 집계기
+ *
+ * 요청마다 호출되는 api_success/api_error를 바로 전송하지 않고,
+ * (이벤트, endpoint, 상태 코드 대역, error_type) 키별 LongAdder 카운터에 누적한 뒤
+ * flush-interval-ms마다 키당 하나의 롤업 이벤트(api_success_rollup/api_error_rollup)로 전송합니다.
+ * - 롤업 매개변수: count, avg_duration_ms, max_duration_ms, interval_sec
+ * - 카운터는 누적값을 유지하고 플러시 시 직전 값과의 차이만 전송 (리셋 경쟁으로 인한 유실 없음)
+ * - 키 수가 max-keys를 넘으면 endpoint를 OTHER로 합쳐 카디널리티 제한
+ *
+ * 가입/가족 참여 등 저빈도 전환 이벤트는 집계하지 않고 기존처럼 개별 전송합니다.
+ *
+ * 설정 속성:
+ * - app.analytics.ga4.aggregate.enabled: 사전 집계 사용 여부 (false면 요청마다 개별 전송)
+ * - app.analytics.ga4.aggregate.flush-interval-ms: 롤업 전송 주기
+ * - app.analytics.ga4.aggregate.max-keys: 개별 집계할 최대 키 수
+ * - app.analytics.ga4.aggregate.client-id: 롤업 이벤트의 client_id (서버 단위 식별자)
+ */
+@Component
+public class ApiEventAggregator {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiEventAggregator.class);
+
+    static final String SUCCESS_EVENT = "api_success_rollup";
+    static final String ERROR_EVENT = "api_error_rollup";
+    static final String OTHER_ENDPOINT = "OTHER";
+
+    private final Ga4EventBatcher eventBatcher;
+    private final boolean enabled;
+    private final int maxKeys;
+    private final String clientId;
+
+    private final ConcurrentHashMap<AggregateKey, Aggregate> aggregates = new ConcurrentHashMap<>();
+    private volatile long lastFlushMillis = System.currentTimeMillis();
+
+    public ApiEventAggregator(
+            Ga4EventBatcher eventBatcher,
+            @Value("${app.analytics.ga4.aggregate.enabled:true}") boolean enabled,
+            @Value("${app.analytics.ga4.aggregate.max-keys:500}") int maxKeys,
+            @Value("${app.analytics.ga4.aggregate.client-id:server-rollup}") String clientId) {
+        this.eventBatcher = eventBatcher;
+        this.enabled = enabled;
+        this.maxKeys = Math.max(1, maxKeys);
+        this.clientId = clientId;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * API 성공 누적
+     *
+     * @param endpoint   API 엔드포인트
+     * @param durationMs 요청 처리 시간 (밀리초)
+     */
+    public void recordSuccess(String endpoint, long durationMs) {
+        aggregate(new AggregateKey(SUCCESS_EVENT, endpoint, "2xx", null)).add(durationMs, null);
+    }
+
+    /**
+     * API 에러 누적
+     *
+     * @param endpoint     API 엔드포인트
+     * @param statusCode   HTTP 상태 코드
+     * @param errorType    에러 타입
+     * @param errorMessage 에러 메시지 (키별로 플러시 구간의 마지막 값만 샘플로 전송)
+     */
+    public void recordError(String endpoint, int statusCode, String errorType, String errorMessage) {
+        aggregate(new AggregateKey(ERROR_EVENT, endpoint, statusBucket(statusCode), errorType))
+                .add(-1, errorMessage);
+    }
+
+    private Aggregate aggregate(AggregateKey key) {
+        Aggregate aggregate = aggregates.get(key);
+        if (aggregate != null) {
+            return aggregate;
+        }
+        if (aggregates.size() >= maxKeys) {
+            key = new AggregateKey(key.eventName(), OTHER_ENDPOINT, key.statusBucket(), key.errorType());
+        }
+        return aggregates.computeIfAbsent(key, k -> new Aggregate());
+    }
+
+    /**
+     * 직전 플러시 이후 증가분을 키별 롤업 이벤트로 전송
+     */
+    @Scheduled(fixedDelayString = "${app.analytics.ga4.aggregate.flush-interval-ms:60000}",
+            initialDelayString = "${app.analytics.ga4.aggregate.flush-interval-ms:60000}")
+    public synchronized void flush() {
+        long now = System.currentTimeMillis();
+        long intervalSec = Math.max(1, (now - lastFlushMillis) / 1000);
+        lastFlushMillis = now;
+
+        int emitted = 0;
+        for (Map.Entry<AggregateKey, Aggregate> entry : aggregates.entrySet()) {
+            AggregateKey key = entry.getKey();
+            Map<String, Object> params = entry.getValue().drain(key, intervalSec);
+            if (params == null) {
+                continue;
+            }
+            eventBatcher.enqueue(clientId, null, new Ga4Client.Ga4Event(key.eventName(), params));
+            emitted++;
+        }
+        if (emitted > 0) {
+            log.debug("[Analytics] Flushed {} rollup events", emitted);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        if (enabled) {
+            flush();
+        }
+    }
+
+    /**
+     * 키 수와 누적 카운트 (관리자 조회용)
+     */
+    public Map<String, Object> getStats() {
+        long total = 0;
+        for (Aggregate aggregate : aggregates.values()) {
+            total += aggregate.count.sum();
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("keys", aggregates.size());
+        stats.put("maxKeys", maxKeys);
+        stats.put("recorded", total);
+        return stats;
+    }
+
+    private static String statusBucket(int statusCode) {
+        return statusCode >= 100 && statusCode < 600 ? (statusCode / 100) + "xx" : "unknown";
+    }
+
+    /**
+     * 집계 키 (이벤트, endpoint, 상태 코드 대역, error_type)
+     */
+    private record AggregateKey(String eventName, String endpoint, String statusBucket, String errorType) {
+    }
+
+    /**
+     * 키 하나의 누적 카운터 (요청 스레드는 add만, drain은 flush() 동기화 블록 안에서만)
+     */
+    private static final class Aggregate {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder timedCount = new LongAdder();
+        private final LongAdder durationSum = new LongAdder();
+        private final LongAccumulator maxDuration = new LongAccumulator(Math::max, 0);
+        // 구간의 마지막 에러 메시지 (플러시 시 null로 교체해 다음 구간에 이전 메시지가 남지 않도록)
+        private final AtomicReference<String> lastMessage = new AtomicReference<>();
+
+        // 플러시 스레드 전용: 직전 플러시 시점의 누적값
+        private long flushedCount;
+        private long flushedTimedCount;
+        private long flushedDurationSum;
+
+        private void add(long durationMs, String message) {
+            if (durationMs >= 0) {
+                durationSum.add(durationMs);
+                maxDuration.accumulate(durationMs);
+                timedCount.increment();
+            }
+            if (message != null) {
+                lastMessage.set(message);
+            }
+            count.increment();
+        }
+
+        private Map<String, Object> drain(AggregateKey key, long intervalSec) {
+            long totalCount = count.sum();
+            long deltaCount = totalCount - flushedCount;
+            if (deltaCount <= 0) {
+                return null;
+            }
+            long totalTimed = timedCount.sum();
+            long totalDuration = durationSum.sum();
+            long deltaTimed = totalTimed - flushedTimedCount;
+            long deltaDuration = totalDuration - flushedDurationSum;
+            flushedCount = totalCount;
+            flushedTimedCount = totalTimed;
+            flushedDurationSum = totalDuration;
+            // 최대값은 구간별로 초기화 (경쟁 시 다음 구간으로 넘어갈 수 있음)
+            long max = maxDuration.getThenReset();
+
+            Map<String, Object> params = new HashMap<>();
+            params.put("endpoint", key.endpoint());
+            params.put("status_class", key.statusBucket());
+            if (key.errorType() != null) {
+                params.put("error_type", key.errorType());
+            }
+            String message = lastMessage.getAndSet(null);
+            if (message != null) {
+                params.put("error_message", message);
+            }
+            params.put("count", deltaCount);
+            if (deltaTimed > 0) {
+                params.put("avg_duration_ms", deltaDuration / deltaTimed);
+                params.put("max_duration_ms", max);
+            }
+            params.put("interval_sec", intervalSec);
+            return params;
+        }
+    }
+
+}
@@ -1,6 +1,7 @@
 package vibe.digthc.as_digt_hc_dev_fe.infrastructure.analytics;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -8,7 +9,10 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.resilience.CallNotPermittedException;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.resilience.ResilienceRegistry;
 
 import java.util.*;
 
@@ -16,8 +20,9 @@ import java.util.*;
  * Google Analytics 4 Measurement Protocol 클라이언트
  *
  * 서버 사이드에서 GA4로 이벤트를 전송합니다.
- * - 비동기 처리로 메인 요청에 영향 없음
+ * - 전용 유한 실행기(analyticsExecutor)에서 비동기 처리하여 메인 요청에 영향 없음
  * - 실패 시에도 서비스에 영향 없음 (best-effort)
+ * - ResilienceRegistry의 ga4 서킷 브레이커/벌크헤드 적용 (재시도는 Ga4EventOutbox가 담당하므로 즉시 재시도 없음)
  *
  * @see <a href="https://developers.google.com/analytics/devguides/collection/protocol/ga4">GA4 Measurement Protocol</a>
  */
@@ -26,11 +31,12 @@ public class Ga4Client {
 
     private static final Logger log = LoggerFactory.getLogger(Ga4Client.class);
 
-    // GA4 Measurement Protocol 엔드포인트
-    private static final String GA4_ENDPOINT = "https://www.google-analytics.com/mp/collect";
+    /** ResilienceRegistry 대상 이름 */
+    static final String RESILIENCE_TARGET = "ga4";
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final ResilienceRegistry resilience;
 
     @Value("${app.analytics.ga4.enabled:false}")
     private boolean enabled;
@@ -41,12 +47,26 @@ public class Ga4Client {
     @Value("${app.analytics.ga4.api-secret:}")
     private String apiSecret;
 
+    // GA4 Measurement Protocol 엔드포인트 (부하 테스트 시 Ga4StandInCollector 주소로 교체)
+    @Value("${app.analytics.ga4.endpoint:https://www.google-analytics.com/mp/collect}")
+    private String endpoint;
+
+    /** 요청 URL (설정 값으로 기동 시 한 번만 구성) */
+    private String collectUrl;
+
     public Ga4Client(
             @Qualifier("analyticsRestTemplate") RestTemplate restTemplate,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            ResilienceRegistry resilience
     ) {
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
+        this.resilience = resilience;
+    }
+
+    @PostConstruct
+    void initCollectUrl() {
+        collectUrl = String.format("%s?measurement_id=%s&api_secret=%s", endpoint, measurementId, apiSecret);
     }
 
     /**
@@ -56,7 +76,7 @@ public class Ga4Client {
      * @param eventName 이벤트 이름 (GA4 이벤트 명명 규칙 준수)
      * @param params    이벤트 매개변수
      */
-    @Async
+    @Async("analyticsExecutor")
     public void sendEvent(String clientId, String eventName, Map<String, Object> params) {
         sendEvents(clientId, null, List.of(new Ga4Event(eventName, params)));
     }
@@ -69,7 +89,7 @@ public class Ga4Client {
      * @param eventName 이벤트 이름
      * @param params    이벤트 매개변수
      */
-    @Async
+    @Async("analyticsExecutor")
     public void sendEventWithUserId(String clientId, String userId, String eventName, Map<String, Object> params) {
         sendEvents(clientId, userId, List.of(new Ga4Event(eventName, params)));
     }
@@ -81,30 +101,56 @@ public class Ga4Client {
      * @param userId   사용자 ID (nullable)
      * @param events   전송할 이벤트 목록
      */
-    @Async
+    @Async("analyticsExecutor")
     public void sendEvents(String clientId, String userId, List<Ga4Event> events) {
+        sendEventsNow(clientId, userId, events);
+    }
+
+    /**
+     * 여러 이벤트 일괄 전송 (호출 스레드에서 동기 전송)
+     * Ga4EventBatcher/Ga4EventOutbox처럼 전송 결과에 따라 재시도 여부를 결정해야 하는 경우에 사용합니다.
+     *
+     * @param clientId 클라이언트 ID
+     * @param userId   사용자 ID (nullable)
+     * @param events   전송할 이벤트 목록 (최대 25개)
+     * @return 전송 결과
+     */
+    public SendResult sendEventsNow(String clientId, String userId, List<Ga4Event> events) {
+        return sendEventsNow(clientId, userId, events, null);
+    }
+
+    /**
+     * 발생 시각을 지정하여 여러 이벤트 일괄 전송 (호출 스레드에서 동기 전송)
+     * GA4는 timestamp_micros가 최근 72시간 이내인 이벤트만 받습니다.
+     *
+     * @param clientId        클라이언트 ID
+     * @param userId          사용자 ID (nullable)
+     * @param events          전송할 이벤트 목록 (최대 25개)
+     * @param timestampMicros 이벤트 발생 시각 (epoch 마이크로초, null이면 수신 시각 사용)
+     * @return 전송 결과
+     */
+    public SendResult sendEventsNow(String clientId, String userId, List<Ga4Event> events, Long timestampMicros) {
         if (!enabled) {
             log.debug("[GA4] Analytics disabled, skipping event");
-            return;
+            return SendResult.DISABLED;
         }
 
         if (measurementId == null || measurementId.isBlank() ||
             apiSecret == null || apiSecret.isBlank()) {
             log.warn("[GA4] Missing measurement_id or api_secret configuration");
-            return;
+            return SendResult.DISABLED;
         }
 
         try {
-            // 요청 URL 구성
-            String url = String.format("%s?measurement_id=%s&api_secret=%s",
-                    GA4_ENDPOINT, measurementId, apiSecret);
-
             // 요청 본문 구성
             Map<String, Object> body = new HashMap<>();
             body.put("client_id", clientId);
             if (userId != null && !userId.isBlank()) {
                 body.put("user_id", userId);
             }
+            if (timestampMicros != null) {
+                body.put("timestamp_micros", timestampMicros);
+            }
 
             // 이벤트 목록 변환
             List<Map<String, Object>> eventList = new ArrayList<>();
@@ -125,19 +171,29 @@ public class Ga4Client {
             String jsonBody = objectMapper.writeValueAsString(body);
             HttpEntity<String> request = new HttpEntity<>(jsonBody, headers);
 
-            // 요청 전송
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url, HttpMethod.POST, request, String.class);
+            // 요청 전송 (서킷 OPEN/동시 호출 한도 초과 시 호출 없이 거부)
+            ResponseEntity<String> response = resilience.execute(RESILIENCE_TARGET, false,
+                    () -> restTemplate.exchange(collectUrl, HttpMethod.POST, request, String.class));
 
             if (response.getStatusCode().is2xxSuccessful()) {
                 log.debug("[GA4] Event sent successfully: {} events", events.size());
-            } else {
-                log.warn("[GA4] Event sending failed with status: {}", response.getStatusCode());
+                return SendResult.SENT;
             }
-
+            log.warn("[GA4] Event sending failed with status: {}", response.getStatusCode());
+            return SendResult.FAILED;
+
+        } catch (CallNotPermittedException e) {
+            // 장애 중에는 호출하지 않고 재시도 대상으로 반환 (배처가 아웃박스로 보관)
+            log.debug("[GA4] Send skipped: {}", e.getMessage());
+            return SendResult.FAILED;
+        } catch (HttpClientErrorException e) {
+            // 4xx는 재시도해도 같은 결과 (429 제외)
+            log.error("[GA4] Event rejected: {}", e.getMessage());
+            return e.getStatusCode().value() == 429 ? SendResult.FAILED : SendResult.REJECTED;
         } catch (Exception e) {
             // 분석 실패가 서비스에 영향을 주지 않도록 예외를 로깅만 함
             log.error("[GA4] Failed to send event: {}", e.getMessage());
+            return SendResult.FAILED;
         }
     }
 
@@ -148,6 +204,24 @@ public class Ga4Client {
         return enabled;
     }
 
+    /**
+     * 전송 결과
+     */
+    public enum SendResult {
+        /** 전송 성공 */
+        SENT,
+        /** GA4 비활성화 또는 설정 누락으로 전송하지 않음 */
+        DISABLED,
+        /** GA4가 요청을 거부함 (재시도 무의미) */
+        REJECTED,
+        /** 네트워크 오류/5xx/429 (재시도 대상) */
+        FAILED;
+
+        public boolean isRetryable() {
+            return this == FAILED;
+        }
+    }
+
     /**
      * GA4 이벤트 DTO
      */
@@ -0,0 +1,299 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.analytics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * GA4 이벤트 배처
+ *
+ * AnalyticsService의 이벤트를 바로 한 건씩 전송하지 않고 유한 큐에 쌓은 뒤,
+ * 전용 플러시 스레드가 (client_id, user_id)별로 묶어 Measurement Protocol 요청 한 번에 최대 25개씩 전송합니다.
+ * - 묶음이 25개가 되면 즉시 전송
+ * - 묶음의 첫 이벤트가 max-linger-ms 이상 기다리면 전송
+ * - 큐가 가득 차면 새 이벤트를 Ga4EventOutbox(디스크)에 보관 (요청 스레드는 절대 블로킹되지 않음)
+ * - 묶음 전송은 analyticsExecutor에서 실행하며, 재시도 가능한 실패나 실행기 큐 초과로 버려진 묶음도 아웃박스에 보관
+ * - 애플리케이션 종료 시 남은 이벤트를 모두 동기 전송 (실패 시 아웃박스에 보관)
+ * - 아웃박스도 사용할 수 없으면 드롭 카운터만 증가
+ *
+ * 설정 속성:
+ * - app.analytics.ga4.batch.enabled: 배칭 사용 여부 (false면 이벤트마다 즉시 비동기 전송)
+ * - app.analytics.ga4.batch.queue-capacity: 대기 큐 크기
+ * - app.analytics.ga4.batch.max-linger-ms: 묶음 최대 대기 시간
+ */
+@Component
+public class Ga4EventBatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(Ga4EventBatcher.class);
+
+    /** GA4 Measurement Protocol 요청당 최대 이벤트 수 */
+    static final int MAX_EVENTS_PER_REQUEST = 25;
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+    private final Ga4Client ga4Client;
+    private final AnalyticsExecutor analyticsExecutor;
+    private final Ga4EventOutbox outbox;
+    private final boolean batchEnabled;
+    private final long maxLingerNanos;
+    private final BlockingQueue<PendingEvent> queue;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    private final LongAdder batchesSent = new LongAdder();
+    private final LongAdder eventsSent = new LongAdder();
+    private final LongAdder batchesFailed = new LongAdder();
+    private final LongAdder flushedBySize = new LongAdder();
+    private final LongAdder flushedByLinger = new LongAdder();
+    private final LongAdder flushedOnShutdown = new LongAdder();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public Ga4EventBatcher(
+            Ga4Client ga4Client,
+            AnalyticsExecutor analyticsExecutor,
+            Ga4EventOutbox outbox,
+            @Value("${app.analytics.ga4.batch.enabled:true}") boolean batchEnabled,
+            @Value("${app.analytics.ga4.batch.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.analytics.ga4.batch.max-linger-ms:2000}") long maxLingerMillis) {
+        this.ga4Client = ga4Client;
+        this.analyticsExecutor = analyticsExecutor;
+        this.outbox = outbox;
+        this.batchEnabled = batchEnabled;
+        this.maxLingerNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, maxLingerMillis));
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+    }
+
+    @PostConstruct
+    void start() {
+        // 실행기 큐 초과로 버려진 묶음은 아웃박스로
+        analyticsExecutor.setDiscardListener(task -> {
+            if (task instanceof BatchSend send) {
+                spill(send.key, send.events, send.createdAtMillis);
+            }
+        });
+        if (!batchEnabled) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::flushLoop, "ga4-batcher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (flusher == null) {
+            return;
+        }
+        running = false;
+        flusher.interrupt();
+        try {
+            flusher.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 이벤트 추가 (요청 스레드에서 호출, 논블로킹)
+     *
+     * @param clientId 클라이언트 ID
+     * @param userId   사용자 ID (nullable)
+     * @param event    이벤트
+     */
+    public void enqueue(String clientId, String userId, Ga4Client.Ga4Event event) {
+        if (!ga4Client.isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (!running) {
+            submit(new BatchKey(clientId, userId), List.of(event), now);
+            return;
+        }
+        if (queue.offer(new PendingEvent(clientId, userId, event, now))) {
+            enqueued.increment();
+        } else {
+            spill(new BatchKey(clientId, userId), List.of(event), now);
+        }
+    }
+
+    /**
+     * 배칭 카운터 조회
+     */
+    public Map<String, Object> getStats() {
+        long batches = batchesSent.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("batchEnabled", batchEnabled);
+        stats.put("queued", queue.size());
+        stats.put("enqueued", enqueued.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("spilledToOutbox", spilled.sum());
+        stats.put("batchesSent", batches);
+        stats.put("eventsSent", eventsSent.sum());
+        stats.put("avgEventsPerBatch", batches > 0 ? Math.round(eventsSent.sum() * 100.0 / batches) / 100.0 : 0.0);
+        stats.put("batchesFailed", batchesFailed.sum());
+        stats.put("flushedBySize", flushedBySize.sum());
+        stats.put("flushedByLinger", flushedByLinger.sum());
+        stats.put("flushedOnShutdown", flushedOnShutdown.sum());
+        return stats;
+    }
+
+    // ========================================================================
+    // 플러시 스레드
+    // ========================================================================
+
+    private void flushLoop() {
+        // 삽입 순서 = 묶음 생성 순서이므로 첫 항목이 가장 오래 기다린 묶음
+        Map<BatchKey, Batch> batches = new LinkedHashMap<>();
+        List<PendingEvent> drained = new ArrayList<>(MAX_EVENTS_PER_REQUEST * 4);
+
+        while (running) {
+            try {
+                long waitNanos = batches.isEmpty()
+                        ? maxLingerNanos
+                        : Math.max(0, batches.values().iterator().next().deadlineNanos - System.nanoTime());
+                PendingEvent first = queue.poll(waitNanos, TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    add(batches, first);
+                    queue.drainTo(drained, MAX_EVENTS_PER_REQUEST * 4);
+                    for (PendingEvent event : drained) {
+                        add(batches, event);
+                    }
+                    drained.clear();
+                }
+                flushExpired(batches, System.nanoTime());
+            } catch (InterruptedException e) {
+                // stop()에서 깨움 → 루프 종료 후 남은 이벤트 플러시
+            } catch (Exception e) {
+                log.warn("[GA4] Batch flush failed", e);
+            }
+        }
+
+        // 종료 시 큐와 묶음에 남은 이벤트를 모두 동기 전송 (비동기 실행기는 이미 종료 중일 수 있음)
+        queue.drainTo(drained);
+        for (PendingEvent event : drained) {
+            add(batches, event);
+        }
+        for (Map.Entry<BatchKey, Batch> entry : batches.entrySet()) {
+            send(entry.getKey(), entry.getValue(), false);
+            flushedOnShutdown.increment();
+        }
+        batches.clear();
+    }
+
+    private void add(Map<BatchKey, Batch> batches, PendingEvent pending) {
+        BatchKey key = new BatchKey(pending.clientId(), pending.userId());
+        Batch batch = batches.computeIfAbsent(key,
+                k -> new Batch(System.nanoTime() + maxLingerNanos, pending.enqueuedAtMillis()));
+        batch.events.add(pending.event());
+        if (batch.events.size() >= MAX_EVENTS_PER_REQUEST) {
+            batches.remove(key);
+            send(key, batch, true);
+            flushedBySize.increment();
+        }
+    }
+
+    private void flushExpired(Map<BatchKey, Batch> batches, long nowNanos) {
+        Iterator<Map.Entry<BatchKey, Batch>> iterator = batches.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<BatchKey, Batch> entry = iterator.next();
+            if (entry.getValue().deadlineNanos - nowNanos > 0) {
+                break;
+            }
+            iterator.remove();
+            send(entry.getKey(), entry.getValue(), true);
+            flushedByLinger.increment();
+        }
+    }
+
+    private void send(BatchKey key, Batch batch, boolean async) {
+        batchesSent.increment();
+        eventsSent.add(batch.events.size());
+        if (async) {
+            // 실제 HTTP 전송은 analyticsExecutor에서 (플러시 스레드는 묶기만 함)
+            submit(key, batch.events, batch.createdAtMillis);
+        } else {
+            sendNow(key, batch.events, batch.createdAtMillis);
+        }
+    }
+
+    private void submit(BatchKey key, List<Ga4Client.Ga4Event> events, long createdAtMillis) {
+        try {
+            analyticsExecutor.execute(new BatchSend(key, events, createdAtMillis));
+        } catch (RejectedExecutionException e) {
+            spill(key, events, createdAtMillis);
+        }
+    }
+
+    private void sendNow(BatchKey key, List<Ga4Client.Ga4Event> events, long createdAtMillis) {
+        Ga4Client.SendResult result = ga4Client.sendEventsNow(key.clientId(), key.userId(), events);
+        if (result != Ga4Client.SendResult.SENT) {
+            batchesFailed.increment();
+        }
+        if (result.isRetryable()) {
+            spill(key, events, createdAtMillis);
+        }
+    }
+
+    private void spill(BatchKey key, List<Ga4Client.Ga4Event> events, long createdAtMillis) {
+        if (outbox.append(key.clientId(), key.userId(), events, createdAtMillis)) {
+            spilled.add(events.size());
+        } else {
+            dropped.add(events.size());
+        }
+    }
+
+    /**
+     * analyticsExecutor에 제출하는 묶음 전송 작업
+     */
+    private final class BatchSend implements Runnable {
+        private final BatchKey key;
+        private final List<Ga4Client.Ga4Event> events;
+        private final long createdAtMillis;
+
+        private BatchSend(BatchKey key, List<Ga4Client.Ga4Event> events, long createdAtMillis) {
+            this.key = key;
+            this.events = events;
+            this.createdAtMillis = createdAtMillis;
+        }
+
+        @Override
+        public void run() {
+            sendNow(key, events, createdAtMillis);
+        }
+    }
+
+    private record PendingEvent(String clientId, String userId, Ga4Client.Ga4Event event, long enqueuedAtMillis) {
+    }
+
+    private record BatchKey(String clientId, String userId) {
+    }
+
+    private static final class Batch {
+        private final long deadlineNanos;
+        private final long createdAtMillis;
+        private final List<Ga4Client.Ga4Event> events = new ArrayList<>(MAX_EVENTS_PER_REQUEST);
+
+        private Batch(long deadlineNanos, long createdAtMillis) {
+            this.deadlineNanos = deadlineNanos;
+            this.createdAtMillis = createdAtMillis;
+        }
+    }
+}
@@ -0,0 +1,618 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.analytics;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32C;
+
+/**
+ * GA4 이벤트 디스크 아웃박스
+ *
+ * GA4 전송이 실패했거나(네트워크 오류/5xx/429) 메모리 큐/실행기 큐가 넘친 이벤트 묶음을
+ * 로컬 append-only 세그먼트 파일에 보관했다가, 드레이너 스레드가 GA4 복구 후 순서대로 재전송합니다.
+ *
+ * - 세그먼트: 고정 크기(segment-size-bytes) 파일을 mmap하여 기록 (outbox-{순번}.seg)
+ * - 레코드 형식: [int 길이][int CRC32C][long 발생 시각(ms)][본문(JSON: clientId, userId, events)]
+ *   길이를 마지막에 기록하므로 기록 도중 종료되면 길이가 0으로 남아 세그먼트 끝으로 취급되고,
+ *   CRC가 맞지 않는 레코드도 이후 내용과 함께 버립니다.
+ *   전송 완료된 레코드는 길이를 음수로 바꿔 재시작 후에도 다시 보내지 않습니다.
+ * - 재전송: 실패 시 지수 백오프(지터 포함)로 대기, 발생 시각을 timestamp_micros로 함께 전송
+ * - 보관 한도: 전체 세그먼트가 max-disk-bytes를 넘으면 가장 오래된 세그먼트부터 삭제
+ * - 만료: GA4가 72시간 이전 timestamp_micros를 받지 않으므로 max-age-hours가 지난 레코드는 전송하지 않고 버림
+ *
+ * mmap 기록은 프로세스 비정상 종료에는 안전하지만, 운영체제 장애 시에는 마지막 플러시 이후 레코드가 유실될 수 있습니다.
+ *
+ * 설정 속성:
+ * - app.analytics.ga4.outbox.enabled: 아웃박스 사용 여부 (GA4 비활성화 시 항상 꺼짐)
+ * - app.analytics.ga4.outbox.path: 세그먼트 디렉터리
+ * - app.analytics.ga4.outbox.segment-size-bytes: 세그먼트 파일 크기
+ * - app.analytics.ga4.outbox.max-disk-bytes: 전체 세그먼트 최대 크기
+ * - app.analytics.ga4.outbox.max-age-hours: 재전송 가능한 최대 경과 시간
+ * - app.analytics.ga4.outbox.drain-interval-ms: 드레이너 실행 주기
+ * - app.analytics.ga4.outbox.max-batches-per-drain: 주기당 최대 재전송 레코드 수
+ * - app.analytics.ga4.outbox.initial-backoff-ms / max-backoff-ms: 재전송 실패 시 백오프 범위
+ */
+@Component
+public class Ga4EventOutbox {
+
+    private static final Logger log = LoggerFactory.getLogger(Ga4EventOutbox.class);
+
+    private static final String SEGMENT_PREFIX = "outbox-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES;
+    private static final int MIN_SEGMENT_SIZE = 64 * 1024;
+
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+
+    private final Ga4Client ga4Client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final boolean outboxEnabled;
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final long maxAgeMillis;
+    private final long drainIntervalMillis;
+    private final int maxBatchesPerDrain;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder appendedEvents = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder replayedEvents = new LongAdder();
+    private final LongAdder replayRejected = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder corrupted = new LongAdder();
+    private final LongAdder droppedByDiskLimit = new LongAdder();
+
+    // 아래 필드는 this 동기화 블록 안에서만 접근 (드레이너의 HTTP 전송은 락 밖에서 수행)
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private long nextSequence;
+
+    // 드레이너 스레드 전용
+    private int consecutiveFailures;
+    private volatile long nextAttemptMillis;
+
+    private volatile boolean enabled;
+    private ScheduledExecutorService drainer;
+
+    public Ga4EventOutbox(
+            Ga4Client ga4Client,
+            @Value("${app.analytics.ga4.outbox.enabled:true}") boolean outboxEnabled,
+            @Value("${app.analytics.ga4.outbox.path:./logs/ga4-outbox}") String path,
+            @Value("${app.analytics.ga4.outbox.segment-size-bytes:4194304}") int segmentSize,
+            @Value("${app.analytics.ga4.outbox.max-disk-bytes:67108864}") long maxDiskBytes,
+            @Value("${app.analytics.ga4.outbox.max-age-hours:72}") long maxAgeHours,
+            @Value("${app.analytics.ga4.outbox.drain-interval-ms:1000}") long drainIntervalMillis,
+            @Value("${app.analytics.ga4.outbox.max-batches-per-drain:100}") int maxBatchesPerDrain,
+            @Value("${app.analytics.ga4.outbox.initial-backoff-ms:1000}") long initialBackoffMillis,
+            @Value("${app.analytics.ga4.outbox.max-backoff-ms:300000}") long maxBackoffMillis) {
+        this.ga4Client = ga4Client;
+        this.outboxEnabled = outboxEnabled;
+        this.directory = Paths.get(path);
+        this.segmentSize = Math.max(MIN_SEGMENT_SIZE, segmentSize);
+        this.maxSegments = (int) Math.max(2, maxDiskBytes / this.segmentSize);
+        this.maxAgeMillis = Duration.ofHours(Math.max(1, maxAgeHours)).toMillis();
+        this.drainIntervalMillis = Math.max(10, drainIntervalMillis);
+        this.maxBatchesPerDrain = Math.max(1, maxBatchesPerDrain);
+        this.initialBackoffMillis = Math.max(1, initialBackoffMillis);
+        this.maxBackoffMillis = Math.max(this.initialBackoffMillis, maxBackoffMillis);
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        if (!outboxEnabled || !ga4Client.isEnabled()) {
+            return;
+        }
+        Files.createDirectories(directory);
+        recover();
+        enabled = true;
+
+        drainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ga4-outbox-drainer");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        drainer.scheduleWithFixedDelay(this::drainSafely, drainIntervalMillis, drainIntervalMillis,
+                TimeUnit.MILLISECONDS);
+        log.info("GA4 아웃박스 활성화: path={}, segments={}, pending={}",
+                directory.toAbsolutePath(), segments.size(), pendingRecords());
+    }
+
+    @PreDestroy
+    void close() {
+        if (drainer != null) {
+            drainer.shutdownNow();
+            try {
+                drainer.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            enabled = false;
+            for (Segment segment : segments) {
+                segment.close();
+            }
+            segments.clear();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // ========================================================================
+    // 기록
+    // ========================================================================
+
+    /**
+     * 이벤트 묶음 보관 (전송 실패/큐 초과 시 호출)
+     *
+     * @param clientId        클라이언트 ID
+     * @param userId          사용자 ID (nullable)
+     * @param events          이벤트 목록 (최대 25개)
+     * @param timestampMillis 이벤트 발생 시각
+     * @return 보관 성공 여부 (비활성화/직렬화 실패/레코드 초과 시 false)
+     */
+    public boolean append(String clientId, String userId, List<Ga4Client.Ga4Event> events, long timestampMillis) {
+        if (!enabled) {
+            return false;
+        }
+        try {
+            byte[] payload = encode(clientId, userId, events);
+            if (RECORD_HEADER_SIZE + payload.length > segmentSize) {
+                rejected.increment();
+                return false;
+            }
+            if (!write(payload, timestampMillis)) {
+                rejected.increment();
+                return false;
+            }
+            appended.increment();
+            appendedEvents.add(events.size());
+            return true;
+        } catch (Exception e) {
+            rejected.increment();
+            log.warn("[GA4] Failed to append outbox record", e);
+            return false;
+        }
+    }
+
+    private synchronized boolean write(byte[] payload, long timestampMillis) throws IOException {
+        if (!enabled) {
+            return false;
+        }
+        int recordSize = RECORD_HEADER_SIZE + payload.length;
+        Segment segment = segments.peekLast();
+        if (segment == null || segment.writePosition + recordSize > segmentSize) {
+            segment = rollover();
+        }
+
+        int position = segment.writePosition;
+        MappedByteBuffer buffer = segment.buffer;
+        buffer.putInt(position + Integer.BYTES, checksum(timestampMillis, payload, payload.length));
+        buffer.putLong(position + Integer.BYTES * 2, timestampMillis);
+        buffer.put(position + RECORD_HEADER_SIZE, payload);
+        // 길이를 마지막에 기록 → 기록 도중 종료되면 길이 0(세그먼트 끝)으로 남음
+        buffer.putInt(position, payload.length);
+
+        segment.writePosition += recordSize;
+        segment.pending++;
+        return true;
+    }
+
+    /**
+     * 새 세그먼트 생성 (디스크 한도를 넘으면 가장 오래된 세그먼트부터 삭제)
+     */
+    private Segment rollover() throws IOException {
+        while (segments.size() >= maxSegments) {
+            Segment oldest = segments.pollFirst();
+            droppedByDiskLimit.add(oldest.pending);
+            log.warn("[GA4] Outbox disk limit reached, dropping segment {} ({} pending records)",
+                    oldest.path.getFileName(), oldest.pending);
+            oldest.delete();
+        }
+        Segment segment = Segment.open(directory.resolve(SEGMENT_PREFIX + nextSequence++ + SEGMENT_SUFFIX),
+                segmentSize);
+        segments.addLast(segment);
+        return segment;
+    }
+
+    // ========================================================================
+    // 재전송
+    // ========================================================================
+
+    private void drainSafely() {
+        try {
+            drain(System.currentTimeMillis());
+        } catch (Exception e) {
+            log.warn("[GA4] Outbox drain failed", e);
+        }
+    }
+
+    /**
+     * 보관된 레코드를 오래된 순서로 재전송 (드레이너 스레드에서 호출)
+     *
+     * @param nowMillis 현재 시각
+     * @return 이번 주기에 처리(전송/만료/폐기)한 레코드 수
+     */
+    int drain(long nowMillis) {
+        if (!enabled) {
+            return 0;
+        }
+        int processed = 0;
+        while (processed < maxBatchesPerDrain) {
+            Entry entry = peek();
+            if (entry == null) {
+                break;
+            }
+
+            // 만료 레코드는 백오프 중에도 정리 (GA4가 받지 않으므로 전송 불필요)
+            if (nowMillis - entry.timestampMillis > maxAgeMillis) {
+                expired.increment();
+                commit(entry);
+                processed++;
+                continue;
+            }
+            if (nowMillis < nextAttemptMillis) {
+                break;
+            }
+
+            Map<String, Object> payload;
+            try {
+                payload = objectMapper.readValue(entry.payload, PAYLOAD_TYPE);
+            } catch (IOException e) {
+                corrupted.increment();
+                commit(entry);
+                processed++;
+                continue;
+            }
+            List<Ga4Client.Ga4Event> events = decodeEvents(payload.get("events"));
+            Ga4Client.SendResult result = ga4Client.sendEventsNow(
+                    (String) payload.get("clientId"),
+                    (String) payload.get("userId"),
+                    events,
+                    TimeUnit.MILLISECONDS.toMicros(entry.timestampMillis));
+
+            if (result.isRetryable()) {
+                consecutiveFailures++;
+                nextAttemptMillis = nowMillis + backoffMillis(consecutiveFailures);
+                break;
+            }
+            if (result == Ga4Client.SendResult.DISABLED) {
+                break;
+            }
+            if (result == Ga4Client.SendResult.REJECTED) {
+                replayRejected.increment();
+            } else {
+                replayed.increment();
+                replayedEvents.add(events.size());
+            }
+            consecutiveFailures = 0;
+            nextAttemptMillis = 0;
+            commit(entry);
+            processed++;
+        }
+        return processed;
+    }
+
+    /**
+     * 지터를 포함한 지수 백오프 (initial * 2^(n-1), 최대 max, 절반~전체 범위에서 무작위)
+     */
+    private long backoffMillis(int failures) {
+        long backoff = initialBackoffMillis << Math.min(failures - 1, 30);
+        if (backoff <= 0 || backoff > maxBackoffMillis) {
+            backoff = maxBackoffMillis;
+        }
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    /**
+     * 가장 오래된 미전송 레코드 조회 (전송 완료 표시는 commit에서)
+     */
+    private synchronized Entry peek() {
+        while (!segments.isEmpty()) {
+            Segment segment = segments.peekFirst();
+            while (segment.pending > 0) {
+                int position = segment.readPosition;
+                MappedByteBuffer buffer = segment.buffer;
+                int length = position + RECORD_HEADER_SIZE <= segmentSize ? buffer.getInt(position) : 0;
+                if (length < 0) {
+                    segment.readPosition += RECORD_HEADER_SIZE - length;
+                    continue;
+                }
+                if (length == 0 || position + RECORD_HEADER_SIZE + length > segmentSize) {
+                    // 기록 도중 종료된 흔적 → 이후 레코드는 신뢰할 수 없음
+                    corrupted.add(segment.pending);
+                    segment.pending = 0;
+                    break;
+                }
+                int crc = buffer.getInt(position + Integer.BYTES);
+                long timestampMillis = buffer.getLong(position + Integer.BYTES * 2);
+                byte[] payload = new byte[length];
+                buffer.get(position + RECORD_HEADER_SIZE, payload);
+                if (crc != checksum(timestampMillis, payload, length)) {
+                    corrupted.add(segment.pending);
+                    segment.pending = 0;
+                    break;
+                }
+                return new Entry(segment, position, length, timestampMillis, payload);
+            }
+            if (segment == segments.peekLast()) {
+                return null;
+            }
+            // 모두 전송된 이전 세그먼트 삭제
+            segments.pollFirst();
+            segment.delete();
+        }
+        return null;
+    }
+
+    /**
+     * 전송 완료 표시 (길이를 음수로 바꿔 재시작 후에도 건너뜀)
+     */
+    private synchronized void commit(Entry entry) {
+        Segment segment = entry.segment;
+        // 전송 중 디스크 한도로 삭제된 세그먼트는 무시
+        if (segment.closed || segment.readPosition != entry.position) {
+            return;
+        }
+        segment.buffer.putInt(entry.position, -entry.length);
+        segment.readPosition += RECORD_HEADER_SIZE + entry.length;
+        segment.pending--;
+    }
+
+    // ========================================================================
+    // 복구
+    // ========================================================================
+
+    /**
+     * 기동 시 기존 세그먼트를 순번 순으로 열고 미전송 레코드 위치 복원
+     */
+    private synchronized void recover() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        files.sort((a, b) -> Long.compare(sequenceOf(a), sequenceOf(b)));
+
+        for (Path file : files) {
+            long sequence = sequenceOf(file);
+            if (sequence < 0) {
+                continue;
+            }
+            nextSequence = Math.max(nextSequence, sequence + 1);
+            if (Files.size(file) != segmentSize) {
+                // 세그먼트 크기 설정이 바뀐 경우: 기존 크기 그대로 매핑해 읽되 새 기록은 새 세그먼트에
+                log.info("[GA4] Outbox segment size changed, reading {} as-is", file.getFileName());
+            }
+            Segment segment = Segment.open(file, (int) Math.max(Files.size(file), RECORD_HEADER_SIZE));
+            scan(segment);
+            if (segment.pending == 0) {
+                segment.delete();
+                continue;
+            }
+            segments.addLast(segment);
+        }
+        // 복구한 세그먼트에는 더 이상 기록하지 않음 (크기가 다를 수 있고, 손상 지점 뒤에 이어 쓰지 않도록)
+        Segment last = segments.peekLast();
+        if (last != null) {
+            last.writePosition = last.buffer.capacity();
+        }
+        while (segments.size() > maxSegments) {
+            Segment oldest = segments.pollFirst();
+            droppedByDiskLimit.add(oldest.pending);
+            oldest.delete();
+        }
+    }
+
+    private void scan(Segment segment) {
+        MappedByteBuffer buffer = segment.buffer;
+        int capacity = buffer.capacity();
+        int position = 0;
+        boolean firstPendingFound = false;
+        while (position + RECORD_HEADER_SIZE <= capacity) {
+            int length = buffer.getInt(position);
+            int size = RECORD_HEADER_SIZE + Math.abs(length);
+            if (length == 0 || length == Integer.MIN_VALUE || position + size > capacity) {
+                break;
+            }
+            if (length > 0) {
+                byte[] payload = new byte[length];
+                buffer.get(position + RECORD_HEADER_SIZE, payload);
+                long timestampMillis = buffer.getLong(position + Integer.BYTES * 2);
+                if (buffer.getInt(position + Integer.BYTES) != checksum(timestampMillis, payload, length)) {
+                    break;
+                }
+                if (!firstPendingFound) {
+                    segment.readPosition = position;
+                    firstPendingFound = true;
+                }
+                segment.pending++;
+            }
+            position += size;
+        }
+        if (!firstPendingFound) {
+            segment.readPosition = position;
+        }
+        segment.writePosition = position;
+    }
+
+    private static long sequenceOf(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
+    // ========================================================================
+    // 직렬화
+    // ========================================================================
+
+    private byte[] encode(String clientId, String userId, List<Ga4Client.Ga4Event> events) throws IOException {
+        List<Map<String, Object>> eventList = new ArrayList<>(events.size());
+        for (Ga4Client.Ga4Event event : events) {
+            Map<String, Object> eventMap = new LinkedHashMap<>();
+            eventMap.put("name", event.name());
+            eventMap.put("params", event.params());
+            eventList.add(eventMap);
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("clientId", clientId);
+        payload.put("userId", userId);
+        payload.put("events", eventList);
+        return objectMapper.writeValueAsBytes(payload);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Ga4Client.Ga4Event> decodeEvents(Object value) {
+        List<Ga4Client.Ga4Event> events = new ArrayList<>();
+        if (value instanceof List<?> list) {
+            for (Object item : list) {
+                Map<String, Object> eventMap = (Map<String, Object>) item;
+                events.add(new Ga4Client.Ga4Event(
+                        (String) eventMap.get("name"),
+                        (Map<String, Object>) eventMap.get("params")));
+            }
+        }
+        return events;
+    }
+
+    private static int checksum(long timestampMillis, byte[] payload, int length) {
+        CRC32C crc = new CRC32C();
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            crc.update((int) (timestampMillis >>> shift));
+        }
+        crc.update(payload, 0, length);
+        return (int) crc.getValue();
+    }
+
+    // ========================================================================
+    // 지표
+    // ========================================================================
+
+    /**
+     * 아웃박스 지표 (보관/재전송/만료/폐기 수, 미전송 레코드 수, 디스크 사용량, 백오프 상태)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        synchronized (this) {
+            stats.put("segments", segments.size());
+            stats.put("diskBytes", segments.stream().mapToLong(segment -> segment.buffer.capacity()).sum());
+            stats.put("pendingRecords", pendingRecords());
+        }
+        stats.put("maxDiskBytes", (long) maxSegments * segmentSize);
+        stats.put("appended", appended.sum());
+        stats.put("appendedEvents", appendedEvents.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("replayed", replayed.sum());
+        stats.put("replayedEvents", replayedEvents.sum());
+        stats.put("replayRejected", replayRejected.sum());
+        stats.put("expired", expired.sum());
+        stats.put("corrupted", corrupted.sum());
+        stats.put("droppedByDiskLimit", droppedByDiskLimit.sum());
+        long next = nextAttemptMillis;
+        stats.put("retryInMs", Math.max(0, next - System.currentTimeMillis()));
+        return stats;
+    }
+
+    private synchronized long pendingRecords() {
+        long pending = 0;
+        for (Segment segment : segments) {
+            pending += segment.pending;
+        }
+        return pending;
+    }
+
+    // ========================================================================
+    // 내부 타입
+    // ========================================================================
+
+    private record Entry(Segment segment, int position, int length, long timestampMillis, byte[] payload) {
+    }
+
+    /**
+     * mmap한 세그먼트 파일 하나
+     */
+    private static final class Segment {
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int writePosition;
+        private int readPosition;
+        private int pending;
+        private boolean closed;
+
+        private Segment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        private static Segment open(Path path, int size) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            try {
+                return new Segment(path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                buffer.force();
+                channel.close();
+            } catch (IOException e) {
+                log.warn("[GA4] Failed to close outbox segment {}", path.getFileName(), e);
+            }
+        }
+
+        private void delete() {
+            close();
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("[GA4] Failed to delete outbox segment {}", path.getFileName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.bootstrap;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.repository.HealthReportRepository;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * health_reports 중복 정리 및 리포트 식별 유니크 키 보장 (기동 시 1회)
+ *
+ * 리포트 식별 키 (user_id, period_type, start_date, end_date)에 유니크 키가 추가되기 전에는
+ * 같은 기간 리포트가 요청마다 새로 저장되었으므로, 기존 DB에는 중복 행이 남아 있을 수 있습니다.
+ * 중복이 있으면 스키마 업데이트(ddl-auto: update)의 유니크 키 생성이 조용히 실패하므로,
+ * - 키마다 가장 최근에 갱신된 리포트만 남기고 나머지를 삭제
+ * - 유니크 키가 없으면 직접 추가 (다음 기동을 기다리지 않음)
+ * 이미 유니크 키가 있는 DB에서는 중복 조회 한 번만 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HealthReportDuplicateCleaner implements ApplicationRunner {
+
+    static final String TABLE = "health_reports";
+    static final String CONSTRAINT = "uk_health_reports_user_period";
+    static final Set<String> KEY_COLUMNS = Set.of("user_id", "period_type", "start_date", "end_date");
+
+    private static final int DELETE_CHUNK_SIZE = 500;
+
+    private final HealthReportRepository healthReportRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            int removed = removeDuplicates();
+            if (removed > 0) {
+                log.warn("중복 리포트 정리: {}건 삭제 (기간별 최신 리포트만 유지)", removed);
+            }
+            ensureUniqueConstraint();
+        } catch (Exception e) {
+            // 정리 실패로 기동을 막지 않음 (동시 생성은 서비스에서 기존 리포트 재조회로 처리)
+            log.error("중복 리포트 정리/유니크 키 적용 실패", e);
+        }
+    }
+
+    /**
+     * 키마다 최신 리포트만 남기고 삭제
+     *
+     * @return 삭제한 리포트 수
+     */
+    int removeDuplicates() {
+        List<UUID> ids = healthReportRepository.findSupersededDuplicateIds();
+        for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+            healthReportRepository.deleteAllByIdInBatch(
+                    ids.subList(from, Math.min(from + DELETE_CHUNK_SIZE, ids.size())));
+        }
+        return ids.size();
+    }
+
+    /**
+     * 리포트 식별 키 컬럼 전체로 구성된 유니크 인덱스가 없으면 유니크 키 추가
+     */
+    void ensureUniqueConstraint() throws SQLException {
+        if (hasUniqueKey()) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD CONSTRAINT " + CONSTRAINT
+                + " UNIQUE (user_id, period_type, start_date, end_date)");
+        log.info("리포트 식별 유니크 키 추가: {}", CONSTRAINT);
+    }
+
+    private boolean hasUniqueKey() throws SQLException {
+        try (Connection connection = jdbcTemplate.getDataSource().getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            // 식별자 대소문자 저장 방식이 DB마다 달라 두 형태 모두 조회
+            for (String table : List.of(TABLE, TABLE.toUpperCase(Locale.ROOT))) {
+                if (hasUniqueKey(metaData, connection.getCatalog(), table)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean hasUniqueKey(DatabaseMetaData metaData, String catalog, String table) throws SQLException {
+        Map<String, Set<String>> columnsByIndex = new HashMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(catalog, null, table, true, true)) {
+            while (rs.next()) {
+                String index = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (index != null && column != null) {
+                    columnsByIndex.computeIfAbsent(index, k -> new TreeSet<>())
+                            .add(column.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return columnsByIndex.values().stream().anyMatch(KEY_COLUMNS::equals);
+    }
+}
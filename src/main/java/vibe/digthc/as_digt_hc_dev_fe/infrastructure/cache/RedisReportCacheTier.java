@@ -0,0 +1,145 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import vibe.digthc.as_digt_hc_dev_fe.domain.common.RawJson;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthReportResponse;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.service.ReportCacheTier;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis 리포트 캐시 공유 계층 (다중 노드 배포 시 app.reports.cache.redis.enabled=true)
+ *
+ * - 버전 키 {prefix}v:{userId}: 처음 조회 시 현재 시각(ms)으로 시작, 무효화마다 INCR
+ *   (키가 만료/삭제되어도 새 시작 값이 과거 버전과 겹치지 않음)
+ * - 항목 키 {prefix}{userId}:{period}:{version}: 응답 목록 JSON, ttl-seconds 후 만료 (metrics/context는 원문 그대로 포함)
+ * - 항목 조회/저장 실패는 미적중으로 처리 (로컬 개발 환경처럼 Redis가 없어도 동작)
+ */
+@Slf4j
+@Component
+public class RedisReportCacheTier implements ReportCacheTier {
+
+    private static final TypeReference<List<CachedReport>> REPORT_LIST = new TypeReference<>() {
+    };
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final String keyPrefix;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    public RedisReportCacheTier(StringRedisTemplate redisTemplate,
+                                @Value("${app.reports.cache.redis.enabled:false}") boolean enabled,
+                                @Value("${app.reports.cache.redis.ttl-seconds:600}") long ttlSeconds,
+                                @Value("${app.reports.cache.redis.key-prefix:RC:}") String keyPrefix) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.ttl = Duration.ofSeconds(Math.max(1, ttlSeconds));
+        this.keyPrefix = keyPrefix;
+    }
+
+    @Override
+    public String name() {
+        return "redis";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public long currentVersion(UUID userId) {
+        String key = versionKey(userId);
+        String value = redisTemplate.opsForValue().get(key);
+        if (value != null) {
+            return Long.parseLong(value);
+        }
+        String seed = String.valueOf(System.currentTimeMillis());
+        if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, seed, VERSION_TTL))) {
+            return Long.parseLong(seed);
+        }
+        return Long.parseLong(redisTemplate.opsForValue().get(key));
+    }
+
+    @Override
+    public void bumpVersion(UUID userId) {
+        String key = versionKey(userId);
+        redisTemplate.opsForValue().increment(key);
+        redisTemplate.expire(key, VERSION_TTL);
+    }
+
+    @Override
+    public List<HealthReportResponse> get(UUID userId, String period, long version) {
+        try {
+            String json = redisTemplate.opsForValue().get(entryKey(userId, period, version));
+            if (json == null) {
+                return null;
+            }
+            List<CachedReport> cached = objectMapper.readValue(json, REPORT_LIST);
+            return cached.stream().map(CachedReport::toResponse).toList();
+        } catch (Exception e) {
+            log.debug("Redis 리포트 캐시 조회 실패: userId={}", userId, e);
+            return null;
+        }
+    }
+
+    @Override
+    public void put(UUID userId, String period, long version, List<HealthReportResponse> reports) {
+        try {
+            redisTemplate.opsForValue().set(entryKey(userId, period, version),
+                    objectMapper.writeValueAsString(reports), ttl);
+        } catch (Exception e) {
+            log.debug("Redis 리포트 캐시 저장 실패: userId={}", userId, e);
+        }
+    }
+
+    private String versionKey(UUID userId) {
+        return keyPrefix + "v:" + userId;
+    }
+
+    private String entryKey(UUID userId, String period, long version) {
+        return keyPrefix + userId + ":" + period + ":" + version;
+    }
+
+    /**
+     * 캐시 항목 역직렬화용 (metrics/context는 JSON 트리로 읽어 원문 텍스트로 되돌림)
+     */
+    private record CachedReport(
+            UUID reportId,
+            UUID userId,
+            LocalDate startDate,
+            LocalDate endDate,
+            String periodType,
+            JsonNode metrics,
+            JsonNode context,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+        HealthReportResponse toResponse() {
+            return new HealthReportResponse(reportId, userId, startDate, endDate, periodType,
+                    raw(metrics), raw(context), createdAt, updatedAt);
+        }
+
+        private static RawJson raw(JsonNode node) {
+            return node == null || node.isNull() ? null : RawJson.of(node.toString());
+        }
+    }
+}
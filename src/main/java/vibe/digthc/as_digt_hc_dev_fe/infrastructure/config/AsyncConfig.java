@@ -0,0 +1,33 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.analytics.AnalyticsExecutor;
+
+/**
+ * 비동기 실행기 설정 클래스
+ *
+ * 용도별로 분리된 @Async 실행기를 정의합니다.
+ * - analyticsExecutor: GA4 전송 전용 (다른 비동기 작업과 풀을 공유하지 않음)
+ *
+ * 설정 속성:
+ * - app.analytics.executor.threads: 전송 스레드 수
+ * - app.analytics.executor.queue-capacity: 대기 큐 크기 (초과 시 가장 오래된 작업 버림)
+ */
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * Analytics 전용 실행기
+     * 컨텍스트 종료 시 close()로 대기 중인 전송을 제한 시간 안에서 마저 처리
+     *
+     * @return AnalyticsExecutor 인스턴스
+     */
+    @Bean(name = "analyticsExecutor", destroyMethod = "close")
+    public AnalyticsExecutor analyticsExecutor(
+            @Value("${app.analytics.executor.threads:2}") int threads,
+            @Value("${app.analytics.executor.queue-capacity:1000}") int queueCapacity) {
+        return new AnalyticsExecutor(Math.max(1, threads), queueCapacity);
+    }
+}
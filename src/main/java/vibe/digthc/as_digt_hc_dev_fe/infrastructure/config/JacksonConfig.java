@@ -0,0 +1,25 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson 2 ObjectMapper 설정
+ *
+ * MVC 메시지 변환은 Spring Boot의 Jackson 3(JsonMapper)를 사용하며, 이 빈은 Jackson 2를 주입받는
+ * 인프라 컴포넌트(Ga4Client 등) 전용입니다.
+ * - java.time 타입 지원 (ISO-8601 문자열, 타임스탬프 숫자 미사용)
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public ObjectMapper objectMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
@@ -1,48 +1,113 @@
 package vibe.digthc.as_digt_hc_dev_fe.infrastructure.config;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.http.OutboundHostLimiter;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
 
 /**
  * REST 클라이언트 설정 클래스
  *
  * 외부 서비스 호출을 위한 RestTemplate 빈을 정의합니다.
  * - GA4 Measurement Protocol API 호출
- * - 기타 외부 API 연동
+ * - 기타 외부 API 연동 (실제 DeviceDataProvider/PortalDataProvider 구현체 포함)
+ *
+ * 모든 RestTemplate은 JDK HttpClient 두 개를 공유하고, 요청 URI의 scheme으로 골라 사용합니다.
+ * - 대상별 keep-alive 연결 풀을 재사용하므로 요청마다 TCP/TLS 핸드셰이크가 발생하지 않음
+ * - https 대상(outboundHttpClient)은 ALPN으로 HTTP/2를 협상해 한 연결에서 여러 요청을 다중화 (미지원 시 HTTP/1.1)
+ * - http 대상(plainHttpClient)은 HTTP/1.1 고정
+ *   (HTTP/2 클라이언트는 평문 요청마다 h2c Upgrade 헤더를 붙여 보내므로, 로컬 GA4 대역 등 평문 대상에는 쓰지 않음)
+ * - 대상별 동시 요청 수 제한과 풀 지표는 OutboundHostLimiter 인터셉터가 담당
+ *
+ * 설정 속성:
+ * - app.http.client.connect-timeout-ms: 연결 타임아웃 (공유 클라이언트 단위)
  */
 @Configuration
 public class RestClientConfig {
 
+    /**
+     * 공유 외부 호출 클라이언트 (https 대상)
+     * - HTTP/2 우선
+     * - 리다이렉트는 따르지 않음 (기존 HttpURLConnection 기반 동작과 동일하게 호출 측에서 처리)
+     *
+     * @return HttpClient 인스턴스 (컨텍스트 종료 시 close)
+     */
+    @Bean
+    public HttpClient outboundHttpClient(
+            @Value("${app.http.client.connect-timeout-ms:3000}") long connectTimeoutMillis) {
+        return createHttpClient(HttpClient.Version.HTTP_2, connectTimeoutMillis);
+    }
+
+    /**
+     * 공유 외부 호출 클라이언트 (평문 http 대상)
+     * - HTTP/1.1 고정 (h2c Upgrade 시도 없음)
+     *
+     * @return HttpClient 인스턴스 (컨텍스트 종료 시 close)
+     */
+    @Bean
+    public HttpClient plainHttpClient(
+            @Value("${app.http.client.connect-timeout-ms:3000}") long connectTimeoutMillis) {
+        return createHttpClient(HttpClient.Version.HTTP_1_1, connectTimeoutMillis);
+    }
+
     /**
      * 기본 RestTemplate 빈
-     * - Connection Timeout: 5초
      * - Read Timeout: 10초
      *
      * @return RestTemplate 인스턴스
      */
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(5000); // 5초
-        factory.setReadTimeout(10000); // 10초
-        return new RestTemplate(factory);
+    public RestTemplate restTemplate(
+            @Qualifier("outboundHttpClient") HttpClient httpClient,
+            @Qualifier("plainHttpClient") HttpClient plainHttpClient,
+            OutboundHostLimiter hostLimiter) {
+        return createRestTemplate(httpClient, plainHttpClient, hostLimiter, Duration.ofSeconds(10));
     }
 
     /**
      * Analytics 전용 비동기 RestTemplate
      * - 짧은 타임아웃 설정 (이벤트 전송 실패가 서비스에 영향을 주지 않도록)
-     * - Connection Timeout: 2초
      * - Read Timeout: 5초
      *
      * @return RestTemplate 인스턴스
      */
     @Bean(name = "analyticsRestTemplate")
-    public RestTemplate analyticsRestTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(2000); // 2초
-        factory.setReadTimeout(5000); // 5초
-        return new RestTemplate(factory);
+    public RestTemplate analyticsRestTemplate(
+            @Qualifier("outboundHttpClient") HttpClient httpClient,
+            @Qualifier("plainHttpClient") HttpClient plainHttpClient,
+            OutboundHostLimiter hostLimiter) {
+        return createRestTemplate(httpClient, plainHttpClient, hostLimiter, Duration.ofSeconds(5));
+    }
+
+    static RestTemplate createRestTemplate(HttpClient httpClient, HttpClient plainHttpClient,
+                                           OutboundHostLimiter hostLimiter, Duration readTimeout) {
+        ClientHttpRequestFactory tls = createRequestFactory(httpClient, readTimeout);
+        ClientHttpRequestFactory plain = createRequestFactory(plainHttpClient, readTimeout);
+        // scheme별 클라이언트 선택 (https → HTTP/2 우선, http → HTTP/1.1)
+        RestTemplate restTemplate = new RestTemplate((uri, method) ->
+                ("https".equalsIgnoreCase(uri.getScheme()) ? tls : plain).createRequest(uri, method));
+        restTemplate.getInterceptors().add(hostLimiter);
+        return restTemplate;
+    }
+
+    private static ClientHttpRequestFactory createRequestFactory(HttpClient httpClient, Duration readTimeout) {
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(readTimeout);
+        return factory;
+    }
+
+    private static HttpClient createHttpClient(HttpClient.Version version, long connectTimeoutMillis) {
+        return HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
     }
 }
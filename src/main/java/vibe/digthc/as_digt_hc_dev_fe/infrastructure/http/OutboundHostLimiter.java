@@ -0,0 +1,187 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.http;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 외부 호출 대상(host:port)별 동시 요청 제한 + 풀 지표 인터셉터
+ *
+ * JDK HttpClient는 대상별 연결 수 상한을 제공하지 않으므로, RestTemplate 인터셉터에서
+ * 대상별 세마포어로 동시 진행 중인 요청 수를 제한합니다.
+ * (HTTP/1.1이면 연결 수 상한, HTTP/2면 단일 연결의 동시 스트림 수 상한과 같은 효과)
+ * 허가는 응답을 닫을 때(본문까지 읽은 뒤) 반납하므로, 본문 수신 중인 요청도 한도에 포함됩니다.
+ *
+ * 설정 속성:
+ * - app.http.client.max-requests-per-host: 대상별 최대 동시 요청 수
+ * - app.http.client.acquire-timeout-ms: 허가 대기 최대 시간 (초과 시 IOException)
+ */
+@Component
+public class OutboundHostLimiter implements ClientHttpRequestInterceptor {
+
+    private final int maxRequestsPerHost;
+    private final long acquireTimeoutMillis;
+    private final ConcurrentHashMap<String, HostPool> pools = new ConcurrentHashMap<>();
+
+    public OutboundHostLimiter(
+            @Value("${app.http.client.max-requests-per-host:32}") int maxRequestsPerHost,
+            @Value("${app.http.client.acquire-timeout-ms:1000}") long acquireTimeoutMillis) {
+        this.maxRequestsPerHost = Math.max(1, maxRequestsPerHost);
+        this.acquireTimeoutMillis = Math.max(0, acquireTimeoutMillis);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        HostPool pool = pools.computeIfAbsent(hostKey(request), key -> new HostPool(maxRequestsPerHost));
+        pool.acquire(acquireTimeoutMillis);
+
+        long startNanos = System.nanoTime();
+        try {
+            return new ReleasingResponse(execution.execute(request, body), pool, startNanos);
+        } catch (IOException | RuntimeException e) {
+            pool.errors.increment();
+            pool.release(startNanos);
+            throw e;
+        }
+    }
+
+    /**
+     * 대상별 풀 지표 (요청 수, 진행 중, 최대 동시 수, 대기 타임아웃, 오류, 평균 소요 시간)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> hosts = new TreeMap<>();
+        pools.forEach((host, pool) -> hosts.put(host, pool.snapshot()));
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("maxRequestsPerHost", maxRequestsPerHost);
+        stats.put("acquireTimeoutMs", acquireTimeoutMillis);
+        stats.put("hosts", hosts);
+        return stats;
+    }
+
+    private static String hostKey(HttpRequest request) {
+        String scheme = request.getURI().getScheme();
+        int port = request.getURI().getPort();
+        if (port < 0) {
+            port = "https".equalsIgnoreCase(scheme) ? 443 : 80;
+        }
+        return request.getURI().getHost() + ":" + port;
+    }
+
+    /**
+     * 대상 하나의 허가 세마포어와 카운터
+     */
+    private static final class HostPool {
+        private final Semaphore permits;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger peakInFlight = new AtomicInteger();
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder acquireTimeouts = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+
+        private HostPool(int maxRequests) {
+            this.permits = new Semaphore(maxRequests);
+        }
+
+        private void acquire(long timeoutMillis) throws IOException {
+            boolean acquired;
+            try {
+                acquired = permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for outbound connection permit", e);
+            }
+            if (!acquired) {
+                acquireTimeouts.increment();
+                throw new IOException("Outbound connection limit reached (waited " + timeoutMillis + "ms)");
+            }
+            requests.increment();
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        }
+
+        private void release(long startNanos) {
+            totalNanos.add(System.nanoTime() - startNanos);
+            inFlight.decrementAndGet();
+            permits.release();
+        }
+
+        private Map<String, Object> snapshot() {
+            long count = requests.sum();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("requests", count);
+            stats.put("inFlight", inFlight.get());
+            stats.put("peakInFlight", peakInFlight.get());
+            stats.put("availablePermits", permits.availablePermits());
+            stats.put("acquireTimeouts", acquireTimeouts.sum());
+            stats.put("errors", errors.sum());
+            stats.put("avgMs", count > 0 ? Math.round(totalNanos.sum() / 1_000.0 / count) / 1_000.0 : 0.0);
+            return stats;
+        }
+    }
+
+    /**
+     * 닫힐 때 허가를 반납하는 응답 래퍼 (RestTemplate은 항상 응답을 닫음)
+     */
+    private static final class ReleasingResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final HostPool pool;
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleasingResponse(ClientHttpResponse delegate, HostPool pool, long startNanos) {
+            this.delegate = delegate;
+            this.pool = pool;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    pool.release(startNanos);
+                }
+            }
+        }
+    }
+}
@@ -1,27 +1,34 @@
 package vibe.digthc.as_digt_hc_dev_fe.infrastructure.integration;
 
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.resilience.Resilient;
+
 import java.time.LocalDate;
 import java.util.List;
 
 /**
  * 디바이스 데이터 제공자 인터페이스
  * - 각 벤더별 구현체가 이 인터페이스를 구현
+ * - 실제 벤더 호출은 공유 HttpClient 기반 restTemplate 빈을 주입받아 사용 (RestClientConfig 참고)
+ * - @Resilient 메서드는 벤더(빈)별 서킷 브레이커/벌크헤드가 적용됨 (ResilienceRegistry 참고)
  */
 public interface DeviceDataProvider {
 
     /**
-     * OAuth 인증 코드로 토큰 교환
+     * OAuth 인증 코드로 토큰 교환 (인증 코드는 1회용이므로 재시도하지 않음)
      */
+    @Resilient("device")
     TokenResponse authorize(String authCode, String redirectUri);
 
     /**
-     * 토큰 갱신
+     * 토큰 갱신 (리프레시 토큰이 회전될 수 있으므로 재시도하지 않음)
      */
+    @Resilient("device")
     TokenResponse refreshToken(String refreshToken);
 
     /**
      * 건강 데이터 조회
      */
+    @Resilient(value = "device", retry = true)
     List<HealthDataDto> getHealthData(String accessToken, LocalDate startDate, LocalDate endDate);
 
     /**
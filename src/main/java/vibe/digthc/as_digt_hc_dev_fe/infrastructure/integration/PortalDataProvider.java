@@ -1,27 +1,34 @@
 package vibe.digthc.as_digt_hc_dev_fe.infrastructure.integration;
 
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.resilience.Resilient;
+
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
 /**
  * 포털 데이터 제공자 인터페이스
+ * - 실제 포털 호출은 공유 HttpClient 기반 restTemplate 빈을 주입받아 사용 (RestClientConfig 참고)
+ * - @Resilient 메서드는 포털(빈)별 서킷 브레이커/벌크헤드가 적용됨 (ResilienceRegistry 참고)
  */
 public interface PortalDataProvider {
 
     /**
      * 포털 인증
      */
+    @Resilient("portal")
     AuthResult authenticate(Map<String, String> credentials);
 
     /**
      * 검진 결과 조회
      */
+    @Resilient(value = "portal", retry = true)
     List<CheckupRecordDto> getCheckupRecords(String token, LocalDate startDate, LocalDate endDate);
 
     /**
      * 진료 기록 조회
      */
+    @Resilient(value = "portal", retry = true)
     List<MedicalRecordDto> getMedicalRecords(String token, LocalDate startDate, LocalDate endDate);
 
     /**
@@ -0,0 +1,69 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging;
+
+import java.util.Map;
+
+/**
+ * 요청 스레드에서 캡처한 API 로그 원본 데이터
+ *
+ * 마스킹/포맷팅은 수행하지 않은 상태로 원시 바이트, 헤더, 타이밍만 보관합니다.
+ * 실제 가공과 기록은 AsyncApiLogDispatcher의 소비자 스레드에서 ApiLogger.write()로 처리됩니다.
+ *
+ * @param type            요청/응답/캡처 구분
+ * @param requestId       MDC requestId (없으면 null)
+ * @param timestampMillis 캡처 시각 (epoch millis)
+ * @param method          HTTP 메서드
+ * @param url             전체 URL (쿼리 파라미터 포함)
+ * @param route           핸들러 매칭 패턴 (캡처 이벤트에서만 사용, 없으면 null)
+ * @param remoteAddr      클라이언트 주소 (요청 이벤트에서만 사용)
+ * @param status          HTTP 상태 코드 (응답 이벤트에서만 사용)
+ * @param durationMillis  처리 시간 (응답 이벤트에서만 사용)
+ * @param headers         원본 헤더 (헤더 로깅 비활성화 시 null)
+ * @param body            원본 본문 바이트 (본문 로깅 비활성화 또는 본문 없음 시 null, 앞부분만 보관될 수 있음)
+ * @param bodyLength      원본 본문 전체 바이트 수 (body가 앞부분만 보관된 경우 잘림 표시에 사용)
+ */
+public record ApiLogEvent(
+        Type type,
+        String requestId,
+        long timestampMillis,
+        String method,
+        String url,
+        String route,
+        String remoteAddr,
+        int status,
+        long durationMillis,
+        Map<String, String> headers,
+        byte[] body,
+        long bodyLength
+) {
+
+    public enum Type {
+        REQUEST,
+        RESPONSE,
+        /** 트래픽 재현용 캡처 (요청 헤더/본문 + 원 응답 상태/처리 시간) */
+        CAPTURE
+    }
+
+    public static ApiLogEvent request(String requestId, String method, String url, String remoteAddr,
+                                      Map<String, String> headers, byte[] body, long bodyLength) {
+        return new ApiLogEvent(Type.REQUEST, requestId, System.currentTimeMillis(),
+                method, url, null, remoteAddr, 0, 0L, headers, body, bodyLength);
+    }
+
+    public static ApiLogEvent response(String requestId, String method, String url, int status,
+                                       long durationMillis, Map<String, String> headers, byte[] body,
+                                       long bodyLength) {
+        return new ApiLogEvent(Type.RESPONSE, requestId, System.currentTimeMillis(),
+                method, url, null, null, status, durationMillis, headers, body, bodyLength);
+    }
+
+    public static ApiLogEvent capture(String requestId, String method, String url, String route, int status,
+                                      long durationMillis, Map<String, String> headers, byte[] body,
+                                      long bodyLength) {
+        return new ApiLogEvent(Type.CAPTURE, requestId, System.currentTimeMillis(),
+                method, url, route, null, status, durationMillis, headers, body, bodyLength);
+    }
+
+    public boolean hasBody() {
+        return body != null && body.length > 0;
+    }
+}
@@ -0,0 +1,44 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging;
+
+import java.util.Locale;
+
+/**
+ * 라우트별 API 로그 수준
+ *
+ * 전역 설정(include-headers, include-body)은 상한으로 동작하며,
+ * 라우트 수준이 더 낮으면 라우트 수준을 따릅니다.
+ */
+public enum ApiLogLevel {
+    /** 로깅하지 않음 */
+    OFF(false, false),
+    /** 메서드/URL/상태/처리 시간만 기록 */
+    BASIC(false, false),
+    /** 헤더까지 기록 (본문 제외) */
+    HEADERS(true, false),
+    /** 헤더와 본문 모두 기록 */
+    FULL(true, true);
+
+    private final boolean includeHeaders;
+    private final boolean includeBody;
+
+    ApiLogLevel(boolean includeHeaders, boolean includeBody) {
+        this.includeHeaders = includeHeaders;
+        this.includeBody = includeBody;
+    }
+
+    public boolean isEnabled() {
+        return this != OFF;
+    }
+
+    public boolean includesHeaders() {
+        return includeHeaders;
+    }
+
+    public boolean includesBody() {
+        return includeBody;
+    }
+
+    public static ApiLogLevel from(String value) {
+        return ApiLogLevel.valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,155 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * NDJSON 포맷 API 로그 기록기 (app.logging.api.format=ndjson)
+ *
+ * 이벤트 하나를 한 줄짜리 compact JSON 객체로 직렬화해 전용 로거(apiNdjsonLogger)에 기록합니다.
+ * 중간 Map/pretty printer/이모지 메시지 없이 필드를 고정 순서로 바로 씁니다.
+ *
+ * 필드 순서: ts(epoch millis), type, requestId, method, url, remoteAddr, status, durationMs, headers, body, bodyBytes
+ * - 요청/응답에 해당하지 않는 필드와 null 값은 생략합니다.
+ * - body는 마스킹된 완결 JSON이면 그대로(raw), 아니면 문자열로 기록합니다.
+ *
+ * 스레드별로 ByteArrayBuilder와 JsonGenerator를 재사용하므로 이벤트마다 버퍼를 새로 할당하지 않습니다.
+ */
+final class ApiLogNdjsonWriter {
+
+    private static final int INITIAL_BUFFER_SIZE = 2048;
+    /** 이보다 커진 스레드 버퍼는 재사용하지 않음 (큰 본문 한 번으로 메모리가 계속 잡혀 있지 않도록) */
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private final Logger ndjsonLogger;
+    private final JsonFactory jsonFactory;
+    private final SensitiveKeyMatcher sensitiveHeaderMatcher;
+    private final JsonBodyMasker bodyMasker;
+    private final int maxBodyLength;
+
+    private final ThreadLocal<Buffer> buffers = new ThreadLocal<>();
+
+    ApiLogNdjsonWriter(Logger ndjsonLogger, JsonFactory jsonFactory, SensitiveKeyMatcher sensitiveHeaderMatcher,
+                       JsonBodyMasker bodyMasker, int maxBodyLength) {
+        this.ndjsonLogger = ndjsonLogger;
+        this.jsonFactory = jsonFactory;
+        this.sensitiveHeaderMatcher = sensitiveHeaderMatcher;
+        this.bodyMasker = bodyMasker;
+        this.maxBodyLength = maxBodyLength;
+    }
+
+    void write(ApiLogEvent event) throws IOException {
+        Buffer buffer = acquire();
+        try {
+            serialize(buffer.generator, event);
+            buffer.generator.flush();
+            ndjsonLogger.info(buffer.toLine());
+        } catch (IOException | RuntimeException e) {
+            // 직렬화 도중 실패한 생성기는 상태를 알 수 없으므로 폐기
+            buffers.remove();
+            throw e;
+        } finally {
+            buffer.bytes.reset();
+        }
+    }
+
+    /**
+     * 이벤트 한 건을 UTF-8 JSON 바이트로 인코딩 (세그먼트 저장소용)
+     */
+    byte[] encode(ApiLogEvent event) throws IOException {
+        Buffer buffer = acquire();
+        try {
+            serialize(buffer.generator, event);
+            buffer.generator.flush();
+            return buffer.bytes.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            buffers.remove();
+            throw e;
+        } finally {
+            buffer.bytes.reset();
+        }
+    }
+
+    /**
+     * 이벤트 한 건을 JSON 객체 하나로 직렬화
+     */
+    void serialize(JsonGenerator generator, ApiLogEvent event) throws IOException {
+        boolean request = event.type() == ApiLogEvent.Type.REQUEST;
+
+        generator.writeStartObject();
+        generator.writeNumberField("ts", event.timestampMillis());
+        generator.writeStringField("type", request ? "request" : "response");
+        if (event.requestId() != null) {
+            generator.writeStringField("requestId", event.requestId());
+        }
+        generator.writeStringField("method", event.method());
+        generator.writeStringField("url", event.url());
+        if (request) {
+            if (event.remoteAddr() != null) {
+                generator.writeStringField("remoteAddr", event.remoteAddr());
+            }
+        } else {
+            generator.writeNumberField("status", event.status());
+            generator.writeNumberField("durationMs", event.durationMillis());
+        }
+
+        if (event.headers() != null) {
+            generator.writeObjectFieldStart("headers");
+            for (Map.Entry<String, String> header : event.headers().entrySet()) {
+                generator.writeStringField(header.getKey(),
+                        sensitiveHeaderMatcher.matchesExactly(header.getKey()) ? JsonBodyMasker.MASK : header.getValue());
+            }
+            generator.writeEndObject();
+        }
+
+        if (event.hasBody()) {
+            JsonBodyMasker.Result body = bodyMasker.mask(event.body(), event.bodyLength(), maxBodyLength);
+            generator.writeFieldName("body");
+            if (body.json()) {
+                generator.writeRawValue(body.text());
+            } else {
+                generator.writeString(body.text());
+            }
+            generator.writeNumberField("bodyBytes", event.bodyLength());
+        }
+        generator.writeEndObject();
+    }
+
+    private Buffer acquire() throws IOException {
+        Buffer buffer = buffers.get();
+        if (buffer == null || buffer.bytes.getCurrentSegment().length > MAX_RETAINED_BUFFER_SIZE) {
+            buffer = new Buffer(jsonFactory);
+            buffers.set(buffer);
+        }
+        return buffer;
+    }
+
+    /**
+     * 스레드별 재사용 버퍼 (ByteArrayBuilder 위에 고정된 JsonGenerator)
+     */
+    private static final class Buffer {
+        private final ByteArrayBuilder bytes;
+        private final JsonGenerator generator;
+
+        private Buffer(JsonFactory jsonFactory) throws IOException {
+            this.bytes = new ByteArrayBuilder(INITIAL_BUFFER_SIZE);
+            this.generator = jsonFactory.createGenerator(bytes);
+            // 루트 값 사이 구분자(기본 공백) 없이 한 줄에 객체 하나
+            this.generator.setRootValueSeparator(null);
+        }
+
+        private String toLine() {
+            // 대부분 한 세그먼트에 들어가므로 중간 배열 복사 없이 바로 디코딩
+            if (bytes.size() == bytes.getCurrentSegmentLength()) {
+                return new String(bytes.getCurrentSegment(), 0, bytes.getCurrentSegmentLength(), StandardCharsets.UTF_8);
+            }
+            return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 라우트 패턴 기반 API 로그 정책 엔진
+ *
+ * Spring 라우트 패턴(예: /v1/metrics/**, /v1/reports/{id})별 로그 수준을 경로 세그먼트 트라이로 미리 컴파일합니다.
+ * 요청마다 URI를 세그먼트 단위로 한 번 훑으며 트라이를 따라가므로 O(경로 깊이)로 결정되고,
+ * 부분 문자열/리스트 생성 없이 미리 만들어진 ApiLogLevel을 그대로 반환합니다.
+ *
+ * 매칭 우선순위: 정확한 세그먼트 > 단일 와일드카드(*, {var}) > 다중 와일드카드(**)
+ *
+ * 규칙은 replaceRules()로 런타임에 교체할 수 있으며(새 트라이를 만든 뒤 참조만 교체),
+ * 요청 처리 중인 스레드는 교체 전/후 트라이 중 하나를 일관되게 사용합니다.
+ *
+ * 설정 속성:
+ * - app.logging.api.routes: 라우트별 수준 (예: /v1/metrics/**=headers,/v1/auth/**=basic)
+ */
+@Component
+public class ApiLogPolicyEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiLogPolicyEngine.class);
+
+    /**
+     * 기본 규칙 (기존 제외 경로 목록)
+     * 기존 목록은 접두어 비교라 /healthz 같은 헬스체크 경로도 제외했으므로 /healthz/**를 따로 둠
+     */
+    static final String DEFAULT_RULES =
+            "/actuator/**=off,/health/**=off,/healthz/**=off,/favicon.ico=off,/static/**=off,/assets/**=off";
+
+    private static final String SINGLE_WILDCARD = "*";
+    private static final String MULTI_WILDCARD = "**";
+
+    private final ApiLogLevel defaultLevel;
+    private volatile CompiledRules compiled;
+
+    public ApiLogPolicyEngine(
+            @Value("${app.logging.api.default-level:full}") String defaultLevel,
+            @Value("${app.logging.api.routes:" + DEFAULT_RULES + "}") String rules) {
+        this.defaultLevel = ApiLogLevel.from(defaultLevel);
+        this.compiled = compile(parseRules(rules));
+        log.info("API 로그 라우트 정책 로드: defaultLevel={}, rules={}", this.defaultLevel, compiled.rules());
+    }
+
+    /**
+     * 요청 경로의 로그 수준 결정
+     *
+     * @param uri    요청 URI (컨텍스트 패스 포함 가능)
+     * @param offset 라우트 패턴 비교를 시작할 위치 (컨텍스트 패스 길이)
+     * @return 로그 수준
+     */
+    public ApiLogLevel resolve(String uri, int offset) {
+        ApiLogLevel level = match(compiled.root(), uri, offset);
+        return level != null ? level : defaultLevel;
+    }
+
+    /**
+     * 규칙 전체 교체 (핫 리로드)
+     *
+     * @param rules 라우트 패턴 → 로그 수준 (선언 순서 유지, 동일 패턴은 뒤의 값이 우선)
+     */
+    public void replaceRules(Map<String, ApiLogLevel> rules) {
+        CompiledRules next = compile(new LinkedHashMap<>(rules));
+        this.compiled = next;
+        log.info("API 로그 라우트 정책 교체: {}", next.rules());
+    }
+
+    /**
+     * 현재 규칙 조회
+     */
+    public Map<String, ApiLogLevel> getRules() {
+        return compiled.rules();
+    }
+
+    public ApiLogLevel getDefaultLevel() {
+        return defaultLevel;
+    }
+
+    // ========================================================================
+    // 트라이 매칭
+    // ========================================================================
+
+    /**
+     * 세그먼트 단위 트라이 탐색 (정확 > * > ** 순서로 백트래킹)
+     */
+    private ApiLogLevel match(Node node, String path, int position) {
+        // 선행 '/' 건너뛰기
+        while (position < path.length() && path.charAt(position) == '/') {
+            position++;
+        }
+        if (position >= path.length()) {
+            if (node.level != null) {
+                return node.level;
+            }
+            // "/a/**"는 "/a"에도 매칭
+            return node.multiWildcard;
+        }
+
+        int end = path.indexOf('/', position);
+        if (end < 0) {
+            end = path.length();
+        }
+        int length = end - position;
+
+        for (Node child : node.children) {
+            if (child.segment.length() == length && path.regionMatches(position, child.segment, 0, length)) {
+                ApiLogLevel level = match(child, path, end);
+                if (level != null) {
+                    return level;
+                }
+                break;
+            }
+        }
+        if (node.singleWildcard != null) {
+            ApiLogLevel level = match(node.singleWildcard, path, end);
+            if (level != null) {
+                return level;
+            }
+        }
+        return node.multiWildcard;
+    }
+
+    // ========================================================================
+    // 컴파일
+    // ========================================================================
+
+    private static CompiledRules compile(Map<String, ApiLogLevel> rules) {
+        Node root = new Node("");
+        for (Map.Entry<String, ApiLogLevel> rule : rules.entrySet()) {
+            insert(root, rule.getKey(), rule.getValue());
+        }
+        return new CompiledRules(root, Collections.unmodifiableMap(new LinkedHashMap<>(rules)));
+    }
+
+    private static void insert(Node root, String pattern, ApiLogLevel level) {
+        if (pattern == null || !pattern.startsWith("/")) {
+            throw new IllegalArgumentException("Route pattern must start with '/': " + pattern);
+        }
+        Node node = root;
+        String[] segments = pattern.split("/");
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (MULTI_WILDCARD.equals(segment)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**' is only supported at the end of a pattern: " + pattern);
+                }
+                node.multiWildcard = level;
+                return;
+            }
+            node = SINGLE_WILDCARD.equals(segment) || (segment.startsWith("{") && segment.endsWith("}"))
+                    ? node.singleWildcardChild()
+                    : node.child(segment);
+        }
+        node.level = level;
+    }
+
+    static Map<String, ApiLogLevel> parseRules(String value) {
+        Map<String, ApiLogLevel> rules = new LinkedHashMap<>();
+        if (value == null || value.isBlank()) {
+            return rules;
+        }
+        for (String entry : value.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.lastIndexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid logging route rule: " + entry);
+            }
+            rules.put(entry.substring(0, separator).trim(), ApiLogLevel.from(entry.substring(separator + 1)));
+        }
+        return rules;
+    }
+
+    private record CompiledRules(Node root, Map<String, ApiLogLevel> rules) {
+    }
+
+    /**
+     * 트라이 노드 (컴파일 후 변경되지 않음)
+     */
+    private static final class Node {
+        private final String segment;
+        private final List<Node> children = new ArrayList<>();
+        private Node singleWildcard;
+        private ApiLogLevel level;
+        private ApiLogLevel multiWildcard;
+
+        private Node(String segment) {
+            this.segment = segment;
+        }
+
+        private Node child(String name) {
+            for (Node child : children) {
+                if (child.segment.equals(name)) {
+                    return child;
+                }
+            }
+            Node child = new Node(name);
+            children.add(child);
+            return child;
+        }
+
+        private Node singleWildcardChild() {
+            if (singleWildcard == null) {
+                singleWildcard = new Node(SINGLE_WILDCARD);
+            }
+            return singleWildcard;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * API 로그 이벤트용 고정 크기 lock-free 링 버퍼 (다중 생산자 / 단일 소비자)
+ *
+ * - 생산자(요청 스레드)는 CAS로 슬롯 하나를 선점하고, 선점한 슬롯에는 해당 스레드만 기록합니다.
+ * - 슬롯마다 시퀀스 번호를 두어 "기록 완료" 여부를 소비자에게 전달합니다. (락/대기 없음)
+ * - 버퍼가 가득 차면 offer()는 즉시 false를 반환하며, 처리 정책은 호출자가 결정합니다.
+ * - 소비자는 drainTo()로 여러 건을 한 번에 꺼내 배치 처리합니다.
+ */
+final class ApiLogRingBuffer {
+
+    private final ApiLogEvent[] entries;
+    private final AtomicLongArray sequences;
+    private final int capacity;
+    private final int mask;
+
+    /** 다음에 선점할 생산자 위치 */
+    private final AtomicLong tail = new AtomicLong();
+
+    /** 다음에 읽을 소비자 위치 (소비자 스레드만 기록) */
+    private volatile long head;
+
+    ApiLogRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("capacity must be >= 2");
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.entries = new ApiLogEvent[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 이벤트 추가 (논블로킹)
+     *
+     * @return 버퍼가 가득 찬 경우 false
+     */
+    boolean offer(ApiLogEvent event) {
+        long pos = tail.get();
+        while (true) {
+            int index = (int) (pos & mask);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    entries[index] = event;
+                    // 시퀀스 갱신(volatile write)으로 위 entries 기록이 소비자에게 공개됨
+                    sequences.set(index, pos + 1);
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 최대 maxBatch 건을 꺼내 sink에 전달 (소비자 스레드 전용)
+     *
+     * @return 꺼낸 이벤트 수
+     */
+    int drainTo(Consumer<ApiLogEvent> sink, int maxBatch) {
+        long current = head;
+        int drained = 0;
+        while (drained < maxBatch) {
+            int index = (int) (current & mask);
+            if (sequences.get(index) != current + 1) {
+                break;
+            }
+            ApiLogEvent event = entries[index];
+            entries[index] = null;
+            sequences.set(index, current + capacity);
+            current++;
+            head = current;
+            drained++;
+            sink.accept(event);
+        }
+        return drained;
+    }
+
+    /**
+     * 현재 대기 중인 이벤트 수 (근사값)
+     */
+    int size() {
+        long size = tail.get() - head;
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
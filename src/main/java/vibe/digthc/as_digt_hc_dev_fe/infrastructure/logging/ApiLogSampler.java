@@ -0,0 +1,320 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * API 로그 테일 기반 샘플러
+ *
+ * 요청/응답 로그를 바로 남기지 않고, 응답이 끝난 시점(상태 코드와 처리 시간을 알 때)에 보존 여부를 결정합니다.
+ * - 4xx/5xx 응답: 항상 보존
+ * - 처리 시간이 임계값 이상인 요청: 항상 보존
+ * - 나머지 정상 요청: 라우트(핸들러 패턴)별 윈도우 저수지 샘플링(Algorithm R)으로 보존
+ *
+ * 저수지 샘플링:
+ * - 라우트마다 window-ms 구간 동안 최대 k건을 균등 확률로 보관하고, 구간이 끝나면 보관분만 디스패처로 발행
+ * - k는 직전 구간 요청 수 × 라우트 비율 (소수점 이하는 다음 구간으로 이월, max-reservoir-size로 상한)
+ * - 라우트의 첫 구간(및 요청이 없던 구간 다음 구간)은 직전 요청 수를 모르므로
+ *   k를 이번 구간 요청 수 × 비율(최소 1)로 요청마다 늘려 가며 보관
+ * - 보관 중인 로그는 최대 window-ms만큼 늦게 기록됨 (캡처 시각은 그대로 유지)
+ *
+ * 설정 속성:
+ * - app.logging.api.sampling.enabled: 샘플링 사용 여부 (false면 모두 보존)
+ * - app.logging.api.sampling.slow-threshold-ms: 느린 요청 판정 기준 (ms)
+ * - app.logging.api.sampling.default-rate: 기본 샘플링 비율 (0.0 ~ 1.0)
+ * - app.logging.api.sampling.route-rates: 라우트별 비율 (예: /v1/metrics/daily=0.01,/v1/reports=0.5)
+ * - app.logging.api.sampling.window-ms: 저수지 구간 길이 (ms)
+ * - app.logging.api.sampling.max-reservoir-size: 라우트별 구간당 최대 보관 건수
+ */
+@Component
+public class ApiLogSampler {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiLogSampler.class);
+
+    /**
+     * 샘플링 판정 결과
+     */
+    public enum Decision {
+        KEEP_ERROR,
+        KEEP_SLOW,
+        KEEP_SAMPLED,
+        /** 저수지 후보 (offer로 넘기면 구간 종료 시 보관 여부 결정) */
+        RESERVOIR,
+        DROP;
+
+        public boolean isKeep() {
+            return this != DROP;
+        }
+    }
+
+    private final boolean enabled;
+    private final long slowThresholdMillis;
+    private final double defaultRate;
+    private final Map<String, Double> routeRates;
+    private final long windowMillis;
+    private final int maxReservoirSize;
+    private final AsyncApiLogDispatcher logDispatcher;
+    private final LongSupplier clock;
+
+    private final ConcurrentHashMap<String, Reservoir> reservoirs = new ConcurrentHashMap<>();
+
+    private final LongAdder keptError = new LongAdder();
+    private final LongAdder keptSlow = new LongAdder();
+    private final LongAdder keptSampled = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    @Autowired
+    public ApiLogSampler(
+            AsyncApiLogDispatcher logDispatcher,
+            @Value("${app.logging.api.sampling.enabled:false}") boolean enabled,
+            @Value("${app.logging.api.sampling.slow-threshold-ms:1000}") long slowThresholdMillis,
+            @Value("${app.logging.api.sampling.default-rate:0.1}") double defaultRate,
+            @Value("${app.logging.api.sampling.route-rates:}") String routeRates,
+            @Value("${app.logging.api.sampling.window-ms:10000}") long windowMillis,
+            @Value("${app.logging.api.sampling.max-reservoir-size:100}") int maxReservoirSize) {
+        this(logDispatcher, enabled, slowThresholdMillis, defaultRate, routeRates, windowMillis, maxReservoirSize,
+                System::currentTimeMillis);
+    }
+
+    ApiLogSampler(AsyncApiLogDispatcher logDispatcher, boolean enabled, long slowThresholdMillis,
+                  double defaultRate, String routeRates, long windowMillis, int maxReservoirSize,
+                  LongSupplier clock) {
+        this.logDispatcher = logDispatcher;
+        this.enabled = enabled;
+        this.slowThresholdMillis = slowThresholdMillis;
+        this.defaultRate = clampRate(defaultRate);
+        this.routeRates = parseRouteRates(routeRates);
+        this.windowMillis = Math.max(1, windowMillis);
+        this.maxReservoirSize = Math.max(1, maxReservoirSize);
+        this.clock = clock;
+        if (enabled) {
+            log.info("API 로그 샘플링 활성화: slowThreshold={}ms, defaultRate={}, routeRates={}, window={}ms, "
+                            + "maxReservoirSize={}",
+                    slowThresholdMillis, this.defaultRate, this.routeRates, this.windowMillis,
+                    this.maxReservoirSize);
+        }
+    }
+
+    /**
+     * 응답 완료 시점에 보존 여부 결정
+     *
+     * @param route          핸들러 매칭 패턴 (없으면 요청 URI)
+     * @param status         HTTP 상태 코드
+     * @param durationMillis 처리 시간 (ms)
+     * @return 판정 결과 (RESERVOIR면 로그 이벤트를 만들어 offer로 넘김)
+     */
+    public Decision decide(String route, int status, long durationMillis) {
+        Decision decision;
+        if (!enabled) {
+            decision = Decision.KEEP_SAMPLED;
+        } else if (status >= 400) {
+            decision = Decision.KEEP_ERROR;
+        } else if (durationMillis >= slowThresholdMillis) {
+            decision = Decision.KEEP_SLOW;
+        } else {
+            double rate = rateOf(route);
+            if (rate >= 1.0) {
+                decision = Decision.KEEP_SAMPLED;
+            } else if (rate <= 0.0) {
+                decision = Decision.DROP;
+            } else {
+                // 저수지 후보는 구간 종료 시 보관/드롭 카운트
+                return Decision.RESERVOIR;
+            }
+        }
+        count(decision);
+        return decision;
+    }
+
+    /**
+     * 저수지 후보 로그 (decide가 RESERVOIR를 반환한 요청의 요청/응답 이벤트)
+     * - 구간이 바뀌었으면 이전 구간 보관분을 먼저 발행
+     *
+     * @param route  decide에 넘긴 라우트
+     * @param events 한 요청의 로그 이벤트 (요청, 응답 순)
+     */
+    public void offer(String route, List<ApiLogEvent> events) {
+        String key = route != null ? route : "";
+        Reservoir reservoir = reservoirs.computeIfAbsent(key, k -> new Reservoir(rateOf(route)));
+        List<List<ApiLogEvent>> completed = reservoir.offer(clock.getAsLong(), events);
+        publish(completed);
+    }
+
+    /**
+     * 끝난 구간의 보관분 발행 (요청이 끊긴 라우트도 window-ms 안에 기록되도록 주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${app.logging.api.sampling.window-ms:10000}")
+    public void flushExpired() {
+        long now = clock.getAsLong();
+        for (Reservoir reservoir : reservoirs.values()) {
+            publish(reservoir.rollIfExpired(now));
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        for (Reservoir reservoir : reservoirs.values()) {
+            publish(reservoir.roll(clock.getAsLong()));
+        }
+    }
+
+    /**
+     * 보존/드롭 카운터 조회
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("slowThresholdMs", slowThresholdMillis);
+        stats.put("defaultRate", defaultRate);
+        stats.put("routeRates", routeRates);
+        stats.put("windowMs", windowMillis);
+        stats.put("maxReservoirSize", maxReservoirSize);
+        int pending = 0;
+        for (Reservoir reservoir : reservoirs.values()) {
+            pending += reservoir.size();
+        }
+        stats.put("reservoirRoutes", reservoirs.size());
+        stats.put("reservoirPending", pending);
+        stats.put("keptError", keptError.sum());
+        stats.put("keptSlow", keptSlow.sum());
+        stats.put("keptSampled", keptSampled.sum());
+        stats.put("dropped", dropped.sum());
+        return stats;
+    }
+
+    private double rateOf(String route) {
+        return route != null ? routeRates.getOrDefault(route, defaultRate) : defaultRate;
+    }
+
+    private void publish(List<List<ApiLogEvent>> kept) {
+        if (kept == null) {
+            return;
+        }
+        for (List<ApiLogEvent> events : kept) {
+            for (ApiLogEvent event : events) {
+                logDispatcher.publish(event);
+            }
+        }
+    }
+
+    private void count(Decision decision) {
+        switch (decision) {
+            case KEEP_ERROR -> keptError.increment();
+            case KEEP_SLOW -> keptSlow.increment();
+            case KEEP_SAMPLED -> keptSampled.increment();
+            case DROP -> dropped.increment();
+            case RESERVOIR -> {
+            }
+        }
+    }
+
+    /**
+     * 라우트 하나의 구간 저수지 (Algorithm R, 동기화는 인스턴스 단위)
+     */
+    private final class Reservoir {
+        private final double rate;
+        private final List<List<ApiLogEvent>> slots = new ArrayList<>();
+        private long windowStart = -1;
+        private long seen;
+        private int capacity;
+        // 직전 구간 요청 수를 모르는 구간 (k를 이번 구간 요청 수로 계산)
+        private boolean seeding = true;
+        // k 계산에서 버린 소수점 (다음 구간으로 이월해 장기 비율 유지)
+        private double carry;
+
+        private Reservoir(double rate) {
+            this.rate = rate;
+        }
+
+        private synchronized List<List<ApiLogEvent>> offer(long now, List<ApiLogEvent> events) {
+            List<List<ApiLogEvent>> completed = rollIfExpired(now);
+            if (windowStart < 0) {
+                windowStart = now;
+            }
+            seen++;
+            if (seeding) {
+                capacity = (int) Math.min(maxReservoirSize, Math.max(1, Math.floor(seen * rate)));
+            }
+            if (slots.size() < capacity) {
+                slots.add(events);
+            } else if (capacity > 0) {
+                long index = ThreadLocalRandom.current().nextLong(seen);
+                if (index < capacity) {
+                    slots.set((int) index, events);
+                }
+            }
+            return completed;
+        }
+
+        private synchronized List<List<ApiLogEvent>> rollIfExpired(long now) {
+            if (windowStart < 0 || now - windowStart < windowMillis) {
+                return null;
+            }
+            return roll(now);
+        }
+
+        /**
+         * 현재 구간을 닫고 보관분 반환, 다음 구간 k를 이번 구간 요청 수로 계산
+         * - 요청이 없던 구간이면 첫 구간처럼 초기화 (다음 요청부터 새 구간 시작, k는 그 구간 요청 수로 계산)
+         */
+        private synchronized List<List<ApiLogEvent>> roll(long now) {
+            List<List<ApiLogEvent>> kept = List.copyOf(slots);
+            keptSampled.add(kept.size());
+            dropped.add(seen - kept.size());
+
+            if (seen == 0) {
+                seeding = true;
+                carry = 0.0;
+                windowStart = -1;
+            } else {
+                seeding = false;
+                double expected = seen * rate + carry;
+                capacity = (int) Math.min(maxReservoirSize, Math.floor(expected));
+                carry = capacity < maxReservoirSize ? expected - capacity : 0.0;
+                windowStart = now;
+            }
+            slots.clear();
+            seen = 0;
+            return kept;
+        }
+
+        private synchronized int size() {
+            return slots.size();
+        }
+    }
+
+    private static Map<String, Double> parseRouteRates(String value) {
+        if (value == null || value.isBlank()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Double> rates = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            int separator = entry.lastIndexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid sampling route rate: " + entry);
+            }
+            rates.put(entry.substring(0, separator).trim(),
+                    clampRate(Double.parseDouble(entry.substring(separator + 1).trim())));
+        }
+        return Collections.unmodifiableMap(rates);
+    }
+
+    private static double clampRate(double rate) {
+        return Math.max(0.0, Math.min(1.0, rate));
+    }
+}
@@ -0,0 +1,567 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging;
+
+import com.github.f4b6a3.ulid.Ulid;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * requestId(ULID) 인덱스 기반 API 로그 세그먼트 저장소
+ *
+ * 마스킹된 요청/응답 이벤트를 일별 append-only 세그먼트 파일(api-yyyyMMdd.seg)에 기록하고,
+ * index-interval 건마다 희소 인덱스(api-yyyyMMdd.idx)에 (직전까지의 최대 ULID, 오프셋)을 남깁니다.
+ *
+ * 이벤트는 응답 완료 순서로 기록되므로 ULID(요청 시작 시각) 순서와 조금 어긋날 수 있습니다.
+ * 인덱스에는 "해당 오프셋 이전 레코드들의 최대 ULID"를 저장하므로 값이 단조 증가하고,
+ * 조회 시 mmap한 인덱스를 이진 탐색해 시작 위치를 찾은 뒤
+ * ULID 시각 + max-lateness-ms를 넘는 레코드가 나올 때까지만 순차 탐색합니다.
+ *
+ * 레코드 형식: [int 본문 길이][long ULID 상위][long ULID 하위][byte 타입][본문(compact JSON)]
+ * 인덱스 형식: [long 최대 ULID 상위][long 최대 ULID 하위][long 오프셋]
+ *
+ * requestId가 ULID가 아닌 요청(클라이언트가 임의의 X-Request-ID를 보낸 경우)은 저장하지 않습니다.
+ *
+ * 디스크 사용량은 max-bytes(세그먼트 + 인덱스 합계)로 제한합니다. 넘으면 가장 오래된 날짜의 세그먼트부터 삭제하고,
+ * 오늘 세그먼트만 남았는데도 넘으면 다음 날까지 기록을 건너뜁니다 (skippedOverCap).
+ * 재기동 시 index-interval이 바뀌었으면(마지막 두 인덱스 항목 사이 레코드 수로 판단) 오늘 인덱스를 새 간격으로 재구성합니다.
+ *
+ * 설정 속성:
+ * - app.logging.api.store.enabled: 저장소 사용 여부
+ * - app.logging.api.store.path: 세그먼트 디렉터리
+ * - app.logging.api.store.retention-days: 보관 기간 (일, 기존 로그 파일 정책과 동일하게 30일)
+ * - app.logging.api.store.max-bytes: 최대 디스크 사용량 (바이트, 0 이하면 제한 없음)
+ * - app.logging.api.store.index-interval: 인덱스 간격 (레코드 수)
+ * - app.logging.api.store.max-lateness-ms: 요청 시작 후 기록까지 허용하는 최대 지연 (탐색 종료 기준)
+ */
+@Component
+public class ApiLogSegmentStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiLogSegmentStore.class);
+
+    private static final DateTimeFormatter SEGMENT_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final String SEGMENT_PREFIX = "api-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String INDEX_SUFFIX = ".idx";
+
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + Long.BYTES * 2 + 1;
+    private static final int INDEX_ENTRY_SIZE = Long.BYTES * 3;
+    /** 손상된 레코드 길이 판정 기준 */
+    private static final int MAX_RECORD_SIZE = 16 * 1024 * 1024;
+
+    private static final byte TYPE_REQUEST = 0;
+    private static final byte TYPE_RESPONSE = 1;
+
+    private final ApiLogger apiLogger;
+    private final boolean enabled;
+    private final Path directory;
+    private final int retentionDays;
+    private final long maxBytes;
+    private final int indexInterval;
+    private final long maxLatenessMillis;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder skippedOverCap = new LongAdder();
+    private final LongAdder evictedSegments = new LongAdder();
+
+    // 아래 필드는 append() 동기화 블록 안에서만 접근
+    private LocalDate currentDate;
+    private FileChannel segmentChannel;
+    private FileChannel indexChannel;
+    private long recordCount;
+    private long maxMsb;
+    private long maxLsb;
+    /** 저장소 디렉터리의 세그먼트 + 인덱스 크기 합계 (max-bytes 판단용) */
+    private long storeBytes;
+    private final ByteBuffer headerBuffer = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+    private final ByteBuffer indexBuffer = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+
+    public ApiLogSegmentStore(
+            ApiLogger apiLogger,
+            @Value("${app.logging.api.store.enabled:false}") boolean enabled,
+            @Value("${app.logging.api.store.path:./logs/api-store}") String path,
+            @Value("${app.logging.api.store.retention-days:30}") int retentionDays,
+            @Value("${app.logging.api.store.max-bytes:1073741824}") long maxBytes,
+            @Value("${app.logging.api.store.index-interval:64}") int indexInterval,
+            @Value("${app.logging.api.store.max-lateness-ms:60000}") long maxLatenessMillis) {
+        this.apiLogger = apiLogger;
+        this.enabled = enabled;
+        this.directory = Paths.get(path);
+        this.retentionDays = Math.max(1, retentionDays);
+        this.maxBytes = maxBytes;
+        this.indexInterval = Math.max(1, indexInterval);
+        this.maxLatenessMillis = Math.max(0, maxLatenessMillis);
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(directory);
+        deleteExpiredSegments(LocalDate.now(zone));
+        log.info("API 로그 세그먼트 저장소 활성화: path={}, retentionDays={}, maxBytes={}, indexInterval={}",
+                directory.toAbsolutePath(), retentionDays, maxBytes, indexInterval);
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        closeSegment();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // ========================================================================
+    // 기록
+    // ========================================================================
+
+    /**
+     * 이벤트 추가 (AsyncApiLogDispatcher 소비자 스레드에서 호출)
+     */
+    public void append(ApiLogEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.requestId() == null || !Ulid.isValid(event.requestId())) {
+            skipped.increment();
+            return;
+        }
+        try {
+            Ulid ulid = Ulid.from(event.requestId());
+            byte[] payload = apiLogger.encodeMasked(event);
+            write(ulid, event.type() == ApiLogEvent.Type.REQUEST ? TYPE_REQUEST : TYPE_RESPONSE, payload);
+            appended.increment();
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("Failed to append api log segment", e);
+        }
+    }
+
+    private synchronized void write(Ulid ulid, byte type, byte[] payload) throws IOException {
+        LocalDate today = LocalDate.now(zone);
+        if (!today.equals(currentDate)) {
+            rollover(today);
+        }
+
+        long recordBytes = RECORD_HEADER_SIZE + payload.length
+                + (recordCount % indexInterval == 0 ? INDEX_ENTRY_SIZE : 0);
+        if (maxBytes > 0 && storeBytes + recordBytes > maxBytes && !evictOldestSegments(recordBytes)) {
+            skippedOverCap.increment();
+            return;
+        }
+
+        long offset = segmentChannel.size();
+        if (recordCount % indexInterval == 0) {
+            writeIndexEntry(offset);
+        }
+
+        headerBuffer.clear();
+        headerBuffer.putInt(payload.length)
+                .putLong(ulid.getMostSignificantBits())
+                .putLong(ulid.getLeastSignificantBits())
+                .put(type)
+                .flip();
+        writeFully(segmentChannel, headerBuffer);
+        writeFully(segmentChannel, ByteBuffer.wrap(payload));
+
+        recordCount++;
+        storeBytes += recordBytes;
+        if (compare(ulid.getMostSignificantBits(), ulid.getLeastSignificantBits(), maxMsb, maxLsb) > 0) {
+            maxMsb = ulid.getMostSignificantBits();
+            maxLsb = ulid.getLeastSignificantBits();
+        }
+    }
+
+    /**
+     * 인덱스 항목 추가 (오프셋 이전 레코드들의 최대 ULID)
+     */
+    private void writeIndexEntry(long offset) throws IOException {
+        indexBuffer.clear();
+        indexBuffer.putLong(maxMsb).putLong(maxLsb).putLong(offset).flip();
+        writeFully(indexChannel, indexBuffer);
+    }
+
+    /**
+     * 일자 변경 시 세그먼트 교체 및 보관 기간 지난 세그먼트 삭제
+     */
+    private void rollover(LocalDate date) throws IOException {
+        closeSegment();
+        Path segment = segmentPath(date);
+        Path index = indexPath(date);
+        segmentChannel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        indexChannel = FileChannel.open(index, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        recover(date);
+        currentDate = date;
+        deleteExpiredSegments(date);
+        storeBytes = directorySize();
+    }
+
+    /**
+     * 재기동 시 기존 세그먼트 이어쓰기 준비
+     * 마지막 인덱스 위치부터 끝까지 읽어 레코드 수/최대 ULID를 복원하고, 잘린 마지막 레코드는 버립니다.
+     * index-interval이 바뀌었으면 인덱스를 비우고 세그먼트 전체를 읽어 새 간격으로 다시 기록합니다.
+     */
+    private void recover(LocalDate date) throws IOException {
+        long indexEntries = indexChannel.size() / INDEX_ENTRY_SIZE;
+        indexChannel.truncate(indexEntries * INDEX_ENTRY_SIZE);
+        if (indexEntries > 1 && !matchesIndexInterval(indexEntries)) {
+            log.info("API 로그 인덱스 간격 변경 감지, 인덱스 재구성: segment={}, indexInterval={}",
+                    segmentPath(date).getFileName(), indexInterval);
+            indexChannel.truncate(0);
+            indexEntries = 0;
+        }
+        indexChannel.position(indexChannel.size());
+
+        maxMsb = 0L;
+        maxLsb = 0L;
+        recordCount = 0L;
+        long position = 0L;
+        if (indexEntries > 0) {
+            ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+            readFully(indexChannel, entry, (indexEntries - 1) * INDEX_ENTRY_SIZE);
+            entry.flip();
+            maxMsb = entry.getLong();
+            maxLsb = entry.getLong();
+            position = entry.getLong();
+            recordCount = (indexEntries - 1) * indexInterval;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        long size = segmentChannel.size();
+        while (position + RECORD_HEADER_SIZE <= size) {
+            header.clear();
+            readFully(segmentChannel, header, position);
+            header.flip();
+            int length = header.getInt();
+            long msb = header.getLong();
+            long lsb = header.getLong();
+            if (length < 0 || length > MAX_RECORD_SIZE || position + RECORD_HEADER_SIZE + length > size) {
+                break;
+            }
+            // 인덱스에 없는 간격 위치 (재구성 중이거나 인덱스 기록 전에 중단된 경우)
+            if (recordCount % indexInterval == 0 && recordCount / indexInterval >= indexEntries) {
+                writeIndexEntry(position);
+                indexEntries++;
+            }
+            if (compare(msb, lsb, maxMsb, maxLsb) > 0) {
+                maxMsb = msb;
+                maxLsb = lsb;
+            }
+            recordCount++;
+            position += RECORD_HEADER_SIZE + length;
+        }
+        if (position < size) {
+            segmentChannel.truncate(position);
+        }
+        segmentChannel.position(segmentChannel.size());
+    }
+
+    /**
+     * 마지막 두 인덱스 항목 사이의 레코드 수가 현재 index-interval과 같은지 확인
+     */
+    private boolean matchesIndexInterval(long indexEntries) throws IOException {
+        ByteBuffer entries = ByteBuffer.allocate(INDEX_ENTRY_SIZE * 2);
+        readFully(indexChannel, entries, (indexEntries - 2) * INDEX_ENTRY_SIZE);
+        long from = entries.getLong(Long.BYTES * 2);
+        long to = entries.getLong(INDEX_ENTRY_SIZE + Long.BYTES * 2);
+
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+        long size = segmentChannel.size();
+        long records = 0;
+        long position = from;
+        while (position < to && position + RECORD_HEADER_SIZE <= size && records <= indexInterval) {
+            header.clear();
+            readFully(segmentChannel, header, position);
+            int length = header.getInt(0);
+            if (length < 0 || length > MAX_RECORD_SIZE) {
+                return false;
+            }
+            records++;
+            position += RECORD_HEADER_SIZE + length;
+        }
+        return position == to && records == indexInterval;
+    }
+
+    private void closeSegment() {
+        closeQuietly(segmentChannel);
+        closeQuietly(indexChannel);
+        segmentChannel = null;
+        indexChannel = null;
+        currentDate = null;
+    }
+
+    /**
+     * 용량 확보를 위해 오늘이 아닌 가장 오래된 날짜의 세그먼트부터 삭제
+     *
+     * @return required 바이트를 추가해도 max-bytes 이하가 되었는지 여부
+     */
+    private boolean evictOldestSegments(long required) {
+        List<LocalDate> dates = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                LocalDate date = parseSegmentDate(file.getFileName().toString());
+                if (date != null && !date.equals(currentDate)) {
+                    dates.add(date);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to list api log segments", e);
+            return false;
+        }
+        dates.sort(null);
+
+        for (LocalDate date : dates) {
+            if (storeBytes + required <= maxBytes) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(segmentPath(date));
+                Files.deleteIfExists(indexPath(date));
+                evictedSegments.increment();
+                log.info("API 로그 세그먼트 삭제 (max-bytes 초과): date={}", date);
+            } catch (IOException e) {
+                log.warn("Failed to delete api log segment: date={}", date, e);
+            }
+            storeBytes = directorySize();
+        }
+        return storeBytes + required <= maxBytes;
+    }
+
+    /**
+     * 저장소 디렉터리의 세그먼트 + 인덱스 파일 크기 합계
+     */
+    private long directorySize() {
+        long total = 0L;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*")) {
+            for (Path file : files) {
+                if (parseSegmentDate(file.getFileName().toString()) != null) {
+                    total += Files.size(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to measure api log store size", e);
+        }
+        return total;
+    }
+
+    private void deleteExpiredSegments(LocalDate today) {
+        LocalDate oldest = today.minusDays(retentionDays - 1L);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*")) {
+            for (Path file : files) {
+                LocalDate date = parseSegmentDate(file.getFileName().toString());
+                if (date != null && date.isBefore(oldest)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to delete expired api log segments", e);
+        }
+    }
+
+    // ========================================================================
+    // 조회
+    // ========================================================================
+
+    /**
+     * requestId로 저장된 요청/응답 이벤트 조회
+     *
+     * @param requestId ULID 형식의 요청 ID
+     * @return 기록 순서대로 정렬된 compact JSON 목록 (없으면 빈 목록)
+     * @throws IllegalArgumentException requestId가 ULID 형식이 아닌 경우
+     */
+    public List<String> find(String requestId) throws IOException {
+        if (requestId == null || !Ulid.isValid(requestId)) {
+            throw new IllegalArgumentException("requestId는 ULID 형식이어야 합니다: " + requestId);
+        }
+        List<String> records = new ArrayList<>();
+        if (!enabled) {
+            return records;
+        }
+
+        Ulid ulid = Ulid.from(requestId);
+        long deadline = ulid.getTime() + maxLatenessMillis;
+        LocalDate first = Instant.ofEpochMilli(ulid.getTime()).atZone(zone).toLocalDate();
+        LocalDate last = Instant.ofEpochMilli(deadline).atZone(zone).toLocalDate();
+        for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+            search(date, ulid.getMostSignificantBits(), ulid.getLeastSignificantBits(), deadline, records);
+        }
+        return records;
+    }
+
+    private void search(LocalDate date, long msb, long lsb, long deadline, List<String> records) throws IOException {
+        Path segment = segmentPath(date);
+        if (!Files.exists(segment)) {
+            return;
+        }
+
+        long start = findScanStart(indexPath(date), msb, lsb);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = start;
+            ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+            while (position + RECORD_HEADER_SIZE <= size) {
+                header.clear();
+                readFully(channel, header, position);
+                header.flip();
+                int length = header.getInt();
+                long recordMsb = header.getLong();
+                long recordLsb = header.getLong();
+                if (length < 0 || length > MAX_RECORD_SIZE || position + RECORD_HEADER_SIZE + length > size) {
+                    break; // 기록 중인 마지막 레코드
+                }
+                if (recordMsb == msb && recordLsb == lsb) {
+                    ByteBuffer payload = ByteBuffer.allocate(length);
+                    readFully(channel, payload, position + RECORD_HEADER_SIZE);
+                    records.add(new String(payload.array(), StandardCharsets.UTF_8));
+                } else if (ulidTime(recordMsb) > deadline) {
+                    // 이 레코드는 찾는 요청이 기록될 수 있는 마지막 시각 이후에 기록됨
+                    break;
+                }
+                position += RECORD_HEADER_SIZE + length;
+            }
+        }
+    }
+
+    /**
+     * 희소 인덱스 이진 탐색
+     * "이전 레코드 최대 ULID < 대상"인 마지막 인덱스 항목의 오프셋을 반환합니다.
+     * (그 이전 레코드에는 대상 ULID가 있을 수 없음)
+     */
+    private long findScanStart(Path index, long msb, long lsb) throws IOException {
+        if (!Files.exists(index)) {
+            return 0L;
+        }
+        try (FileChannel channel = FileChannel.open(index, StandardOpenOption.READ)) {
+            long entries = channel.size() / INDEX_ENTRY_SIZE;
+            if (entries == 0) {
+                return 0L;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, entries * INDEX_ENTRY_SIZE);
+            long low = 0;
+            long high = entries - 1;
+            long found = 0;
+            while (low <= high) {
+                long mid = (low + high) >>> 1;
+                int base = (int) (mid * INDEX_ENTRY_SIZE);
+                if (compare(buffer.getLong(base), buffer.getLong(base + Long.BYTES), msb, lsb) < 0) {
+                    found = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return buffer.getLong((int) (found * INDEX_ENTRY_SIZE) + Long.BYTES * 2);
+        }
+    }
+
+    /**
+     * 저장소 상태/카운터 조회
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("path", directory.toString());
+        stats.put("retentionDays", retentionDays);
+        stats.put("maxBytes", maxBytes);
+        synchronized (this) {
+            stats.put("storeBytes", storeBytes);
+        }
+        stats.put("appended", appended.sum());
+        stats.put("skippedNonUlid", skipped.sum());
+        stats.put("skippedOverCap", skippedOverCap.sum());
+        stats.put("evictedSegments", evictedSegments.sum());
+        stats.put("failed", failed.sum());
+        return stats;
+    }
+
+    // ========================================================================
+    // 유틸리티 메서드
+    // ========================================================================
+
+    private Path segmentPath(LocalDate date) {
+        return directory.resolve(SEGMENT_PREFIX + SEGMENT_DATE.format(date) + SEGMENT_SUFFIX);
+    }
+
+    private Path indexPath(LocalDate date) {
+        return directory.resolve(SEGMENT_PREFIX + SEGMENT_DATE.format(date) + INDEX_SUFFIX);
+    }
+
+    private static LocalDate parseSegmentDate(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        if (!fileName.startsWith(SEGMENT_PREFIX) || dot != SEGMENT_PREFIX.length() + 8) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(fileName.substring(SEGMENT_PREFIX.length(), dot), SEGMENT_DATE);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * ULID 상위 48비트 = epoch millis
+     */
+    private static long ulidTime(long msb) {
+        return msb >>> 16;
+    }
+
+    private static int compare(long msb1, long lsb1, long msb2, long lsb2) {
+        int result = Long.compareUnsigned(msb1, msb2);
+        return result != 0 ? result : Long.compareUnsigned(lsb1, lsb2);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of api log segment");
+            }
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("Failed to close api log segment", e);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
@@ -9,6 +11,10 @@ import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.*;
 
 /**
@@ -30,6 +36,12 @@ import java.util.*;
  * - app.logging.api.include-headers: 헤더 로깅 포함
  * - app.logging.api.include-body: 본문 로깅 포함
  * - app.logging.api.max-body-length: 최대 본문 길이
+ * - app.logging.api.sensitive-headers: 마스킹할 헤더 목록 (쉼표 구분, 전체 일치)
+ * - app.logging.api.sensitive-fields: 마스킹할 본문 필드 목록 (쉼표 구분, 부분 일치)
+ * - app.logging.api.format: 로그 포맷 (text: 기존 사람이 읽는 형식, ndjson: 한 줄 compact JSON → logs/api-requests.ndjson)
+ *
+ * RequestLoggingFilter는 capture*() 메서드로 원본 데이터만 수집하고,
+ * 마스킹/포맷팅/기록(write)은 AsyncApiLogDispatcher의 소비자 스레드에서 수행됩니다.
  */
 @Component
 public class ApiLogger {
@@ -39,6 +51,12 @@ public class ApiLogger {
      * logback-spring.xml에서 이 로거의 로그를 logs/api-requests.log 파일에 저장하도록 설정됨
      */
     private static final Logger apiRequestLogger = LoggerFactory.getLogger("apiRequestLogger");
+
+    /**
+     * NDJSON 포맷 전용 로거
+     * logback-spring.xml에서 메시지만(%msg%n) logs/api-requests.ndjson 파일에 저장하도록 설정됨
+     */
+    private static final Logger apiNdjsonLogger = LoggerFactory.getLogger("apiNdjsonLogger");
     
     /**
      * 일반 애플리케이션 로거 (에러 등)
@@ -46,19 +64,16 @@ public class ApiLogger {
     private static final Logger log = LoggerFactory.getLogger(ApiLogger.class);
 
     /**
-     * 민감한 헤더 목록 (마스킹 대상)
+     * 기본 민감한 헤더 목록 (마스킹 대상, 전체 일치)
      */
-    private static final Set<String> SENSITIVE_HEADERS = Set.of(
-            "authorization", "cookie", "x-api-key", "x-auth-token", "set-cookie"
-    );
-    
+    private static final String DEFAULT_SENSITIVE_HEADERS =
+            "authorization,cookie,x-api-key,x-auth-token,set-cookie";
+
     /**
-     * 민감한 필드 목록 (마스킹 대상)
+     * 기본 민감한 필드 목록 (마스킹 대상, 부분 일치)
      */
-    private static final Set<String> SENSITIVE_FIELDS = Set.of(
-            "password", "accesstoken", "refreshtoken", "token", 
-            "authorization", "apikey", "api_key", "secret", "credential"
-    );
+    private static final String DEFAULT_SENSITIVE_FIELDS =
+            "password,accesstoken,refreshtoken,token,authorization,apikey,api_key,secret,credential";
 
     // ========================================================================
     // 설정 속성
@@ -66,30 +81,61 @@ public class ApiLogger {
 
     /** 전체 로깅 활성화 (마스터 스위치) */
     @Value("${app.logging.api.enabled:true}")
-    private boolean enabled;
+    private volatile boolean enabled;
 
     /** 요청 로깅 활성화 */
     @Value("${app.logging.api.request-enabled:true}")
-    private boolean requestEnabled;
+    private volatile boolean requestEnabled;
 
     /** 응답 로깅 활성화 */
     @Value("${app.logging.api.response-enabled:true}")
-    private boolean responseEnabled;
+    private volatile boolean responseEnabled;
 
     /** 헤더 로깅 포함 여부 */
     @Value("${app.logging.api.include-headers:true}")
-    private boolean includeHeaders;
+    private volatile boolean includeHeaders;
 
     /** 본문 로깅 포함 여부 */
     @Value("${app.logging.api.include-body:true}")
-    private boolean includeBody;
+    private volatile boolean includeBody;
 
     /** 최대 본문 길이 */
     @Value("${app.logging.api.max-body-length:5000}")
     private int maxBodyLength;
 
+    /** 로그 포맷 (text | ndjson) */
+    @Value("${app.logging.api.format:text}")
+    private String format;
+
+    /** 민감한 헤더 목록 (대소문자 무시, 전체 일치) */
+    @Value("${app.logging.api.sensitive-headers:" + DEFAULT_SENSITIVE_HEADERS + "}")
+    private List<String> sensitiveHeaders;
+
+    /** 민감한 필드 목록 (대소문자 무시, 부분 일치) */
+    @Value("${app.logging.api.sensitive-fields:" + DEFAULT_SENSITIVE_FIELDS + "}")
+    private List<String> sensitiveFields;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    private SensitiveKeyMatcher sensitiveHeaderMatcher;
+    private SensitiveKeyMatcher sensitiveFieldMatcher;
+    private JsonBodyMasker bodyMasker;
+    private ApiLogNdjsonWriter ndjsonWriter;
+    private boolean ndjsonFormat;
+
+    /**
+     * 설정된 민감 키 목록으로 매처를 한 번만 컴파일
+     */
+    @PostConstruct
+    void initMatchers() {
+        sensitiveHeaderMatcher = SensitiveKeyMatcher.compile(sensitiveHeaders);
+        sensitiveFieldMatcher = SensitiveKeyMatcher.compile(sensitiveFields);
+        bodyMasker = new JsonBodyMasker(objectMapper.getFactory(), sensitiveFieldMatcher::containsAny);
+        ndjsonWriter = new ApiLogNdjsonWriter(
+                apiNdjsonLogger, objectMapper.getFactory(), sensitiveHeaderMatcher, bodyMasker, maxBodyLength);
+        ndjsonFormat = "ndjson".equalsIgnoreCase(format.trim());
+    }
+
     // ========================================================================
     // 설정 조회 메서드
     // ========================================================================
@@ -115,6 +161,13 @@ public class ApiLogger {
         return enabled && responseEnabled;
     }
 
+    /**
+     * 본문 로깅 포함 여부 확인 (전역 설정)
+     */
+    public boolean isIncludeBody() {
+        return includeBody;
+    }
+
     /**
      * 요청/응답 본문 캐싱 시 사용할 최대 길이
      */
@@ -223,16 +276,155 @@ public class ApiLogger {
         status.put("includeHeaders", includeHeaders);
         status.put("includeBody", includeBody);
         status.put("maxBodyLength", maxBodyLength);
+        status.put("format", ndjsonFormat ? "ndjson" : "text");
+        status.put("sensitiveHeaders", sensitiveHeaderMatcher.getPatterns());
+        status.put("sensitiveFields", sensitiveFieldMatcher.getPatterns());
         return status;
     }
 
+    // ========================================================================
+    // 캡처 메서드 (요청 스레드에서 호출 - 원본 데이터만 수집)
+    // ========================================================================
+
+    /**
+     * 요청 캡처
+     * 마스킹/포맷팅 없이 원본 헤더와 본문 바이트만 수집합니다.
+     *
+     * @param request HTTP 요청 객체
+     * @param requestBody 요청 본문 바이트 (nullable)
+     * @return 캡처된 이벤트
+     */
+    public ApiLogEvent captureRequest(HttpServletRequest request, byte[] requestBody) {
+        return captureRequest(request, requestBody, bodyLength(requestBody), ApiLogLevel.FULL);
+    }
+
+    /**
+     * 라우트 로그 수준을 적용한 요청 캡처
+     * 헤더/본문은 전역 설정과 라우트 수준이 모두 허용할 때만 포함됩니다.
+     *
+     * @param request HTTP 요청 객체
+     * @param requestBody 요청 본문 바이트 (nullable, 앞부분만 보관된 경우 포함)
+     * @param requestBodyLength 원본 요청 본문 전체 바이트 수
+     * @param level 라우트 로그 수준
+     * @return 캡처된 이벤트
+     */
+    public ApiLogEvent captureRequest(
+            HttpServletRequest request,
+            byte[] requestBody,
+            long requestBodyLength,
+            ApiLogLevel level) {
+        boolean withBody = includeBody && level.includesBody();
+        return ApiLogEvent.request(
+                MDC.get("requestId"),
+                request.getMethod(),
+                getFullUrl(request),
+                request.getRemoteAddr(),
+                includeHeaders && level.includesHeaders() ? getHeaders(request) : null,
+                withBody ? requestBody : null,
+                withBody ? requestBodyLength : 0L);
+    }
+
+    /**
+     * 응답 캡처
+     * 마스킹/포맷팅 없이 원본 헤더와 본문 바이트, 처리 시간만 수집합니다.
+     *
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @param responseBody 응답 본문 바이트 (nullable)
+     * @param duration 처리 시간 (ms)
+     * @return 캡처된 이벤트
+     */
+    public ApiLogEvent captureResponse(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            byte[] responseBody,
+            long duration) {
+        return captureResponse(request, response, responseBody, bodyLength(responseBody), duration, ApiLogLevel.FULL);
+    }
+
+    /**
+     * 라우트 로그 수준을 적용한 응답 캡처
+     *
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @param responseBody 응답 본문 바이트 (nullable, 앞부분만 보관된 경우 포함)
+     * @param responseBodyLength 원본 응답 본문 전체 바이트 수
+     * @param duration 처리 시간 (ms)
+     * @param level 라우트 로그 수준
+     * @return 캡처된 이벤트
+     */
+    public ApiLogEvent captureResponse(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            byte[] responseBody,
+            long responseBodyLength,
+            long duration,
+            ApiLogLevel level) {
+        boolean withBody = includeBody && level.includesBody();
+        return ApiLogEvent.response(
+                MDC.get("requestId"),
+                request.getMethod(),
+                getFullUrl(request),
+                response.getStatus(),
+                duration,
+                includeHeaders && level.includesHeaders() ? getResponseHeaders(response) : null,
+                withBody ? responseBody : null,
+                withBody ? responseBodyLength : 0L);
+    }
+
+    /**
+     * 캡처된 이벤트를 마스킹/포맷팅하여 apiRequestLogger에 기록
+     * AsyncApiLogDispatcher의 소비자 스레드에서 호출됩니다.
+     *
+     * @param event 캡처된 이벤트
+     */
+    public void write(ApiLogEvent event) {
+        if (ndjsonFormat) {
+            try {
+                ndjsonWriter.write(event);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return;
+        }
+        if (event.type() == ApiLogEvent.Type.REQUEST) {
+            writeRequest(event);
+        } else {
+            writeResponse(event);
+        }
+    }
+
+    /**
+     * 본문 마스킹 (ApiTrafficRecorder 캡처용)
+     */
+    JsonBodyMasker.Result maskBody(byte[] body, long bodyLength) {
+        return bodyMasker.mask(body, bodyLength, maxBodyLength);
+    }
+
+    /**
+     * 마스킹 대상 헤더 여부
+     */
+    boolean isSensitiveHeader(String name) {
+        return sensitiveHeaderMatcher.matchesExactly(name);
+    }
+
+    /**
+     * 마스킹된 compact JSON 인코딩 (ApiLogSegmentStore 저장용)
+     *
+     * @param event 캡처된 이벤트
+     * @return UTF-8 JSON 바이트
+     */
+    byte[] encodeMasked(ApiLogEvent event) throws IOException {
+        return ndjsonWriter.encode(event);
+    }
+
     // ========================================================================
     // 백엔드 요청 로거 (Backend Request Logger)
     // ========================================================================
 
     /**
      * 백엔드 요청 로거
-     * 백엔드에서 받는 요청을 로깅
+     * 백엔드에서 받는 요청을 호출 스레드에서 즉시 로깅
      * 
      * @param request HTTP 요청 객체
      * @param requestBody 요청 본문
@@ -244,41 +436,43 @@ public class ApiLogger {
         }
 
         try {
-            String requestId = MDC.get("requestId");
-            
-            Map<String, Object> logData = new LinkedHashMap<>();
-            logData.put("type", "BACKEND_REQUEST");
-            logData.put("requestId", requestId != null ? requestId : "-");
-            logData.put("timestamp", new Date().toInstant().toString());
-            logData.put("method", request.getMethod());
-            logData.put("url", getFullUrl(request));
-            logData.put("remoteAddr", request.getRemoteAddr());
-
-            if (includeHeaders) {
-                logData.put("headers", maskSensitiveHeaders(getHeaders(request)));
-            }
-
-            if (includeBody && requestBody != null && !requestBody.isEmpty()) {
-                logData.put("body", maskSensitiveData(formatBody(requestBody)));
-            }
-
-            // API 로그는 별도 파일에 기록
-            apiRequestLogger.info("📥 [BE Request] {} {} - {}", 
-                    request.getMethod(), 
-                    getFullUrl(request),
-                    formatLogData(logData));
+            write(captureRequest(request, toBytes(requestBody)));
         } catch (Exception e) {
             log.warn("Failed to log backend request", e);
         }
     }
 
+    private void writeRequest(ApiLogEvent event) {
+        Map<String, Object> logData = new LinkedHashMap<>();
+        logData.put("type", "BACKEND_REQUEST");
+        logData.put("requestId", event.requestId() != null ? event.requestId() : "-");
+        logData.put("timestamp", Instant.ofEpochMilli(event.timestampMillis()).toString());
+        logData.put("method", event.method());
+        logData.put("url", event.url());
+        logData.put("remoteAddr", event.remoteAddr());
+
+        if (event.headers() != null) {
+            logData.put("headers", maskSensitiveHeaders(event.headers()));
+        }
+
+        if (event.hasBody()) {
+            logData.put("body", formatBody(event.body(), event.bodyLength()));
+        }
+
+        // API 로그는 별도 파일에 기록
+        apiRequestLogger.info("📥 [BE Request] {} {} - {}", 
+                event.method(), 
+                event.url(),
+                formatLogData(logData));
+    }
+
     // ========================================================================
     // 백엔드 응답 로거 (Backend Response Logger)
     // ========================================================================
 
     /**
      * 백엔드 응답 로거
-     * 백엔드에서 보내는 응답을 로깅
+     * 백엔드에서 보내는 응답을 호출 스레드에서 즉시 로깅
      * 
      * @param request HTTP 요청 객체
      * @param response HTTP 응답 객체
@@ -296,40 +490,43 @@ public class ApiLogger {
         }
 
         try {
-            String requestId = MDC.get("requestId");
-            int status = response.getStatus();
-            
-            Map<String, Object> logData = new LinkedHashMap<>();
-            logData.put("type", "BACKEND_RESPONSE");
-            logData.put("requestId", requestId != null ? requestId : "-");
-            logData.put("timestamp", new Date().toInstant().toString());
-            logData.put("method", request.getMethod());
-            logData.put("url", getFullUrl(request));
-            logData.put("status", status);
-            logData.put("duration", duration + "ms");
-
-            if (includeHeaders) {
-                logData.put("headers", maskSensitiveHeaders(getResponseHeaders(response)));
-            }
-
-            if (includeBody && responseBody != null && !responseBody.isEmpty()) {
-                logData.put("body", maskSensitiveData(formatBody(responseBody)));
-            }
-
-            String emoji = status >= 400 ? "❌" : "✅";
-            // API 로그는 별도 파일에 기록
-            apiRequestLogger.info("{} [BE Response] {} {} - Status: {} - Duration: {}ms - {}", 
-                    emoji,
-                    request.getMethod(), 
-                    getFullUrl(request),
-                    status,
-                    duration,
-                    formatLogData(logData));
+            write(captureResponse(request, response, toBytes(responseBody), duration));
         } catch (Exception e) {
             log.warn("Failed to log backend response", e);
         }
     }
 
+    private void writeResponse(ApiLogEvent event) {
+        int status = event.status();
+
+        Map<String, Object> logData = new LinkedHashMap<>();
+        logData.put("type", "BACKEND_RESPONSE");
+        logData.put("requestId", event.requestId() != null ? event.requestId() : "-");
+        logData.put("timestamp", Instant.ofEpochMilli(event.timestampMillis()).toString());
+        logData.put("method", event.method());
+        logData.put("url", event.url());
+        logData.put("status", status);
+        logData.put("duration", event.durationMillis() + "ms");
+
+        if (event.headers() != null) {
+            logData.put("headers", maskSensitiveHeaders(event.headers()));
+        }
+
+        if (event.hasBody()) {
+            logData.put("body", formatBody(event.body(), event.bodyLength()));
+        }
+
+        String emoji = status >= 400 ? "❌" : "✅";
+        // API 로그는 별도 파일에 기록
+        apiRequestLogger.info("{} [BE Response] {} {} - Status: {} - Duration: {}ms - {}", 
+                emoji,
+                event.method(), 
+                event.url(),
+                status,
+                event.durationMillis(),
+                formatLogData(logData));
+    }
+
     // ========================================================================
     // 프론트엔드 요청/응답 로거 (백엔드 관점에서의 별칭)
     // ========================================================================
@@ -368,6 +565,14 @@ public class ApiLogger {
     // 유틸리티 메서드
     // ========================================================================
 
+    private long bodyLength(byte[] body) {
+        return body != null ? body.length : 0L;
+    }
+
+    private byte[] toBytes(String body) {
+        return body == null || body.isEmpty() ? null : body.getBytes(StandardCharsets.UTF_8);
+    }
+
     /**
      * 전체 URL 구성 (쿼리 파라미터 포함)
      */
@@ -411,8 +616,7 @@ public class ApiLogger {
     private Map<String, String> maskSensitiveHeaders(Map<String, String> headers) {
         Map<String, String> masked = new LinkedHashMap<>();
         for (Map.Entry<String, String> entry : headers.entrySet()) {
-            String key = entry.getKey().toLowerCase();
-            if (SENSITIVE_HEADERS.contains(key)) {
+            if (sensitiveHeaderMatcher.matchesExactly(entry.getKey())) {
                 masked.put(entry.getKey(), "***MASKED***");
             } else {
                 masked.put(entry.getKey(), entry.getValue());
@@ -423,67 +627,20 @@ public class ApiLogger {
 
     /**
      * 민감한 데이터 마스킹 (JSON 본문)
+     * 토큰 스트리밍 방식으로 마스킹하며, 완결된 JSON이면 RawValue로 감싸 재직렬화 없이 그대로 출력합니다.
+     * 잘린 본문/일반 텍스트는 (마스킹된) 문자열로 반환합니다.
      */
-    private Object maskSensitiveData(String body) {
-        try {
-            Object json = objectMapper.readValue(body, Object.class);
-            return maskSensitiveDataRecursive(json);
-        } catch (Exception e) {
-            // JSON 파싱 실패 시 원본 반환
-            return body;
-        }
-    }
-
-    /**
-     * 재귀적으로 민감한 필드 마스킹
-     */
-    @SuppressWarnings("unchecked")
-    private Object maskSensitiveDataRecursive(Object obj) {
-        if (obj == null) {
-            return null;
-        }
-
-        if (obj instanceof Map) {
-            Map<String, Object> map = (Map<String, Object>) obj;
-            Map<String, Object> masked = new LinkedHashMap<>();
-            for (Map.Entry<String, Object> entry : map.entrySet()) {
-                String key = entry.getKey().toLowerCase();
-                if (SENSITIVE_FIELDS.stream().anyMatch(key::contains)) {
-                    masked.put(entry.getKey(), "***MASKED***");
-                } else {
-                    masked.put(entry.getKey(), maskSensitiveDataRecursive(entry.getValue()));
-                }
-            }
-            return masked;
-        } else if (obj instanceof List) {
-            List<Object> list = (List<Object>) obj;
-            List<Object> masked = new ArrayList<>();
-            for (Object item : list) {
-                masked.add(maskSensitiveDataRecursive(item));
-            }
-            return masked;
-        }
-
-        return obj;
-    }
-
-    /**
-     * 본문 포맷팅 (길이 제한)
-     */
-    private String formatBody(String body) {
-        if (body.length() > maxBodyLength) {
-            return body.substring(0, maxBodyLength) + 
-                   "... [truncated " + (body.length() - maxBodyLength) + " chars]";
-        }
-        return body;
+    private Object formatBody(byte[] body, long bodyLength) {
+        JsonBodyMasker.Result result = maskBody(body, bodyLength);
+        return result.json() ? new RawValue(result.text()) : result.text();
     }
 
     /**
-     * 로그 데이터 포맷팅
+     * 로그 데이터 포맷팅 (한 줄 compact JSON, 본문 RawValue도 그대로 이어 붙임)
      */
     private String formatLogData(Map<String, Object> logData) {
         try {
-            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(logData);
+            return objectMapper.writeValueAsString(logData);
         } catch (Exception e) {
             return logData.toString();
         }
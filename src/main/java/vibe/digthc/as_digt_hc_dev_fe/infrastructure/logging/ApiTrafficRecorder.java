@@ -0,0 +1,180 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 트래픽 재현용 요청 캡처기
+ *
+ * 캡처 모드가 켜져 있으면 RequestLoggingFilter가 보는 모든 요청(메서드, 경로, 헤더, 본문)과
+ * 원 응답 상태/처리 시간을 재현 가능한 NDJSON 레코드로 logs/api-capture.ndjson에 기록합니다.
+ * 기록된 파일은 TrafficReplayTool로 다른 인스턴스에 다시 보낼 수 있습니다.
+ *
+ * - Authorization 헤더는 값 대신 {{AUTH}} 자리표시자로 기록 (재현 시 테스트 사용자 JWT로 치환)
+ * - 그 외 민감 헤더(쿠키, API 키 등)와 연결 관련 헤더, X-Request-ID는 기록하지 않음
+ * - 본문의 민감 필드는 로그와 동일하게 마스킹 (원문 본문은 캡처 모드에서도 기록하지 않음)
+ * - max-body-length를 넘는 본문은 잘린 상태로 기록되며 bodyTruncated=true로 표시 (재현 시 제외)
+ * - 원문과 달라진 본문(마스킹된 필드, 잘림/깨진 JSON 표시)은 bodyReplayable=false로 표시 (재현 시 제외)
+ *   → 재현은 본문에 민감 필드가 없는 요청만 다룸 (로그인/회원가입 등 비밀번호·토큰을 보내는 라우트는 제외)
+ *
+ * 설정 속성:
+ * - app.logging.api.capture.enabled: 캡처 모드 사용 여부 (PUT /v1/admin/logging으로 런타임 변경 가능)
+ */
+@Component
+public class ApiTrafficRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiTrafficRecorder.class);
+
+    /**
+     * 캡처 전용 로거
+     * logback-spring.xml에서 메시지만(%msg%n) logs/api-capture.ndjson 파일에 저장하도록 설정됨
+     */
+    private static final Logger apiCaptureLogger = LoggerFactory.getLogger("apiCaptureLogger");
+
+    public static final String AUTH_PLACEHOLDER = "{{AUTH}}";
+
+    private static final Set<String> SKIPPED_HEADERS = Set.of(
+            "host", "content-length", "connection", "transfer-encoding", "keep-alive", "upgrade",
+            "expect", "x-request-id");
+
+    private final ApiLogger apiLogger;
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    private volatile boolean enabled;
+
+    private final LongAdder captured = new LongAdder();
+    private final LongAdder truncated = new LongAdder();
+    private final LongAdder unreplayable = new LongAdder();
+
+    public ApiTrafficRecorder(
+            ApiLogger apiLogger,
+            @Value("${app.logging.api.capture.enabled:false}") boolean enabled) {
+        this.apiLogger = apiLogger;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캡처 모드 활성화/비활성화
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        log.info("API 트래픽 캡처 모드 변경: {}", enabled);
+    }
+
+    /**
+     * 요청 캡처 (요청 스레드에서 호출 - 원본 데이터만 수집)
+     *
+     * @param request        HTTP 요청 객체
+     * @param route          핸들러 매칭 패턴
+     * @param status         원 응답 상태 코드
+     * @param durationMillis 원 처리 시간 (ms)
+     * @param body           요청 본문 앞부분 (nullable)
+     * @param bodyLength     요청 본문 전체 바이트 수
+     * @return 캡처 이벤트
+     */
+    public ApiLogEvent capture(HttpServletRequest request, String route, int status, long durationMillis,
+                               byte[] body, long bodyLength) {
+        String path = request.getRequestURI();
+        String query = request.getQueryString();
+        return ApiLogEvent.capture(
+                MDC.get("requestId"),
+                request.getMethod(),
+                query != null ? path + "?" + query : path,
+                route,
+                status,
+                durationMillis,
+                replayableHeaders(request),
+                body,
+                bodyLength);
+    }
+
+    /**
+     * 캡처 이벤트를 NDJSON 한 줄로 기록 (AsyncApiLogDispatcher 소비자 스레드에서 호출)
+     */
+    public void write(ApiLogEvent event) throws IOException {
+        StringWriter out = new StringWriter(256);
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeNumberField("ts", event.timestampMillis());
+            if (event.requestId() != null) {
+                generator.writeStringField("requestId", event.requestId());
+            }
+            generator.writeStringField("method", event.method());
+            generator.writeStringField("path", event.url());
+            if (event.route() != null) {
+                generator.writeStringField("route", event.route());
+            }
+            generator.writeNumberField("status", event.status());
+            generator.writeNumberField("durationMs", event.durationMillis());
+            generator.writeObjectFieldStart("headers");
+            for (Map.Entry<String, String> header : event.headers().entrySet()) {
+                generator.writeStringField(header.getKey(), header.getValue());
+            }
+            generator.writeEndObject();
+            if (event.hasBody()) {
+                JsonBodyMasker.Result body = apiLogger.maskBody(event.body(), event.bodyLength());
+                generator.writeStringField("body", body.text());
+                if (event.bodyLength() > event.body().length) {
+                    truncated.increment();
+                    generator.writeBooleanField("bodyTruncated", true);
+                }
+                if (!body.verbatim()) {
+                    unreplayable.increment();
+                    generator.writeBooleanField("bodyReplayable", false);
+                }
+            }
+            generator.writeEndObject();
+        }
+        apiCaptureLogger.info(out.toString());
+        captured.increment();
+    }
+
+    /**
+     * 캡처 상태/카운터 조회
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("captured", captured.sum());
+        stats.put("truncated", truncated.sum());
+        stats.put("unreplayable", unreplayable.sum());
+        return stats;
+    }
+
+    private Map<String, String> replayableHeaders(HttpServletRequest request) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        Enumeration<String> headerNames = request.getHeaderNames();
+        while (headerNames.hasMoreElements()) {
+            String name = headerNames.nextElement();
+            String lowerName = name.toLowerCase(Locale.ROOT);
+            if (SKIPPED_HEADERS.contains(lowerName)) {
+                continue;
+            }
+            if ("authorization".equals(lowerName)) {
+                headers.put(name, AUTH_PLACEHOLDER);
+            } else if (!apiLogger.isSensitiveHeader(name)) {
+                headers.put(name, request.getHeader(name));
+            }
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,242 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * API 로그 비동기 파이프라인
+ *
+ * 요청 스레드는 ApiLogEvent를 링 버퍼에 넣기만 하고 즉시 반환합니다.
+ * 버퍼가 비면 소비자 스레드는 대기(park)하고, 대기 중일 때만 요청 스레드가 깨웁니다. (유휴 시 주기적 폴링 없음)
+ * 전용 소비자 스레드가 이벤트를 배치 단위로 꺼내 마스킹/포맷팅/파일 기록(ApiLogger.write)을 수행하므로,
+ * 로그 양이 늘어도 API 응답 지연(p99)에 영향을 주지 않습니다.
+ * 기록된 이벤트는 requestId 조회용 세그먼트 저장소(ApiLogSegmentStore)에도 추가되며,
+ * 트래픽 캡처 이벤트는 ApiTrafficRecorder가 재현용 파일에 기록합니다.
+ *
+ * 설정 속성:
+ * - app.logging.api.async.enabled: 비동기 파이프라인 사용 여부 (false면 요청 스레드에서 동기 기록)
+ * - app.logging.api.async.buffer-size: 링 버퍼 크기 (2의 거듭제곱으로 올림)
+ * - app.logging.api.async.batch-size: 소비자가 한 번에 꺼내는 최대 이벤트 수
+ * - app.logging.api.async.overflow-policy: 버퍼가 가득 찼을 때 정책 (drop | caller-runs)
+ */
+@Component
+public class AsyncApiLogDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncApiLogDispatcher.class);
+
+    private static final String MDC_KEY = "requestId";
+    /** 유휴 대기 상한 (깨우기는 publish가 담당, 상한은 안전장치) */
+    private static final long IDLE_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long DEFAULT_SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+    /**
+     * 버퍼 포화 시 처리 정책
+     */
+    public enum OverflowPolicy {
+        /** 새 이벤트를 버리고 드롭 카운터 증가 */
+        DROP,
+        /** 요청 스레드에서 직접 기록 (로그 유실 없음, 대신 지연 발생) */
+        CALLER_RUNS;
+
+        static OverflowPolicy from(String value) {
+            return OverflowPolicy.valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final ApiLogger apiLogger;
+    private final ApiLogSegmentStore segmentStore;
+    private final ApiTrafficRecorder trafficRecorder;
+    private final boolean asyncEnabled;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final ApiLogRingBuffer ringBuffer;
+    private final long shutdownTimeoutMillis;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private volatile boolean running;
+    /** 소비자가 빈 버퍼를 확인하고 대기 중(또는 대기 직전)인지 여부 */
+    private volatile boolean consumerIdle;
+    private volatile Thread consumer;
+
+    @Autowired
+    public AsyncApiLogDispatcher(
+            ApiLogger apiLogger,
+            ApiLogSegmentStore segmentStore,
+            ApiTrafficRecorder trafficRecorder,
+            @Value("${app.logging.api.async.enabled:true}") boolean asyncEnabled,
+            @Value("${app.logging.api.async.buffer-size:8192}") int bufferSize,
+            @Value("${app.logging.api.async.batch-size:256}") int batchSize,
+            @Value("${app.logging.api.async.overflow-policy:drop}") String overflowPolicy) {
+        this(apiLogger, segmentStore, trafficRecorder, asyncEnabled, bufferSize, batchSize, overflowPolicy,
+                DEFAULT_SHUTDOWN_TIMEOUT_MILLIS);
+    }
+
+    AsyncApiLogDispatcher(ApiLogger apiLogger,
+                          ApiLogSegmentStore segmentStore,
+                          ApiTrafficRecorder trafficRecorder,
+                          boolean asyncEnabled,
+                          int bufferSize,
+                          int batchSize,
+                          String overflowPolicy,
+                          long shutdownTimeoutMillis) {
+        this.apiLogger = apiLogger;
+        this.segmentStore = segmentStore;
+        this.trafficRecorder = trafficRecorder;
+        this.asyncEnabled = asyncEnabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.overflowPolicy = OverflowPolicy.from(overflowPolicy);
+        this.ringBuffer = new ApiLogRingBuffer(bufferSize);
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!asyncEnabled) {
+            log.info("API 로그 비동기 파이프라인 비활성화 (동기 기록)");
+            return;
+        }
+        running = true;
+        consumer = new Thread(this::consumeLoop, "api-log-consumer");
+        consumer.setDaemon(true);
+        consumer.start();
+        log.info("API 로그 비동기 파이프라인 시작: bufferSize={}, batchSize={}, overflowPolicy={}",
+                ringBuffer.capacity(), batchSize, overflowPolicy);
+    }
+
+    /**
+     * 파이프라인 종료
+     * 남은 이벤트는 소비자 스레드가 마저 기록하고 종료합니다. (링 버퍼는 단일 소비자이므로 여기서 동시에 꺼내지 않음)
+     * 제한 시간 안에 끝나지 않으면 소비자를 그대로 두고 반환하며, 소비자가 끝난 뒤 늦게 들어온 이벤트만 여기서 기록합니다.
+     */
+    @PreDestroy
+    void stop() {
+        if (consumer == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join(shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (consumer.isAlive()) {
+            log.warn("API 로그 소비자 종료 대기 시간 초과, 남은 이벤트는 소비자가 계속 기록: pending={}", ringBuffer.size());
+            return;
+        }
+        // 소비자 종료 직전에 발행된 이벤트 (running 확인 후 offer 사이에 종료된 경우)
+        while (ringBuffer.drainTo(this::writeEvent, batchSize) > 0) {
+            // drain
+        }
+    }
+
+    /**
+     * 이벤트 발행 (요청 스레드에서 호출, 논블로킹)
+     */
+    public void publish(ApiLogEvent event) {
+        if (event == null) {
+            return;
+        }
+        if (!running) {
+            writeEvent(event);
+            return;
+        }
+        if (ringBuffer.offer(event)) {
+            published.increment();
+            // 버퍼 기록(volatile) 후 확인하므로, 빈 버퍼를 보고 대기하려는 소비자를 놓치지 않음
+            if (consumerIdle) {
+                LockSupport.unpark(consumer);
+            }
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            callerRuns.increment();
+            writeEvent(event);
+        } else {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * 파이프라인 상태/카운터 조회
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("async", running);
+        stats.put("overflowPolicy", overflowPolicy.name());
+        stats.put("bufferCapacity", ringBuffer.capacity());
+        stats.put("pending", ringBuffer.size());
+        stats.put("published", published.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("callerRuns", callerRuns.sum());
+        stats.put("written", written.sum());
+        stats.put("failed", failed.sum());
+        return stats;
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    private void consumeLoop() {
+        while (running) {
+            if (ringBuffer.drainTo(this::writeEvent, batchSize) > 0) {
+                continue;
+            }
+            // 대기 표시 후 버퍼를 다시 확인 (그 사이 발행된 이벤트는 publish가 unpark하거나 여기서 발견)
+            consumerIdle = true;
+            if (ringBuffer.size() == 0 && running) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            consumerIdle = false;
+        }
+        // 종료 요청 후 남은 이벤트 기록
+        while (ringBuffer.drainTo(this::writeEvent, batchSize) > 0) {
+            // drain
+        }
+    }
+
+    private void writeEvent(ApiLogEvent event) {
+        String previousRequestId = MDC.get(MDC_KEY);
+        try {
+            // 로그 패턴의 %X{requestId}가 원 요청의 ID로 출력되도록 소비자 스레드 MDC 설정
+            if (event.requestId() != null) {
+                MDC.put(MDC_KEY, event.requestId());
+            }
+            if (event.type() == ApiLogEvent.Type.CAPTURE) {
+                trafficRecorder.write(event);
+            } else {
+                apiLogger.write(event);
+                segmentStore.append(event);
+            }
+            written.increment();
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("Failed to write api log event", e);
+        } finally {
+            if (previousRequestId != null) {
+                MDC.put(MDC_KEY, previousRequestId);
+            } else {
+                MDC.remove(MDC_KEY);
+            }
+        }
+    }
+}
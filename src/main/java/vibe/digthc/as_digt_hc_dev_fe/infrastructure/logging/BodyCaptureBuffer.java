@@ -0,0 +1,77 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging;
+
+import java.util.Arrays;
+
+/**
+ * 본문 앞부분 캡처 버퍼
+ *
+ * 스트림을 통과하는 바이트 중 처음 limit 바이트만 보관하고, 나머지는 개수만 셉니다.
+ * 실제 바이트 배열은 첫 쓰기 시점에 BodyCaptureBufferPool에서 빌려오며 release()로 반납합니다.
+ * (본문이 없는 요청은 버퍼를 빌리지 않음)
+ *
+ * 한 요청을 처리하는 스레드에서만 사용합니다. (스레드 안전하지 않음)
+ */
+final class BodyCaptureBuffer {
+
+    private final BodyCaptureBufferPool pool;
+    private final int limit;
+
+    private byte[] buffer;
+    private int count;
+    private long totalBytes;
+
+    BodyCaptureBuffer(BodyCaptureBufferPool pool) {
+        this.pool = pool;
+        this.limit = pool.getBufferSize();
+    }
+
+    void write(int b) {
+        totalBytes++;
+        if (count < limit) {
+            ensureBuffer()[count++] = (byte) b;
+        }
+    }
+
+    void write(byte[] b, int off, int len) {
+        totalBytes += len;
+        int copy = Math.min(len, limit - count);
+        if (copy > 0) {
+            System.arraycopy(b, off, ensureBuffer(), count, copy);
+            count += copy;
+        }
+    }
+
+    /**
+     * 보관된 앞부분 복사본 (비동기 기록으로 넘기기 위해 풀 버퍼와 분리)
+     *
+     * @return 보관된 바이트 (본문이 없으면 null)
+     */
+    byte[] toByteArray() {
+        return count == 0 ? null : Arrays.copyOf(buffer, count);
+    }
+
+    /**
+     * 스트림을 통과한 전체 바이트 수
+     */
+    long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * 풀 버퍼 반납 (이후 write 시 다시 대여)
+     */
+    void release() {
+        if (buffer != null) {
+            pool.release(buffer);
+            buffer = null;
+        }
+        count = 0;
+    }
+
+    private byte[] ensureBuffer() {
+        if (buffer == null) {
+            buffer = pool.acquire();
+        }
+        return buffer;
+    }
+}
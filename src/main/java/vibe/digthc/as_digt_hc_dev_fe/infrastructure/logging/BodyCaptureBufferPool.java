@@ -0,0 +1,75 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 본문 캡처용 바이트 버퍼 풀
+ *
+ * 요청마다 max-body-length 크기의 배열을 새로 할당하지 않도록 고정 크기 버퍼를 재사용합니다.
+ * 풀이 비어 있으면 새로 할당하고, 반납 시 풀이 가득 차 있으면 버립니다. (GC에 맡김)
+ *
+ * 설정 속성:
+ * - app.logging.api.max-body-length: 버퍼 크기 (로깅할 최대 본문 바이트 수)
+ * - app.logging.api.capture-pool-size: 풀에 보관할 최대 버퍼 수
+ */
+@Component
+public class BodyCaptureBufferPool {
+
+    private final int bufferSize;
+    private final ArrayBlockingQueue<byte[]> buffers;
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder allocated = new LongAdder();
+
+    public BodyCaptureBufferPool(
+            @Value("${app.logging.api.max-body-length:5000}") int bufferSize,
+            @Value("${app.logging.api.capture-pool-size:64}") int poolSize) {
+        this.bufferSize = Math.max(0, bufferSize);
+        this.buffers = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+    }
+
+    /**
+     * 요청 하나의 본문 캡처 버퍼 생성
+     */
+    BodyCaptureBuffer newCapture() {
+        return new BodyCaptureBuffer(this);
+    }
+
+    int getBufferSize() {
+        return bufferSize;
+    }
+
+    byte[] acquire() {
+        acquired.increment();
+        byte[] buffer = buffers.poll();
+        if (buffer == null) {
+            allocated.increment();
+            buffer = new byte[bufferSize];
+        }
+        return buffer;
+    }
+
+    void release(byte[] buffer) {
+        if (buffer.length == bufferSize) {
+            buffers.offer(buffer);
+        }
+    }
+
+    /**
+     * 풀 사용 현황 조회
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("bufferSize", bufferSize);
+        stats.put("pooled", buffers.size());
+        stats.put("acquired", acquired.sum());
+        stats.put("allocated", allocated.sum());
+        return stats;
+    }
+}
@@ -0,0 +1,130 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Predicate;
+
+/**
+ * 토큰 단위 스트리밍 JSON 마스커
+ *
+ * JsonParser로 읽은 토큰을 JsonGenerator로 그대로 복사하면서,
+ * 민감한 필드명의 값만 "***MASKED***"로 치환합니다. (중간 객체 그래프 없음, 한 줄 compact 출력)
+ *
+ * 본문이 max-body-length에서 잘린 경우에도 잘리기 직전까지의 토큰은 마스킹된 상태로 출력하고
+ * 잘림 표시를 덧붙이므로, JSON이 깨졌다는 이유로 원본(마스킹 안 된) 문자열이 기록되지 않습니다.
+ */
+final class JsonBodyMasker {
+
+    static final String MASK = "***MASKED***";
+
+    private final JsonFactory jsonFactory;
+    private final Predicate<String> sensitiveField;
+
+    JsonBodyMasker(JsonFactory jsonFactory, Predicate<String> sensitiveField) {
+        this.jsonFactory = jsonFactory;
+        this.sensitiveField = sensitiveField;
+    }
+
+    /**
+     * 마스킹 결과
+     *
+     * @param text     마스킹된 본문 (json=true면 compact JSON)
+     * @param json     완결된 JSON 여부 (false면 일반 텍스트 또는 잘린/깨진 JSON)
+     * @param verbatim 원문과 같은 내용인지 여부 (마스킹된 필드, 잘림/깨진 JSON 표시가 없으면 true - 재현 가능)
+     */
+    record Result(String text, boolean json, boolean verbatim) {
+    }
+
+    /**
+     * 본문 마스킹
+     *
+     * @param body      원본 본문 바이트 (UTF-8)
+     * @param maxLength 처리할 최대 바이트 수 (초과분은 잘림 처리)
+     */
+    Result mask(byte[] body, int maxLength) {
+        return mask(body, body.length, maxLength);
+    }
+
+    /**
+     * 앞부분만 보관된 본문 마스킹
+     *
+     * @param body        보관된 본문 바이트 (UTF-8, 원본의 앞부분일 수 있음)
+     * @param totalLength 원본 본문 전체 바이트 수
+     * @param maxLength   처리할 최대 바이트 수 (초과분은 잘림 처리)
+     */
+    Result mask(byte[] body, long totalLength, int maxLength) {
+        int length = Math.min(body.length, Math.max(0, maxLength));
+        long truncatedBytes = Math.max(totalLength, body.length) - length;
+        String truncatedSuffix = truncatedBytes > 0 ? "... [truncated " + truncatedBytes + " bytes]" : "";
+
+        if (!startsLikeJson(body, length)) {
+            return new Result(new String(body, 0, length, StandardCharsets.UTF_8) + truncatedSuffix, false,
+                    truncatedBytes == 0);
+        }
+
+        StringWriter out = new StringWriter(Math.min(length, 1024));
+        boolean complete = true;
+        boolean masked = false;
+        try (JsonParser parser = jsonFactory.createParser(body, 0, length);
+             JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            // 잘린 본문에서 열린 객체/배열을 임의로 닫지 않음 (실제 본문과 다른 모양이 되지 않도록)
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            try {
+                masked = copyMasked(parser, generator);
+            } catch (Exception e) {
+                complete = false;
+            }
+            generator.flush();
+        } catch (Exception e) {
+            complete = false;
+        }
+
+        String text = out.toString();
+        if (complete && truncatedBytes == 0) {
+            return new Result(text, true, !masked);
+        }
+        return new Result(text + (truncatedBytes > 0 ? truncatedSuffix : "... [invalid json]"), false, false);
+    }
+
+    /**
+     * @return 마스킹한 필드가 있었는지 여부
+     */
+    private boolean copyMasked(JsonParser parser, JsonGenerator generator) throws Exception {
+        boolean masked = false;
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            if (token == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                generator.writeFieldName(name);
+                if (sensitiveField.test(name)) {
+                    JsonToken value = parser.nextToken();
+                    // 값 토큰을 읽자마자 마스킹 값을 먼저 기록 (이후 잘려도 원본 값은 노출되지 않음)
+                    generator.writeString(MASK);
+                    masked = true;
+                    if (value != null && value.isStructStart()) {
+                        parser.skipChildren();
+                    }
+                }
+                continue;
+            }
+            generator.copyCurrentEvent(parser);
+        }
+        return masked;
+    }
+
+    private boolean startsLikeJson(byte[] body, int length) {
+        for (int i = 0; i < length; i++) {
+            byte b = body[i];
+            if (b == ' ' || b == '\t' || b == '\r' || b == '\n') {
+                continue;
+            }
+            return b == '{' || b == '[';
+        }
+        return false;
+    }
+}
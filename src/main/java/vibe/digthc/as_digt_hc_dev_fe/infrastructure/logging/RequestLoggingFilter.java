@@ -9,22 +9,28 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.servlet.HandlerMapping;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.metrics.RouteLatencyRecorder;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * API 요청/응답 로깅 필터
  * 
  * 모든 HTTP 요청과 응답을 로깅합니다.
- * ContentCachingRequestWrapper와 ContentCachingResponseWrapper를 사용하여
- * 본문을 여러 번 읽을 수 있도록 합니다.
+ * 요청/응답 본문은 tee 래퍼로 클라이언트/컨트롤러에 그대로 흘려보내면서
+ * 앞부분(max-body-length)만 풀 버퍼에 캡처합니다. (본문 전체 버퍼링 없음)
  * 
  * 요청 로깅과 응답 로깅은 ApiLogger의 설정에 따라 각각 독립적으로 활성화/비활성화됩니다.
+ * 라우트별 로그 수준(OFF/BASIC/HEADERS/FULL)은 ApiLogPolicyEngine이 결정하며,
+ * 본문을 기록하지 않는 라우트는 래핑(본문 캐싱) 자체를 생략합니다.
+ * 트래픽 캡처 모드(ApiTrafficRecorder)가 켜져 있으면 재현용 요청 레코드도 함께 발행합니다.
+ * 처리 시간은 System.nanoTime()으로 측정하며, 로깅 여부와 관계없이 RouteLatencyRecorder에 라우트별로 집계됩니다.
+ * 로그 가공/기록은 AsyncApiLogDispatcher를 통해 요청 스레드 밖에서 수행됩니다.
  */
 @Slf4j
 @Component
@@ -33,17 +39,12 @@ import java.util.List;
 public class RequestLoggingFilter extends OncePerRequestFilter {
 
     private final ApiLogger apiLogger;
-
-    /**
-     * 로깅에서 제외할 경로 목록
-     */
-    private static final List<String> EXCLUDED_PATHS = Arrays.asList(
-            "/actuator",
-            "/health",
-            "/favicon.ico",
-            "/static",
-            "/assets"
-    );
+    private final AsyncApiLogDispatcher logDispatcher;
+    private final ApiLogSampler apiLogSampler;
+    private final ApiLogPolicyEngine policyEngine;
+    private final BodyCaptureBufferPool captureBufferPool;
+    private final ApiTrafficRecorder trafficRecorder;
+    private final RouteLatencyRecorder latencyRecorder;
 
     /**
      * 로깅에서 제외할 Content-Type 목록
@@ -61,78 +62,163 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
 
-        // 로깅이 완전히 비활성화된 경우 또는 제외 대상인 경우 스킵
-        if (!apiLogger.isEnabled() || shouldSkipLogging(request)) {
+        // 로깅 설정과 무관하게 모든 요청의 지연 시간을 라우트별로 집계
+        long startNanos = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterAndLog(request, response, filterChain, startNanos);
+            failed = false;
+        } finally {
+            latencyRecorder.record(request.getMethod(), resolveHandlerPattern(request), response.getStatus(),
+                    System.nanoTime() - startNanos, failed);
+        }
+    }
+
+    private void filterAndLog(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain,
+            long startNanos) throws ServletException, IOException {
+
+        // 로깅과 트래픽 캡처가 모두 비활성화된 경우 스킵
+        boolean logging = apiLogger.isEnabled();
+        boolean recording = trafficRecorder.isEnabled();
+        if (!logging && !recording) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        long startTime = System.currentTimeMillis();
+        // 라우트별 로그 수준 결정 (컨텍스트 패스 이후 경로 기준)
+        ApiLogLevel level = policyEngine.resolve(request.getRequestURI(), request.getContextPath().length());
+        if (!level.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-        // 요청 본문을 캐싱할 수 있도록 래핑
-        ContentCachingRequestWrapper wrappedRequest = new ContentCachingRequestWrapper(
-                request,
-                apiLogger.getMaxBodyLength()
-        );
-        
-        // 응답 본문을 캐싱할 수 있도록 래핑
-        ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(response);
+        // 본문이 필요 없는 경우 래퍼 없이 원본 요청/응답 그대로 진행
+        // (트래픽 캡처는 재현을 위해 라우트 수준과 관계없이 요청 본문이 필요)
+        boolean logBody = logging && level.includesBody() && apiLogger.isIncludeBody();
+        boolean wrapRequest = logBody || recording;
+        TeeCaptureRequestWrapper wrappedRequest = wrapRequest
+                ? new TeeCaptureRequestWrapper(request, captureBufferPool.newCapture())
+                : null;
+        TeeCaptureResponseWrapper wrappedResponse = logBody
+                ? new TeeCaptureResponseWrapper(response, captureBufferPool.newCapture())
+                : null;
+        HttpServletRequest currentRequest = wrapRequest ? wrappedRequest : request;
+        HttpServletResponse currentResponse = logBody ? wrappedResponse : response;
 
         try {
             // 필터 체인 실행
-            filterChain.doFilter(wrappedRequest, wrappedResponse);
+            filterChain.doFilter(currentRequest, currentResponse);
 
         } finally {
-            // 요청 본문 읽기
-            String requestBody = "";
-            byte[] requestBodyBytes = wrappedRequest.getContentAsByteArray();
-            if (requestBodyBytes.length > 0) {
-                requestBody = new String(requestBodyBytes, StandardCharsets.UTF_8);
-            }
-
-            // 응답 본문 읽기
-            String responseBody = "";
-            byte[] responseBodyBytes = wrappedResponse.getContentAsByteArray();
-            if (responseBodyBytes.length > 0 && shouldLogResponseBody(wrappedResponse)) {
-                responseBody = new String(responseBodyBytes, StandardCharsets.UTF_8);
-            }
-
-            long duration = System.currentTimeMillis() - startTime;
-
-            // 요청 로깅 (요청 로깅이 활성화된 경우에만)
-            if (apiLogger.isRequestEnabled()) {
-                apiLogger.logBackendRequest(wrappedRequest, requestBody);
+            long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            if (logBody) {
+                wrappedResponse.flushWriter();
             }
 
-            // 응답 로깅 (응답 로깅이 활성화된 경우에만)
-            if (apiLogger.isResponseEnabled()) {
-                apiLogger.logBackendResponse(wrappedRequest, wrappedResponse, responseBody, duration);
+            // 요청 스레드에서는 원본 바이트/헤더/타이밍만 캡처하고,
+            // 마스킹/포맷팅/기록은 비동기 파이프라인에 위임
+            try {
+                String route = resolveRoute(currentRequest);
+                BodyCaptureBuffer requestCapture = wrapRequest ? wrappedRequest.getCapture() : null;
+
+                if (logging) {
+                    // 응답 시점에 보존 여부 결정 (에러/느린 요청은 항상 보존, 나머지는 라우트별 저수지 샘플링)
+                    ApiLogSampler.Decision decision = apiLogSampler.decide(
+                            route, currentResponse.getStatus(), duration);
+                    boolean reservoir = decision == ApiLogSampler.Decision.RESERVOIR;
+                    List<ApiLogEvent> sampled = reservoir ? new ArrayList<>(2) : null;
+
+                    if ((decision.isKeep() || reservoir) && apiLogger.isRequestEnabled()) {
+                        BodyCaptureBuffer capture = logBody ? requestCapture : null;
+                        ApiLogEvent event = apiLogger.captureRequest(
+                                currentRequest,
+                                capture != null ? capture.toByteArray() : null,
+                                capture != null ? capture.getTotalBytes() : 0L,
+                                level);
+                        if (reservoir) {
+                            sampled.add(event);
+                        } else {
+                            logDispatcher.publish(event);
+                        }
+                    }
+
+                    if ((decision.isKeep() || reservoir) && apiLogger.isResponseEnabled()) {
+                        BodyCaptureBuffer capture = logBody && shouldLogResponseBody(wrappedResponse)
+                                ? wrappedResponse.getCapture()
+                                : null;
+                        ApiLogEvent event = apiLogger.captureResponse(
+                                currentRequest,
+                                currentResponse,
+                                capture != null ? capture.toByteArray() : null,
+                                capture != null ? capture.getTotalBytes() : 0L,
+                                duration,
+                                level);
+                        if (reservoir) {
+                            sampled.add(event);
+                        } else {
+                            logDispatcher.publish(event);
+                        }
+                    }
+
+                    if (reservoir) {
+                        apiLogSampler.offer(route, sampled);
+                    }
+                }
+
+                // 트래픽 캡처는 샘플링과 무관하게 모든 요청을 기록 (실제 트래픽 비율 유지)
+                if (recording) {
+                    logDispatcher.publish(trafficRecorder.capture(
+                            currentRequest,
+                            route,
+                            currentResponse.getStatus(),
+                            duration,
+                            requestCapture.toByteArray(),
+                            requestCapture.getTotalBytes()));
+                }
+            } catch (Exception e) {
+                log.warn("Failed to capture api log", e);
+            } finally {
+                // 캡처 버퍼 반납 (이벤트에는 복사본만 전달됨)
+                if (wrapRequest) {
+                    wrappedRequest.getCapture().release();
+                }
+                if (logBody) {
+                    wrappedResponse.getCapture().release();
+                }
             }
-
-            // 응답 본문을 클라이언트에 복사 (래퍼가 본문을 소비했으므로)
-            wrappedResponse.copyBodyToResponse();
         }
     }
 
     /**
-     * 로깅을 건너뛸 경로인지 확인
-     * 
+     * 샘플링 기준 라우트 (핸들러 매칭 패턴, 매칭 전이면 요청 URI)
+     *
      * @param request HTTP 요청 객체
-     * @return 로깅 스킵 여부
+     * @return 라우트 키
+     */
+    private String resolveRoute(HttpServletRequest request) {
+        String pattern = resolveHandlerPattern(request);
+        return pattern != null ? pattern : request.getRequestURI();
+    }
+
+    /**
+     * 핸들러 매칭 패턴 (매칭되지 않은 요청이면 null)
      */
-    private boolean shouldSkipLogging(HttpServletRequest request) {
-        String path = request.getRequestURI();
-        return EXCLUDED_PATHS.stream().anyMatch(path::startsWith);
+    private String resolveHandlerPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : null;
     }
 
     /**
      * 응답 본문을 로깅해야 하는지 확인
      * 바이너리 컨텐츠(이미지, 비디오 등)는 로깅에서 제외
      * 
-     * @param response HTTP 응답 래퍼 객체
+     * @param response HTTP 응답 객체
      * @return 응답 본문 로깅 여부
      */
-    private boolean shouldLogResponseBody(ContentCachingResponseWrapper response) {
+    private boolean shouldLogResponseBody(HttpServletResponse response) {
         String contentType = response.getContentType();
         if (contentType == null) {
             return true;
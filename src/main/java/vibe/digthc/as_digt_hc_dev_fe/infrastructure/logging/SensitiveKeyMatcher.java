@@ -0,0 +1,176 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 대소문자 무시 다중 패턴 매처 (Aho-Corasick)
+ *
+ * 설정된 민감 필드/헤더 목록으로 기동 시 한 번만 오토마톤을 만들고,
+ * 조회 시에는 문자 단위로 상태 전이 테이블만 따라가므로 키마다 toLowerCase()/스트림/부분 문자열 검색이 필요 없습니다.
+ * (조회 경로에서 객체 할당 없음, 키 길이에 비례하는 O(n) 비용)
+ *
+ * - containsAny: 키 어디에든 패턴이 포함되면 true (JSON 필드용, 예: "userPassword")
+ * - matchesExactly: 키 전체가 패턴과 일치하면 true (헤더용, 예: "Authorization")
+ *
+ * 패턴은 ASCII 문자만 지원합니다.
+ */
+public final class SensitiveKeyMatcher {
+
+    private static final int ALPHABET = 128;
+    private static final int ROOT = 0;
+
+    /** 완전 전이 테이블 (goto + failure 링크를 미리 합성한 DFA) */
+    private final int[] transitions;
+    /** 상태 깊이 (루트부터의 문자 수) */
+    private final int[] depth;
+    /** 해당 상태에서 끝나는(또는 failure 체인상) 패턴 존재 여부 */
+    private final boolean[] output;
+    /** 해당 상태 자체가 패턴의 끝인지 여부 (전체 일치 판정용) */
+    private final boolean[] terminal;
+    private final List<String> patterns;
+
+    private SensitiveKeyMatcher(int[] transitions, int[] depth, boolean[] output, boolean[] terminal,
+                                List<String> patterns) {
+        this.transitions = transitions;
+        this.depth = depth;
+        this.output = output;
+        this.terminal = terminal;
+        this.patterns = patterns;
+    }
+
+    /**
+     * 패턴 목록으로 매처 생성
+     *
+     * @param patterns 민감 키 목록 (대소문자 무시, 공백/빈 값은 무시)
+     */
+    public static SensitiveKeyMatcher compile(Collection<String> patterns) {
+        List<String> normalized = new ArrayList<>();
+        for (String pattern : patterns) {
+            if (pattern == null || pattern.isBlank()) {
+                continue;
+            }
+            String value = pattern.trim().toLowerCase(Locale.ROOT);
+            for (int i = 0; i < value.length(); i++) {
+                if (value.charAt(i) >= ALPHABET) {
+                    throw new IllegalArgumentException("Only ASCII patterns are supported: " + pattern);
+                }
+            }
+            if (!normalized.contains(value)) {
+                normalized.add(value);
+            }
+        }
+
+        int maxStates = 1;
+        for (String pattern : normalized) {
+            maxStates += pattern.length();
+        }
+
+        int[] transitions = new int[maxStates * ALPHABET];
+        Arrays.fill(transitions, -1);
+        int[] depth = new int[maxStates];
+        boolean[] output = new boolean[maxStates];
+        boolean[] terminal = new boolean[maxStates];
+        int stateCount = 1;
+
+        // 1) 트라이 구성
+        for (String pattern : normalized) {
+            int state = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                int slot = state * ALPHABET + pattern.charAt(i);
+                if (transitions[slot] < 0) {
+                    depth[stateCount] = depth[state] + 1;
+                    transitions[slot] = stateCount++;
+                }
+                state = transitions[slot];
+            }
+            output[state] = true;
+            terminal[state] = true;
+        }
+
+        // 2) BFS로 failure 링크를 계산하면서 누락된 전이를 채워 완전 DFA로 변환
+        int[] failure = new int[stateCount];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET; c++) {
+            int next = transitions[ROOT * ALPHABET + c];
+            if (next < 0) {
+                transitions[ROOT * ALPHABET + c] = ROOT;
+            } else {
+                failure[next] = ROOT;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            output[state] |= output[failure[state]];
+            for (int c = 0; c < ALPHABET; c++) {
+                int slot = state * ALPHABET + c;
+                int next = transitions[slot];
+                if (next < 0) {
+                    transitions[slot] = transitions[failure[state] * ALPHABET + c];
+                } else {
+                    failure[next] = transitions[failure[state] * ALPHABET + c];
+                    queue.add(next);
+                }
+            }
+        }
+
+        return new SensitiveKeyMatcher(
+                Arrays.copyOf(transitions, stateCount * ALPHABET),
+                Arrays.copyOf(depth, stateCount),
+                Arrays.copyOf(output, stateCount),
+                Arrays.copyOf(terminal, stateCount),
+                List.copyOf(normalized));
+    }
+
+    /**
+     * 키에 패턴 중 하나라도 포함되어 있는지 확인 (대소문자 무시)
+     */
+    public boolean containsAny(CharSequence key) {
+        if (key == null) {
+            return false;
+        }
+        int state = ROOT;
+        for (int i = 0, length = key.length(); i < length; i++) {
+            char c = Character.toLowerCase(key.charAt(i));
+            state = c < ALPHABET ? transitions[state * ALPHABET + c] : ROOT;
+            if (output[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 키 전체가 패턴 중 하나와 일치하는지 확인 (대소문자 무시)
+     */
+    public boolean matchesExactly(CharSequence key) {
+        if (key == null) {
+            return false;
+        }
+        int state = ROOT;
+        for (int i = 0, length = key.length(); i < length; i++) {
+            char c = Character.toLowerCase(key.charAt(i));
+            if (c >= ALPHABET) {
+                return false;
+            }
+            state = transitions[state * ALPHABET + c];
+            // failure 전이가 일어나면 깊이가 접두 길이보다 짧아짐 → 트라이 경로 이탈
+            if (depth[state] != i + 1) {
+                return false;
+            }
+        }
+        return terminal[state];
+    }
+
+    /**
+     * 컴파일된 패턴 목록 (소문자 정규화)
+     */
+    public List<String> getPatterns() {
+        return patterns;
+    }
+}
@@ -0,0 +1,107 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 요청 본문 tee 래퍼
+ *
+ * 컨트롤러가 요청 본문을 읽는 동안 읽힌 바이트의 앞부분(max-body-length)만 캡처 버퍼에 복사합니다.
+ * ContentCachingRequestWrapper와 달리 본문 전체를 힙에 쌓아두지 않습니다.
+ */
+class TeeCaptureRequestWrapper extends HttpServletRequestWrapper {
+
+    private final BodyCaptureBuffer capture;
+    private ServletInputStream inputStream;
+    private BufferedReader reader;
+
+    TeeCaptureRequestWrapper(HttpServletRequest request, BodyCaptureBuffer capture) {
+        super(request);
+        this.capture = capture;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (inputStream == null) {
+            inputStream = new TeeInputStream(super.getInputStream(), capture);
+        }
+        return inputStream;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        if (reader == null) {
+            reader = new BufferedReader(new InputStreamReader(getInputStream(), resolveCharset()));
+        }
+        return reader;
+    }
+
+    BodyCaptureBuffer getCapture() {
+        return capture;
+    }
+
+    private Charset resolveCharset() throws UnsupportedEncodingException {
+        String encoding = getCharacterEncoding();
+        if (encoding == null) {
+            return StandardCharsets.UTF_8;
+        }
+        try {
+            return Charset.forName(encoding);
+        } catch (Exception e) {
+            throw new UnsupportedEncodingException(encoding);
+        }
+    }
+
+    private static final class TeeInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+        private final BodyCaptureBuffer capture;
+
+        private TeeInputStream(ServletInputStream delegate, BodyCaptureBuffer capture) {
+            this.delegate = delegate;
+            this.capture = capture;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b >= 0) {
+                capture.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = delegate.read(b, off, len);
+            if (read > 0) {
+                capture.write(b, off, read);
+            }
+            return read;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+    }
+}
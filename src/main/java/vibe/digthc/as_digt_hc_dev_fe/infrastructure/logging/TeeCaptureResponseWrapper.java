@@ -0,0 +1,134 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 응답 본문 tee 래퍼
+ *
+ * 응답 바이트를 즉시 클라이언트 스트림으로 그대로 흘려보내면서(write-through) 앞부분(max-body-length)만 캡처합니다.
+ * ContentCachingResponseWrapper처럼 본문 전체를 보관했다가 copyBodyToResponse()로 복사하지 않으므로
+ * 첫 바이트 전송이 지연되지 않고, 큰 목록 응답에서도 힙 사용량이 본문 크기에 비례해 늘지 않습니다.
+ */
+class TeeCaptureResponseWrapper extends HttpServletResponseWrapper {
+
+    private final BodyCaptureBuffer capture;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    TeeCaptureResponseWrapper(HttpServletResponse response, BodyCaptureBuffer capture) {
+        super(response);
+        this.capture = capture;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called for this response");
+        }
+        return teeOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (outputStream != null) {
+                throw new IllegalStateException("getOutputStream() has already been called for this response");
+            }
+            writer = new PrintWriter(new OutputStreamWriter(teeOutputStream(), resolveCharset()), false);
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    /**
+     * Writer 내부 인코더 버퍼에 남은 문자를 스트림(및 캡처 버퍼)으로 내보냄
+     */
+    void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    BodyCaptureBuffer getCapture() {
+        return capture;
+    }
+
+    private ServletOutputStream teeOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new TeeOutputStream(super.getOutputStream(), capture);
+        }
+        return outputStream;
+    }
+
+    private Charset resolveCharset() throws UnsupportedEncodingException {
+        String encoding = getCharacterEncoding();
+        if (encoding == null) {
+            return StandardCharsets.ISO_8859_1;
+        }
+        try {
+            return Charset.forName(encoding);
+        } catch (Exception e) {
+            throw new UnsupportedEncodingException(encoding);
+        }
+    }
+
+    private static final class TeeOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final BodyCaptureBuffer capture;
+
+        private TeeOutputStream(ServletOutputStream delegate, BodyCaptureBuffer capture) {
+            this.delegate = delegate;
+            this.capture = capture;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            capture.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            capture.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging.dto;
+
+import java.util.Map;
+
+/**
+ * API 로깅 런타임 설정 변경 요청
+ *
+ * null인 항목은 변경하지 않습니다.
+ * routes가 있으면 라우트 정책 전체를 교체합니다. (예: {"/v1/metrics/**": "headers", "/v1/auth/**": "basic"})
+ */
+public record LoggingSettingsUpdateReq(
+    Boolean enabled,
+    Boolean requestEnabled,
+    Boolean responseEnabled,
+    Boolean includeHeaders,
+    Boolean includeBody,
+    Boolean captureEnabled,
+    Map<String, String> routes
+) {}
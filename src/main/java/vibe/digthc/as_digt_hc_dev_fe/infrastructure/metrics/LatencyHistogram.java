@@ -0,0 +1,203 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 1분 슬롯 링 기반 로그-선형(HDR 방식) 지연 시간 히스토그램
+ *
+ * - 버킷: 2의 거듭제곱 구간마다 32개 하위 버킷 (상대 오차 약 3%), 1µs ~ 약 68초 범위 (초과 값은 최상위 버킷)
+ * - 기록: 현재 분 슬롯의 버킷 카운터를 원자적으로 증가 (락 없음, 분이 바뀔 때만 해당 슬롯을 한 번 초기화)
+ * - 조회: 현재 분 슬롯 + 직전 N분 슬롯을 합쳐 백분위/처리량/에러율 계산 (슬라이딩 윈도)
+ *   가장 오래된 슬롯은 윈도에 걸친 비율(현재 분의 남은 비율)만큼만 반영해, 분이 막 바뀐 직후에도 약 N분 분량을 집계
+ *
+ * 메모리는 슬롯 수 x 버킷 수로 고정되며 기록 건수와 무관합니다.
+ */
+final class LatencyHistogram {
+
+    /** 1µs 미만은 구분하지 않음 (ns >>> 10) */
+    private static final int LOWEST_SHIFT = 10;
+    private static final int SUB_BITS = 5;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    /** 추적 가능한 최대 값 (µs 단위, 2^26 ≈ 68초) */
+    private static final long MAX_TRACKABLE = (1L << 26) - 1;
+    static final int BUCKETS = (26 - SUB_BITS + 1) * SUB_COUNT;
+
+    private static final long MINUTE_MILLIS = 60_000L;
+
+    private final Slot[] slots;
+
+    /**
+     * @param windowMinutes 조회 가능한 최대 윈도 (분, 현재 분 슬롯을 더해 windowMinutes + 1개 슬롯 유지)
+     */
+    LatencyHistogram(int windowMinutes) {
+        this.slots = new Slot[windowMinutes + 1];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new Slot();
+        }
+    }
+
+    /**
+     * 지연 시간 기록
+     *
+     * @param nowMillis     현재 시각 (epoch millis)
+     * @param latencyNanos  지연 시간 (ns)
+     * @param serverError   5xx 또는 처리 중 예외 여부
+     * @param clientError   4xx 여부
+     */
+    void record(long nowMillis, long latencyNanos, boolean serverError, boolean clientError) {
+        long minute = nowMillis / MINUTE_MILLIS;
+        Slot slot = slots[(int) (minute % slots.length)];
+        if (slot.minute != minute) {
+            slot.rollTo(minute);
+        }
+        slot.counts.incrementAndGet(bucketIndex(latencyNanos));
+        slot.count.incrementAndGet();
+        slot.sumNanos.addAndGet(latencyNanos);
+        if (serverError) {
+            slot.serverErrors.incrementAndGet();
+        }
+        if (clientError) {
+            slot.clientErrors.incrementAndGet();
+        }
+    }
+
+    /**
+     * 최근 N분 통계 (슬라이딩 윈도)
+     * - 현재 진행 중인 분 + 직전 N-1분은 전부, 그보다 한 분 앞선 슬롯은 윈도에 걸친 비율만큼 반영
+     * - 분 안에서는 요청이 고르게 분포한다고 가정한 근사치
+     *
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @param minutes   윈도 크기 (분, 생성 시 windowMinutes 이하)
+     */
+    Map<String, Object> snapshot(long nowMillis, int minutes) {
+        int window = Math.min(minutes, slots.length - 1);
+        long nowMinute = nowMillis / MINUTE_MILLIS;
+        long oldestMinute = nowMinute - window;
+        // 가장 오래된 슬롯 중 윈도 안에 남은 비율 (현재 분의 남은 비율)
+        double oldestWeight = 1.0 - (nowMillis % MINUTE_MILLIS) / (double) MINUTE_MILLIS;
+
+        double[] merged = new double[BUCKETS];
+        double count = 0;
+        double sumNanos = 0;
+        double serverErrors = 0;
+        double clientErrors = 0;
+        for (Slot slot : slots) {
+            long minute = slot.minute;
+            if (minute < oldestMinute || minute > nowMinute) {
+                continue;
+            }
+            double weight = minute == oldestMinute ? oldestWeight : 1.0;
+            if (weight <= 0) {
+                continue;
+            }
+            for (int i = 0; i < BUCKETS; i++) {
+                merged[i] += slot.counts.get(i) * weight;
+            }
+            count += slot.count.get() * weight;
+            sumNanos += slot.sumNanos.get() * weight;
+            serverErrors += slot.serverErrors.get() * weight;
+            clientErrors += slot.clientErrors.get() * weight;
+        }
+
+        double windowSeconds = window * 60.0;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("count", Math.round(count));
+        stats.put("throughputPerSec", round(windowSeconds > 0 ? count / windowSeconds : 0.0));
+        stats.put("errorRate", round(count > 0 ? serverErrors / count : 0.0));
+        stats.put("clientErrorRate", round(count > 0 ? clientErrors / count : 0.0));
+        stats.put("meanMs", round(count > 0 ? sumNanos / 1e6 / count : 0.0));
+        stats.put("p50Ms", round(percentileNanos(merged, count, 0.50) / 1e6));
+        stats.put("p90Ms", round(percentileNanos(merged, count, 0.90) / 1e6));
+        stats.put("p99Ms", round(percentileNanos(merged, count, 0.99) / 1e6));
+        stats.put("p999Ms", round(percentileNanos(merged, count, 0.999) / 1e6));
+        stats.put("maxMs", round(percentileNanos(merged, count, 1.0) / 1e6));
+        return stats;
+    }
+
+    /**
+     * 가중 버킷 카운트의 백분위 (버킷 중앙값, ns)
+     */
+    static long percentileNanos(double[] counts, double total, double quantile) {
+        if (total <= 0) {
+            return 0L;
+        }
+        double rank = quantile * total;
+        double seen = 0;
+        int last = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] <= 0) {
+                continue;
+            }
+            seen += counts[i];
+            last = i;
+            if (seen >= rank) {
+                return bucketMidpointNanos(i);
+            }
+        }
+        // 실수 합산 오차로 rank에 못 미친 경우 마지막 값 있는 버킷
+        return bucketMidpointNanos(last);
+    }
+
+    static int bucketIndex(long latencyNanos) {
+        long value = Math.min(Math.max(1L, latencyNanos >>> LOWEST_SHIFT), MAX_TRACKABLE);
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int group = exponent - SUB_BITS + 1;
+        int within = (int) ((value >>> (exponent - SUB_BITS)) & (SUB_COUNT - 1));
+        return group * SUB_COUNT + within;
+    }
+
+    static long bucketMidpointNanos(int index) {
+        long low;
+        long high;
+        if (index < SUB_COUNT) {
+            low = index;
+            high = index + 1L;
+        } else {
+            int group = index / SUB_COUNT;
+            int within = index % SUB_COUNT;
+            low = (SUB_COUNT + (long) within) << (group - 1);
+            high = (SUB_COUNT + (long) within + 1) << (group - 1);
+        }
+        return ((low + high) << LOWEST_SHIFT) / 2;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+
+    /**
+     * 1분 슬롯
+     */
+    private static final class Slot {
+        private volatile long minute = -1;
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong sumNanos = new AtomicLong();
+        private final AtomicLong serverErrors = new AtomicLong();
+        private final AtomicLong clientErrors = new AtomicLong();
+
+        /**
+         * 링이 한 바퀴 돌아 이전 분의 슬롯을 재사용할 때 초기화 (분당 슬롯 하나에서 한 번만 발생)
+         */
+        private synchronized void rollTo(long newMinute) {
+            if (minute == newMinute) {
+                return;
+            }
+            for (int i = 0; i < BUCKETS; i++) {
+                counts.set(i, 0L);
+            }
+            count.set(0L);
+            sumNanos.set(0L);
+            serverErrors.set(0L);
+            clientErrors.set(0L);
+            minute = newMinute;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 라우트별 지연 시간 집계기
+ *
+ * RequestLoggingFilter가 요청마다 (HTTP 메서드 + 핸들러 매칭 패턴) 단위로 지연 시간(ns)을 기록하며,
+ * 라우트마다 1분 슬롯 히스토그램(15분 + 현재 분)을 유지해 최근 1분/5분/15분 슬라이딩 윈도 통계를 제공합니다.
+ *
+ * 라우트 수가 max-routes를 넘으면 이후 라우트는 OTHER로 합쳐 메모리 사용량을 고정합니다.
+ * 핸들러에 매칭되지 않은 요청(404 등)은 원본 URL 대신 UNMATCHED로 집계합니다.
+ *
+ * 설정 속성:
+ * - app.metrics.latency.max-routes: 개별 집계할 최대 라우트 수
+ */
+@Component
+public class RouteLatencyRecorder {
+
+    static final String OTHER_ROUTE = "OTHER";
+    static final String UNMATCHED_ROUTE = "UNMATCHED";
+
+    private static final int WINDOW_MINUTES = 15;
+    private static final int[] REPORT_WINDOWS = {1, 5, 15};
+
+    private final int maxRoutes;
+    private final Map<String, LatencyHistogram> routes = new ConcurrentHashMap<>();
+    private final LatencyHistogram otherRoutes = new LatencyHistogram(WINDOW_MINUTES);
+
+    public RouteLatencyRecorder(@Value("${app.metrics.latency.max-routes:100}") int maxRoutes) {
+        this.maxRoutes = Math.max(1, maxRoutes);
+    }
+
+    /**
+     * 요청 한 건 기록
+     *
+     * @param method       HTTP 메서드
+     * @param pattern      핸들러 매칭 패턴 (없으면 null)
+     * @param status       응답 상태 코드
+     * @param latencyNanos 처리 시간 (ns)
+     * @param failed       처리 중 예외 발생 여부 (상태 코드와 무관하게 서버 에러로 집계)
+     */
+    public void record(String method, String pattern, int status, long latencyNanos, boolean failed) {
+        String route = method + " " + (pattern != null ? pattern : UNMATCHED_ROUTE);
+        histogram(route).record(System.currentTimeMillis(), latencyNanos, failed || status >= 500,
+                status >= 400 && status < 500);
+    }
+
+    /**
+     * 라우트별 1분/5분/15분 윈도 통계
+     */
+    public Map<String, Object> getReport() {
+        long now = System.currentTimeMillis();
+        Map<String, Object> report = new TreeMap<>();
+        routes.forEach((route, histogram) -> report.put(route, windows(histogram, now)));
+        if (routes.size() >= maxRoutes) {
+            report.put(OTHER_ROUTE, windows(otherRoutes, now));
+        }
+        return report;
+    }
+
+    public int getMaxRoutes() {
+        return maxRoutes;
+    }
+
+    private LatencyHistogram histogram(String route) {
+        LatencyHistogram histogram = routes.get(route);
+        if (histogram != null) {
+            return histogram;
+        }
+        if (routes.size() >= maxRoutes) {
+            return otherRoutes;
+        }
+        return routes.computeIfAbsent(route, key -> new LatencyHistogram(WINDOW_MINUTES));
+    }
+
+    private Map<String, Object> windows(LatencyHistogram histogram, long now) {
+        Map<String, Object> windows = new LinkedHashMap<>();
+        for (int minutes : REPORT_WINDOWS) {
+            windows.put(minutes + "m", histogram.snapshot(now, minutes));
+        }
+        return windows;
+    }
+}
@@ -0,0 +1,34 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.resilience;
+
+/**
+ * 서킷 브레이커가 열려 있거나 벌크헤드가 가득 차 호출하지 않고 거부한 경우
+ */
+public class CallNotPermittedException extends RuntimeException {
+
+    /**
+     * 거부 사유
+     */
+    public enum Reason {
+        /** 서킷 브레이커 OPEN (또는 HALF_OPEN 시험 호출 소진) */
+        CIRCUIT_OPEN,
+        /** 동시 호출 한도 초과 */
+        BULKHEAD_FULL
+    }
+
+    private final String target;
+    private final Reason reason;
+
+    public CallNotPermittedException(String target, Reason reason) {
+        super("외부 호출이 거부되었습니다: target=" + target + ", reason=" + reason, null, false, false);
+        this.target = target;
+        this.reason = reason;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,144 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.resilience;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 개수 기반 슬라이딩 윈도우 서킷 브레이커
+ *
+ * 최근 window-size개 호출 결과를 링 버퍼에 기록하고, min-calls 이상 쌓인 상태에서
+ * 실패율(느린 호출 포함)이 임계치 이상이면 OPEN으로 전환합니다.
+ * - OPEN: open-ms 동안 모든 호출 즉시 거부
+ * - HALF_OPEN: half-open-calls개 시험 호출만 허용, 시험 결과 실패율로 CLOSED/OPEN 결정
+ *
+ * 외부 호출 시간에 비해 상태 전환 비용이 작으므로 단순히 synchronized로 보호합니다.
+ */
+final class CircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final ResiliencePolicy policy;
+    private final LongSupplier nanoClock;
+
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowFilled;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int halfOpenIssued;
+    private int halfOpenCompleted;
+    private int halfOpenFailures;
+
+    private long notPermitted;
+    private long openedCount;
+
+    CircuitBreaker(ResiliencePolicy policy, LongSupplier nanoClock) {
+        this.policy = policy;
+        this.nanoClock = nanoClock;
+        this.window = new boolean[policy.windowSize()];
+    }
+
+    /**
+     * 호출 허가 (OPEN 대기 시간이 지났으면 HALF_OPEN으로 전환)
+     *
+     * @return 허가 여부 (true면 반드시 onResult 호출)
+     */
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAtNanos < policy.openNanos()) {
+                notPermitted++;
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenIssued >= policy.halfOpenCalls()) {
+                notPermitted++;
+                return false;
+            }
+            halfOpenIssued++;
+        }
+        return true;
+    }
+
+    /**
+     * 허가받은 호출의 결과 기록
+     *
+     * @param failure 실패(예외 또는 느린 호출) 여부
+     */
+    synchronized void onResult(boolean failure) {
+        switch (state) {
+            case CLOSED -> {
+                record(failure);
+                if (windowFilled >= policy.minCalls() && failureRate() >= policy.failureRateThreshold()) {
+                    transitionTo(State.OPEN);
+                }
+            }
+            case HALF_OPEN -> {
+                halfOpenCompleted++;
+                if (failure) {
+                    halfOpenFailures++;
+                }
+                if (halfOpenCompleted >= policy.halfOpenCalls()) {
+                    double rate = halfOpenFailures * 100.0 / halfOpenCompleted;
+                    transitionTo(rate >= policy.failureRateThreshold() ? State.OPEN : State.CLOSED);
+                }
+            }
+            case OPEN -> {
+                // OPEN 전환 전에 시작된 호출의 늦은 결과는 무시
+            }
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    synchronized Map<String, Object> snapshot() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("state", state.name());
+        stats.put("failureRatePercent", Math.round(failureRate() * 10) / 10.0);
+        stats.put("bufferedCalls", windowFilled);
+        stats.put("notPermitted", notPermitted);
+        stats.put("openedCount", openedCount);
+        return stats;
+    }
+
+    private void record(boolean failure) {
+        if (windowFilled == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowFilled++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private double failureRate() {
+        return windowFilled == 0 ? 0 : windowFailures * 100.0 / windowFilled;
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        halfOpenIssued = 0;
+        halfOpenCompleted = 0;
+        halfOpenFailures = 0;
+        if (next == State.OPEN) {
+            openedAtNanos = nanoClock.getAsLong();
+            openedCount++;
+        } else if (next == State.CLOSED) {
+            // 복구 후에는 새 윈도우로 다시 판단
+            windowIndex = 0;
+            windowFilled = 0;
+            windowFailures = 0;
+        }
+    }
+}
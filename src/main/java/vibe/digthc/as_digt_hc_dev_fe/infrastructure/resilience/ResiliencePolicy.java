@@ -0,0 +1,78 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.resilience;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대상별 서킷 브레이커/벌크헤드/재시도 설정 (모든 대상에 공통 적용)
+ *
+ * @param windowSize           실패율 계산에 쓰는 최근 호출 수
+ * @param minCalls             실패율 판단을 시작할 최소 호출 수
+ * @param failureRateThreshold OPEN 전환 실패율 (%)
+ * @param slowCallMillis       이 시간 이상 걸린 호출은 성공해도 실패로 집계
+ * @param openMillis           OPEN 유지 시간
+ * @param halfOpenCalls        HALF_OPEN 시험 호출 수
+ * @param maxConcurrentCalls   대상별 최대 동시 호출 수
+ * @param maxWaitMillis        동시 호출 한도 초과 시 대기 최대 시간
+ * @param maxAttempts          재시도 포함 최대 시도 횟수
+ * @param baseDelayMillis      재시도 대기 하한
+ * @param maxDelayMillis       재시도 대기 상한
+ * @param retryBudgetRatio     호출 1건당 적립되는 재시도 토큰 (0.2면 전체 호출의 약 20%까지 재시도)
+ * @param retryBudgetMaxTokens 적립 가능한 최대 재시도 토큰
+ */
+record ResiliencePolicy(
+        int windowSize,
+        int minCalls,
+        double failureRateThreshold,
+        long slowCallMillis,
+        long openMillis,
+        int halfOpenCalls,
+        int maxConcurrentCalls,
+        long maxWaitMillis,
+        int maxAttempts,
+        long baseDelayMillis,
+        long maxDelayMillis,
+        double retryBudgetRatio,
+        int retryBudgetMaxTokens
+) {
+
+    ResiliencePolicy {
+        windowSize = Math.max(1, windowSize);
+        minCalls = Math.max(1, Math.min(minCalls, windowSize));
+        halfOpenCalls = Math.max(1, halfOpenCalls);
+        maxConcurrentCalls = Math.max(1, maxConcurrentCalls);
+        maxWaitMillis = Math.max(0, maxWaitMillis);
+        maxAttempts = Math.max(1, maxAttempts);
+        baseDelayMillis = Math.max(1, baseDelayMillis);
+        maxDelayMillis = Math.max(baseDelayMillis, maxDelayMillis);
+        retryBudgetRatio = Math.max(0, retryBudgetRatio);
+        retryBudgetMaxTokens = Math.max(0, retryBudgetMaxTokens);
+    }
+
+    long openNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(openMillis);
+    }
+
+    long slowCallNanos() {
+        return slowCallMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(slowCallMillis) : Long.MAX_VALUE;
+    }
+
+    Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("windowSize", windowSize);
+        map.put("minCalls", minCalls);
+        map.put("failureRateThreshold", failureRateThreshold);
+        map.put("slowCallMs", slowCallMillis);
+        map.put("openMs", openMillis);
+        map.put("halfOpenCalls", halfOpenCalls);
+        map.put("maxConcurrentCalls", maxConcurrentCalls);
+        map.put("maxWaitMs", maxWaitMillis);
+        map.put("maxAttempts", maxAttempts);
+        map.put("baseDelayMs", baseDelayMillis);
+        map.put("maxDelayMs", maxDelayMillis);
+        map.put("retryBudgetRatio", retryBudgetRatio);
+        map.put("retryBudgetMaxTokens", retryBudgetMaxTokens);
+        return map;
+    }
+}
@@ -0,0 +1,250 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.resilience;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 외부 호출 대상별 서킷 브레이커 + 벌크헤드 + 예산 기반 재시도 레지스트리
+ *
+ * 대상(ga4, device.{빈 이름}, portal.{빈 이름})마다 독립된 상태를 가지므로
+ * 한 벤더가 느려지거나 다운되어도 다른 대상의 호출/스레드에는 영향을 주지 않습니다.
+ * - 벌크헤드: 대상별 동시 호출 수 제한 (초과 시 max-wait-ms만 대기 후 거부)
+ * - 서킷 브레이커: 최근 호출 실패율이 임계치를 넘으면 open-ms 동안 즉시 거부 (CallNotPermittedException)
+ * - 재시도: retry=true인 호출만, 재시도 예산 안에서 decorrelated jitter 간격으로 재시도
+ * 4xx(429 제외)/IllegalArgumentException은 대상이 정상 응답한 것으로 보고 실패로 집계하지 않으며 재시도하지 않습니다.
+ * (HTTP 연결 수준의 host별 동시 요청 제한은 OutboundHostLimiter가 별도로 담당)
+ *
+ * 설정 속성 (app.resilience.*):
+ * - enabled: 사용 여부 (false면 그대로 호출)
+ * - circuit-breaker.window-size / min-calls / failure-rate-threshold / slow-call-ms / open-ms / half-open-calls
+ * - bulkhead.max-concurrent-calls / max-wait-ms
+ * - retry.max-attempts / base-delay-ms / max-delay-ms / budget-ratio / budget-max-tokens
+ */
+@Component
+public class ResilienceRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(ResilienceRegistry.class);
+
+    private final boolean enabled;
+    private final ResiliencePolicy policy;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, TargetState> targets = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ResilienceRegistry(
+            @Value("${app.resilience.enabled:true}") boolean enabled,
+            @Value("${app.resilience.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${app.resilience.circuit-breaker.min-calls:10}") int minCalls,
+            @Value("${app.resilience.circuit-breaker.failure-rate-threshold:50}") double failureRateThreshold,
+            @Value("${app.resilience.circuit-breaker.slow-call-ms:5000}") long slowCallMillis,
+            @Value("${app.resilience.circuit-breaker.open-ms:30000}") long openMillis,
+            @Value("${app.resilience.circuit-breaker.half-open-calls:3}") int halfOpenCalls,
+            @Value("${app.resilience.bulkhead.max-concurrent-calls:10}") int maxConcurrentCalls,
+            @Value("${app.resilience.bulkhead.max-wait-ms:100}") long maxWaitMillis,
+            @Value("${app.resilience.retry.max-attempts:3}") int maxAttempts,
+            @Value("${app.resilience.retry.base-delay-ms:100}") long baseDelayMillis,
+            @Value("${app.resilience.retry.max-delay-ms:2000}") long maxDelayMillis,
+            @Value("${app.resilience.retry.budget-ratio:0.2}") double retryBudgetRatio,
+            @Value("${app.resilience.retry.budget-max-tokens:10}") int retryBudgetMaxTokens) {
+        this(enabled, new ResiliencePolicy(windowSize, minCalls, failureRateThreshold, slowCallMillis, openMillis,
+                halfOpenCalls, maxConcurrentCalls, maxWaitMillis, maxAttempts, baseDelayMillis, maxDelayMillis,
+                retryBudgetRatio, retryBudgetMaxTokens), System::nanoTime);
+    }
+
+    ResilienceRegistry(boolean enabled, ResiliencePolicy policy, LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.policy = policy;
+        this.nanoClock = nanoClock;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 대상 보호 정책을 적용하여 호출
+     *
+     * @param target 대상 이름
+     * @param retry  실패 시 재시도 여부 (멱등 호출만 true)
+     * @param call   외부 호출
+     * @return 호출 결과
+     * @throws CallNotPermittedException 서킷 브레이커 OPEN 또는 동시 호출 한도 초과로 거부된 경우
+     */
+    public <T> T execute(String target, boolean retry, Supplier<T> call) {
+        try {
+            return call(target, retry, call::get);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            // Supplier는 검사 예외를 던지지 않으므로 도달하지 않음
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 검사 예외를 그대로 전파하는 호출 (ResilientProxyPostProcessor용)
+     */
+    <T> T call(String target, boolean retry, Callable<T> call) throws Exception {
+        if (!enabled) {
+            return call.call();
+        }
+        TargetState state = targets.computeIfAbsent(target, name -> new TargetState(name, policy, nanoClock));
+        state.calls.increment();
+        state.retryBudget.deposit();
+
+        long delayMillis = policy.baseDelayMillis();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return state.attempt(call);
+            } catch (CallNotPermittedException e) {
+                throw e;
+            } catch (Exception e) {
+                if (!retry || isIgnored(e) || attempt >= policy.maxAttempts()) {
+                    throw e;
+                }
+                if (!state.retryBudget.tryWithdraw()) {
+                    state.retryBudgetExhausted.increment();
+                    throw e;
+                }
+                delayMillis = RetryBudget.nextDelayMillis(delayMillis, policy.baseDelayMillis(), policy.maxDelayMillis());
+                state.retries.increment();
+                log.debug("[Resilience] Retrying {} in {}ms (attempt {}): {}", target, delayMillis, attempt + 1, e.getMessage());
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 대상이 정상적으로 응답한 오류 (요청 자체의 문제이므로 실패율/재시도 대상 아님)
+     */
+    static boolean isIgnored(Throwable e) {
+        if (e instanceof HttpClientErrorException clientError) {
+            return clientError.getStatusCode().value() != 429;
+        }
+        return e instanceof IllegalArgumentException;
+    }
+
+    /**
+     * 대상별 서킷 상태, 거부 수, 재시도 지표 (관리자 조회용)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> byTarget = new TreeMap<>();
+        targets.forEach((name, state) -> byTarget.put(name, state.snapshot()));
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("policy", policy.toMap());
+        stats.put("targets", byTarget);
+        return stats;
+    }
+
+    /**
+     * 대상 하나의 서킷 브레이커/벌크헤드/재시도 예산
+     */
+    private static final class TargetState {
+        private final String name;
+        private final ResiliencePolicy policy;
+        private final LongSupplier nanoClock;
+        private final CircuitBreaker circuitBreaker;
+        private final Semaphore bulkhead;
+        private final RetryBudget retryBudget;
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder slowCalls = new LongAdder();
+        private final LongAdder bulkheadRejected = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder retryBudgetExhausted = new LongAdder();
+
+        private TargetState(String name, ResiliencePolicy policy, LongSupplier nanoClock) {
+            this.name = name;
+            this.policy = policy;
+            this.nanoClock = nanoClock;
+            this.circuitBreaker = new CircuitBreaker(policy, nanoClock);
+            this.bulkhead = new Semaphore(policy.maxConcurrentCalls());
+            this.retryBudget = new RetryBudget(policy.retryBudgetRatio(), policy.retryBudgetMaxTokens());
+        }
+
+        private <T> T attempt(Callable<T> call) throws Exception {
+            acquireBulkhead();
+            try {
+                if (!circuitBreaker.tryAcquire()) {
+                    throw new CallNotPermittedException(name, CallNotPermittedException.Reason.CIRCUIT_OPEN);
+                }
+                boolean failure = true;
+                long startNanos = nanoClock.getAsLong();
+                try {
+                    T result = call.call();
+                    failure = nanoClock.getAsLong() - startNanos >= policy.slowCallNanos();
+                    if (failure) {
+                        slowCalls.increment();
+                    }
+                    successes.increment();
+                    return result;
+                } catch (Exception e) {
+                    failure = !isIgnored(e);
+                    if (failure) {
+                        failures.increment();
+                    }
+                    throw e;
+                } finally {
+                    circuitBreaker.onResult(failure);
+                }
+            } finally {
+                bulkhead.release();
+            }
+        }
+
+        private void acquireBulkhead() {
+            boolean acquired;
+            try {
+                acquired = policy.maxWaitMillis() == 0
+                        ? bulkhead.tryAcquire()
+                        : bulkhead.tryAcquire(policy.maxWaitMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+            if (!acquired) {
+                bulkheadRejected.increment();
+                throw new CallNotPermittedException(name, CallNotPermittedException.Reason.BULKHEAD_FULL);
+            }
+        }
+
+        private Map<String, Object> snapshot() {
+            Map<String, Object> stats = circuitBreaker.snapshot();
+            stats.put("calls", calls.sum());
+            stats.put("successes", successes.sum());
+            stats.put("failures", failures.sum());
+            stats.put("slowCalls", slowCalls.sum());
+            stats.put("bulkheadRejected", bulkheadRejected.sum());
+            stats.put("rejected", (long) stats.get("notPermitted") + bulkheadRejected.sum());
+            stats.put("inFlight", policy.maxConcurrentCalls() - bulkhead.availablePermits());
+            stats.put("retries", retries.sum());
+            stats.put("retryBudgetExhausted", retryBudgetExhausted.sum());
+            stats.put("retryTokens", Math.round(retryBudget.tokens() * 10) / 10.0);
+            return stats;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.resilience;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 외부 호출 보호 대상 메서드 표시
+ *
+ * 인터페이스 메서드에 선언하면 ResilientProxyPostProcessor가 구현 빈을 프록시로 감싸
+ * 호출마다 대상별 서킷 브레이커 + 벌크헤드(+ 선택적으로 재시도)를 적용합니다.
+ * 대상 이름은 "{value}.{빈 이름}" (예: device.mockDeviceProvider) 입니다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Resilient {
+
+    /**
+     * 대상 그룹 (device, portal 등)
+     */
+    String value();
+
+    /**
+     * 실패 시 재시도 여부 (멱등 조회에만 사용)
+     */
+    boolean retry() default false;
+}
@@ -0,0 +1,66 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.resilience;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link Resilient} 메서드를 가진 인터페이스 구현 빈을 JDK 동적 프록시로 감싸는 후처리기
+ *
+ * 구현체(벤더별 Provider)는 보호 로직을 알 필요 없이 인터페이스에 선언된 정책대로 호출됩니다.
+ * 프록시는 인터페이스만 구현하므로 해당 빈은 인터페이스 타입으로 주입받아야 합니다.
+ */
+@Component
+public class ResilientProxyPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<ResilienceRegistry> registryProvider;
+
+    public ResilientProxyPostProcessor(ObjectProvider<ResilienceRegistry> registryProvider) {
+        this.registryProvider = registryProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?>[] interfaces = ClassUtils.getAllInterfacesForClass(bean.getClass());
+        Map<Method, Resilient> resilientMethods = new HashMap<>();
+        for (Class<?> type : interfaces) {
+            for (Method method : type.getMethods()) {
+                Resilient resilient = method.getAnnotation(Resilient.class);
+                if (resilient != null) {
+                    resilientMethods.put(method, resilient);
+                }
+            }
+        }
+        if (resilientMethods.isEmpty()) {
+            return bean;
+        }
+
+        return Proxy.newProxyInstance(bean.getClass().getClassLoader(), interfaces, (proxy, method, args) -> {
+            Resilient resilient = resilientMethods.get(method);
+            if (resilient == null) {
+                return invoke(bean, method, args);
+            }
+            return registryProvider.getObject()
+                    .call(resilient.value() + "." + beanName, resilient.retry(), () -> invoke(bean, method, args));
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Exception {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            throw (Error) cause;
+        }
+    }
+}
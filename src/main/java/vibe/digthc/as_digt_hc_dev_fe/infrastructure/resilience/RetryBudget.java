@@ -0,0 +1,70 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.resilience;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대상별 재시도 예산 + decorrelated jitter 대기 시간 계산
+ *
+ * 첫 시도마다 ratio만큼 토큰을 적립하고 재시도마다 1개를 소모하므로,
+ * 장애 중에도 재시도 트래픽이 전체 호출의 일정 비율을 넘지 않습니다. (재시도 폭주 방지)
+ * 토큰은 1/1000 단위 정수로 보관합니다.
+ */
+final class RetryBudget {
+
+    private static final long SCALE = 1000;
+
+    private final long depositPerCall;
+    private final long maxBalance;
+    private final AtomicLong balance;
+
+    RetryBudget(double ratio, int maxTokens) {
+        this.depositPerCall = Math.round(ratio * SCALE);
+        this.maxBalance = maxTokens * SCALE;
+        this.balance = new AtomicLong(maxBalance);
+    }
+
+    /**
+     * 첫 시도 시 토큰 적립
+     */
+    void deposit() {
+        if (depositPerCall == 0) {
+            return;
+        }
+        balance.getAndUpdate(current -> Math.min(maxBalance, current + depositPerCall));
+    }
+
+    /**
+     * 재시도 토큰 1개 소모
+     *
+     * @return 예산이 남아 있어 재시도 가능한지 여부
+     */
+    boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    double tokens() {
+        return balance.get() / (double) SCALE;
+    }
+
+    /**
+     * decorrelated jitter: min(cap, random(base, previous * 3))
+     *
+     * @param previousMillis 직전 대기 시간 (첫 재시도면 base)
+     * @param baseMillis     대기 하한
+     * @param capMillis      대기 상한
+     * @return 다음 대기 시간 (밀리초)
+     */
+    static long nextDelayMillis(long previousMillis, long baseMillis, long capMillis) {
+        long upper = Math.max(baseMillis + 1, previousMillis * 3);
+        return Math.min(capMillis, ThreadLocalRandom.current().nextLong(baseMillis, upper));
+    }
+}
@@ -0,0 +1,32 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.scheduler;
+
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.service.MetricRollupRebuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지표 누적 롤업 재구성 스케줄러
+ * - 백필/직접 적재/직접 수정 등으로 일별 지표와 누적 롤업이 어긋난 사용자만 재구성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MetricRollupScheduler {
+
+    private final MetricRollupRebuilder metricRollupRebuilder;
+
+    /**
+     * 누적 롤업 불일치 사용자 재구성 (기본 매일 03:30)
+     * - 재구성은 applicationTaskExecutor에서 실행 (공용 스케줄러 스레드는 즉시 반환)
+     */
+    @Scheduled(cron = "${app.metrics.rollup.rebuild-cron:0 30 3 * * *}")
+    public void rebuildStaleRollups() {
+        try {
+            metricRollupRebuilder.rebuildStale();
+        } catch (Exception e) {
+            log.error("지표 누적 롤업 재구성 배치 시작 오류", e);
+        }
+    }
+}
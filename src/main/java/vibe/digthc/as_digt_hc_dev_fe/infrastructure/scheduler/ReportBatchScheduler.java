@@ -0,0 +1,25 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.scheduler;
+
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.service.ReportBatchRunner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주간/월간 리포트 일괄 생성 스케줄러
+ * - 주기적으로 확인하여 시간 창 안이고 생성일(주간 요일/매월 1일)이면 실행, 중단된 실행은 이어서 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class ReportBatchScheduler {
+
+    private final ReportBatchRunner reportBatchRunner;
+
+    /**
+     * 일괄 생성 확인 (기본 15분마다, 실제 처리는 ReportBatchRunner 전용 스레드)
+     */
+    @Scheduled(cron = "${app.reports.batch.cron:0 */15 * * * *}")
+    public void runDueReports() {
+        reportBatchRunner.runDue();
+    }
+}
@@ -1,8 +1,10 @@
 package vibe.digthc.as_digt_hc_dev_fe.infrastructure.scheduler;
 
+import vibe.digthc.as_digt_hc_dev_fe.domain.integration.dto.SyncResultRes;
 import vibe.digthc.as_digt_hc_dev_fe.domain.integration.entity.DeviceLink;
 import vibe.digthc.as_digt_hc_dev_fe.domain.integration.repository.DeviceLinkRepository;
 import vibe.digthc.as_digt_hc_dev_fe.domain.integration.service.DeviceLinkService;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.resilience.CallNotPermittedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -13,6 +15,7 @@ import java.util.List;
 
 /**
  * 데이터 동기화 스케줄러
+ * - 벤더 서킷 브레이커가 열려 있으면 해당 벤더 디바이스는 호출 없이 보류(SKIPPED)되고 다음 주기에 재시도
  */
 @Slf4j
 @Component
@@ -35,18 +38,23 @@ public class SyncScheduler {
             
             int successCount = 0;
             int failCount = 0;
+            int skippedCount = 0;
             
             for (DeviceLink device : devices) {
                 try {
-                    deviceService.syncDevice(device.getUser().getId(), device.getId());
-                    successCount++;
+                    SyncResultRes result = deviceService.syncDevice(device.getUser().getId(), device.getId());
+                    switch (result.status()) {
+                        case "SUCCESS" -> successCount++;
+                        case "SKIPPED" -> skippedCount++;
+                        default -> failCount++;
+                    }
                 } catch (Exception e) {
                     log.error("디바이스 동기화 실패: deviceId={}", device.getId(), e);
                     failCount++;
                 }
             }
             
-            log.info("디바이스 데이터 동기화 완료: 성공={}, 실패={}", successCount, failCount);
+            log.info("디바이스 데이터 동기화 완료: 성공={}, 실패={}, 보류={}", successCount, failCount, skippedCount);
         } catch (Exception e) {
             log.error("디바이스 데이터 동기화 배치 오류", e);
         }
@@ -67,6 +75,8 @@ public class SyncScheduler {
                 try {
                     deviceService.refreshToken(device.getId());
                     log.debug("토큰 갱신 완료: deviceId={}", device.getId());
+                } catch (CallNotPermittedException e) {
+                    log.debug("토큰 갱신 보류: deviceId={}", device.getId());
                 } catch (Exception e) {
                     log.error("토큰 갱신 실패: deviceId={}", device.getId(), e);
                 }
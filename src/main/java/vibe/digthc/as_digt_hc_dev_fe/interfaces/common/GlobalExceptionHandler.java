@@ -20,6 +20,7 @@ import vibe.digthc.as_digt_hc_dev_fe.domain.family.exception.InvalidInvitationEx
 import vibe.digthc.as_digt_hc_dev_fe.domain.integration.exception.DeviceNotFoundException;
 import vibe.digthc.as_digt_hc_dev_fe.domain.integration.exception.DeviceAlreadyLinkedException;
 import vibe.digthc.as_digt_hc_dev_fe.domain.integration.exception.ConsentNotFoundException;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.resilience.CallNotPermittedException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
 
@@ -268,6 +269,23 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.NOT_FOUND, errorResponse);
     }
 
+    /**
+     * CallNotPermittedException 처리 (외부 연동 대상 장애로 호출 차단)
+     */
+    @ExceptionHandler(CallNotPermittedException.class)
+    public ResponseEntity<ApiResponse<ErrorResponse>> handleCallNotPermittedException(CallNotPermittedException ex) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .code("EXTERNAL_SERVICE_UNAVAILABLE")
+                .message("외부 연동 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.")
+                .detail(ex.getTarget())
+                .timestamp(java.time.LocalDateTime.now())
+                .build();
+        
+        log.warn("External call not permitted: {}", ex.getMessage());
+        
+        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, errorResponse);
+    }
+
     /**
      * SecurityException 처리
      */
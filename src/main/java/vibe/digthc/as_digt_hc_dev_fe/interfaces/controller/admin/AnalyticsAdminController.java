@@ -0,0 +1,46 @@
+package vibe.digthc.as_digt_hc_dev_fe.interfaces.controller.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.analytics.AnalyticsExecutor;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.analytics.ApiEventAggregator;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.analytics.Ga4Client;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.analytics.Ga4EventBatcher;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.analytics.Ga4EventOutbox;
+import vibe.digthc.as_digt_hc_dev_fe.interfaces.common.ApiResponse;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * GA4 전송 파이프라인 상태 조회 Controller (관리자 전용)
+ */
+@RestController
+@RequestMapping("/v1/admin/analytics")
+@RequiredArgsConstructor
+public class AnalyticsAdminController {
+
+    private final Ga4Client ga4Client;
+    private final Ga4EventBatcher eventBatcher;
+    private final AnalyticsExecutor analyticsExecutor;
+    private final Ga4EventOutbox outbox;
+    private final ApiEventAggregator apiEventAggregator;
+
+    /**
+     * GA4 활성화 여부, API 이벤트 사전 집계 상태, 배칭 카운터 (전송 묶음 수, 묶음당 이벤트 수, 드롭 수 등)와
+     * 전송 실행기 지표 (큐 깊이, 버린 작업 수, 대기/전송 시간), 디스크 아웃박스 지표 (미전송/재전송/만료 수)
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", ga4Client.isEnabled());
+        status.put("aggregator", apiEventAggregator.getStats());
+        status.put("batcher", eventBatcher.getStats());
+        status.put("executor", analyticsExecutor.getStats());
+        status.put("outbox", outbox.getStats());
+        return ResponseEntity.ok(ApiResponse.success("Analytics 상태 조회 성공", status));
+    }
+}
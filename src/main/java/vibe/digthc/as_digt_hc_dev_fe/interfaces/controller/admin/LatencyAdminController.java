@@ -0,0 +1,30 @@
+package vibe.digthc.as_digt_hc_dev_fe.interfaces.controller.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.metrics.RouteLatencyRecorder;
+import vibe.digthc.as_digt_hc_dev_fe.interfaces.common.ApiResponse;
+
+import java.util.Map;
+
+/**
+ * 라우트별 지연 시간 조회 Controller (관리자 전용)
+ */
+@RestController
+@RequestMapping("/v1/admin/latency")
+@RequiredArgsConstructor
+public class LatencyAdminController {
+
+    private final RouteLatencyRecorder latencyRecorder;
+
+    /**
+     * 라우트별 p50/p90/p99/p999, 처리량, 에러율 (1분/5분/15분 윈도)
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getLatency() {
+        return ResponseEntity.ok(ApiResponse.success("지연 시간 조회 성공", latencyRecorder.getReport()));
+    }
+}
@@ -0,0 +1,95 @@
+package vibe.digthc.as_digt_hc_dev_fe.interfaces.controller.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging.ApiLogLevel;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging.ApiLogPolicyEngine;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging.ApiLogSampler;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging.ApiLogSegmentStore;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging.ApiLogger;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging.ApiTrafficRecorder;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging.AsyncApiLogDispatcher;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging.BodyCaptureBufferPool;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging.dto.LoggingSettingsUpdateReq;
+import vibe.digthc.as_digt_hc_dev_fe.interfaces.common.ApiResponse;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * API 로깅 관리 Controller (관리자 전용)
+ */
+@RestController
+@RequestMapping("/v1/admin/logging")
+@RequiredArgsConstructor
+public class LoggingAdminController {
+
+    private final ApiLogger apiLogger;
+    private final AsyncApiLogDispatcher logDispatcher;
+    private final ApiLogSampler apiLogSampler;
+    private final ApiLogPolicyEngine policyEngine;
+    private final BodyCaptureBufferPool captureBufferPool;
+    private final ApiLogSegmentStore segmentStore;
+    private final ApiTrafficRecorder trafficRecorder;
+
+    /**
+     * 로깅 설정 및 파이프라인/샘플링 카운터 조회
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getLoggingStatus() {
+        return ResponseEntity.ok(ApiResponse.success("로깅 상태 조회 성공", buildStatus()));
+    }
+
+    /**
+     * 로깅 설정 변경 (재시작 없이 즉시 반영)
+     * 라우트 정책은 새 트라이로 컴파일한 뒤 참조만 교체합니다.
+     */
+    @PutMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> updateLoggingSettings(
+            @RequestBody LoggingSettingsUpdateReq request) {
+        // 라우트 규칙을 먼저 검증/컴파일 (잘못된 규칙이면 다른 설정도 변경하지 않음)
+        if (request.routes() != null) {
+            Map<String, ApiLogLevel> rules = new LinkedHashMap<>();
+            request.routes().forEach((pattern, level) -> rules.put(pattern, ApiLogLevel.from(level)));
+            policyEngine.replaceRules(rules);
+        }
+        if (request.enabled() != null) {
+            apiLogger.setEnabled(request.enabled());
+        }
+        if (request.requestEnabled() != null) {
+            apiLogger.setRequestEnabled(request.requestEnabled());
+        }
+        if (request.responseEnabled() != null) {
+            apiLogger.setResponseEnabled(request.responseEnabled());
+        }
+        if (request.includeHeaders() != null) {
+            apiLogger.setIncludeHeaders(request.includeHeaders());
+        }
+        if (request.includeBody() != null) {
+            apiLogger.setIncludeBody(request.includeBody());
+        }
+        if (request.captureEnabled() != null) {
+            trafficRecorder.setEnabled(request.captureEnabled());
+        }
+        return ResponseEntity.ok(ApiResponse.success("로깅 설정 변경 성공", buildStatus()));
+    }
+
+    private Map<String, Object> buildStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("settings", apiLogger.getLoggingStatus());
+        status.put("routes", Map.of(
+                "defaultLevel", policyEngine.getDefaultLevel(),
+                "rules", policyEngine.getRules()));
+        status.put("pipeline", logDispatcher.getStats());
+        status.put("captureBuffers", captureBufferPool.getStats());
+        status.put("sampling", apiLogSampler.getStats());
+        status.put("store", segmentStore.getStats());
+        status.put("capture", trafficRecorder.getStats());
+        return status;
+    }
+}
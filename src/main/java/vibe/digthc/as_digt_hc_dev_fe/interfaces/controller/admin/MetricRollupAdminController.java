@@ -0,0 +1,59 @@
+package vibe.digthc.as_digt_hc_dev_fe.interfaces.controller.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.service.MetricRollupRebuilder;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.service.MetricRollupService;
+import vibe.digthc.as_digt_hc_dev_fe.interfaces.common.ApiResponse;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 지표 누적 롤업/구간 최소·최대 인덱스 관리 Controller (관리자 전용)
+ */
+@RestController
+@RequestMapping("/v1/admin/metrics/rollup")
+@RequiredArgsConstructor
+public class MetricRollupAdminController {
+
+    private final MetricRollupService metricRollupService;
+    private final MetricRollupRebuilder metricRollupRebuilder;
+
+    /**
+     * 구간 최소/최대 인덱스 상태 (보관 사용자 수, 구축/적중/점 갱신/폐기 수), 재구성 실행 여부와 마지막 결과
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>(metricRollupService.getRangeIndexStats());
+        stats.put("rebuild", metricRollupRebuilder.getStatus());
+        return ResponseEntity.ok(ApiResponse.success("지표 롤업 상태 조회 성공", stats));
+    }
+
+    /**
+     * 누적 롤업 재구성 - 백필 후 실행
+     * - userId 지정 시 해당 사용자만 바로 재구성
+     * - 생략 시 불일치 사용자 전체를 백그라운드로 재구성 (202, 진행 상황은 GET의 rebuild 항목)
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> rebuild(
+            @RequestParam(value = "userId", required = false) UUID userId) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (userId != null) {
+            result.put("users", 1);
+            result.put("rows", metricRollupService.rebuild(userId));
+            return ResponseEntity.ok(ApiResponse.success("지표 누적 롤업 재구성 완료", result));
+        }
+
+        result.put("users", metricRollupRebuilder.start());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("지표 누적 롤업 재구성 시작", result));
+    }
+}
@@ -0,0 +1,30 @@
+package vibe.digthc.as_digt_hc_dev_fe.interfaces.controller.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.http.OutboundHostLimiter;
+import vibe.digthc.as_digt_hc_dev_fe.interfaces.common.ApiResponse;
+
+import java.util.Map;
+
+/**
+ * 외부 호출 연결 풀 지표 조회 Controller (관리자 전용)
+ */
+@RestController
+@RequestMapping("/v1/admin/outbound-http")
+@RequiredArgsConstructor
+public class OutboundHttpAdminController {
+
+    private final OutboundHostLimiter hostLimiter;
+
+    /**
+     * 대상(host:port)별 요청 수, 진행 중/최대 동시 요청 수, 한도 대기 타임아웃, 오류, 평균 소요 시간
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStats() {
+        return ResponseEntity.ok(ApiResponse.success("외부 호출 풀 지표 조회 성공", hostLimiter.getStats()));
+    }
+}
@@ -0,0 +1,80 @@
+package vibe.digthc.as_digt_hc_dev_fe.interfaces.controller.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.PeriodType;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.ReportBatchRun;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.service.ReportBatchRunner;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.service.ReportBatchService;
+import vibe.digthc.as_digt_hc_dev_fe.interfaces.common.ApiResponse;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 리포트 일괄 생성 관리 Controller (관리자 전용)
+ */
+@RestController
+@RequestMapping("/v1/admin/report-batch")
+@RequiredArgsConstructor
+public class ReportBatchAdminController {
+
+    private final ReportBatchRunner reportBatchRunner;
+    private final ReportBatchService reportBatchService;
+
+    /**
+     * 설정, 실행 여부, 최근 실행 기록 (처리 수, 소요 시간, 초당 처리 사용자 수)
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStats() {
+        return ResponseEntity.ok(ApiResponse.success("리포트 일괄 생성 상태 조회 성공", reportBatchRunner.getStats()));
+    }
+
+    /**
+     * 실행 기록 조회 (수동 실행의 진행 상황 확인)
+     */
+    @GetMapping("/runs/{runId}")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getRun(@PathVariable UUID runId) {
+        return ResponseEntity.ok(ApiResponse.success("리포트 일괄 생성 실행 조회 성공",
+                toRunResponse(reportBatchService.getRun(runId))));
+    }
+
+    /**
+     * 수동 실행 제출 (시간 창 무시, 백그라운드 실행) - date 생략 시 오늘, 중단된 실행이면 이어서 처리
+     * 진행 상황은 반환된 runId로 GET /runs/{runId}에서 확인
+     */
+    @PostMapping("/run")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> run(
+            @RequestParam(value = "periodType", defaultValue = "WEEKLY") PeriodType periodType,
+            @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        ReportBatchRun run = reportBatchRunner.start(periodType, date != null ? date : LocalDate.now());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("리포트 일괄 생성 시작", toRunResponse(run)));
+    }
+
+    private Map<String, Object> toRunResponse(ReportBatchRun run) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("runId", run.getId());
+        result.put("periodType", run.getPeriodType());
+        result.put("targetDate", run.getTargetDate());
+        result.put("status", run.getStatus());
+        result.put("processedUsers", run.getProcessedUsers());
+        result.put("writtenReports", run.getWrittenReports());
+        result.put("upToDateReports", run.getUpToDateReports());
+        result.put("failedUsers", run.getFailedUsers());
+        result.put("elapsedMillis", run.getElapsedMillis());
+        result.put("usersPerSecond", run.getUsersPerSecond());
+        result.put("completedAt", run.getCompletedAt());
+        return result;
+    }
+}
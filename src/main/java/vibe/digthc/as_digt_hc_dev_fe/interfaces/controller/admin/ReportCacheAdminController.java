@@ -0,0 +1,30 @@
+package vibe.digthc.as_digt_hc_dev_fe.interfaces.controller.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.service.ReportReadCache;
+import vibe.digthc.as_digt_hc_dev_fe.interfaces.common.ApiResponse;
+
+import java.util.Map;
+
+/**
+ * 리포트 읽기 캐시 상태 조회 Controller (관리자 전용)
+ */
+@RestController
+@RequestMapping("/v1/admin/report-cache")
+@RequiredArgsConstructor
+public class ReportCacheAdminController {
+
+    private final ReportReadCache reportReadCache;
+
+    /**
+     * 항목 수, 적중/미적중/적중률, 공유 계층 적중, 로딩/제거/우회/무효화 수, 첫 페이지 캐시 항목/적중/미적중/로딩 수
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStats() {
+        return ResponseEntity.ok(ApiResponse.success("리포트 캐시 상태 조회 성공", reportReadCache.getStats()));
+    }
+}
@@ -0,0 +1,54 @@
+package vibe.digthc.as_digt_hc_dev_fe.interfaces.controller.admin;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging.ApiLogSegmentStore;
+import vibe.digthc.as_digt_hc_dev_fe.interfaces.common.ApiResponse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 추적 조회 Controller (관리자 전용)
+ * 세그먼트 저장소에서 requestId(ULID)로 마스킹된 요청/응답 로그를 조회합니다.
+ */
+@RestController
+@RequestMapping("/v1/admin/requests")
+@RequiredArgsConstructor
+public class RequestTraceAdminController {
+
+    private static final TypeReference<Map<String, Object>> RECORD_TYPE = new TypeReference<>() {};
+
+    private final ApiLogSegmentStore segmentStore;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * requestId로 요청/응답 로그 조회
+     */
+    @GetMapping("/{requestId}")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getRequestTrace(
+            @PathVariable String requestId) throws IOException {
+        if (!segmentStore.isEnabled()) {
+            throw new IllegalStateException("API 로그 세그먼트 저장소가 비활성화되어 있습니다.");
+        }
+
+        List<Map<String, Object>> records = new ArrayList<>();
+        for (String record : segmentStore.find(requestId)) {
+            records.add(objectMapper.readValue(record, RECORD_TYPE));
+        }
+        if (records.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.failure("요청 로그를 찾을 수 없습니다: " + requestId));
+        }
+        return ResponseEntity.ok(ApiResponse.success("요청 로그 조회 성공", records));
+    }
+}
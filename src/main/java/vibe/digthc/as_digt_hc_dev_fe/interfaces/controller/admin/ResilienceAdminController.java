@@ -0,0 +1,30 @@
+package vibe.digthc.as_digt_hc_dev_fe.interfaces.controller.admin;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.resilience.ResilienceRegistry;
+import vibe.digthc.as_digt_hc_dev_fe.interfaces.common.ApiResponse;
+
+import java.util.Map;
+
+/**
+ * 외부 호출 보호(서킷 브레이커/벌크헤드/재시도) 상태 조회 Controller (관리자 전용)
+ */
+@RestController
+@RequestMapping("/v1/admin/resilience")
+@RequiredArgsConstructor
+public class ResilienceAdminController {
+
+    private final ResilienceRegistry resilienceRegistry;
+
+    /**
+     * 대상별 서킷 상태, 실패율, 거부 수(서킷/벌크헤드), 진행 중 호출 수, 재시도/예산 소진 수
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStats() {
+        return ResponseEntity.ok(ApiResponse.success("외부 호출 보호 상태 조회 성공", resilienceRegistry.getStats()));
+    }
+}
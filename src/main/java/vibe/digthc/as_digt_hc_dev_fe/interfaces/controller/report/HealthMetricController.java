@@ -6,6 +6,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthMetricDailyRequest;
 import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthMetricDailyResponse;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthMetricSummaryResponse;
 import vibe.digthc.as_digt_hc_dev_fe.domain.report.service.HealthMetricDailyService;
 import vibe.digthc.as_digt_hc_dev_fe.infrastructure.security.CurrentUserId;
 import vibe.digthc.as_digt_hc_dev_fe.interfaces.common.ApiResponse;
@@ -39,4 +40,18 @@ public class HealthMetricController {
                 healthMetricDailyService.getDailyMetrics(userId, date)
         );
     }
+
+    /**
+     * 기간 지표 요약 (평균/분산/표준편차/최소/최대)
+     */
+    @GetMapping("/summary")
+    public ApiResponse<HealthMetricSummaryResponse> getSummary(
+            @CurrentUserId UUID userId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ApiResponse.success(
+                "Health metrics summary retrieved successfully",
+                healthMetricDailyService.getSummary(userId, from, to)
+        );
+    }
 }
@@ -2,6 +2,7 @@ package vibe.digthc.as_digt_hc_dev_fe.interfaces.controller.report;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthReportPageResponse;
 import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthReportResponse;
 import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.HealthReport;
 import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.PeriodType;
@@ -12,7 +13,6 @@ import vibe.digthc.as_digt_hc_dev_fe.interfaces.common.ApiResponse;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/v1/reports")
@@ -36,13 +36,29 @@ public class ReportController {
         return ApiResponse.success("Health report retrieved successfully", HealthReportResponse.from(report));
     }
 
+    /**
+     * 리포트 목록 (요약 항목, 최근 생성 순 키셋 페이지네이션)
+     * - 다음 페이지: 응답의 nextCursor를 cursor로 전달
+     * - 상세 지표는 GET /v1/reports/{id}
+     */
     @GetMapping
-    public ApiResponse<List<HealthReportResponse>> getReports(
+    public ApiResponse<HealthReportPageResponse> getReports(
+            @CurrentUserId UUID userId,
+            @RequestParam(value = "periodType", required = false) PeriodType periodType,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        return ApiResponse.success("Health reports retrieved successfully",
+                healthReportService.getReportPage(userId, periodType, limit, cursor));
+    }
+
+    /**
+     * 리포트 전체 목록 (상세 지표 포함, 페이지 없음) - all=true를 명시한 경우에만
+     */
+    @GetMapping(params = "all=true")
+    public ApiResponse<List<HealthReportResponse>> getAllReports(
             @CurrentUserId UUID userId,
             @RequestParam(value = "periodType", required = false) PeriodType periodType) {
-        List<HealthReportResponse> reports = healthReportService.getReportsByUser(userId, periodType).stream()
-                .map(HealthReportResponse::from)
-                .collect(Collectors.toList());
+        List<HealthReportResponse> reports = healthReportService.getReportResponsesByUser(userId, periodType);
         return ApiResponse.success("Health reports retrieved successfully", reports);
     }
 
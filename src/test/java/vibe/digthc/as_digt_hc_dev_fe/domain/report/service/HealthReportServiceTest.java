@@ -0,0 +1,182 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import vibe.digthc.as_digt_hc_dev_fe.domain.family.repository.FamilyBoardRepository;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthMetricRangeSummary;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.ReportContext;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.ReportMetrics;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.HealthReport;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.PeriodType;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.repository.HealthMetricDailyRepository;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.repository.HealthReportRepository;
+import vibe.digthc.as_digt_hc_dev_fe.domain.user.entity.Role;
+import vibe.digthc.as_digt_hc_dev_fe.domain.user.entity.Status;
+import vibe.digthc.as_digt_hc_dev_fe.domain.user.entity.User;
+import vibe.digthc.as_digt_hc_dev_fe.domain.user.repository.UserRepository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HealthReportService 테스트")
+class HealthReportServiceTest {
+
+    private static final LocalDate END_DATE = LocalDate.of(2026, 3, 15);
+    private static final LocalDate START_DATE = END_DATE.minusDays(6);
+
+    @Mock
+    private HealthReportRepository healthReportRepository;
+
+    @Mock
+    private HealthMetricDailyRepository healthMetricDailyRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private FamilyBoardRepository familyBoardRepository;
+
+    @Mock
+    private ReportReadCache reportReadCache;
+
+    @Mock
+    private HealthReportWriter healthReportWriter;
+
+    @InjectMocks
+    private HealthReportService healthReportService;
+
+    private UUID userId;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        user = User.builder()
+                .email("senior@example.com")
+                .password("password123")
+                .role(Role.SENIOR)
+                .status(Status.ACTIVE)
+                .build();
+        ReflectionTestUtils.setField(user, "id", userId);
+        ReflectionTestUtils.setField(user, "metricDataVersion", 3L);
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+    }
+
+    @Test
+    @DisplayName("지표 버전이 같으면 기존 리포트를 재계산 없이 반환한다")
+    void returnsExistingReportWhenUpToDate() {
+        HealthReport existing = report(3L);
+        givenExisting(existing);
+
+        HealthReport result = healthReportService.generateReport(userId, PeriodType.WEEKLY, END_DATE);
+
+        assertThat(result).isSameAs(existing);
+        verify(healthMetricDailyRepository, never()).summarizeRange(any(), any(), any());
+        verify(healthReportWriter, never()).insert(any());
+        verify(reportReadCache, never()).invalidate(any());
+    }
+
+    @Test
+    @DisplayName("지표 버전이 올라갔으면 같은 리포트 행을 최신 집계로 갱신한다")
+    void refreshesExistingReportAfterVersionBump() {
+        HealthReport existing = report(2L);
+        givenExisting(existing);
+        givenSummary(5);
+
+        HealthReport result = healthReportService.generateReport(userId, PeriodType.WEEKLY, END_DATE);
+
+        assertThat(result).isSameAs(existing);
+        assertThat(result.isUpToDate(3L)).isTrue();
+        assertThat(result.getContext().getMissingDataFields()).isNotEmpty();
+        verify(healthMetricDailyRepository).summarizeRange(userId, START_DATE, END_DATE);
+        verify(healthReportWriter, never()).insert(any());
+        verify(reportReadCache).invalidate(userId);
+    }
+
+    @Test
+    @DisplayName("기존 리포트가 없으면 현재 지표 버전으로 새 리포트를 저장한다")
+    void savesNewReportWithCurrentVersion() {
+        givenExisting(null);
+        givenSummary(7);
+        given(healthReportWriter.insert(any(HealthReport.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        HealthReport result = healthReportService.generateReport(userId, PeriodType.WEEKLY, END_DATE);
+
+        assertThat(result.getStartDate()).isEqualTo(START_DATE);
+        assertThat(result.getEndDate()).isEqualTo(END_DATE);
+        assertThat(result.isUpToDate(3L)).isTrue();
+        verify(reportReadCache).invalidate(userId);
+    }
+
+    @Test
+    @DisplayName("동시 요청이 같은 기간 리포트를 먼저 저장하면 에러 없이 그 리포트를 반환한다")
+    void conflictingInsertReturnsCommittedReport() {
+        givenExisting(null);
+        givenSummary(7);
+        HealthReport committed = report(3L);
+        given(healthReportWriter.insert(any(HealthReport.class)))
+                .willThrow(new DataIntegrityViolationException("uk_health_reports_user_period"));
+        given(healthReportWriter.findCommitted(userId, PeriodType.WEEKLY, START_DATE, END_DATE))
+                .willReturn(Optional.of(committed));
+
+        HealthReport result = healthReportService.generateReport(userId, PeriodType.WEEKLY, END_DATE);
+
+        assertThat(result).isSameAs(committed);
+    }
+
+    @Test
+    @DisplayName("충돌 후에도 커밋된 리포트가 없으면 원래 예외를 그대로 던진다")
+    void conflictWithoutCommittedReportRethrows() {
+        givenExisting(null);
+        givenSummary(7);
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("fk_health_reports_user");
+        given(healthReportWriter.insert(any(HealthReport.class))).willThrow(violation);
+        given(healthReportWriter.findCommitted(userId, PeriodType.WEEKLY, START_DATE, END_DATE))
+                .willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> healthReportService.generateReport(userId, PeriodType.WEEKLY, END_DATE))
+                .isSameAs(violation);
+        verify(reportReadCache, never()).invalidate(any());
+    }
+
+    private void givenExisting(HealthReport existing) {
+        given(healthReportRepository.findByUserIdAndPeriodTypeAndStartDateAndEndDate(
+                userId, PeriodType.WEEKLY, START_DATE, END_DATE)).willReturn(Optional.ofNullable(existing));
+    }
+
+    private void givenSummary(long rowCount) {
+        HealthMetricRangeSummary summary = mock(HealthMetricRangeSummary.class);
+        given(summary.getRowCount()).willReturn(rowCount);
+        given(healthMetricDailyRepository.summarizeRange(userId, START_DATE, END_DATE)).willReturn(summary);
+    }
+
+    private HealthReport report(long dataVersion) {
+        return HealthReport.builder()
+                .user(user)
+                .metrics(ReportMetrics.builder().build())
+                .context(ReportContext.builder().build())
+                .startDate(START_DATE)
+                .endDate(END_DATE)
+                .periodType(PeriodType.WEEKLY)
+                .dataVersion(dataVersion)
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.ReportMetrics;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.HealthMetricDaily;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MetricAccumulator 테스트")
+class MetricAccumulatorTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 1);
+
+    @Test
+    @DisplayName("한 번의 순회로 평균/최소/최대와 누락 필드를 계산한다")
+    void aggregatesInSinglePass() {
+        List<HealthMetricDaily> rows = List.of(
+                HealthMetricDaily.create(null, DAY, 4000, 60, 70.0, 120, 80),
+                HealthMetricDaily.create(null, DAY.plusDays(1), 5001, 80, null, 130, null),
+                HealthMetricDaily.create(null, DAY.plusDays(2), null, 70, 71.0, null, null));
+
+        MetricAccumulator accumulator = MetricAccumulator.of(rows);
+        ReportMetrics metrics = accumulator.toReportMetrics();
+
+        assertThat(accumulator.getRows()).isEqualTo(3);
+        assertThat(metrics.getActivity().getSteps()).isEqualTo(4501);
+        assertThat(metrics.getHeartRate().getAvgBpm()).isEqualTo(70);
+        assertThat(metrics.getHeartRate().getMinBpm()).isEqualTo(60);
+        assertThat(metrics.getHeartRate().getMaxBpm()).isEqualTo(80);
+        assertThat(metrics.getBloodPressure().getSystolic()).isEqualTo(125);
+        assertThat(metrics.getBloodPressure().getDiastolic()).isEqualTo(80);
+        assertThat(metrics.getWeight().getValue()).isEqualTo(70.5);
+        assertThat(accumulator.missingFields(3)).containsExactly("steps", "weight", "bloodPressure");
+        assertThat(accumulator.missingFields(2)).containsExactly("bloodPressure");
+    }
+
+    @Test
+    @DisplayName("값이 없는 항목은 null이고 기간 전체가 누락으로 표시된다")
+    void emptyInput() {
+        MetricAccumulator accumulator = MetricAccumulator.of(List.of());
+        ReportMetrics metrics = accumulator.toReportMetrics();
+
+        assertThat(metrics.getActivity()).isNull();
+        assertThat(metrics.getHeartRate()).isNull();
+        assertThat(metrics.getBloodPressure()).isNull();
+        assertThat(metrics.getWeight()).isNull();
+        assertThat(accumulator.getHeartRate().min()).isNull();
+        assertThat(accumulator.missingFields(7)).containsExactly("steps", "heartRate", "weight", "bloodPressure");
+    }
+
+    @Test
+    @DisplayName("분할 집계를 합치면 전체를 한 번에 집계한 결과와 같다")
+    void mergeEqualsWholeRange() {
+        MetricAccumulator first = new MetricAccumulator()
+                .add(1000, 90, 80.0, 140, 90)
+                .add(null, 50, null, null, null);
+        MetricAccumulator second = new MetricAccumulator()
+                .add(3000, 70, 82.0, 120, 70);
+        MetricAccumulator whole = new MetricAccumulator()
+                .add(1000, 90, 80.0, 140, 90)
+                .add(null, 50, null, null, null)
+                .add(3000, 70, 82.0, 120, 70);
+
+        assertThat(first.merge(second).toReportMetrics()).isEqualTo(whole.toReportMetrics());
+        assertThat(first.getHeartRate().min()).isEqualTo(50);
+        assertThat(first.getHeartRate().max()).isEqualTo(90);
+        assertThat(first.getSteps().count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,193 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthMetricDailyRequest;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthMetricRangeSummary;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthMetricSummaryResponse;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthMetricSummaryResponse.MetricStats;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.HealthMetricCumulative;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.repository.HealthMetricCumulativeRepository;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.repository.HealthMetricDailyRepository;
+import vibe.digthc.as_digt_hc_dev_fe.domain.user.entity.Role;
+import vibe.digthc.as_digt_hc_dev_fe.domain.user.entity.Status;
+import vibe.digthc.as_digt_hc_dev_fe.domain.user.entity.User;
+import vibe.digthc.as_digt_hc_dev_fe.domain.user.repository.UserRepository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 누적 롤업 변경분 반영 테스트 (실제 저장 경로 HealthMetricDailyService → MetricRollupService, H2)
+ *
+ * 매 시나리오 후 모든 누적 행과 모든 기간 요약을 일별 지표 DB 집계(summarizeRange)와 비교합니다.
+ */
+@SpringBootTest
+@DisplayName("MetricRollupService 테스트")
+class MetricRollupServiceTest {
+
+    private static final LocalDate FIRST = LocalDate.of(2026, 2, 26);
+    private static final LocalDate LAST = LocalDate.of(2026, 3, 6);
+
+    @Autowired
+    private HealthMetricDailyService healthMetricDailyService;
+
+    @Autowired
+    private MetricRollupService metricRollupService;
+
+    @Autowired
+    private HealthMetricDailyRepository healthMetricDailyRepository;
+
+    @Autowired
+    private HealthMetricCumulativeRepository cumulativeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(User.builder()
+                .email("rollup-" + System.nanoTime() + "@example.com")
+                .password("password123")
+                .role(Role.SENIOR)
+                .status(Status.ACTIVE)
+                .build()).getId();
+
+        upsert(LocalDate.of(2026, 3, 1), 1000, 70, 60.5, 120, 80);
+        upsert(LocalDate.of(2026, 3, 3), 3000, null, 61.0, 125, 82);
+        upsert(LocalDate.of(2026, 3, 5), 5000, 75, null, null, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            cumulativeRepository.deleteByUserId(userId);
+            healthMetricDailyRepository.deleteAll(
+                    healthMetricDailyRepository.findByUserIdAndRecordDateBetween(userId, FIRST, LAST));
+            userRepository.deleteById(userId);
+        });
+    }
+
+    @Test
+    @DisplayName("기존 날짜 수정 시 값 변경, null→값, 값→null 변경분이 이후 누적 행에 반영된다")
+    void updatesExistingDay() {
+        // steps 값 변경, heartRate null→값, weight 값→null, 혈압 값 유지
+        upsert(LocalDate.of(2026, 3, 3), 3500, 72, null, 125, 82);
+        assertConsistent();
+
+        // 모든 값 null→값 (3/5는 혈압/체중이 비어 있던 날)
+        upsert(LocalDate.of(2026, 3, 5), 5000, 75, 59.8, 118, 79);
+        assertConsistent();
+
+        // 첫 날짜의 값을 일부만 남김 (이후 모든 누적 행 보정)
+        upsert(LocalDate.of(2026, 3, 1), null, 70, null, null, null);
+        assertConsistent();
+    }
+
+    @Test
+    @DisplayName("기존 누적 행 사이/이전 날짜 삽입 시 직전 누적값 + 변경분으로 행을 만들고 이후 행을 보정한다")
+    void insertsBeforeAndBetweenExistingRows() {
+        upsert(LocalDate.of(2026, 3, 2), 2000, 68, 60.8, null, null);
+        assertConsistent();
+
+        upsert(LocalDate.of(2026, 2, 27), 500, null, 60.0, 130, 85);
+        assertConsistent();
+
+        upsert(LocalDate.of(2026, 3, 6), 6000, 80, 59.5, 121, 81);
+        assertConsistent();
+    }
+
+    @Test
+    @DisplayName("값이 그대로인 재저장은 누적 행을 바꾸지 않는다")
+    void unchangedUpsertKeepsRollup() {
+        upsert(LocalDate.of(2026, 3, 3), 3000, null, 61.0, 125, 82);
+
+        assertConsistent();
+        assertThat(metricRollupService.findUsersNeedingRebuild()).doesNotContain(userId);
+    }
+
+    private void upsert(LocalDate date, Integer steps, Integer heartRate, Double weight,
+                        Integer systolic, Integer diastolic) {
+        healthMetricDailyService.upsertDailyMetrics(userId, HealthMetricDailyRequest.builder()
+                .recordDate(date)
+                .steps(steps)
+                .heartRate(heartRate)
+                .weight(weight)
+                .systolic(systolic)
+                .diastolic(diastolic)
+                .build());
+    }
+
+    /**
+     * 누적 행 = 그 날짜까지의 일별 집계, 모든 [from, to] 요약 = 같은 기간 일별 집계
+     */
+    private void assertConsistent() {
+        for (HealthMetricCumulative row : cumulativeRepository.findAll()) {
+            if (!row.getUser().getId().equals(userId)) {
+                continue;
+            }
+            HealthMetricRangeSummary prefix = healthMetricDailyRepository.summarizeRange(
+                    userId, FIRST.minusYears(1), row.getRecordDate());
+            assertThat(row.getTotals().getRowCount()).as("rows@%s", row.getRecordDate())
+                    .isEqualTo(prefix.getRowCount());
+            assertThat(row.getTotals().getStepsSum()).as("steps@%s", row.getRecordDate())
+                    .isEqualTo(orZero(prefix.getStepsSum()));
+            assertThat(row.getTotals().getHeartRateCount()).as("heartRate@%s", row.getRecordDate())
+                    .isEqualTo(prefix.getHeartRateCount());
+            assertThat(row.getTotals().getWeightSum()).as("weight@%s", row.getRecordDate())
+                    .isCloseTo(prefix.getWeightSum() == null ? 0.0 : prefix.getWeightSum(), within(1e-9));
+            assertThat(row.getTotals().getSystolicCount()).as("systolic@%s", row.getRecordDate())
+                    .isEqualTo(prefix.getSystolicCount());
+        }
+
+        for (LocalDate from = FIRST; !from.isAfter(LAST); from = from.plusDays(1)) {
+            for (LocalDate to = from; !to.isAfter(LAST); to = to.plusDays(1)) {
+                HealthMetricSummaryResponse summary = metricRollupService.summarize(userId, from, to);
+                HealthMetricRangeSummary expected = healthMetricDailyRepository.summarizeRange(userId, from, to);
+                String range = from + "~" + to;
+
+                assertThat(summary.getRecordedDays()).as(range).isEqualTo(expected.getRowCount());
+                assertStats(range + " steps", summary.getSteps(), expected.getStepsCount(),
+                        expected.getStepsSum(), expected.getStepsMin(), expected.getStepsMax());
+                assertStats(range + " heartRate", summary.getHeartRate(), expected.getHeartRateCount(),
+                        expected.getHeartRateSum(), expected.getHeartRateMin(), expected.getHeartRateMax());
+                assertStats(range + " weight", summary.getWeight(), expected.getWeightCount(),
+                        expected.getWeightSum(), expected.getWeightMin(), expected.getWeightMax());
+                assertStats(range + " systolic", summary.getSystolic(), expected.getSystolicCount(),
+                        expected.getSystolicSum(), expected.getSystolicMin(), expected.getSystolicMax());
+                assertStats(range + " diastolic", summary.getDiastolic(), expected.getDiastolicCount(),
+                        expected.getDiastolicSum(), expected.getDiastolicMin(), expected.getDiastolicMax());
+            }
+        }
+    }
+
+    private static void assertStats(String label, MetricStats stats, long count, Number sum, Number min, Number max) {
+        assertThat(stats.getCount()).as(label + " count").isEqualTo(count);
+        if (count == 0) {
+            assertThat(stats.getAverage()).as(label + " average").isNull();
+            return;
+        }
+        assertThat(stats.getAverage()).as(label + " average")
+                .isCloseTo(sum.doubleValue() / count, within(1e-9));
+        assertThat(stats.getMin()).as(label + " min").isCloseTo(min.doubleValue(), within(1e-9));
+        assertThat(stats.getMax()).as(label + " max").isCloseTo(max.doubleValue(), within(1e-9));
+    }
+
+    private static long orZero(Long value) {
+        return value == null ? 0L : value;
+    }
+}
@@ -0,0 +1,61 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MinMaxSegmentTree 테스트")
+class MinMaxSegmentTreeTest {
+
+    @Test
+    @DisplayName("구간 최소/최대가 전체 순회 결과와 같고 값이 없는 구간은 null이다")
+    void matchesLinearScan() {
+        Random random = new Random(42);
+        int size = 37;
+        Integer[] values = new Integer[size];
+        MinMaxSegmentTree tree = new MinMaxSegmentTree(size);
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt(4) == 0 ? null : random.nextInt(200);
+            tree.put(i, values[i]);
+        }
+        tree.build();
+
+        for (int round = 0; round < 200; round++) {
+            int index = random.nextInt(size);
+            values[index] = random.nextBoolean() ? null : random.nextInt(200);
+            tree.update(index, values[index]);
+
+            int from = random.nextInt(size);
+            int to = from + random.nextInt(size - from);
+            Double min = null;
+            Double max = null;
+            for (int i = from; i <= to; i++) {
+                if (values[i] != null) {
+                    min = min == null ? values[i] : Math.min(min, values[i]);
+                    max = max == null ? values[i] : Math.max(max, values[i]);
+                }
+            }
+            assertThat(tree.min(from, to)).isEqualTo(min);
+            assertThat(tree.max(from, to)).isEqualTo(max);
+        }
+    }
+
+    @Test
+    @DisplayName("값을 제거하면 해당 리프는 결과에 영향을 주지 않는다")
+    void clearLeaf() {
+        MinMaxSegmentTree tree = new MinMaxSegmentTree(4);
+        tree.put(0, 5);
+        tree.put(2, 70.5);
+        tree.build();
+
+        assertThat(tree.min(0, 3)).isEqualTo(5.0);
+        assertThat(tree.max(0, 3)).isEqualTo(70.5);
+
+        tree.update(2, null);
+        assertThat(tree.max(0, 3)).isEqualTo(5.0);
+        assertThat(tree.min(1, 3)).isNull();
+    }
+}
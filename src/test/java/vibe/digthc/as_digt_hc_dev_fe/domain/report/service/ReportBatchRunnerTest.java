@@ -0,0 +1,288 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.PeriodType;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.ReportBatchRun;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.service.ReportBatchService.ChunkResult;
+import vibe.digthc.as_digt_hc_dev_fe.domain.user.entity.Status;
+import vibe.digthc.as_digt_hc_dev_fe.domain.user.repository.UserRepository;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReportBatchRunner 테스트")
+class ReportBatchRunnerTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 10, 19);
+    private static final LocalTime WINDOW_START = LocalTime.of(1, 0);
+    private static final LocalTime WINDOW_END = LocalTime.of(6, 0);
+
+    /** 사용자 ID 오름차순 (키셋 순서) */
+    private static final List<UUID> USERS = List.of(
+            new UUID(0L, 1L), new UUID(0L, 2L), new UUID(0L, 3L), new UUID(0L, 4L), new UUID(0L, 5L));
+
+    @Mock
+    private ReportBatchService reportBatchService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private ReportBatchRunner runner;
+
+    @AfterEach
+    void tearDown() {
+        if (runner != null) {
+            runner.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("시간 창 - 시작 포함, 종료 제외")
+    void isWithinWindow() {
+        assertThat(ReportBatchRunner.isWithinWindow(LocalTime.of(1, 0), WINDOW_START, WINDOW_END)).isTrue();
+        assertThat(ReportBatchRunner.isWithinWindow(LocalTime.of(5, 59), WINDOW_START, WINDOW_END)).isTrue();
+        assertThat(ReportBatchRunner.isWithinWindow(LocalTime.of(6, 0), WINDOW_START, WINDOW_END)).isFalse();
+        assertThat(ReportBatchRunner.isWithinWindow(LocalTime.of(0, 59), WINDOW_START, WINDOW_END)).isFalse();
+    }
+
+    @Test
+    @DisplayName("시간 창 - 자정을 넘는 창")
+    void isWithinWindow_wrapsAroundMidnight() {
+        LocalTime start = LocalTime.of(23, 0);
+        LocalTime end = LocalTime.of(4, 0);
+
+        assertThat(ReportBatchRunner.isWithinWindow(LocalTime.of(23, 30), start, end)).isTrue();
+        assertThat(ReportBatchRunner.isWithinWindow(LocalTime.of(0, 0), start, end)).isTrue();
+        assertThat(ReportBatchRunner.isWithinWindow(LocalTime.of(3, 59), start, end)).isTrue();
+        assertThat(ReportBatchRunner.isWithinWindow(LocalTime.of(4, 0), start, end)).isFalse();
+        assertThat(ReportBatchRunner.isWithinWindow(LocalTime.of(12, 0), start, end)).isFalse();
+    }
+
+    @Test
+    @DisplayName("실행권 획득 실패 시 처리하지 않음")
+    void run_skipsWhenLeaseHeldElsewhere() {
+        runner = runnerAt(MONDAY, LocalTime.of(2, 0));
+        ReportBatchRun run = runningRun(PeriodType.WEEKLY, MONDAY);
+        given(reportBatchService.findOrStartRun(PeriodType.WEEKLY, MONDAY)).willReturn(run);
+        given(reportBatchService.claim(eq(run.getId()), anyString(), any())).willReturn(false);
+
+        runner.run(PeriodType.WEEKLY, MONDAY, true);
+
+        verifyNoInteractions(userRepository);
+        verify(reportBatchService, never()).generateChunk(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("웨이브마다 마지막 사용자 ID로 체크포인트 후 완료")
+    void run_checkpointsEachWaveThenCompletes() {
+        runner = runnerAt(MONDAY, LocalTime.of(2, 0));
+        ReportBatchRun run = runningRun(PeriodType.WEEKLY, MONDAY);
+        givenClaimedRun(run);
+        givenActiveUsers();
+        given(reportBatchService.generateChunk(any(), eq(PeriodType.WEEKLY), eq(MONDAY)))
+                .willAnswer(invocation -> {
+                    int size = invocation.<List<UUID>>getArgument(0).size();
+                    return new ChunkResult(size, size, 0, 0);
+                });
+        given(reportBatchService.checkpoint(eq(run.getId()), anyString(), any(), any(), anyLong(), any()))
+                .willReturn(true);
+
+        runner.run(PeriodType.WEEKLY, MONDAY, true);
+
+        // chunk-size 2, concurrency 2 → 웨이브 1: 사용자 1~4, 웨이브 2: 사용자 5
+        verify(reportBatchService).checkpoint(eq(run.getId()), anyString(), eq(USERS.get(3)),
+                eq(new ChunkResult(4, 4, 0, 0)), anyLong(), any());
+        verify(reportBatchService).checkpoint(eq(run.getId()), anyString(), eq(USERS.get(4)),
+                eq(new ChunkResult(1, 1, 0, 0)), anyLong(), any());
+        verify(reportBatchService).complete(eq(run.getId()), anyString());
+    }
+
+    @Test
+    @DisplayName("체크포인트에서 실행권을 잃으면 다음 웨이브를 처리하지 않음")
+    void run_stopsWhenLeaseLost() {
+        runner = runnerAt(MONDAY, LocalTime.of(2, 0));
+        ReportBatchRun run = runningRun(PeriodType.WEEKLY, MONDAY);
+        givenClaimedRun(run);
+        givenActiveUsers();
+        given(reportBatchService.generateChunk(any(), eq(PeriodType.WEEKLY), eq(MONDAY)))
+                .willReturn(new ChunkResult(2, 2, 0, 0));
+        given(reportBatchService.checkpoint(eq(run.getId()), anyString(), any(), any(), anyLong(), any()))
+                .willReturn(false);
+
+        runner.run(PeriodType.WEEKLY, MONDAY, true);
+
+        verify(reportBatchService, times(2)).generateChunk(any(), any(), any());
+        verify(reportBatchService, never()).complete(any(), any());
+    }
+
+    @Test
+    @DisplayName("체크포인트 이후 사용자부터 이어서 처리")
+    void run_resumesAfterCheckpoint() {
+        runner = runnerAt(MONDAY, LocalTime.of(2, 0));
+        ReportBatchRun run = runningRun(PeriodType.WEEKLY, MONDAY);
+        ReflectionTestUtils.setField(run, "lastUserId", USERS.get(3));
+        givenClaimedRun(run);
+        givenActiveUsers();
+        given(reportBatchService.generateChunk(List.of(USERS.get(4)), PeriodType.WEEKLY, MONDAY))
+                .willReturn(new ChunkResult(1, 0, 1, 0));
+        given(reportBatchService.checkpoint(eq(run.getId()), anyString(), any(), any(), anyLong(), any()))
+                .willReturn(true);
+
+        runner.run(PeriodType.WEEKLY, MONDAY, true);
+
+        verify(reportBatchService, times(1)).generateChunk(any(), any(), any());
+        verify(reportBatchService).complete(eq(run.getId()), anyString());
+    }
+
+    @Test
+    @DisplayName("시간 창 밖이면 실행권을 반납하고 중단")
+    void run_releasesOutsideWindow() {
+        runner = runnerAt(MONDAY, LocalTime.of(7, 0));
+        ReportBatchRun run = runningRun(PeriodType.WEEKLY, MONDAY);
+        givenClaimedRun(run);
+
+        runner.run(PeriodType.WEEKLY, MONDAY, true);
+
+        verify(reportBatchService).release(eq(run.getId()), anyString());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("청크 실패 시 사용자 단위 재시도 - 작성/최신/실패를 구분해 집계")
+    void processChunk_fallsBackPerUser() {
+        runner = runnerAt(MONDAY, LocalTime.of(2, 0));
+        List<UUID> chunk = USERS.subList(0, 3);
+        given(reportBatchService.generateChunk(chunk, PeriodType.WEEKLY, MONDAY))
+                .willThrow(new DataIntegrityViolationException("duplicate report"));
+        given(reportBatchService.generateChunk(List.of(USERS.get(0)), PeriodType.WEEKLY, MONDAY))
+                .willReturn(new ChunkResult(1, 1, 0, 0));
+        // 온디맨드 생성과 INSERT 충돌 → 재시도하면 이미 최신
+        given(reportBatchService.generateChunk(List.of(USERS.get(1)), PeriodType.WEEKLY, MONDAY))
+                .willThrow(new DataIntegrityViolationException("duplicate report"))
+                .willReturn(new ChunkResult(1, 0, 1, 0));
+        given(reportBatchService.generateChunk(List.of(USERS.get(2)), PeriodType.WEEKLY, MONDAY))
+                .willThrow(new IllegalStateException("boom"));
+
+        ChunkResult result = runner.processChunk(chunk, PeriodType.WEEKLY, MONDAY);
+
+        assertThat(result).isEqualTo(new ChunkResult(3, 1, 1, 1));
+        verify(reportBatchService, times(1)).generateChunk(List.of(USERS.get(2)), PeriodType.WEEKLY, MONDAY);
+    }
+
+    @Test
+    @DisplayName("이전 날짜의 미완료 실행을 기간 안에서만 이어서 처리")
+    void runDue_resumesUnfinishedRunsWithinPeriod() {
+        LocalDate wednesday = MONDAY.plusDays(2);
+        runner = runnerAt(wednesday, LocalTime.of(2, 0));
+        ReportBatchRun weekly = runningRun(PeriodType.WEEKLY, MONDAY);
+        ReportBatchRun staleWeekly = runningRun(PeriodType.WEEKLY, MONDAY.minusWeeks(1));
+        ReportBatchRun monthly = runningRun(PeriodType.MONTHLY, LocalDate.of(2026, 10, 1));
+        given(reportBatchService.findUnfinishedRuns(LocalDate.of(2026, 10, 1), wednesday.minusDays(1)))
+                .willReturn(List.of(monthly, staleWeekly, weekly));
+        given(reportBatchService.findOrStartRun(PeriodType.MONTHLY, monthly.getTargetDate())).willReturn(monthly);
+        given(reportBatchService.findOrStartRun(PeriodType.WEEKLY, MONDAY)).willReturn(weekly);
+        given(reportBatchService.claim(any(), anyString(), any())).willReturn(false);
+
+        runner.runDue();
+
+        verify(reportBatchService, timeout(5000)).findOrStartRun(PeriodType.MONTHLY, monthly.getTargetDate());
+        verify(reportBatchService, timeout(5000)).findOrStartRun(PeriodType.WEEKLY, MONDAY);
+        verify(reportBatchService, never()).findOrStartRun(PeriodType.WEEKLY, staleWeekly.getTargetDate());
+    }
+
+    @Test
+    @DisplayName("시간 창 밖이면 runDue는 아무것도 하지 않음")
+    void runDue_ignoredOutsideWindow() {
+        runner = runnerAt(MONDAY, LocalTime.of(12, 0));
+
+        runner.runDue();
+
+        verifyNoInteractions(reportBatchService, userRepository);
+    }
+
+    @Test
+    @DisplayName("수동 실행은 실행 기록을 바로 반환하고 실행 중 재요청은 거부")
+    void start_submitsInBackground() throws InterruptedException {
+        runner = runnerAt(MONDAY, LocalTime.of(12, 0));
+        ReportBatchRun run = runningRun(PeriodType.WEEKLY, MONDAY);
+        given(reportBatchService.findOrStartRun(PeriodType.WEEKLY, MONDAY)).willReturn(run);
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(reportBatchService.claim(eq(run.getId()), anyString(), any())).willAnswer(invocation -> {
+            claimed.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return false;
+        });
+
+        ReportBatchRun started = runner.start(PeriodType.WEEKLY, MONDAY);
+
+        assertThat(started.getId()).isEqualTo(run.getId());
+        assertThat(claimed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThatThrownBy(() -> runner.start(PeriodType.WEEKLY, MONDAY))
+                .isInstanceOf(IllegalStateException.class);
+
+        release.countDown();
+        verify(reportBatchService, timeout(5000)).claim(eq(run.getId()), anyString(), any());
+    }
+
+    private ReportBatchRunner runnerAt(LocalDate date, LocalTime time) {
+        Clock clock = Clock.fixed(LocalDateTime.of(date, time).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        return new ReportBatchRunner(reportBatchService, userRepository, true, WINDOW_START, WINDOW_END,
+                DayOfWeek.MONDAY, 2, 2, 10, clock);
+    }
+
+    private ReportBatchRun runningRun(PeriodType periodType, LocalDate targetDate) {
+        ReportBatchRun run = ReportBatchRun.start(periodType, targetDate);
+        ReflectionTestUtils.setField(run, "id", UUID.randomUUID());
+        return run;
+    }
+
+    private void givenClaimedRun(ReportBatchRun run) {
+        given(reportBatchService.findOrStartRun(run.getPeriodType(), run.getTargetDate())).willReturn(run);
+        given(reportBatchService.claim(eq(run.getId()), anyString(), any())).willReturn(true);
+    }
+
+    /**
+     * 키셋 조회: after보다 큰 활성 사용자 ID를 limit개까지
+     */
+    private void givenActiveUsers() {
+        given(userRepository.findIdsByStatusAfter(eq(Status.ACTIVE), any(), any())).willAnswer(invocation -> {
+            UUID after = invocation.getArgument(1);
+            Limit limit = invocation.getArgument(2);
+            return USERS.stream()
+                    .filter(id -> id.compareTo(after) > 0)
+                    .limit(limit.max())
+                    .toList();
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ReportCursor 테스트")
+class ReportCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 위치가 된다")
+    void roundTrip() {
+        ReportCursor cursor = new ReportCursor(LocalDateTime.of(2026, 3, 1, 9, 0, 0, 123_000_000), UUID.randomUUID());
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("+", "/", "=");
+        assertThat(ReportCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 IllegalArgumentException")
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> ReportCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ReportCursor.decode("%%%"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,103 @@
+package vibe.digthc.as_digt_hc_dev_fe.domain.report.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthReportPageResponse;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.HealthReportResponse;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.PeriodType;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ReportReadCache 테스트")
+class ReportReadCacheTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @SuppressWarnings("unchecked")
+    private final ReportReadCache cache = new ReportReadCache(mock(ObjectProvider.class), true, 100, 300);
+
+    private static List<HealthReportResponse> reports(String periodType) {
+        return List.of(new HealthReportResponse(UUID.randomUUID(), USER_ID, LocalDate.now().minusDays(6),
+                LocalDate.now(), periodType, null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("같은 사용자/기간 유형은 한 번만 로딩하고 무효화 후에는 다시 로딩한다")
+    void loadsOncePerVersion() {
+        AtomicInteger loads = new AtomicInteger();
+
+        List<HealthReportResponse> first = cache.get(USER_ID, PeriodType.WEEKLY, () -> {
+            loads.incrementAndGet();
+            return reports("WEEKLY");
+        });
+        List<HealthReportResponse> second = cache.get(USER_ID, PeriodType.WEEKLY, () -> {
+            loads.incrementAndGet();
+            return reports("WEEKLY");
+        });
+        cache.get(USER_ID, null, () -> {
+            loads.incrementAndGet();
+            return reports("WEEKLY");
+        });
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(2);
+
+        cache.invalidate(USER_ID);
+        List<HealthReportResponse> reloaded = cache.get(USER_ID, PeriodType.WEEKLY, () -> {
+            loads.incrementAndGet();
+            return reports("WEEKLY");
+        });
+
+        assertThat(reloaded).isNotSameAs(first);
+        assertThat(loads).hasValue(3);
+        assertThat(cache.getStats()).containsEntry("hits", 1L).containsEntry("invalidations", 1L);
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 기간 유형/페이지 크기별로 캐시하고 같은 사용자 버전으로 무효화한다")
+    void cachesFirstPagePerVersion() {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<HealthReportPageResponse> loader = () -> {
+            loads.incrementAndGet();
+            return new HealthReportPageResponse(List.of(), null, false);
+        };
+
+        HealthReportPageResponse first = cache.getFirstPage(USER_ID, null, 20, loader);
+        assertThat(cache.getFirstPage(USER_ID, null, 20, loader)).isSameAs(first);
+        cache.getFirstPage(USER_ID, null, 50, loader);
+        cache.getFirstPage(USER_ID, PeriodType.WEEKLY, 20, loader);
+        assertThat(loads).hasValue(3);
+
+        cache.invalidate(USER_ID);
+
+        assertThat(cache.getFirstPage(USER_ID, null, 20, loader)).isNotSameAs(first);
+        assertThat(loads).hasValue(4);
+        assertThat(cache.getStats()).containsEntry("pageHits", 1L).containsEntry("pageLoads", 4L);
+    }
+
+    @Test
+    @DisplayName("로딩 중 무효화되면 로딩 결과는 이후 조회에 재사용되지 않는다")
+    void invalidationDuringLoad() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(USER_ID, PeriodType.MONTHLY, () -> {
+            loads.incrementAndGet();
+            cache.invalidate(USER_ID);
+            return reports("MONTHLY");
+        });
+        cache.get(USER_ID, PeriodType.MONTHLY, () -> {
+            loads.incrementAndGet();
+            return reports("MONTHLY");
+        });
+
+        assertThat(loads).hasValue(2);
+    }
+}
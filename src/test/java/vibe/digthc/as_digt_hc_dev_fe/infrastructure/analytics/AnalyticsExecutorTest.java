@@ -0,0 +1,60 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.analytics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AnalyticsExecutor 테스트")
+class AnalyticsExecutorTest {
+
+    @Test
+    @DisplayName("큐가 가득 차면 가장 오래된 작업을 버리고 제출 스레드는 블로킹되지 않는다")
+    void discardsOldestWhenQueueIsFull() throws Exception {
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+
+        try (AnalyticsExecutor executor = new AnalyticsExecutor(1, 2)) {
+            executor.execute(() -> {
+                started.countDown();
+                await(blocker);
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            String submitter = Thread.currentThread().getName();
+            List<String> runners = new CopyOnWriteArrayList<>();
+            for (int i = 1; i <= 4; i++) {
+                int id = i;
+                executor.execute(() -> {
+                    runners.add(Thread.currentThread().getName());
+                    executed.add(id);
+                });
+            }
+
+            assertThat(executor.getStats().get("queueDepth")).isEqualTo(2);
+            assertThat(executor.getStats().get("discarded")).isEqualTo(2L);
+
+            blocker.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(executed).containsExactly(3, 4);
+            assertThat(runners).doesNotContain(submitter);
+            assertThat(executor.getStats().get("completed")).isEqualTo(3L);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.analytics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("AnalyticsService 테스트")
+class AnalyticsServiceTest {
+
+    private Ga4EventBatcher batcher;
+    private ApiEventAggregator aggregator;
+    private AnalyticsService analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        batcher = mock(Ga4EventBatcher.class);
+        aggregator = mock(ApiEventAggregator.class);
+        analyticsService = new AnalyticsService(mock(Ga4Client.class), batcher, aggregator, "server");
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 이벤트는 요청 ID가 달라도 같은 client_id로 묶인다")
+    void usesStableClientIdPerUser() {
+        analyticsService.trackLoginSuccess("req-1", "u-1", "email");
+        analyticsService.trackHealthRecordSaved("req-2", "u-1", "2026-03-15", 3, "manual");
+
+        ArgumentCaptor<Ga4Client.Ga4Event> captor = ArgumentCaptor.forClass(Ga4Client.Ga4Event.class);
+        verify(batcher, times(2)).enqueue(eq("user.u-1"), eq("u-1"), captor.capture());
+        assertThat(captor.getAllValues()).extracting(event -> event.params().get("request_id"))
+                .containsExactly("req-1", "req-2");
+    }
+
+    @Test
+    @DisplayName("사용자가 없는 이벤트는 서버 client_id로 묶인다")
+    void usesServerClientIdWithoutUser() {
+        analyticsService.trackApiError("req-1", "/v1/reports", 500, "server_error", "boom");
+        analyticsService.trackApiError("req-2", "/v1/reports", 503, "unavailable", "down");
+
+        verify(batcher, times(2)).enqueue(eq("server"), isNull(), any());
+    }
+}
@@ -0,0 +1,94 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.analytics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ApiEventAggregator 테스트")
+class ApiEventAggregatorTest {
+
+    @Test
+    @DisplayName("키별로 한 번의 롤업 이벤트를 전송하고 다음 플러시에는 증가분만 전송한다")
+    void emitsOneRollupPerKeyWithDeltas() {
+        Ga4EventBatcher batcher = mock(Ga4EventBatcher.class);
+        ApiEventAggregator aggregator = new ApiEventAggregator(batcher, true, 100, "server");
+
+        aggregator.recordSuccess("/v1/reports", 10);
+        aggregator.recordSuccess("/v1/reports", 30);
+        aggregator.recordError("/v1/reports", 503, "unavailable", "down");
+        aggregator.recordError("/v1/reports", 500, "unavailable", "still down");
+        aggregator.flush();
+
+        ArgumentCaptor<Ga4Client.Ga4Event> captor = ArgumentCaptor.forClass(Ga4Client.Ga4Event.class);
+        verify(batcher, times(2)).enqueue(eq("server"), isNull(), captor.capture());
+        Map<String, Map<String, Object>> byName = Map.of(
+                captor.getAllValues().get(0).name(), captor.getAllValues().get(0).params(),
+                captor.getAllValues().get(1).name(), captor.getAllValues().get(1).params());
+
+        assertThat(byName.get(ApiEventAggregator.SUCCESS_EVENT))
+                .containsEntry("count", 2L)
+                .containsEntry("avg_duration_ms", 20L)
+                .containsEntry("max_duration_ms", 30L);
+        assertThat(byName.get(ApiEventAggregator.ERROR_EVENT))
+                .containsEntry("count", 2L)
+                .containsEntry("status_class", "5xx")
+                .containsEntry("error_message", "still down")
+                .doesNotContainKey("avg_duration_ms");
+
+        aggregator.recordSuccess("/v1/reports", 50);
+        aggregator.flush();
+
+        verify(batcher, times(3)).enqueue(eq("server"), isNull(), captor.capture());
+        List<Ga4Client.Ga4Event> events = captor.getAllValues();
+        assertThat(events.get(events.size() - 1).params())
+                .containsEntry("count", 1L)
+                .containsEntry("max_duration_ms", 50L);
+    }
+
+    @Test
+    @DisplayName("키 수가 한도를 넘으면 endpoint를 OTHER로 합친다")
+    void collapsesEndpointsBeyondMaxKeys() {
+        Ga4EventBatcher batcher = mock(Ga4EventBatcher.class);
+        ApiEventAggregator aggregator = new ApiEventAggregator(batcher, true, 1, "server");
+
+        aggregator.recordSuccess("/v1/a", 1);
+        aggregator.recordSuccess("/v1/b", 1);
+        aggregator.recordSuccess("/v1/c", 1);
+        aggregator.flush();
+
+        ArgumentCaptor<Ga4Client.Ga4Event> captor = ArgumentCaptor.forClass(Ga4Client.Ga4Event.class);
+        verify(batcher, times(2)).enqueue(any(), any(), captor.capture());
+        assertThat(captor.getAllValues()).extracting(event -> event.params().get("endpoint"))
+                .containsExactlyInAnyOrder("/v1/a", ApiEventAggregator.OTHER_ENDPOINT);
+    }
+
+    @Test
+    @DisplayName("에러 메시지 샘플은 플러시 후 비워져 다음 구간에 이전 메시지를 보내지 않는다")
+    void clearsErrorMessageAfterFlush() {
+        Ga4EventBatcher batcher = mock(Ga4EventBatcher.class);
+        ApiEventAggregator aggregator = new ApiEventAggregator(batcher, true, 100, "server");
+
+        aggregator.recordError("/v1/reports", 503, "unavailable", "down");
+        aggregator.flush();
+        aggregator.recordError("/v1/reports", 503, "unavailable", null);
+        aggregator.flush();
+
+        ArgumentCaptor<Ga4Client.Ga4Event> captor = ArgumentCaptor.forClass(Ga4Client.Ga4Event.class);
+        verify(batcher, times(2)).enqueue(eq("server"), isNull(), captor.capture());
+        assertThat(captor.getAllValues().get(0).params()).containsEntry("error_message", "down");
+        assertThat(captor.getAllValues().get(1).params())
+                .containsEntry("count", 1L)
+                .doesNotContainKey("error_message");
+    }
+}
@@ -0,0 +1,162 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.analytics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Ga4EventBatcher 테스트")
+class Ga4EventBatcherTest {
+
+    private static final long WAIT_MILLIS = 2000;
+
+    private Ga4Client ga4Client;
+    private AnalyticsExecutor analyticsExecutor;
+    private Ga4EventOutbox outbox;
+    private Ga4EventBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        ga4Client = mock(Ga4Client.class);
+        analyticsExecutor = mock(AnalyticsExecutor.class);
+        outbox = mock(Ga4EventOutbox.class);
+        given(ga4Client.isEnabled()).willReturn(true);
+        given(ga4Client.sendEventsNow(any(), any(), anyList())).willReturn(Ga4Client.SendResult.SENT);
+        given(outbox.append(any(), any(), anyList(), anyLong())).willReturn(true);
+        // 실행기에 제출된 묶음 전송은 제출 스레드에서 바로 실행
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).given(analyticsExecutor).execute(any(Runnable.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("묶음이 25개가 되면 대기 시간과 관계없이 즉시 한 요청으로 전송한다")
+    void flushesWhenBatchIsFull() {
+        start(60_000);
+
+        enqueue("c-1", "u-1", Ga4EventBatcher.MAX_EVENTS_PER_REQUEST);
+
+        verify(ga4Client, timeout(WAIT_MILLIS)).sendEventsNow(eq("c-1"), eq("u-1"),
+                argThat(events -> events.size() == Ga4EventBatcher.MAX_EVENTS_PER_REQUEST));
+        batcher.stop();
+        assertThat(batcher.getStats()).containsEntry("flushedBySize", 1L)
+                .containsEntry("eventsSent", (long) Ga4EventBatcher.MAX_EVENTS_PER_REQUEST);
+    }
+
+    @Test
+    @DisplayName("25개가 안 된 묶음은 첫 이벤트 후 max-linger가 지나면 전송한다")
+    void flushesAfterLinger() {
+        start(50);
+
+        enqueue("c-1", "u-1", 3);
+
+        verify(ga4Client, timeout(WAIT_MILLIS)).sendEventsNow(eq("c-1"), eq("u-1"),
+                argThat(events -> events.size() == 3));
+        batcher.stop();
+        assertThat(batcher.getStats()).containsEntry("flushedByLinger", 1L)
+                .containsEntry("flushedBySize", 0L);
+    }
+
+    @Test
+    @DisplayName("client_id 또는 user_id가 다른 이벤트는 서로 다른 묶음으로 전송한다")
+    void keepsBatchesPerClientAndUser() {
+        start(50);
+
+        enqueue("c-1", "u-1", 2);
+        enqueue("c-1", null, 1);
+        enqueue("c-2", "u-1", 1);
+
+        verify(ga4Client, timeout(WAIT_MILLIS)).sendEventsNow(eq("c-1"), eq("u-1"),
+                argThat(events -> events.size() == 2));
+        verify(ga4Client, timeout(WAIT_MILLIS)).sendEventsNow(eq("c-1"), isNull(),
+                argThat(events -> events.size() == 1));
+        verify(ga4Client, timeout(WAIT_MILLIS)).sendEventsNow(eq("c-2"), eq("u-1"),
+                argThat(events -> events.size() == 1));
+        batcher.stop();
+        assertThat(batcher.getStats()).containsEntry("batchesSent", 3L);
+    }
+
+    @Test
+    @DisplayName("종료 시 대기 중인 묶음을 실행기를 거치지 않고 동기 전송한다")
+    void drainsSynchronouslyOnShutdown() {
+        start(60_000);
+        enqueue("c-1", "u-1", 3);
+
+        batcher.stop();
+
+        verify(ga4Client).sendEventsNow(eq("c-1"), eq("u-1"), argThat(events -> events.size() == 3));
+        verify(analyticsExecutor, never()).execute(any(Runnable.class));
+        assertThat(batcher.getStats()).containsEntry("flushedOnShutdown", 1L);
+    }
+
+    @Test
+    @DisplayName("실행기가 묶음을 거부하면 아웃박스에 보관한다")
+    void spillsWhenExecutorRejects() {
+        willThrow(new RejectedExecutionException("closed"))
+                .given(analyticsExecutor).execute(any(Runnable.class));
+        start(60_000);
+
+        enqueue("c-1", "u-1", Ga4EventBatcher.MAX_EVENTS_PER_REQUEST);
+
+        verify(outbox, timeout(WAIT_MILLIS)).append(eq("c-1"), eq("u-1"),
+                argThat(events -> events.size() == Ga4EventBatcher.MAX_EVENTS_PER_REQUEST), anyLong());
+        verify(ga4Client, never()).sendEventsNow(any(), any(), anyList());
+        batcher.stop();
+        assertThat(batcher.getStats()).containsEntry("spilledToOutbox", (long) Ga4EventBatcher.MAX_EVENTS_PER_REQUEST);
+    }
+
+    @Test
+    @DisplayName("재시도 가능한 전송 실패만 아웃박스에 보관하고, 거부된 묶음은 보관하지 않는다")
+    void spillsOnlyRetryableFailures() {
+        given(ga4Client.sendEventsNow(eq("c-retry"), any(), anyList())).willReturn(Ga4Client.SendResult.FAILED);
+        given(ga4Client.sendEventsNow(eq("c-rejected"), any(), anyList())).willReturn(Ga4Client.SendResult.REJECTED);
+        start(50);
+
+        enqueue("c-retry", "u-1", 2);
+        enqueue("c-rejected", "u-1", 1);
+
+        verify(outbox, timeout(WAIT_MILLIS)).append(eq("c-retry"), eq("u-1"),
+                argThat(events -> events.size() == 2), anyLong());
+        verify(ga4Client, timeout(WAIT_MILLIS)).sendEventsNow(eq("c-rejected"), eq("u-1"), anyList());
+        batcher.stop();
+        verify(outbox, never()).append(eq("c-rejected"), any(), anyList(), anyLong());
+        assertThat(batcher.getStats()).containsEntry("batchesFailed", 2L)
+                .containsEntry("spilledToOutbox", 2L);
+    }
+
+    private void start(long maxLingerMillis) {
+        batcher = new Ga4EventBatcher(ga4Client, analyticsExecutor, outbox, true, 1000, maxLingerMillis);
+        batcher.start();
+    }
+
+    private void enqueue(String clientId, String userId, int count) {
+        for (int i = 0; i < count; i++) {
+            batcher.enqueue(clientId, userId, new Ga4Client.Ga4Event("event_" + i));
+        }
+    }
+}
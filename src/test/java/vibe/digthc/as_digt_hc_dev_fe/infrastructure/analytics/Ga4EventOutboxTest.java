@@ -0,0 +1,117 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.analytics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Ga4EventOutbox 테스트")
+class Ga4EventOutboxTest {
+
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+
+    @TempDir
+    Path directory;
+
+    private Ga4Client ga4Client;
+
+    @BeforeEach
+    void setUp() {
+        ga4Client = mock(Ga4Client.class);
+        given(ga4Client.isEnabled()).willReturn(true);
+    }
+
+    @Test
+    @DisplayName("보관한 묶음을 발생 시각과 함께 재전송하고 완료 표시한다")
+    void replaysWithOriginalTimestamp() throws Exception {
+        given(ga4Client.sendEventsNow(any(), any(), anyList(), any())).willReturn(Ga4Client.SendResult.SENT);
+        Ga4EventOutbox outbox = open();
+        long createdAt = 1_700_000_000_000L;
+        List<Ga4Client.Ga4Event> events = List.of(new Ga4Client.Ga4Event("report_generated", Map.of("report_id", 7)));
+
+        assertThat(outbox.append("client-1", "user-1", events, createdAt)).isTrue();
+
+        assertThat(outbox.drain(createdAt + 1000)).isEqualTo(1);
+        verify(ga4Client).sendEventsNow("client-1", "user-1", events, TimeUnit.MILLISECONDS.toMicros(createdAt));
+        assertThat(outbox.getStats().get("pendingRecords")).isEqualTo(0L);
+        assertThat(outbox.drain(createdAt + 2000)).isZero();
+        outbox.close();
+    }
+
+    @Test
+    @DisplayName("재시도 가능한 실패면 백오프 동안 재전송하지 않는다")
+    void backsOffAfterRetryableFailure() throws Exception {
+        given(ga4Client.sendEventsNow(any(), any(), anyList(), any()))
+                .willReturn(Ga4Client.SendResult.FAILED, Ga4Client.SendResult.SENT);
+        Ga4EventOutbox outbox = open();
+        long now = 1_700_000_000_000L;
+        outbox.append("client-1", null, List.of(new Ga4Client.Ga4Event("api_error")), now);
+
+        assertThat(outbox.drain(now)).isZero();
+        assertThat(outbox.drain(now + 100)).isZero();
+        verify(ga4Client, times(1)).sendEventsNow(any(), any(), anyList(), any());
+
+        assertThat(outbox.drain(now + 1000)).isEqualTo(1);
+        assertThat(outbox.getStats().get("replayed")).isEqualTo(1L);
+        outbox.close();
+    }
+
+    @Test
+    @DisplayName("최대 보관 시간이 지난 레코드는 전송하지 않고 버린다")
+    void expiresOldRecords() throws Exception {
+        Ga4EventOutbox outbox = open();
+        long createdAt = 1_700_000_000_000L;
+        outbox.append("client-1", null, List.of(new Ga4Client.Ga4Event("api_error")), createdAt);
+
+        assertThat(outbox.drain(createdAt + 73 * HOUR)).isEqualTo(1);
+        verify(ga4Client, never()).sendEventsNow(any(), any(), anyList(), any());
+        assertThat(outbox.getStats().get("expired")).isEqualTo(1L);
+        outbox.close();
+    }
+
+    @Test
+    @DisplayName("재시작 후 미전송 레코드만 다시 읽는다")
+    void recoversPendingRecordsAfterRestart() throws Exception {
+        given(ga4Client.sendEventsNow(any(), any(), anyList(), any())).willReturn(Ga4Client.SendResult.SENT);
+        long now = 1_700_000_000_000L;
+        Ga4EventOutbox first = open();
+        first.append("client-1", null, List.of(new Ga4Client.Ga4Event("first")), now);
+        first.append("client-2", null, List.of(new Ga4Client.Ga4Event("second")), now);
+        first.drain(now);
+        first.close();
+
+        // 첫 레코드만 전송된 상태로 재시작하도록 두 번째 레코드를 다시 보관
+        Ga4EventOutbox second = open();
+        assertThat(second.getStats().get("pendingRecords")).isEqualTo(0L);
+        second.append("client-3", null, List.of(new Ga4Client.Ga4Event("third")), now);
+        second.close();
+
+        Ga4EventOutbox third = open();
+        assertThat(third.getStats().get("pendingRecords")).isEqualTo(1L);
+        assertThat(third.drain(now)).isEqualTo(1);
+        verify(ga4Client).sendEventsNow(eq("client-3"), any(), anyList(), any());
+        third.close();
+    }
+
+    private Ga4EventOutbox open() throws Exception {
+        Ga4EventOutbox outbox = new Ga4EventOutbox(ga4Client, true, directory.toString(),
+                64 * 1024, 1024 * 1024, 72, 60_000, 100, 1000, 60_000);
+        outbox.init();
+        return outbox;
+    }
+}
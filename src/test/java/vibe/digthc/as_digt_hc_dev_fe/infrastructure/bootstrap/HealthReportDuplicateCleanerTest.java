@@ -0,0 +1,107 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.bootstrap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.ReportContext;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.dto.ReportMetrics;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.HealthReport;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.entity.PeriodType;
+import vibe.digthc.as_digt_hc_dev_fe.domain.report.repository.HealthReportRepository;
+import vibe.digthc.as_digt_hc_dev_fe.domain.user.entity.Role;
+import vibe.digthc.as_digt_hc_dev_fe.domain.user.entity.Status;
+import vibe.digthc.as_digt_hc_dev_fe.domain.user.entity.User;
+import vibe.digthc.as_digt_hc_dev_fe.domain.user.repository.UserRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@DisplayName("HealthReportDuplicateCleaner 테스트")
+class HealthReportDuplicateCleanerTest {
+
+    private static final LocalDate END_DATE = LocalDate.of(2026, 3, 15);
+
+    @Autowired
+    private HealthReportDuplicateCleaner cleaner;
+
+    @Autowired
+    private HealthReportRepository healthReportRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("dedup-" + System.nanoTime() + "@example.com")
+                .password("password123")
+                .role(Role.SENIOR)
+                .status(Status.ACTIVE)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        healthReportRepository.deleteAll(healthReportRepository.findByUserOrderByCreatedAtDesc(user));
+        userRepository.delete(user);
+    }
+
+    @Test
+    @DisplayName("유니크 키가 없는 기존 DB의 중복 리포트를 최신 1건만 남기고 정리한 뒤 유니크 키를 추가한다")
+    void removesDuplicatesAndAddsUniqueKey() throws Exception {
+        // 유니크 키 적용 전 스키마 재현
+        jdbcTemplate.execute("ALTER TABLE " + HealthReportDuplicateCleaner.TABLE
+                + " DROP CONSTRAINT " + HealthReportDuplicateCleaner.CONSTRAINT);
+        healthReportRepository.saveAndFlush(report(PeriodType.WEEKLY, 1L));
+        healthReportRepository.saveAndFlush(report(PeriodType.WEEKLY, 2L));
+        HealthReport latest = healthReportRepository.saveAndFlush(report(PeriodType.WEEKLY, 3L));
+        HealthReport monthly = healthReportRepository.saveAndFlush(report(PeriodType.MONTHLY, 1L));
+
+        cleaner.run(null);
+
+        List<HealthReport> remaining = healthReportRepository.findByUserOrderByCreatedAtDesc(user);
+        assertThat(remaining).extracting(HealthReport::getId)
+                .containsExactlyInAnyOrder(latest.getId(), monthly.getId());
+        assertThatThrownBy(() -> healthReportRepository.saveAndFlush(report(PeriodType.WEEKLY, 4L)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("유니크 키가 이미 있으면 아무것도 바꾸지 않는다")
+    void keepsExistingUniqueKey() throws Exception {
+        HealthReport weekly = healthReportRepository.saveAndFlush(report(PeriodType.WEEKLY, 1L));
+
+        cleaner.run(null);
+        cleaner.ensureUniqueConstraint();
+
+        assertThat(healthReportRepository.findByUserOrderByCreatedAtDesc(user))
+                .extracting(HealthReport::getId)
+                .containsExactly(weekly.getId());
+    }
+
+    private HealthReport report(PeriodType periodType, long dataVersion) {
+        return HealthReport.builder()
+                .user(user)
+                .metrics(ReportMetrics.builder().build())
+                .context(ReportContext.builder().build())
+                .startDate(periodType == PeriodType.WEEKLY ? END_DATE.minusDays(6) : END_DATE.withDayOfMonth(1))
+                .endDate(END_DATE)
+                .periodType(periodType)
+                .dataVersion(dataVersion)
+                .build();
+    }
+}
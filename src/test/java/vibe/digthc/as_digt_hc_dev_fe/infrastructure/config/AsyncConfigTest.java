@@ -0,0 +1,27 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.analytics.AnalyticsExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("AsyncConfig 테스트")
+class AsyncConfigTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    @DisplayName("analyticsExecutor가 있어도 Boot 기본 실행기(applicationTaskExecutor)가 생성된다")
+    void applicationTaskExecutorStillExists() {
+        assertThat(context.getBean("analyticsExecutor")).isInstanceOf(AnalyticsExecutor.class);
+        assertThat(context.containsBean("applicationTaskExecutor")).isTrue();
+        assertThat(context.getBean("applicationTaskExecutor")).isInstanceOf(ThreadPoolTaskExecutor.class);
+    }
+}
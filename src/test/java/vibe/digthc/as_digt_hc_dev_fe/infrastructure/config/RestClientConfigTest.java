@@ -0,0 +1,70 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.config;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.http.OutboundHostLimiter;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RestClientConfig 테스트")
+class RestClientConfigTest {
+
+    private final RestClientConfig config = new RestClientConfig();
+    private final List<String> upgradeHeaders = new ArrayList<>();
+
+    private HttpServer server;
+    private HttpClient tlsClient;
+    private HttpClient plainClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            synchronized (upgradeHeaders) {
+                upgradeHeaders.add(String.valueOf(exchange.getRequestHeaders().getFirst("Upgrade")));
+            }
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        tlsClient = config.outboundHttpClient(1000);
+        plainClient = config.plainHttpClient(1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        tlsClient.close();
+        plainClient.close();
+    }
+
+    @Test
+    @DisplayName("평문 http 대상은 HTTP/1.1로 보내 h2c Upgrade를 시도하지 않는다")
+    void plainHttpSkipsH2cUpgrade() {
+        RestTemplate restTemplate = RestClientConfig.createRestTemplate(
+                tlsClient, plainClient, new OutboundHostLimiter(4, 1000), Duration.ofSeconds(2));
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/collect";
+
+        assertThat(restTemplate.getForObject(url, String.class)).isEqualTo("ok");
+        assertThat(restTemplate.getForObject(url, String.class)).isEqualTo("ok");
+
+        assertThat(upgradeHeaders).containsExactly("null", "null");
+        assertThat(plainClient.version()).isEqualTo(HttpClient.Version.HTTP_1_1);
+        assertThat(tlsClient.version()).isEqualTo(HttpClient.Version.HTTP_2);
+    }
+}
@@ -0,0 +1,90 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.http;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("OutboundHostLimiter 테스트")
+class OutboundHostLimiterTest {
+
+    private static final String HOST = "api.example.com:443";
+
+    private final MockClientHttpRequest request =
+            new MockClientHttpRequest(HttpMethod.POST, URI.create("https://api.example.com/collect"));
+    private final ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+
+    @Test
+    @DisplayName("허가는 응답을 닫을 때 한 번만 반납된다")
+    void releasesPermitOnResponseClose() throws IOException {
+        OutboundHostLimiter limiter = new OutboundHostLimiter(1, 0);
+        given(execution.execute(any(), any())).willReturn(new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+
+        ClientHttpResponse response = limiter.intercept(request, new byte[0], execution);
+        assertThat(host(limiter)).containsEntry("inFlight", 1).containsEntry("availablePermits", 0);
+
+        response.close();
+        response.close();
+
+        assertThat(host(limiter)).containsEntry("inFlight", 0).containsEntry("availablePermits", 1);
+        limiter.intercept(request, new byte[0], execution).close();
+        assertThat(host(limiter)).containsEntry("requests", 2L).containsEntry("availablePermits", 1);
+    }
+
+    @Test
+    @DisplayName("호출이 예외로 끝나면 허가를 즉시 반납하고 오류로 집계한다")
+    void releasesPermitWhenCallThrows() throws IOException {
+        OutboundHostLimiter limiter = new OutboundHostLimiter(1, 0);
+        IOException failure = new IOException("connection reset");
+        given(execution.execute(any(), any())).willThrow(failure);
+
+        assertThatThrownBy(() -> limiter.intercept(request, new byte[0], execution)).isSameAs(failure);
+
+        assertThat(host(limiter)).containsEntry("inFlight", 0)
+                .containsEntry("availablePermits", 1)
+                .containsEntry("errors", 1L);
+    }
+
+    @Test
+    @DisplayName("허가를 acquire-timeout 안에 얻지 못하면 호출하지 않고 IOException을 던진다")
+    void failsAfterAcquireTimeout() throws IOException {
+        OutboundHostLimiter limiter = new OutboundHostLimiter(1, 50);
+        given(execution.execute(any(), any())).willReturn(new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+        ClientHttpResponse held = limiter.intercept(request, new byte[0], execution);
+
+        long startNanos = System.nanoTime();
+        assertThatThrownBy(() -> limiter.intercept(request, new byte[0], execution))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("limit reached");
+
+        assertThat(System.nanoTime() - startNanos).isGreaterThanOrEqualTo(40_000_000L);
+        verify(execution, times(1)).execute(any(), any());
+        assertThat(host(limiter)).containsEntry("acquireTimeouts", 1L).containsEntry("inFlight", 1);
+
+        held.close();
+        limiter.intercept(request, new byte[0], execution).close();
+        assertThat(host(limiter)).containsEntry("requests", 2L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> host(OutboundHostLimiter limiter) {
+        Map<String, Object> hosts = (Map<String, Object>) limiter.getStats().get("hosts");
+        return (Map<String, Object>) hosts.get(HOST);
+    }
+}
@@ -0,0 +1,50 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ApiLogNdjsonWriter 테스트")
+class ApiLogNdjsonWriterTest {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final SensitiveKeyMatcher fieldMatcher = SensitiveKeyMatcher.compile(List.of("password"));
+    private final ApiLogNdjsonWriter writer = new ApiLogNdjsonWriter(
+            LoggerFactory.getLogger(ApiLogNdjsonWriterTest.class),
+            jsonFactory,
+            SensitiveKeyMatcher.compile(List.of("authorization")),
+            new JsonBodyMasker(jsonFactory, fieldMatcher::containsAny),
+            5000);
+
+    @Test
+    @DisplayName("고정 필드 순서의 한 줄 JSON으로 직렬화하고 민감 정보를 마스킹한다")
+    void serializesCompactLine() throws Exception {
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Authorization", "Bearer abc");
+        headers.put("Content-Type", "application/json");
+        byte[] body = "{\"email\":\"a@b.c\",\"password\":\"pw\"}".getBytes(StandardCharsets.UTF_8);
+        ApiLogEvent event = new ApiLogEvent(ApiLogEvent.Type.RESPONSE, "req-1", 1700000000000L,
+                "POST", "http://localhost/api/v1/auth/login", null, null, 200, 12L, headers, body, body.length);
+
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            writer.serialize(generator, event);
+        }
+
+        assertThat(out.toString()).isEqualTo(
+                "{\"ts\":1700000000000,\"type\":\"response\",\"requestId\":\"req-1\",\"method\":\"POST\","
+                        + "\"url\":\"http://localhost/api/v1/auth/login\",\"status\":200,\"durationMs\":12,"
+                        + "\"headers\":{\"Authorization\":\"***MASKED***\",\"Content-Type\":\"application/json\"},"
+                        + "\"body\":{\"email\":\"a@b.c\",\"password\":\"***MASKED***\"},\"bodyBytes\":" + body.length + "}");
+    }
+}
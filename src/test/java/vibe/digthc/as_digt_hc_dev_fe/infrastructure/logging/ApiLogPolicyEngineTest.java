@@ -0,0 +1,71 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ApiLogPolicyEngine 테스트")
+class ApiLogPolicyEngineTest {
+
+    private final ApiLogPolicyEngine engine = new ApiLogPolicyEngine(
+            "full",
+            "/actuator/**=off,/v1/metrics/**=headers,/v1/metrics/daily=full,/v1/reports/{id}=basic,/v1/auth/*=headers");
+
+    @Test
+    @DisplayName("정확한 세그먼트가 와일드카드보다 우선한다")
+    void exactSegmentWinsOverWildcard() {
+        assertThat(engine.resolve("/v1/metrics/daily", 0)).isEqualTo(ApiLogLevel.FULL);
+        assertThat(engine.resolve("/v1/metrics/weekly/summary", 0)).isEqualTo(ApiLogLevel.HEADERS);
+        assertThat(engine.resolve("/v1/metrics", 0)).isEqualTo(ApiLogLevel.HEADERS);
+    }
+
+    @Test
+    @DisplayName("경로 변수와 단일 와일드카드는 한 세그먼트만 매칭한다")
+    void singleWildcardMatchesOneSegment() {
+        assertThat(engine.resolve("/v1/reports/42", 0)).isEqualTo(ApiLogLevel.BASIC);
+        assertThat(engine.resolve("/v1/reports/42/pdf", 0)).isEqualTo(ApiLogLevel.FULL);
+        assertThat(engine.resolve("/v1/auth/login", 0)).isEqualTo(ApiLogLevel.HEADERS);
+    }
+
+    @Test
+    @DisplayName("컨텍스트 패스 이후 경로만 비교한다")
+    void skipsContextPath() {
+        assertThat(engine.resolve("/api/actuator/health", "/api".length())).isEqualTo(ApiLogLevel.OFF);
+        assertThat(engine.resolve("/api/v1/users/me", "/api".length())).isEqualTo(ApiLogLevel.FULL);
+    }
+
+    @Test
+    @DisplayName("기본 규칙은 기존 제외 경로와 /healthz 헬스체크를 기록하지 않는다")
+    void defaultRulesSkipHealthChecks() {
+        ApiLogPolicyEngine defaults = new ApiLogPolicyEngine("full", ApiLogPolicyEngine.DEFAULT_RULES);
+
+        assertThat(defaults.resolve("/api/health", "/api".length())).isEqualTo(ApiLogLevel.OFF);
+        assertThat(defaults.resolve("/api/health/db", "/api".length())).isEqualTo(ApiLogLevel.OFF);
+        assertThat(defaults.resolve("/api/healthz", "/api".length())).isEqualTo(ApiLogLevel.OFF);
+        assertThat(defaults.resolve("/api/actuator/prometheus", "/api".length())).isEqualTo(ApiLogLevel.OFF);
+        assertThat(defaults.resolve("/api/v1/health-records", "/api".length())).isEqualTo(ApiLogLevel.FULL);
+    }
+
+    @Test
+    @DisplayName("규칙 교체 후 새 규칙으로 결정한다")
+    void replacesRules() {
+        Map<String, ApiLogLevel> rules = new LinkedHashMap<>();
+        rules.put("/v1/**", ApiLogLevel.OFF);
+        engine.replaceRules(rules);
+
+        assertThat(engine.resolve("/v1/metrics/daily", 0)).isEqualTo(ApiLogLevel.OFF);
+        assertThat(engine.getRules()).containsOnlyKeys("/v1/**");
+    }
+
+    @Test
+    @DisplayName("패턴 중간의 '**'는 허용하지 않는다")
+    void rejectsInnerMultiWildcard() {
+        assertThatThrownBy(() -> engine.replaceRules(Map.of("/v1/**/daily", ApiLogLevel.OFF)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,146 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ApiLogSampler 테스트")
+class ApiLogSamplerTest {
+
+    private static final String ROUTE = "/v1/metrics/daily";
+    private static final long WINDOW_MILLIS = 1000;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private AsyncApiLogDispatcher dispatcher;
+    private ApiLogSampler sampler;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = mock(AsyncApiLogDispatcher.class);
+        sampler = new ApiLogSampler(dispatcher, true, 500, 0.1, ROUTE + "=0.1,/v1/all=1.0,/v1/none=0",
+                WINDOW_MILLIS, 50, now::get);
+    }
+
+    @Test
+    @DisplayName("에러/느린 요청은 항상 보존하고 비율 1.0, 0 라우트는 바로 판정한다")
+    void decidesImmediatelyOutsideReservoir() {
+        assertThat(sampler.decide(ROUTE, 500, 1)).isEqualTo(ApiLogSampler.Decision.KEEP_ERROR);
+        assertThat(sampler.decide(ROUTE, 200, 800)).isEqualTo(ApiLogSampler.Decision.KEEP_SLOW);
+        assertThat(sampler.decide("/v1/all", 200, 1)).isEqualTo(ApiLogSampler.Decision.KEEP_SAMPLED);
+        assertThat(sampler.decide("/v1/none", 200, 1)).isEqualTo(ApiLogSampler.Decision.DROP);
+        assertThat(sampler.decide(ROUTE, 200, 1)).isEqualTo(ApiLogSampler.Decision.RESERVOIR);
+    }
+
+    @Test
+    @DisplayName("구간이 끝나야 보관분을 발행하고 첫 구간은 이번 구간, 다음 구간은 직전 구간 요청 수 × 비율만큼만 보관한다")
+    void keepsRateTimesPreviousWindowCount() {
+        // 첫 구간: 직전 요청 수를 모르므로 이번 구간 요청 수 × 비율 (200 × 0.1 = 20건)
+        offer(200);
+        verify(dispatcher, never()).publish(any());
+
+        now.addAndGet(WINDOW_MILLIS);
+        sampler.flushExpired();
+        verify(dispatcher, times(20)).publish(any());
+
+        // 두 번째 구간: 직전 200 × 0.1 = 20건만 균등 보관
+        offer(300);
+        now.addAndGet(WINDOW_MILLIS);
+        sampler.flushExpired();
+        verify(dispatcher, times(40)).publish(any());
+
+        assertThat(sampler.getStats())
+                .containsEntry("keptSampled", 40L)
+                .containsEntry("dropped", 460L)
+                .containsEntry("reservoirPending", 0);
+    }
+
+    @Test
+    @DisplayName("요청이 없던 구간 다음 구간은 최대 보관 건수가 아니라 이번 구간 요청 수 × 비율(최소 1)만 보관한다")
+    void reseedsFromRateAfterIdleWindow() {
+        offer(100);
+        now.addAndGet(WINDOW_MILLIS);
+        sampler.flushExpired();
+        verify(dispatcher, times(10)).publish(any());
+
+        // 요청이 없는 구간
+        now.addAndGet(WINDOW_MILLIS);
+        sampler.flushExpired();
+
+        offer(300);
+        now.addAndGet(WINDOW_MILLIS);
+        sampler.flushExpired();
+        verify(dispatcher, times(40)).publish(any());
+
+        // 요청 수 × 비율이 1 미만이어도 1건은 보관
+        now.addAndGet(WINDOW_MILLIS);
+        sampler.flushExpired();
+        now.addAndGet(WINDOW_MILLIS);
+        sampler.flushExpired();
+        offer(5);
+        now.addAndGet(WINDOW_MILLIS);
+        sampler.flushExpired();
+        verify(dispatcher, times(41)).publish(any());
+    }
+
+    @Test
+    @DisplayName("다음 요청이 구간 종료 후 들어오면 이전 구간 보관분을 먼저 발행한다")
+    void offerRollsExpiredWindow() {
+        // 30 × 0.1 = 3건 보관
+        offer(30);
+        now.addAndGet(WINDOW_MILLIS);
+
+        offer(1);
+
+        verify(dispatcher, times(3)).publish(any());
+        // 새 구간 요청은 다음 구간 종료까지 보관
+        assertThat(sampler.getStats()).containsEntry("reservoirPending", 1);
+    }
+
+    @Test
+    @DisplayName("저수지는 구간 전체에서 균등하게 뽑아 뒤쪽 요청도 보관된다")
+    void samplesUniformlyAcrossWindow() {
+        int lateKept = 0;
+        for (int round = 0; round < 200; round++) {
+            AsyncApiLogDispatcher roundDispatcher = mock(AsyncApiLogDispatcher.class);
+            ApiLogSampler single = new ApiLogSampler(roundDispatcher, true, 500, 0.1, "", WINDOW_MILLIS, 1,
+                    now::get);
+            for (int i = 0; i < 10; i++) {
+                single.decide(ROUTE, 200, 1);
+                single.offer(ROUTE, List.of(event(i)));
+            }
+            now.addAndGet(WINDOW_MILLIS);
+            single.flushExpired();
+
+            ArgumentCaptor<ApiLogEvent> captor = ArgumentCaptor.forClass(ApiLogEvent.class);
+            verify(roundDispatcher).publish(captor.capture());
+            if (Integer.parseInt(captor.getValue().requestId()) >= 5) {
+                lateKept++;
+            }
+        }
+        // 10건 중 1건을 균등 보관하면 뒤쪽 5건이 뽑힐 확률은 1/2 (앞쪽 고정 보관이면 0)
+        assertThat(lateKept).isBetween(60, 140);
+    }
+
+    private void offer(int count) {
+        for (int i = 0; i < count; i++) {
+            assertThat(sampler.decide(ROUTE, 200, 1)).isEqualTo(ApiLogSampler.Decision.RESERVOIR);
+            sampler.offer(ROUTE, List.of(event(i)));
+        }
+    }
+
+    private ApiLogEvent event(int sequence) {
+        return ApiLogEvent.response(String.valueOf(sequence), "PUT", "http://localhost/api/v1/metrics/daily",
+                200, 1L, null, null, 0L);
+    }
+}
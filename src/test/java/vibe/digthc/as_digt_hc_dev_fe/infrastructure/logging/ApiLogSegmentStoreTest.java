@@ -0,0 +1,175 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging;
+
+import com.github.f4b6a3.ulid.Ulid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ApiLogSegmentStore 테스트")
+class ApiLogSegmentStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private ApiLogger apiLogger;
+
+    @BeforeEach
+    void setUp() {
+        apiLogger = new ApiLogger();
+        ReflectionTestUtils.setField(apiLogger, "format", "text");
+        ReflectionTestUtils.setField(apiLogger, "maxBodyLength", 5000);
+        ReflectionTestUtils.setField(apiLogger, "sensitiveHeaders", List.of("authorization"));
+        ReflectionTestUtils.setField(apiLogger, "sensitiveFields", List.of("password"));
+        apiLogger.initMatchers();
+    }
+
+    @Test
+    @DisplayName("기록 순서가 ULID 순서와 달라도 requestId로 요청/응답을 찾는다")
+    void findsOutOfOrderRecords() throws Exception {
+        ApiLogSegmentStore store = newStore();
+        long now = System.currentTimeMillis();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            ids.add(new Ulid(now - 10_000 + i * 100L, new byte[10]).increment().toString());
+        }
+        // 느린 요청(앞선 ULID)이 나중에 기록되는 상황
+        for (int i = 49; i >= 0; i -= 2) {
+            appendPair(store, ids.get(i));
+        }
+        for (int i = 0; i < 50; i += 2) {
+            appendPair(store, ids.get(i));
+        }
+
+        for (String id : ids) {
+            List<String> records = store.find(id);
+            assertThat(records).hasSize(2);
+            assertThat(records.get(0)).contains("\"type\":\"request\"").contains(id);
+            assertThat(records.get(1)).contains("\"type\":\"response\"");
+        }
+        assertThat(store.find(new Ulid(now, new byte[10]).toString())).isEmpty();
+        store.close();
+    }
+
+    @Test
+    @DisplayName("재기동 후에도 기존 세그먼트에 이어 쓰고 조회한다")
+    void recoversExistingSegment() throws Exception {
+        ApiLogSegmentStore first = newStore();
+        String before = Ulid.fast().toString();
+        appendPair(first, before);
+        first.close();
+
+        ApiLogSegmentStore second = newStore();
+        String after = Ulid.fast().toString();
+        appendPair(second, after);
+
+        assertThat(second.find(before)).hasSize(2);
+        assertThat(second.find(after)).hasSize(2);
+        second.close();
+    }
+
+    @Test
+    @DisplayName("index-interval이 바뀌어 재기동해도 인덱스를 재구성해 조회한다")
+    void rebuildsIndexWhenIntervalChanges() throws Exception {
+        ApiLogSegmentStore first = newStore(4, 0);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            String id = Ulid.fast().toString();
+            ids.add(id);
+            appendPair(first, id);
+        }
+        first.close();
+
+        ApiLogSegmentStore second = newStore(3, 0);
+        for (int i = 0; i < 5; i++) {
+            String id = Ulid.fast().toString();
+            ids.add(id);
+            appendPair(second, id);
+        }
+
+        // 레코드 40 + 10건을 간격 3으로 재구성 → 인덱스 항목 17개 (재구성하지 않으면 기존 10개 + 이어쓴 3개)
+        String index = "api-" + DateTimeFormatter.ofPattern("yyyyMMdd").format(LocalDate.now()) + ".idx";
+        assertThat(Files.size(directory.resolve(index))).isEqualTo(17L * Long.BYTES * 3);
+        for (String id : ids) {
+            assertThat(second.find(id)).hasSize(2);
+        }
+        second.close();
+    }
+
+    @Test
+    @DisplayName("max-bytes를 넘으면 가장 오래된 날짜의 세그먼트부터 삭제한다")
+    void evictsOldestSegmentsOverMaxBytes() throws Exception {
+        Path oldest = Files.write(directory.resolve(segmentName(LocalDate.now().minusDays(2))), new byte[600]);
+        Path older = Files.write(directory.resolve(segmentName(LocalDate.now().minusDays(1))), new byte[600]);
+        ApiLogSegmentStore store = newStore(4, 1500);
+
+        String id = Ulid.fast().toString();
+        appendPair(store, id);
+
+        assertThat(oldest).doesNotExist();
+        assertThat(older).exists();
+        assertThat(store.find(id)).hasSize(2);
+        assertThat(store.getStats()).containsEntry("evictedSegments", 1L);
+        store.close();
+    }
+
+    @Test
+    @DisplayName("오늘 세그먼트만으로 max-bytes를 넘으면 기록을 건너뛴다")
+    void skipsAppendsWhenCurrentSegmentExceedsMaxBytes() throws Exception {
+        ApiLogSegmentStore store = newStore(4, 300);
+        String first = Ulid.fast().toString();
+        appendPair(store, first);
+        String second = Ulid.fast().toString();
+        appendPair(store, second);
+
+        assertThat(store.find(first)).isNotEmpty();
+        assertThat(store.find(second)).isEmpty();
+        assertThat((Long) store.getStats().get("skippedOverCap")).isPositive();
+        assertThat((Long) store.getStats().get("storeBytes")).isLessThanOrEqualTo(300L);
+        store.close();
+    }
+
+    @Test
+    @DisplayName("ULID가 아닌 requestId는 조회할 수 없다")
+    void rejectsNonUlid() throws Exception {
+        ApiLogSegmentStore store = newStore();
+
+        assertThatThrownBy(() -> store.find("custom-request-id"))
+                .isInstanceOf(IllegalArgumentException.class);
+        store.close();
+    }
+
+    private ApiLogSegmentStore newStore() throws Exception {
+        return newStore(4, 0);
+    }
+
+    private ApiLogSegmentStore newStore(int indexInterval, long maxBytes) throws Exception {
+        ApiLogSegmentStore store = new ApiLogSegmentStore(apiLogger, true, directory.toString(), 30, maxBytes,
+                indexInterval, 60_000);
+        store.init();
+        return store;
+    }
+
+    private String segmentName(LocalDate date) {
+        return "api-" + DateTimeFormatter.ofPattern("yyyyMMdd").format(date) + ".seg";
+    }
+
+    private void appendPair(ApiLogSegmentStore store, String requestId) {
+        byte[] body = ("{\"id\":\"" + requestId + "\",\"password\":\"pw\"}").getBytes();
+        store.append(ApiLogEvent.request(requestId, "POST", "http://localhost/api/v1/x", "127.0.0.1",
+                null, body, body.length));
+        store.append(ApiLogEvent.response(requestId, "POST", "http://localhost/api/v1/x", 200, 5L,
+                null, null, 0L));
+    }
+}
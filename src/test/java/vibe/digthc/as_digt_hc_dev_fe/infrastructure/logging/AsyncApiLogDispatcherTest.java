@@ -0,0 +1,134 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("AsyncApiLogDispatcher 테스트")
+class AsyncApiLogDispatcherTest {
+
+    private ApiLogger apiLogger;
+    private ApiLogSegmentStore segmentStore;
+    private ApiTrafficRecorder trafficRecorder;
+
+    /** 이벤트를 기록한 스레드 이름 (기록 순서) */
+    private final List<String> writerThreads = new CopyOnWriteArrayList<>();
+    private final CountDownLatch releaseWrites = new CountDownLatch(1);
+
+    private AsyncApiLogDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        apiLogger = mock(ApiLogger.class);
+        segmentStore = mock(ApiLogSegmentStore.class);
+        trafficRecorder = mock(ApiTrafficRecorder.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseWrites.countDown();
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 이벤트는 소비자 스레드가 한 번씩만 기록한다")
+    void stopDrainsOnConsumerThread() {
+        releaseWrites.countDown();
+        recordWriterThreads();
+        dispatcher = newDispatcher(5000);
+        dispatcher.start();
+
+        for (int i = 0; i < 500; i++) {
+            dispatcher.publish(event(i));
+        }
+        dispatcher.stop();
+
+        assertThat(writerThreads).hasSize(500);
+        assertThat(writerThreads).containsOnly("api-log-consumer");
+    }
+
+    @Test
+    @DisplayName("종료 대기 시간이 지나도 소비자가 기록 중이면 호출 스레드는 버퍼를 꺼내지 않는다")
+    void stopDoesNotDrainWhileConsumerIsWriting() throws InterruptedException {
+        recordWriterThreads();
+        dispatcher = newDispatcher(100);
+        dispatcher.start();
+
+        for (int i = 0; i < 10; i++) {
+            dispatcher.publish(event(i));
+        }
+        dispatcher.stop();
+
+        // 소비자가 첫 이벤트에서 막혀 있는 동안 호출 스레드가 기록한 이벤트 없음
+        assertThat(writerThreads).hasSizeLessThanOrEqualTo(1);
+
+        releaseWrites.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (writerThreads.size() < 10 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(writerThreads).hasSize(10);
+        assertThat(writerThreads).containsOnly("api-log-consumer");
+    }
+
+    @Test
+    @DisplayName("종료 후 발행된 이벤트는 호출 스레드에서 바로 기록한다")
+    void publishAfterStopWritesSynchronously() {
+        releaseWrites.countDown();
+        recordWriterThreads();
+        dispatcher = newDispatcher(5000);
+        dispatcher.start();
+        dispatcher.stop();
+
+        dispatcher.publish(event(0));
+
+        assertThat(writerThreads).containsExactly(Thread.currentThread().getName());
+    }
+
+    @Test
+    @DisplayName("유휴 대기 중인 소비자는 발행 즉시 깨어나 기록한다 (대기 상한을 기다리지 않음)")
+    void publishWakesIdleConsumer() throws InterruptedException {
+        CountDownLatch written = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            written.countDown();
+            return null;
+        }).when(apiLogger).write(any());
+        dispatcher = newDispatcher(5000);
+        dispatcher.start();
+        // 소비자가 빈 버퍼를 보고 대기에 들어갈 시간
+        Thread.sleep(200);
+
+        dispatcher.publish(event(1));
+
+        assertThat(written.await(300, TimeUnit.MILLISECONDS)).isTrue();
+        dispatcher.stop();
+    }
+
+    private void recordWriterThreads() {
+        doAnswer(invocation -> {
+            releaseWrites.await(5, TimeUnit.SECONDS);
+            writerThreads.add(Thread.currentThread().getName());
+            return null;
+        }).when(apiLogger).write(any());
+    }
+
+    private AsyncApiLogDispatcher newDispatcher(long shutdownTimeoutMillis) {
+        return new AsyncApiLogDispatcher(apiLogger, segmentStore, trafficRecorder, true, 1024, 16, "drop",
+                shutdownTimeoutMillis);
+    }
+
+    private ApiLogEvent event(int sequence) {
+        return ApiLogEvent.response("req-" + sequence, "GET", "http://localhost/api/v1/x", 200, 1L,
+                null, null, 0L);
+    }
+}
@@ -0,0 +1,80 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JsonBodyMasker 테스트")
+class JsonBodyMaskerTest {
+
+    private final JsonBodyMasker masker = new JsonBodyMasker(
+            new JsonFactory(),
+            name -> name.toLowerCase().contains("password") || name.toLowerCase().contains("token"));
+
+    @Test
+    @DisplayName("민감한 필드 값만 치환하고 compact JSON으로 출력한다")
+    void masksSensitiveFieldsInline() {
+        String body = """
+                {
+                  "email": "user@example.com",
+                  "password": "secret",
+                  "profile": { "accessToken": { "value": "abc" }, "age": 70 },
+                  "items": [1, 2.5, true, null]
+                }
+                """;
+
+        JsonBodyMasker.Result result = masker.mask(bytes(body), 5000);
+
+        assertThat(result.json()).isTrue();
+        assertThat(result.verbatim()).isFalse();
+        assertThat(result.text()).isEqualTo(
+                "{\"email\":\"user@example.com\",\"password\":\"***MASKED***\","
+                        + "\"profile\":{\"accessToken\":\"***MASKED***\",\"age\":70},"
+                        + "\"items\":[1,2.5,true,null]}");
+    }
+
+    @Test
+    @DisplayName("잘린 본문도 원본 값을 노출하지 않고 마스킹된 접두부를 출력한다")
+    void masksTruncatedBody() {
+        String body = "{\"name\":\"kim\",\"password\":\"super-secret-value\",\"next\":1}";
+        int cut = body.indexOf("super") + 3;
+
+        JsonBodyMasker.Result result = masker.mask(bytes(body), cut);
+
+        assertThat(result.json()).isFalse();
+        assertThat(result.verbatim()).isFalse();
+        assertThat(result.text()).startsWith("{\"name\":\"kim\",\"password\":");
+        assertThat(result.text()).doesNotContain("sup");
+        assertThat(result.text()).endsWith("[truncated " + (body.length() - cut) + " bytes]");
+    }
+
+    @Test
+    @DisplayName("JSON이 아닌 본문은 그대로 반환한다")
+    void returnsPlainTextAsIs() {
+        JsonBodyMasker.Result result = masker.mask(bytes("plain text"), 5000);
+
+        assertThat(result.json()).isFalse();
+        assertThat(result.verbatim()).isTrue();
+        assertThat(result.text()).isEqualTo("plain text");
+    }
+
+    @Test
+    @DisplayName("민감 필드가 없는 JSON만 원문과 같은 본문으로 표시한다")
+    void marksVerbatimOnlyWithoutMaskedFields() {
+        JsonBodyMasker.Result plain = masker.mask(bytes("{ \"steps\": 1000 }"), 5000);
+        JsonBodyMasker.Result invalid = masker.mask(bytes("{\"steps\": 1000,"), 5000);
+
+        assertThat(plain.verbatim()).isTrue();
+        assertThat(plain.text()).isEqualTo("{\"steps\":1000}");
+        assertThat(invalid.verbatim()).isFalse();
+        assertThat(invalid.text()).endsWith("... [invalid json]");
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
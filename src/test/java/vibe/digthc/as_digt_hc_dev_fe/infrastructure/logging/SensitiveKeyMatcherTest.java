@@ -0,0 +1,54 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SensitiveKeyMatcher 테스트")
+class SensitiveKeyMatcherTest {
+
+    private final SensitiveKeyMatcher matcher = SensitiveKeyMatcher.compile(
+            List.of("password", "token", "accesstoken", "api_key", "birthDate", "x-api-key"));
+
+    @Test
+    @DisplayName("대소문자와 무관하게 키에 포함된 패턴을 찾는다")
+    void containsAnyIgnoresCase() {
+        assertThat(matcher.containsAny("userPassword")).isTrue();
+        assertThat(matcher.containsAny("REFRESH_TOKEN")).isTrue();
+        assertThat(matcher.containsAny("patientBirthDate")).isTrue();
+        assertThat(matcher.containsAny("my_api_key_v2")).isTrue();
+        assertThat(matcher.containsAny("tok")).isFalse();
+        assertThat(matcher.containsAny("email")).isFalse();
+        assertThat(matcher.containsAny("")).isFalse();
+    }
+
+    @Test
+    @DisplayName("failure 링크를 따라 겹치는 패턴도 찾는다")
+    void containsAnyFollowsFailureLinks() {
+        SensitiveKeyMatcher overlapping = SensitiveKeyMatcher.compile(List.of("abcd", "bce"));
+
+        assertThat(overlapping.containsAny("xabce")).isTrue();
+        assertThat(overlapping.containsAny("abcx")).isFalse();
+    }
+
+    @Test
+    @DisplayName("전체 일치는 키 전체가 패턴과 같을 때만 true")
+    void matchesExactly() {
+        assertThat(matcher.matchesExactly("X-API-Key")).isTrue();
+        assertThat(matcher.matchesExactly("Token")).isTrue();
+        assertThat(matcher.matchesExactly("x-api-key-2")).isFalse();
+        assertThat(matcher.matchesExactly("api-key")).isFalse();
+        assertThat(matcher.matchesExactly("tokens")).isFalse();
+    }
+
+    @Test
+    @DisplayName("ASCII가 아닌 패턴은 거부한다")
+    void rejectsNonAsciiPattern() {
+        assertThatThrownBy(() -> SensitiveKeyMatcher.compile(List.of("비밀번호")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
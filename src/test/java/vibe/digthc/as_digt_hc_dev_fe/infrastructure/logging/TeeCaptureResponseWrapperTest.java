@@ -0,0 +1,55 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TeeCaptureResponseWrapper 테스트")
+class TeeCaptureResponseWrapperTest {
+
+    private final BodyCaptureBufferPool pool = new BodyCaptureBufferPool(8, 4);
+
+    @Test
+    @DisplayName("응답을 즉시 그대로 전달하고 앞부분만 캡처한다")
+    void writesThroughAndCapturesPrefix() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        TeeCaptureResponseWrapper wrapper = new TeeCaptureResponseWrapper(response, pool.newCapture());
+
+        byte[] body = "{\"items\":[1,2,3]}".getBytes(StandardCharsets.UTF_8);
+        wrapper.getOutputStream().write(body, 0, body.length);
+
+        assertThat(response.getContentAsByteArray()).isEqualTo(body);
+        assertThat(wrapper.getCapture().toByteArray()).isEqualTo("{\"items\"".getBytes(StandardCharsets.UTF_8));
+        assertThat(wrapper.getCapture().getTotalBytes()).isEqualTo(body.length);
+    }
+
+    @Test
+    @DisplayName("Writer로 쓴 응답도 flush 후 캡처된다")
+    void capturesWriterOutput() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setCharacterEncoding("UTF-8");
+        TeeCaptureResponseWrapper wrapper = new TeeCaptureResponseWrapper(response, pool.newCapture());
+
+        PrintWriter writer = wrapper.getWriter();
+        writer.write("ok");
+        wrapper.flushWriter();
+
+        assertThat(response.getContentAsString()).isEqualTo("ok");
+        assertThat(wrapper.getCapture().toByteArray()).isEqualTo("ok".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("본문이 없으면 풀 버퍼를 빌리지 않는다")
+    void emptyBodyDoesNotAcquireBuffer() {
+        BodyCaptureBuffer capture = pool.newCapture();
+
+        assertThat(capture.toByteArray()).isNull();
+        capture.release();
+        assertThat(pool.getStats()).containsEntry("acquired", 0L);
+    }
+}
@@ -0,0 +1,88 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("LatencyHistogram 테스트")
+class LatencyHistogramTest {
+
+    private static final long MINUTE = 60_000L;
+
+    @Test
+    @DisplayName("백분위를 약 3% 오차 이내로 계산한다")
+    void computesPercentilesWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram(15);
+        long now = 100 * MINUTE + 30_000;
+        for (int ms = 1; ms <= 1000; ms++) {
+            histogram.record(now, TimeUnit.MILLISECONDS.toNanos(ms), false, false);
+        }
+
+        Map<String, Object> stats = histogram.snapshot(now, 1);
+
+        assertThat(stats.get("count")).isEqualTo(1000L);
+        assertThat((double) stats.get("p50Ms")).isCloseTo(500.0, within(500 * 0.03));
+        assertThat((double) stats.get("p99Ms")).isCloseTo(990.0, within(990 * 0.03));
+        assertThat((double) stats.get("throughputPerSec")).isCloseTo(1000 / 60.0, within(0.01));
+    }
+
+    @Test
+    @DisplayName("윈도 밖의 슬롯은 제외하고, 링이 돌면 오래된 슬롯을 초기화한다")
+    void slidesWindow() {
+        LatencyHistogram histogram = new LatencyHistogram(15);
+        long start = 100 * MINUTE;
+        histogram.record(start, 1_000_000, true, false);
+        histogram.record(start + 3 * MINUTE, 1_000_000, false, true);
+
+        assertThat(histogram.snapshot(start + 3 * MINUTE, 1).get("count")).isEqualTo(1L);
+        Map<String, Object> fiveMinutes = histogram.snapshot(start + 3 * MINUTE, 5);
+        assertThat(fiveMinutes.get("count")).isEqualTo(2L);
+        assertThat(fiveMinutes.get("errorRate")).isEqualTo(0.5);
+        assertThat(fiveMinutes.get("clientErrorRate")).isEqualTo(0.5);
+
+        // 16분 뒤 같은 슬롯 재사용 (15분 윈도 + 현재 분)
+        histogram.record(start + 16 * MINUTE, 1_000_000, false, false);
+        assertThat(histogram.snapshot(start + 16 * MINUTE, 15).get("count")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("분이 바뀐 직후에도 직전 분을 윈도에 걸친 비율만큼 합친다")
+    void mergesPreviousMinuteByOverlap() {
+        LatencyHistogram histogram = new LatencyHistogram(15);
+        long start = 100 * MINUTE;
+        for (int i = 0; i < 20; i++) {
+            histogram.record(start + 10_000, TimeUnit.MILLISECONDS.toNanos(200), false, false);
+        }
+
+        // 101분 2초: 직전 분의 58초가 최근 1분에 걸침 (20 x 58/60)
+        Map<String, Object> justAfter = histogram.snapshot(start + MINUTE + 2_000, 1);
+        assertThat(justAfter.get("count")).isEqualTo(19L);
+        assertThat((double) justAfter.get("p50Ms")).isCloseTo(200.0, within(200 * 0.03));
+
+        for (int i = 0; i < 5; i++) {
+            histogram.record(start + MINUTE + 30_000, TimeUnit.MILLISECONDS.toNanos(10), false, false);
+        }
+
+        // 101분 45초: 직전 분은 1/4만 반영 (20 x 0.25 + 현재 분 5)
+        Map<String, Object> later = histogram.snapshot(start + MINUTE + 45_000, 1);
+        assertThat(later.get("count")).isEqualTo(10L);
+        assertThat((double) later.get("throughputPerSec")).isCloseTo(10 / 60.0, within(0.001));
+        assertThat((double) later.get("maxMs")).isCloseTo(200.0, within(200 * 0.03));
+    }
+
+    @Test
+    @DisplayName("버킷 인덱스는 값에 따라 단조 증가하고 범위를 벗어나지 않는다")
+    void bucketIndexIsMonotonic() {
+        int previous = -1;
+        for (long nanos = 1; nanos < TimeUnit.SECONDS.toNanos(200); nanos = nanos * 3 / 2 + 1) {
+            int index = LatencyHistogram.bucketIndex(nanos);
+            assertThat(index).isGreaterThanOrEqualTo(previous).isLessThan(LatencyHistogram.BUCKETS);
+            previous = index;
+        }
+    }
+}
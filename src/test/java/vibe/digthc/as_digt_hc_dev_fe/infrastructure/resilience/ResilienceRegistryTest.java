@@ -0,0 +1,153 @@
+package vibe.digthc.as_digt_hc_dev_fe.infrastructure.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ResilienceRegistry 테스트")
+class ResilienceRegistryTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private ResilienceRegistry registry(int maxConcurrentCalls, int maxAttempts, int retryBudgetMaxTokens) {
+        ResiliencePolicy policy = new ResiliencePolicy(10, 4, 50, 0, 1000, 2,
+                maxConcurrentCalls, 0, maxAttempts, 1, 1, 0.1, retryBudgetMaxTokens);
+        return new ResilienceRegistry(true, policy, clock::get);
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 서킷이 열리고 대기 후 시험 호출이 성공하면 다시 닫힌다")
+    void opensAndRecoversCircuit() {
+        ResilienceRegistry registry = registry(10, 1, 0);
+        AtomicInteger invocations = new AtomicInteger();
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> registry.execute("device.vendor", false, () -> {
+                invocations.incrementAndGet();
+                throw new ResourceAccessException("connect timed out");
+            })).isInstanceOf(ResourceAccessException.class);
+        }
+
+        assertThatThrownBy(() -> registry.execute("device.vendor", false, invocations::incrementAndGet))
+                .isInstanceOfSatisfying(CallNotPermittedException.class,
+                        e -> assertThat(e.getReason()).isEqualTo(CallNotPermittedException.Reason.CIRCUIT_OPEN));
+        assertThat(invocations).hasValue(4);
+        assertThat(targetStats(registry, "device.vendor"))
+                .containsEntry("state", "OPEN")
+                .containsEntry("notPermitted", 1L);
+
+        // 다른 대상에는 영향 없음
+        assertThat(registry.execute("portal.vendor", false, () -> "ok")).isEqualTo("ok");
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+        registry.execute("device.vendor", false, () -> "trial-1");
+        assertThat(targetStats(registry, "device.vendor")).containsEntry("state", "HALF_OPEN");
+        registry.execute("device.vendor", false, () -> "trial-2");
+        assertThat(targetStats(registry, "device.vendor")).containsEntry("state", "CLOSED");
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 실패율에 포함하지 않고 재시도하지 않는다")
+    void ignoresClientErrors() {
+        ResilienceRegistry registry = registry(10, 3, 10);
+        AtomicInteger invocations = new AtomicInteger();
+
+        for (int i = 0; i < 6; i++) {
+            assertThatThrownBy(() -> registry.execute("ga4", true, () -> {
+                invocations.incrementAndGet();
+                throw HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request", null, null, null);
+            })).isInstanceOf(HttpClientErrorException.class);
+        }
+
+        assertThat(invocations).hasValue(6);
+        assertThat(targetStats(registry, "ga4"))
+                .containsEntry("state", "CLOSED")
+                .containsEntry("failures", 0L)
+                .containsEntry("retries", 0L);
+    }
+
+    @Test
+    @DisplayName("재시도는 예산 안에서만 수행된다")
+    void retriesWithinBudget() {
+        ResilienceRegistry registry = registry(10, 3, 1);
+        AtomicInteger invocations = new AtomicInteger();
+
+        String result = registry.execute("device.vendor", true, () -> {
+            if (invocations.incrementAndGet() < 2) {
+                throw new ResourceAccessException("reset");
+            }
+            return "ok";
+        });
+        assertThat(result).isEqualTo("ok");
+        assertThat(invocations).hasValue(2);
+
+        // 토큰 1개를 이미 사용했으므로 두 번째 호출은 재시도 없이 실패
+        invocations.set(0);
+        assertThatThrownBy(() -> registry.execute("device.vendor", true, () -> {
+            invocations.incrementAndGet();
+            throw new ResourceAccessException("reset");
+        })).isInstanceOf(ResourceAccessException.class);
+        assertThat(invocations).hasValue(1);
+        assertThat(targetStats(registry, "device.vendor"))
+                .containsEntry("retries", 1L)
+                .containsEntry("retryBudgetExhausted", 1L);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘으면 대기하지 않고 거부한다")
+    void rejectsWhenBulkheadFull() throws Exception {
+        ResilienceRegistry registry = registry(1, 1, 0);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread slowCall = new Thread(() -> registry.execute("portal.vendor", false, () -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        slowCall.start();
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> registry.execute("portal.vendor", false, () -> "second"))
+                .isInstanceOfSatisfying(CallNotPermittedException.class,
+                        e -> assertThat(e.getReason()).isEqualTo(CallNotPermittedException.Reason.BULKHEAD_FULL));
+
+        release.countDown();
+        slowCall.join();
+        assertThat(targetStats(registry, "portal.vendor"))
+                .containsEntry("bulkheadRejected", 1L)
+                .containsEntry("rejected", 1L)
+                .containsEntry("inFlight", 0);
+    }
+
+    @Test
+    @DisplayName("decorrelated jitter 대기 시간은 하한과 상한 사이에 있다")
+    void jitterStaysWithinBounds() {
+        long delay = 100;
+        for (int i = 0; i < 1000; i++) {
+            delay = RetryBudget.nextDelayMillis(delay, 100, 2000);
+            assertThat(delay).isBetween(100L, 2000L);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> targetStats(ResilienceRegistry registry, String target) {
+        Map<String, Object> targets = (Map<String, Object>) registry.getStats().get("targets");
+        return (Map<String, Object>) targets.get(target);
+    }
+}
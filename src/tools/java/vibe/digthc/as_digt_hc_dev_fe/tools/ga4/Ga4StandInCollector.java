@@ -0,0 +1,420 @@
+package vibe.digthc.as_digt_hc_dev_fe.tools.ga4;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로컬 GA4 Measurement Protocol 대체 수집기
+ *
+ * app.analytics.ga4.endpoint를 이 수집기 주소로 바꾸면 실제 GA4 없이 Ga4Client 전송 경로를 시험할 수 있습니다.
+ * JDK 내장 HttpServer만 사용하므로 테스트/벤치마크에 그대로 내장할 수 있습니다.
+ *
+ * - POST /mp/collect: 페이로드 검증 후 204 (strict 모드면 위반 시 400, 실제 GA4는 항상 2xx)
+ * - POST /debug/mp/collect: 실제 검증 엔드포인트처럼 {"validationMessages":[...]} 응답
+ * - 지연 주입: 고정 지연 + 무작위 지터
+ * - 장애 주입: 요청별 실패 확률(503) 또는 전체 장애(setOutage)
+ *
+ * 검증 항목 (Measurement Protocol 제한):
+ * - measurement_id/api_secret 쿼리, client_id 필수
+ * - 요청당 이벤트 1~25개, 본문 130KB 이하
+ * - 이벤트 이름: 40자 이하, 영문자로 시작하는 영숫자/밑줄, 예약 이름 불가
+ * - 이벤트당 매개변수 25개 이하, 매개변수 이름 40자 이하/예약 접두사 불가, 문자열 값 100자 이하
+ *
+ * 단독 실행:
+ * java ... Ga4StandInCollector --port=9099 --latency-ms=50 --jitter-ms=20 --failure-rate=0.01 --strict
+ */
+public final class Ga4StandInCollector implements AutoCloseable {
+
+    static final int MAX_EVENTS_PER_REQUEST = 25;
+    static final int MAX_PARAMS_PER_EVENT = 25;
+    static final int MAX_NAME_LENGTH = 40;
+    static final int MAX_PARAM_VALUE_LENGTH = 100;
+    static final int MAX_BODY_BYTES = 130 * 1024;
+
+    private static final Set<String> RESERVED_EVENT_NAMES = Set.of(
+            "ad_activeview", "ad_click", "ad_exposure", "ad_query", "ad_reward", "adunit_exposure",
+            "app_background", "app_clear_data", "app_exception", "app_remove", "app_store_refund",
+            "app_store_subscription_cancel", "app_store_subscription_convert", "app_store_subscription_renew",
+            "app_update", "app_upgrade", "dynamic_link_app_open", "dynamic_link_app_update",
+            "dynamic_link_first_open", "error", "firebase_campaign", "firebase_in_app_message_action",
+            "firebase_in_app_message_dismiss", "firebase_in_app_message_impression", "first_open",
+            "first_visit", "in_app_purchase", "notification_dismiss", "notification_foreground",
+            "notification_open", "notification_receive", "os_update", "session_start", "session_start_with_rollout",
+            "user_engagement");
+    private static final List<String> RESERVED_PARAM_PREFIXES = List.of("google_", "ga_", "firebase_");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private volatile long latencyMillis;
+    private volatile long jitterMillis;
+    private volatile double failureRate;
+    private volatile boolean outage;
+    private volatile boolean strict;
+    private volatile boolean recordEvents = true;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder acceptedRequests = new LongAdder();
+    private final LongAdder acceptedEvents = new LongAdder();
+    private final LongAdder invalidRequests = new LongAdder();
+    private final LongAdder injectedFailures = new LongAdder();
+    private final Queue<ReceivedEvent> receivedEvents = new ConcurrentLinkedQueue<>();
+    private final Queue<String> validationSamples = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 수신한 이벤트
+     *
+     * @param clientId        client_id
+     * @param userId          user_id (없으면 null)
+     * @param name            이벤트 이름
+     * @param params          매개변수
+     * @param timestampMicros 요청의 timestamp_micros (없으면 null)
+     * @param receivedAtMillis 수신 시각
+     */
+    public record ReceivedEvent(String clientId, String userId, String name, JsonNode params,
+                                Long timestampMicros, long receivedAtMillis) {
+    }
+
+    private Ga4StandInCollector(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * 루프백 주소에서 수집기 시작
+     *
+     * @param port 포트 (0이면 임의 포트)
+     */
+    public static Ga4StandInCollector start(int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        Ga4StandInCollector collector = new Ga4StandInCollector(server, executor);
+        server.createContext("/mp/collect", exchange -> collector.handle(exchange, false));
+        server.createContext("/debug/mp/collect", exchange -> collector.handle(exchange, true));
+        server.setExecutor(executor);
+        server.start();
+        return collector;
+    }
+
+    /**
+     * app.analytics.ga4.endpoint에 지정할 주소
+     */
+    public String getEndpoint() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/mp/collect";
+    }
+
+    public Ga4StandInCollector latency(long latencyMillis, long jitterMillis) {
+        this.latencyMillis = Math.max(0, latencyMillis);
+        this.jitterMillis = Math.max(0, jitterMillis);
+        return this;
+    }
+
+    public Ga4StandInCollector failureRate(double failureRate) {
+        this.failureRate = Math.max(0.0, Math.min(1.0, failureRate));
+        return this;
+    }
+
+    public Ga4StandInCollector strict(boolean strict) {
+        this.strict = strict;
+        return this;
+    }
+
+    /**
+     * 수신 이벤트 보관 여부 (장시간 부하 시 메모리 절약용)
+     */
+    public Ga4StandInCollector recordEvents(boolean recordEvents) {
+        this.recordEvents = recordEvents;
+        return this;
+    }
+
+    /**
+     * 전체 장애 상태 전환 (true면 모든 요청에 503)
+     */
+    public void setOutage(boolean outage) {
+        this.outage = outage;
+    }
+
+    public Queue<ReceivedEvent> getReceivedEvents() {
+        return receivedEvents;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", requests.sum());
+        stats.put("acceptedRequests", acceptedRequests.sum());
+        stats.put("acceptedEvents", acceptedEvents.sum());
+        stats.put("invalidRequests", invalidRequests.sum());
+        stats.put("injectedFailures", injectedFailures.sum());
+        stats.put("validationSamples", List.copyOf(validationSamples));
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    // ========================================================================
+    // 요청 처리
+    // ========================================================================
+
+    private void handle(HttpExchange exchange, boolean debug) throws IOException {
+        try (exchange) {
+            requests.increment();
+            if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+                respond(exchange, 405, null);
+                return;
+            }
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readAllBytes();
+            }
+            sleepInjectedLatency();
+
+            if (outage || (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate)) {
+                injectedFailures.increment();
+                respond(exchange, 503, null);
+                return;
+            }
+
+            List<String> messages = new ArrayList<>();
+            JsonNode payload = validate(exchange.getRequestURI().getRawQuery(), body, messages);
+
+            if (debug) {
+                Map<String, Object> response = Map.of("validationMessages", messages.stream()
+                        .map(message -> Map.of("description", message))
+                        .toList());
+                respond(exchange, 200, objectMapper.writeValueAsBytes(response));
+                return;
+            }
+            if (!messages.isEmpty()) {
+                invalidRequests.increment();
+                if (validationSamples.size() < 20) {
+                    validationSamples.add(messages.get(0));
+                }
+                if (strict) {
+                    respond(exchange, 400, String.join("\n", messages).getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+            } else {
+                accept(payload);
+            }
+            respond(exchange, 204, null);
+        }
+    }
+
+    private void accept(JsonNode payload) {
+        long now = System.currentTimeMillis();
+        JsonNode events = payload.get("events");
+        acceptedRequests.increment();
+        acceptedEvents.add(events.size());
+        if (!recordEvents) {
+            return;
+        }
+        String clientId = payload.path("client_id").asText(null);
+        String userId = payload.hasNonNull("user_id") ? payload.get("user_id").asText() : null;
+        Long timestampMicros = payload.hasNonNull("timestamp_micros") ? payload.get("timestamp_micros").asLong() : null;
+        for (JsonNode event : events) {
+            receivedEvents.add(new ReceivedEvent(clientId, userId, event.path("name").asText(),
+                    event.get("params"), timestampMicros, now));
+        }
+    }
+
+    /**
+     * Measurement Protocol 제한 검증 (위반 항목을 messages에 추가)
+     */
+    JsonNode validate(String rawQuery, byte[] body, List<String> messages) {
+        Map<String, String> query = parseQuery(rawQuery);
+        if (isBlank(query.get("measurement_id"))) {
+            messages.add("measurement_id query parameter is required");
+        }
+        if (isBlank(query.get("api_secret"))) {
+            messages.add("api_secret query parameter is required");
+        }
+        if (body.length > MAX_BODY_BYTES) {
+            messages.add("Request body exceeds " + MAX_BODY_BYTES + " bytes: " + body.length);
+        }
+
+        JsonNode payload;
+        try {
+            payload = objectMapper.readTree(body);
+        } catch (IOException e) {
+            messages.add("Malformed JSON body");
+            return null;
+        }
+        if (payload == null || !payload.isObject()) {
+            messages.add("Body must be a JSON object");
+            return null;
+        }
+        if (isBlank(payload.path("client_id").asText(null))) {
+            messages.add("client_id is required");
+        }
+
+        JsonNode events = payload.get("events");
+        if (events == null || !events.isArray() || events.isEmpty()) {
+            messages.add("events must be a non-empty array");
+            return payload;
+        }
+        if (events.size() > MAX_EVENTS_PER_REQUEST) {
+            messages.add("Too many events: " + events.size() + " (max " + MAX_EVENTS_PER_REQUEST + ")");
+        }
+        for (JsonNode event : events) {
+            validateEvent(event, messages);
+        }
+        return payload;
+    }
+
+    private void validateEvent(JsonNode event, List<String> messages) {
+        String name = event.path("name").asText("");
+        if (!isValidName(name)) {
+            messages.add("Invalid event name: " + name);
+        } else if (RESERVED_EVENT_NAMES.contains(name)) {
+            messages.add("Reserved event name: " + name);
+        }
+
+        JsonNode params = event.get("params");
+        if (params == null) {
+            return;
+        }
+        if (!params.isObject()) {
+            messages.add("params must be an object: " + name);
+            return;
+        }
+        if (params.size() > MAX_PARAMS_PER_EVENT) {
+            messages.add("Too many params on " + name + ": " + params.size() + " (max " + MAX_PARAMS_PER_EVENT + ")");
+        }
+        for (Map.Entry<String, JsonNode> field : params.properties()) {
+            String paramName = field.getKey();
+            if (!isValidName(paramName)) {
+                messages.add("Invalid param name on " + name + ": " + paramName);
+            } else if (RESERVED_PARAM_PREFIXES.stream().anyMatch(paramName::startsWith)) {
+                messages.add("Reserved param prefix on " + name + ": " + paramName);
+            }
+            JsonNode value = field.getValue();
+            if (value.isTextual() && value.asText().length() > MAX_PARAM_VALUE_LENGTH) {
+                messages.add("Param value too long on " + name + "." + paramName + ": " + value.asText().length());
+            }
+        }
+    }
+
+    private static boolean isValidName(String name) {
+        if (name.isEmpty() || name.length() > MAX_NAME_LENGTH || !Character.isLetter(name.charAt(0))) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c > 0x7f || !(Character.isLetterOrDigit(c) || c == '_')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void sleepInjectedLatency() {
+        long delay = latencyMillis + (jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0);
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new LinkedHashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                query.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    // ========================================================================
+    // 단독 실행
+    // ========================================================================
+
+    public static void main(String[] args) throws Exception {
+        int port = 9099;
+        long latency = 0;
+        long jitter = 0;
+        double failureRate = 0.0;
+        boolean strict = false;
+        for (String arg : args) {
+            if (arg.startsWith("--port=")) {
+                port = Integer.parseInt(value(arg));
+            } else if (arg.startsWith("--latency-ms=")) {
+                latency = Long.parseLong(value(arg));
+            } else if (arg.startsWith("--jitter-ms=")) {
+                jitter = Long.parseLong(value(arg));
+            } else if (arg.startsWith("--failure-rate=")) {
+                failureRate = Double.parseDouble(value(arg));
+            } else if (arg.equals("--strict")) {
+                strict = true;
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        Ga4StandInCollector collector = start(port)
+                .latency(latency, jitter)
+                .failureRate(failureRate)
+                .strict(strict)
+                .recordEvents(false);
+        System.out.println("GA4 stand-in collector listening on " + collector.getEndpoint());
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            System.out.println(collector.getStats());
+            collector.close();
+        }));
+        Thread.currentThread().join();
+    }
+
+    private static String value(String arg) {
+        return arg.substring(arg.indexOf('=') + 1);
+    }
+}
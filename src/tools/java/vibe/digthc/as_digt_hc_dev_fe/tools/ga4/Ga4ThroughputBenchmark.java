@@ -0,0 +1,316 @@
+package vibe.digthc.as_digt_hc_dev_fe.tools.ga4;
+
+import ch.qos.logback.classic.Level;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.analytics.AnalyticsExecutor;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.analytics.AnalyticsService;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.analytics.ApiEventAggregator;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.analytics.Ga4Client;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.analytics.Ga4EventBatcher;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.analytics.Ga4EventOutbox;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.config.AsyncConfig;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.config.JacksonConfig;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.config.RestClientConfig;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.http.OutboundHostLimiter;
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.resilience.ResilienceRegistry;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Analytics 전송 경로 처리량 벤치마크
+ *
+ * Ga4StandInCollector를 띄우고 app.analytics.ga4.endpoint를 그 주소로 지정한 뒤,
+ * 실제 analytics 빈(AnalyticsService → 사전 집계/배처 → analyticsExecutor → Ga4Client, 아웃박스)만으로
+ * 최소 Spring 컨텍스트를 구성해 지정한 속도로 이벤트를 발생시킵니다.
+ *
+ * 보고 항목:
+ * - 전환 이벤트(report_generated) 발생 수 대비 수신 수, 중복, 유실
+ * - 실제 처리량 (events/s), 요청당 평균 이벤트 수
+ * - 종단 지연 (이벤트 timestamp 매개변수 → 수집기 수신, p50/p90/p99/max)
+ * - 배처/실행기/아웃박스/수집기 카운터
+ *
+ * 사용법:
+ * ./gradlew benchmarkAnalytics -Pargs="--rate=2000 --duration-s=30 --outage-at-s=10 --outage-s=5"
+ *
+ * 옵션:
+ * - --rate: 초당 전환 이벤트 수 (기본 1000)
+ * - --duration-s: 발생 시간 (기본 20)
+ * - --clients: client_id/user_id 종류 수 (묶음 효과 확인용, 기본 50)
+ * - --api-ratio: 전환 이벤트 1건당 trackApiSuccess 호출 수 (기본 10, 사전 집계 대상)
+ * - --latency-ms / --jitter-ms: 수집기 응답 지연 (기본 30 / 20)
+ * - --failure-rate: 수집기 요청별 503 확률 (기본 0)
+ * - --outage-at-s / --outage-s: 전체 장애 시작 시점과 길이 (기본 장애 없음)
+ * - --drain-wait-s: 발생 종료 후 전달 완료를 기다리는 최대 시간 (기본 30)
+ * - --no-batch / --no-outbox: 배칭/아웃박스 비활성화 (비교용)
+ */
+public final class Ga4ThroughputBenchmark {
+
+    private static final String EVENT_NAME = "report_generated";
+
+    private Ga4ThroughputBenchmark() {
+    }
+
+    /**
+     * 벤치마크용 최소 컨텍스트 (analytics 관련 빈만 등록)
+     */
+    @Configuration
+    @EnableAsync
+    @EnableScheduling
+    @Import({RestClientConfig.class, AsyncConfig.class, JacksonConfig.class, OutboundHostLimiter.class,
+            Ga4Client.class, Ga4EventOutbox.class, Ga4EventBatcher.class, ApiEventAggregator.class,
+            AnalyticsService.class, ResilienceRegistry.class})
+    static class BenchmarkConfig {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rate = 1000;
+        int durationSec = 20;
+        int clients = 50;
+        int apiRatio = 10;
+        long latencyMillis = 30;
+        long jitterMillis = 20;
+        double failureRate = 0.0;
+        int outageAtSec = -1;
+        int outageSec = 0;
+        int drainWaitSec = 30;
+        boolean batch = true;
+        boolean outbox = true;
+
+        for (String arg : args) {
+            if (arg.startsWith("--rate=")) {
+                rate = Integer.parseInt(value(arg));
+            } else if (arg.startsWith("--duration-s=")) {
+                durationSec = Integer.parseInt(value(arg));
+            } else if (arg.startsWith("--clients=")) {
+                clients = Integer.parseInt(value(arg));
+            } else if (arg.startsWith("--api-ratio=")) {
+                apiRatio = Integer.parseInt(value(arg));
+            } else if (arg.startsWith("--latency-ms=")) {
+                latencyMillis = Long.parseLong(value(arg));
+            } else if (arg.startsWith("--jitter-ms=")) {
+                jitterMillis = Long.parseLong(value(arg));
+            } else if (arg.startsWith("--failure-rate=")) {
+                failureRate = Double.parseDouble(value(arg));
+            } else if (arg.startsWith("--outage-at-s=")) {
+                outageAtSec = Integer.parseInt(value(arg));
+            } else if (arg.startsWith("--outage-s=")) {
+                outageSec = Integer.parseInt(value(arg));
+            } else if (arg.startsWith("--drain-wait-s=")) {
+                drainWaitSec = Integer.parseInt(value(arg));
+            } else if (arg.equals("--no-batch")) {
+                batch = false;
+            } else if (arg.equals("--no-outbox")) {
+                outbox = false;
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        quietLogging();
+        Path outboxDir = Files.createTempDirectory("ga4-outbox-bench");
+        try (Ga4StandInCollector collector = Ga4StandInCollector.start(0)
+                .latency(latencyMillis, jitterMillis)
+                .failureRate(failureRate)
+                .strict(true)) {
+
+            Map<String, Object> properties = new HashMap<>();
+            properties.put("app.analytics.ga4.enabled", "true");
+            properties.put("app.analytics.ga4.measurement-id", "G-BENCHMARK");
+            properties.put("app.analytics.ga4.api-secret", "benchmark");
+            properties.put("app.analytics.ga4.endpoint", collector.getEndpoint());
+            properties.put("app.analytics.ga4.batch.enabled", String.valueOf(batch));
+            properties.put("app.analytics.ga4.outbox.enabled", String.valueOf(outbox));
+            properties.put("app.analytics.ga4.outbox.path", outboxDir.toString());
+            properties.put("app.analytics.ga4.outbox.drain-interval-ms", "200");
+            properties.put("app.analytics.ga4.outbox.initial-backoff-ms", "500");
+            properties.put("app.analytics.ga4.outbox.max-backoff-ms", "5000");
+            properties.put("app.analytics.ga4.aggregate.flush-interval-ms", "5000");
+
+            AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+            context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", properties));
+            context.register(BenchmarkConfig.class);
+            context.refresh();
+
+            PrintStream out = System.out;
+            out.printf("GA4 analytics benchmark: rate=%d/s, duration=%ds, clients=%d, apiRatio=%d, "
+                            + "latency=%d+%dms, failureRate=%.3f, outage=%s, batch=%s, outbox=%s%n",
+                    rate, durationSec, clients, apiRatio, latencyMillis, jitterMillis, failureRate,
+                    outageAtSec >= 0 ? outageAtSec + "s+" + outageSec + "s" : "none", batch, outbox);
+
+            ScheduledExecutorService outageScheduler = Executors.newSingleThreadScheduledExecutor();
+            if (outageAtSec >= 0 && outageSec > 0) {
+                outageScheduler.schedule(() -> collector.setOutage(true), outageAtSec, TimeUnit.SECONDS);
+                outageScheduler.schedule(() -> collector.setOutage(false), outageAtSec + outageSec, TimeUnit.SECONDS);
+            }
+
+            AnalyticsService analyticsService = context.getBean(AnalyticsService.class);
+            long sent = produce(analyticsService, rate, durationSec, clients, apiRatio);
+            long produceEndMillis = System.currentTimeMillis();
+
+            // 전달 완료 대기 (모두 수신되었거나 제한 시간 초과)
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(drainWaitSec);
+            while (System.nanoTime() < deadline && countDelivered(collector) < sent) {
+                Thread.sleep(200);
+            }
+            outageScheduler.shutdownNow();
+
+            Map<String, Object> batcherStats = context.getBean(Ga4EventBatcher.class).getStats();
+            Map<String, Object> executorStats = context.getBean(AnalyticsExecutor.class).getStats();
+            Map<String, Object> outboxStats = context.getBean(Ga4EventOutbox.class).getStats();
+            Map<String, Object> resilienceStats = context.getBean(ResilienceRegistry.class).getStats();
+            context.close();
+
+            report(out, collector, sent, durationSec, produceEndMillis, batcherStats, executorStats, outboxStats,
+                    resilienceStats);
+        } finally {
+            deleteRecursively(outboxDir);
+        }
+    }
+
+    /**
+     * 일정 간격으로 전환 이벤트(+ API 성공 이벤트) 발생
+     *
+     * @return 발생한 전환 이벤트 수
+     */
+    private static long produce(AnalyticsService analyticsService, int rate, int durationSec, int clients,
+                                int apiRatio) {
+        long total = (long) rate * durationSec;
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, rate);
+        long startNanos = System.nanoTime();
+        for (long seq = 0; seq < total; seq++) {
+            long due = startNanos + seq * intervalNanos;
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            int client = (int) (seq % Math.max(1, clients));
+            analyticsService.trackReportGenerated("bench-client-" + client, "bench-user-" + client,
+                    "bench-" + seq, "weekly", 0.9);
+            for (int i = 0; i < apiRatio; i++) {
+                analyticsService.trackApiSuccess("bench-client-" + client, "/v1/reports/weekly", 20 + i);
+            }
+        }
+        return total;
+    }
+
+    private static long countDelivered(Ga4StandInCollector collector) {
+        Set<String> reportIds = new HashSet<>();
+        for (Ga4StandInCollector.ReceivedEvent event : collector.getReceivedEvents()) {
+            if (EVENT_NAME.equals(event.name()) && event.params() != null) {
+                reportIds.add(event.params().path("report_id").asText());
+            }
+        }
+        return reportIds.size();
+    }
+
+    private static void report(PrintStream out, Ga4StandInCollector collector, long sent, int durationSec,
+                               long produceEndMillis, Map<String, Object> batcherStats,
+                               Map<String, Object> executorStats, Map<String, Object> outboxStats,
+                               Map<String, Object> resilienceStats) {
+        Set<String> reportIds = new HashSet<>();
+        long duplicates = 0;
+        long rollups = 0;
+        long[] latencies = new long[collector.getReceivedEvents().size()];
+        int count = 0;
+        long deliveredDuringRun = 0;
+        long lastReceivedMillis = 0;
+
+        for (Ga4StandInCollector.ReceivedEvent event : collector.getReceivedEvents()) {
+            JsonNode params = event.params();
+            if (!EVENT_NAME.equals(event.name())) {
+                rollups++;
+                continue;
+            }
+            if (!reportIds.add(params.path("report_id").asText())) {
+                duplicates++;
+                continue;
+            }
+            latencies[count++] = event.receivedAtMillis() - params.path("timestamp").asLong();
+            if (event.receivedAtMillis() <= produceEndMillis) {
+                deliveredDuringRun++;
+            }
+            lastReceivedMillis = Math.max(lastReceivedMillis, event.receivedAtMillis());
+        }
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+
+        long delivered = reportIds.size();
+        long lost = sent - delivered;
+        Map<String, Object> collectorStats = collector.getStats();
+        long acceptedRequests = (long) collectorStats.get("acceptedRequests");
+        long acceptedEvents = (long) collectorStats.get("acceptedEvents");
+
+        out.println();
+        out.printf("conversion events: sent=%d, delivered=%d, duplicates=%d, lost=%d (%.3f%%)%n",
+                sent, delivered, duplicates, lost, sent > 0 ? lost * 100.0 / sent : 0.0);
+        out.printf("throughput: offered=%.0f/s, delivered during run=%.0f/s, delivered overall=%d events, "
+                        + "settled %.1fs after run%n",
+                (double) sent / durationSec, (double) deliveredDuringRun / durationSec, delivered,
+                lastReceivedMillis > produceEndMillis ? (lastReceivedMillis - produceEndMillis) / 1000.0 : 0.0);
+        out.printf("end-to-end latency ms: p50=%d, p90=%d, p99=%d, max=%d%n",
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99), percentile(sorted, 1.0));
+        out.printf("requests: accepted=%d, events/request=%.2f, rollup events=%d%n",
+                acceptedRequests, acceptedRequests > 0 ? (double) acceptedEvents / acceptedRequests : 0.0, rollups);
+        out.println("collector: " + collectorStats);
+        out.println("batcher:   " + batcherStats);
+        out.println("executor:  " + executorStats);
+        out.println("outbox:    " + outboxStats);
+        out.println("resilience: " + resilienceStats.get("targets"));
+    }
+
+    static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    /**
+     * 전송 실패 로그는 카운터로 집계되므로 출력하지 않음 (장애 주입 시 요청마다 ERROR가 찍히는 것 방지)
+     */
+    private static void quietLogging() {
+        setLevel(Logger.ROOT_LOGGER_NAME, Level.WARN);
+        setLevel(Ga4Client.class.getPackageName(), Level.OFF);
+    }
+
+    private static void setLevel(String name, Level level) {
+        if (LoggerFactory.getLogger(name) instanceof ch.qos.logback.classic.Logger logger) {
+            logger.setLevel(level);
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private static String value(String arg) {
+        return arg.substring(arg.indexOf('=') + 1);
+    }
+}
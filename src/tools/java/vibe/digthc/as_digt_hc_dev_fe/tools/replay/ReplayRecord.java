@@ -0,0 +1,83 @@
+package vibe.digthc.as_digt_hc_dev_fe.tools.replay;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캡처 파일(logs/api-capture.ndjson)의 레코드 한 건
+ *
+ * @param ts            원 요청 기록 시각 (epoch millis)
+ * @param requestId     원 요청 ID
+ * @param method        HTTP 메서드
+ * @param path          컨텍스트 패스를 포함한 경로 + 쿼리
+ * @param route         핸들러 매칭 패턴 (없으면 경로)
+ * @param status        원 응답 상태 코드
+ * @param durationMs    원 처리 시간 (ms)
+ * @param headers       재현용 헤더 (Authorization은 {{AUTH}} 자리표시자)
+ * @param body          요청 본문 (민감 필드 마스킹됨)
+ * @param bodyTruncated 본문이 잘려서 기록되었는지 여부 (재현 제외)
+ * @param bodyReplayable 본문이 원문과 같은지 여부 (false면 마스킹/깨진 JSON으로 원문과 달라 재현 제외, 없으면 재현 가능)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ReplayRecord(
+    long ts,
+    String requestId,
+    String method,
+    String path,
+    String route,
+    int status,
+    long durationMs,
+    Map<String, String> headers,
+    String body,
+    boolean bodyTruncated,
+    Boolean bodyReplayable
+) {
+
+    /**
+     * 원 요청과 같은 본문으로 재현할 수 있는지 여부
+     */
+    public boolean isReplayable() {
+        return !bodyTruncated && !Boolean.FALSE.equals(bodyReplayable);
+    }
+
+    /**
+     * 통계 집계 키 (라우트 패턴, 없으면 쿼리를 뺀 경로)
+     */
+    public String routeKey() {
+        if (route != null) {
+            return method + " " + route;
+        }
+        int query = path.indexOf('?');
+        return method + " " + (query >= 0 ? path.substring(0, query) : path);
+    }
+
+    /**
+     * 캡처 파일들을 읽어 원 요청 시각 순으로 정렬
+     */
+    public static List<ReplayRecord> load(List<Path> files) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<ReplayRecord> records = new ArrayList<>();
+        for (Path file : files) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        records.add(objectMapper.readValue(line, ReplayRecord.class));
+                    }
+                }
+            }
+        }
+        records.sort(Comparator.comparingLong(ReplayRecord::ts));
+        return records;
+    }
+}
@@ -0,0 +1,99 @@
+package vibe.digthc.as_digt_hc_dev_fe.tools.replay;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 재현 결과 집계
+ *
+ * 라우트별 지연 시간 백분위(p50/p90/p99/max)와 원 응답 대비 상태 코드 차이를 집계합니다.
+ */
+public class ReplayReport {
+
+    /** 네트워크 오류 등으로 응답을 받지 못한 경우의 상태 값 */
+    public static final int NO_RESPONSE = -1;
+
+    private final Map<String, RouteStats> routes = new ConcurrentHashMap<>();
+    private final LongAdder skipped = new LongAdder();
+    private final AtomicLong maxScheduleLagNanos = new AtomicLong();
+    private volatile long elapsedNanos;
+
+    void record(ReplayRecord record, int status, long latencyNanos) {
+        routes.computeIfAbsent(record.routeKey(), key -> new RouteStats()).add(record.status(), status, latencyNanos);
+    }
+
+    void skip() {
+        skipped.increment();
+    }
+
+    void scheduleLag(long lagNanos) {
+        maxScheduleLagNanos.accumulateAndGet(lagNanos, Math::max);
+    }
+
+    void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * 결과 출력
+     */
+    public void print(PrintStream out) {
+        long total = 0;
+        long mismatches = 0;
+        out.printf("%-60s %7s %6s %9s %9s %9s %9s %9s%n",
+                "route", "count", "err", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)", "statusDiff");
+        for (Map.Entry<String, RouteStats> entry : new TreeMap<>(routes).entrySet()) {
+            RouteStats stats = entry.getValue();
+            synchronized (stats) {
+                long[] latencies = Arrays.copyOf(stats.latencies, stats.count);
+                Arrays.sort(latencies);
+                out.printf("%-60s %7d %6d %9.1f %9.1f %9.1f %9.1f %9d%n",
+                        entry.getKey(), stats.count, stats.errors,
+                        percentile(latencies, 0.50), percentile(latencies, 0.90),
+                        percentile(latencies, 0.99), percentile(latencies, 1.0),
+                        stats.mismatches);
+                stats.statusDiffs.forEach((diff, count) -> out.printf("    status %s x%d%n", diff, count));
+                total += stats.count;
+                mismatches += stats.mismatches;
+            }
+        }
+        out.printf("%ntotal=%d, statusMismatches=%d, skipped(truncated/masked body)=%d, elapsed=%.1fs, maxScheduleLag=%.1fms%n",
+                total, mismatches, skipped.sum(), elapsedNanos / 1e9, maxScheduleLagNanos.get() / 1e6);
+    }
+
+    static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1e6;
+    }
+
+    private static final class RouteStats {
+        private long[] latencies = new long[64];
+        private int count;
+        private long errors;
+        private long mismatches;
+        private final Map<String, Long> statusDiffs = new TreeMap<>();
+
+        private synchronized void add(int expectedStatus, int actualStatus, long latencyNanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (actualStatus == NO_RESPONSE) {
+                errors++;
+            }
+            if (expectedStatus != actualStatus) {
+                mismatches++;
+                statusDiffs.merge(expectedStatus + "->" + (actualStatus == NO_RESPONSE ? "ERR" : actualStatus),
+                        1L, Long::sum);
+            }
+        }
+    }
+}
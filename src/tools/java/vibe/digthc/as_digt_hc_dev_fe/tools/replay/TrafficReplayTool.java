@@ -0,0 +1,214 @@
+package vibe.digthc.as_digt_hc_dev_fe.tools.replay;
+
+import vibe.digthc.as_digt_hc_dev_fe.infrastructure.logging.ApiTrafficRecorder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 캡처 트래픽 재현 도구
+ *
+ * ApiTrafficRecorder가 기록한 캡처 파일을 읽어 실행 중인 인스턴스에 원래 간격(1x) 또는 N배속으로 다시 보내고,
+ * 라우트별 지연 시간 백분위와 원 응답 대비 상태 코드 차이를 출력합니다.
+ * 요청마다 가상 스레드를 사용하며 동시 요청 수는 --concurrency로 제한합니다.
+ *
+ * 사용법:
+ * ./gradlew replayTraffic -Pargs="--target=http://localhost:8080 --speed=2 --tokens-file=tokens.txt logs/api-capture.ndjson"
+ *
+ * 옵션:
+ * - --target: 대상 인스턴스 (기본 http://localhost:8080)
+ * - --speed: 재생 배속 (기본 1, 0이면 간격 없이 최대 속도)
+ * - --concurrency: 최대 동시 요청 수 (기본 256)
+ * - --timeout-ms: 요청 타임아웃 (기본 30000)
+ * - --tokens: {{AUTH}}를 치환할 테스트 사용자 JWT 목록 (쉼표 구분, 요청마다 순환)
+ * - --tokens-file: 테스트 사용자 JWT 파일 (한 줄에 하나)
+ * - --limit: 재생할 최대 레코드 수
+ */
+public final class TrafficReplayTool {
+
+    private static final Set<String> RESTRICTED_HEADERS = Set.of(
+            "connection", "content-length", "expect", "host", "upgrade", "transfer-encoding", "keep-alive");
+
+    private final URI target;
+    private final double speed;
+    private final int concurrency;
+    private final Duration timeout;
+    private final List<String> tokens;
+    private final AtomicLong tokenCursor = new AtomicLong();
+
+    private TrafficReplayTool(URI target, double speed, int concurrency, Duration timeout, List<String> tokens) {
+        this.target = target;
+        this.speed = speed;
+        this.concurrency = concurrency;
+        this.timeout = timeout;
+        this.tokens = tokens;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String target = "http://localhost:8080";
+        double speed = 1.0;
+        int concurrency = 256;
+        long timeoutMillis = 30_000;
+        long limit = Long.MAX_VALUE;
+        List<String> tokens = new ArrayList<>();
+        List<Path> files = new ArrayList<>();
+
+        for (String arg : args) {
+            if (arg.startsWith("--target=")) {
+                target = value(arg);
+            } else if (arg.startsWith("--speed=")) {
+                speed = Double.parseDouble(value(arg));
+            } else if (arg.startsWith("--concurrency=")) {
+                concurrency = Integer.parseInt(value(arg));
+            } else if (arg.startsWith("--timeout-ms=")) {
+                timeoutMillis = Long.parseLong(value(arg));
+            } else if (arg.startsWith("--limit=")) {
+                limit = Long.parseLong(value(arg));
+            } else if (arg.startsWith("--tokens=")) {
+                for (String token : value(arg).split(",")) {
+                    if (!token.isBlank()) {
+                        tokens.add(token.trim());
+                    }
+                }
+            } else if (arg.startsWith("--tokens-file=")) {
+                for (String token : Files.readAllLines(Paths.get(value(arg)))) {
+                    if (!token.isBlank()) {
+                        tokens.add(token.trim());
+                    }
+                }
+            } else if (arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            } else {
+                files.add(Paths.get(arg));
+            }
+        }
+        if (files.isEmpty()) {
+            System.err.println("Usage: TrafficReplayTool [--target=URL] [--speed=N] [--concurrency=N] "
+                    + "[--tokens=JWT,...|--tokens-file=PATH] [--limit=N] capture.ndjson...");
+            System.exit(2);
+        }
+        if (tokens.isEmpty()) {
+            System.err.println("WARN: --tokens 미지정 - 인증이 필요한 요청은 Authorization 없이 전송됩니다.");
+        }
+
+        List<ReplayRecord> records = ReplayRecord.load(files);
+        if (records.size() > limit) {
+            records = records.subList(0, (int) limit);
+        }
+
+        TrafficReplayTool tool = new TrafficReplayTool(
+                URI.create(target), speed, Math.max(1, concurrency), Duration.ofMillis(timeoutMillis), tokens);
+        ReplayReport report = tool.replay(records);
+        report.print(System.out);
+    }
+
+    /**
+     * 원 요청 간격(speed 배속)을 유지하며 재생
+     */
+    ReplayReport replay(List<ReplayRecord> records) throws InterruptedException {
+        ReplayReport report = new ReplayReport();
+        if (records.isEmpty()) {
+            return report;
+        }
+
+        Semaphore permits = new Semaphore(concurrency);
+        long firstTs = records.get(0).ts();
+        long startNanos = System.nanoTime();
+
+        // 요청 작업용/HttpClient 내부용 실행기 분리 (작업 실행기 종료 대기 중에도 클라이언트가 응답을 처리하도록)
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(clientExecutor)
+                    .connectTimeout(timeout)
+                    .followRedirects(HttpClient.Redirect.NEVER)
+                    .build();
+
+            for (ReplayRecord record : records) {
+                if (!record.isReplayable()) {
+                    report.skip();
+                    continue;
+                }
+                if (speed > 0) {
+                    long dueNanos = startNanos + (long) (TimeUnit.MILLISECONDS.toNanos(record.ts() - firstTs) / speed);
+                    long waitNanos = dueNanos - System.nanoTime();
+                    if (waitNanos > 0) {
+                        LockSupport.parkNanos(waitNanos);
+                    }
+                    permits.acquire();
+                    report.scheduleLag(Math.max(0, System.nanoTime() - dueNanos));
+                } else {
+                    permits.acquire();
+                }
+
+                HttpRequest request = toHttpRequest(record);
+                executor.execute(() -> {
+                    long sent = System.nanoTime();
+                    int status;
+                    try {
+                        status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    } catch (IOException e) {
+                        status = ReplayReport.NO_RESPONSE;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        status = ReplayReport.NO_RESPONSE;
+                    } finally {
+                        permits.release();
+                    }
+                    report.record(record, status, System.nanoTime() - sent);
+                });
+            }
+        }
+        report.finish(System.nanoTime() - startNanos);
+        return report;
+    }
+
+    private HttpRequest toHttpRequest(ReplayRecord record) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(target.resolve(record.path())).timeout(timeout);
+        if (record.headers() != null) {
+            for (Map.Entry<String, String> header : record.headers().entrySet()) {
+                String name = header.getKey();
+                if (RESTRICTED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                    continue;
+                }
+                if (ApiTrafficRecorder.AUTH_PLACEHOLDER.equals(header.getValue())) {
+                    if (!tokens.isEmpty()) {
+                        builder.header(name, "Bearer " + nextToken());
+                    }
+                    continue;
+                }
+                builder.header(name, header.getValue());
+            }
+        }
+        HttpRequest.BodyPublisher body = record.body() != null
+                ? HttpRequest.BodyPublishers.ofString(record.body())
+                : HttpRequest.BodyPublishers.noBody();
+        return builder.method(record.method(), body).build();
+    }
+
+    private String nextToken() {
+        return tokens.get((int) (tokenCursor.getAndIncrement() % tokens.size()));
+    }
+
+    private static String value(String arg) {
+        return arg.substring(arg.indexOf('=') + 1);
+    }
+}
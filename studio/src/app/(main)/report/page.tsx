@@ -3,7 +3,9 @@
  * 건강 리포트 페이지 (BE 연동 버전)
  *
  * 화면 이벤트 → 호출 API:
- * - 페이지 진입: GET /api/reports  (리포트 목록)
+ * - 페이지 진입: GET /api/reports?periodType=&limit=  (리포트 목록 첫 페이지, 요약 항목)
+ * - "더 보기" 클릭: GET /api/reports?cursor={nextCursor}  (다음 페이지)
+ * - 리포트 선택: GET /api/reports/{id}  (상세 지표)
  * - "리포트 생성" 클릭: POST /api/reports/generate  (리포트 생성)
  * - "삭제" 클릭: DELETE /api/reports/{id}  (리포트 삭제)
  *
@@ -22,8 +24,8 @@ import { Section } from '@/components/common/Section';
 import { ListItem } from '@/components/common/ListItem';
 import { LoadingSpinner } from '@/components/common/LoadingSpinner';
 import { useToast } from '@/hooks/use-toast';
-import { useDeleteReport, useGenerateReport, useReports } from '@/hooks/queries/useReports';
-import type { HealthReport } from '@/services/reportsService';
+import { useDeleteReport, useGenerateReport, useReport, useReports } from '@/hooks/queries/useReports';
+import type { HealthReportSummary } from '@/services/reportsService';
 import { Trash2 } from 'lucide-react';
 import type { PeriodType } from '@/services/reportsService';
 import {
@@ -35,14 +37,22 @@ import {
   trackReportDelete,
 } from '@/lib/analytics';
 
-function formatRange(r: HealthReport) {
+function formatRange(r: Pick<HealthReportSummary, 'startDate' | 'endDate'>) {
   return `${r.startDate} ~ ${r.endDate}`;
 }
 
 export default function ReportPage() {
   const { toast } = useToast();
   const [periodType, setPeriodType] = useState<PeriodType>('WEEKLY');
-  const { data: reports = [], isLoading, isError } = useReports(periodType);
+  const {
+    data,
+    isLoading,
+    isError,
+    hasNextPage,
+    fetchNextPage,
+    isFetchingNextPage,
+  } = useReports(periodType);
+  const reports = useMemo(() => data?.pages.flatMap((page) => page.items) ?? [], [data]);
   const generateMutation = useGenerateReport(periodType);
   const deleteMutation = useDeleteReport(periodType);
 
@@ -54,6 +64,7 @@ export default function ReportPage() {
     if (!selectedId) return reports[0] || null;
     return reports.find((r) => r.reportId === selectedId) || null;
   }, [reports, selectedId]);
+  const { data: detail, isLoading: isDetailLoading } = useReport(selected?.reportId);
 
   // GA4: 리포트 페이지 조회 이벤트 (한 번만)
   useEffect(() => {
@@ -188,6 +199,16 @@ export default function ReportPage() {
                   }
                 />
               ))}
+              {hasNextPage && (
+                <Button
+                  variant="outline"
+                  className="w-full"
+                  onClick={() => fetchNextPage()}
+                  disabled={isFetchingNextPage}
+                >
+                  {isFetchingNextPage ? '불러오는 중...' : '더 보기'}
+                </Button>
+              )}
             </div>
           )}
         </Section>
@@ -208,30 +229,36 @@ export default function ReportPage() {
                 </div>
               </div>
 
-              <div className="grid grid-cols-2 gap-3">
-                <Card className="p-3">
-                  <p className="text-xs text-muted-foreground">걸음 수</p>
-                  <p className="font-semibold">{selected.metrics?.activity?.steps ?? '-'}</p>
-                </Card>
-                <Card className="p-3">
-                  <p className="text-xs text-muted-foreground">활동 시간(분)</p>
-                  <p className="font-semibold">{selected.metrics?.activity?.activeMinutes ?? '-'}</p>
-                </Card>
-                <Card className="p-3">
-                  <p className="text-xs text-muted-foreground">평균 심박수(bpm)</p>
-                  <p className="font-semibold">{selected.metrics?.heartRate?.avgBpm ?? '-'}</p>
-                </Card>
-                <Card className="p-3">
-                  <p className="text-xs text-muted-foreground">혈압(수축/이완)</p>
-                  <p className="font-semibold">
-                    {selected.metrics?.bloodPressure?.systolic ?? '-'} / {selected.metrics?.bloodPressure?.diastolic ?? '-'}
-                  </p>
-                </Card>
-              </div>
+              {isDetailLoading ? (
+                <LoadingSpinner />
+              ) : (
+                <>
+                  <div className="grid grid-cols-2 gap-3">
+                    <Card className="p-3">
+                      <p className="text-xs text-muted-foreground">걸음 수</p>
+                      <p className="font-semibold">{detail?.metrics?.activity?.steps ?? '-'}</p>
+                    </Card>
+                    <Card className="p-3">
+                      <p className="text-xs text-muted-foreground">활동 시간(분)</p>
+                      <p className="font-semibold">{detail?.metrics?.activity?.activeMinutes ?? '-'}</p>
+                    </Card>
+                    <Card className="p-3">
+                      <p className="text-xs text-muted-foreground">평균 심박수(bpm)</p>
+                      <p className="font-semibold">{detail?.metrics?.heartRate?.avgBpm ?? '-'}</p>
+                    </Card>
+                    <Card className="p-3">
+                      <p className="text-xs text-muted-foreground">혈압(수축/이완)</p>
+                      <p className="font-semibold">
+                        {detail?.metrics?.bloodPressure?.systolic ?? '-'} / {detail?.metrics?.bloodPressure?.diastolic ?? '-'}
+                      </p>
+                    </Card>
+                  </div>
 
-              <div className="text-xs text-muted-foreground">
-                데이터 출처: {selected.context?.deviceType ?? '-'} ({selected.context?.deviceId ?? '-'})
-              </div>
+                  <div className="text-xs text-muted-foreground">
+                    데이터 출처: {detail?.context?.deviceType ?? '-'} ({detail?.context?.deviceId ?? '-'})
+                  </div>
+                </>
+              )}
             </Card>
           )}
         </Section>
@@ -1,5 +1,5 @@
-import { useMutation, useQuery, useQueryClient } from '@tanstack/react-query';
-import { reportsService, type HealthReport, type PeriodType } from '@/services/reportsService';
+import { useInfiniteQuery, useMutation, useQuery, useQueryClient, type InfiniteData } from '@tanstack/react-query';
+import { reportsService, type HealthReportPage, type PeriodType } from '@/services/reportsService';
 
 export const reportKeys = {
   list: (periodType?: PeriodType) => ['reports', 'list', periodType ?? 'ALL'] as const,
@@ -7,9 +7,19 @@ export const reportKeys = {
 };
 
 export function useReports(periodType?: PeriodType) {
-  return useQuery({
+  return useInfiniteQuery({
     queryKey: reportKeys.list(periodType),
-    queryFn: () => reportsService.list(periodType),
+    queryFn: ({ pageParam }) => reportsService.list(periodType, pageParam),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.nextCursor ?? undefined,
+  });
+}
+
+export function useReport(id?: string | null) {
+  return useQuery({
+    queryKey: reportKeys.detail(id ?? ''),
+    queryFn: () => reportsService.getById(id as string),
+    enabled: !!id,
   });
 }
 
@@ -19,10 +29,9 @@ export function useGenerateReport(periodType?: PeriodType) {
   return useMutation({
     mutationFn: () => reportsService.generate(periodType),
     onSuccess: (created) => {
-      // list 갱신
-      queryClient.setQueryData<HealthReport[]>(reportKeys.list(periodType), (old) =>
-        old ? [created, ...old] : [created],
-      );
+      // 같은 기간 리포트는 갱신(upsert)되므로 목록은 다시 조회
+      queryClient.setQueryData(reportKeys.detail(created.reportId), created);
+      queryClient.invalidateQueries({ queryKey: reportKeys.list(periodType) });
     },
   });
 }
@@ -34,12 +43,18 @@ export function useDeleteReport(periodType?: PeriodType) {
   return useMutation({
     mutationFn: (id: string) => reportsService.delete(id),
     onSuccess: (_, id) => {
-      queryClient.setQueryData<HealthReport[]>(reportKeys.list(periodType), (old) =>
-        old ? old.filter((r) => r.reportId !== id) : old,
+      queryClient.setQueryData<InfiniteData<HealthReportPage>>(reportKeys.list(periodType), (old) =>
+        old
+          ? {
+              ...old,
+              pages: old.pages.map((page) => ({
+                ...page,
+                items: page.items.filter((r) => r.reportId !== id),
+              })),
+            }
+          : old,
       );
+      queryClient.removeQueries({ queryKey: reportKeys.detail(id) });
     },
   });
 }
-
-
-
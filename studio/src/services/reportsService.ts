@@ -44,10 +44,35 @@ export type HealthReport = {
   updatedAt: string | null;
 };
 
+/** 목록용 요약 항목 (metrics/context 제외 - 상세는 getById) */
+export type HealthReportSummary = {
+  reportId: string;
+  startDate: string; // YYYY-MM-DD
+  endDate: string; // YYYY-MM-DD
+  periodType?: PeriodType | null;
+  createdAt: string | null;
+  updatedAt: string | null;
+};
+
+/** 목록 페이지 (최근 생성 순, nextCursor로 다음 페이지 요청) */
+export type HealthReportPage = {
+  items: HealthReportSummary[];
+  nextCursor: string | null;
+  hasNext: boolean;
+};
+
 export const reportsService = {
-  list: async (periodType?: PeriodType): Promise<HealthReport[]> => {
+  list: async (periodType?: PeriodType, cursor?: string, limit?: number): Promise<HealthReportPage> => {
     const res = await api.get('/v1/reports', {
-      params: periodType ? { periodType } : undefined,
+      params: { periodType, cursor, limit },
+    });
+    return unwrapApiResponse<HealthReportPage>(res, '리포트를 불러오지 못했습니다.');
+  },
+
+  // 전체 목록 (상세 지표 포함, 페이지 없음) - 내보내기 등 전체가 꼭 필요한 경우에만 사용
+  listAll: async (periodType?: PeriodType): Promise<HealthReport[]> => {
+    const res = await api.get('/v1/reports', {
+      params: { periodType, all: true },
     });
     return unwrapApiResponse<HealthReport[]>(res, '리포트를 불러오지 못했습니다.');
   },